@@ -0,0 +1,14 @@
+package com.project.bookingservice.client;
+
+import com.project.common.dto.ApiResponse;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.GetMapping;
+
+import java.util.List;
+
+@FeignClient(name = "business-service")
+public interface BusinessServiceClient {
+
+    @GetMapping("/api/v1/owners/me/business-ids")
+    ApiResponse<List<Long>> getMyBusinessIds();
+}
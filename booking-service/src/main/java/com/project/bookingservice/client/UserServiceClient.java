@@ -0,0 +1,20 @@
+package com.project.bookingservice.client;
+
+import com.project.bookingservice.dto.ProviderScheduleDto;
+import com.project.bookingservice.dto.UserSummaryDto;
+import com.project.common.dto.ApiResponse;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
+
+@FeignClient(name = "user-service")
+public interface UserServiceClient {
+
+    @GetMapping("/api/v1/providers/schedules")
+    ApiResponse<List<ProviderScheduleDto>> getProviderSchedules(@RequestParam("ids") List<Long> ids);
+
+    @GetMapping("/api/v1/users/me")
+    ApiResponse<UserSummaryDto> getCurrentUser();
+}
@@ -0,0 +1,25 @@
+package com.project.bookingservice.config;
+
+import feign.RequestInterceptor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+@Configuration
+public class FeignClientConfig {
+
+    // Calls made while serving a request act as the caller
+    @Bean
+    public RequestInterceptor bearerTokenRelayInterceptor() {
+        return template -> {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication instanceof JwtAuthenticationToken jwtAuthentication
+                    && !template.headers().containsKey(HttpHeaders.AUTHORIZATION)) {
+                template.header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtAuthentication.getToken().getTokenValue());
+            }
+        };
+    }
+}
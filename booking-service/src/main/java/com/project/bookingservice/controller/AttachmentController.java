@@ -0,0 +1,65 @@
+package com.project.bookingservice.controller;
+
+import com.project.bookingservice.dto.AttachmentDto;
+import com.project.bookingservice.service.attachment.AttachmentService;
+import com.project.common.dto.ApiResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Uploads take the raw file as the request body (not multipart), so it is streamed to storage
+ * as it arrives instead of being buffered by a multipart resolver first.
+ */
+@RestController
+@RequestMapping("/api/v1/bookings/{bookingId}/attachments")
+@RequiredArgsConstructor
+@Slf4j
+public class AttachmentController {
+
+    private final AttachmentService attachmentService;
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<AttachmentDto>> uploadAttachment(@PathVariable Long bookingId,
+                                                                       @RequestParam String fileName,
+                                                                       HttpServletRequest request) throws IOException {
+        log.info("Uploading attachment {} for booking: {}", fileName, bookingId);
+
+        AttachmentDto attachment = attachmentService.upload(bookingId, fileName, request.getContentType(),
+                request.getContentLengthLong(), request.getInputStream());
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("Attachment uploaded successfully", attachment));
+    }
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<AttachmentDto>>> getAttachments(@PathVariable Long bookingId) {
+        log.info("Getting attachments for booking: {}", bookingId);
+
+        List<AttachmentDto> attachments = attachmentService.getAttachments(bookingId);
+        return ResponseEntity.ok(ApiResponse.success(attachments));
+    }
+
+    @GetMapping("/{attachmentId}/content")
+    public void downloadAttachment(@PathVariable Long bookingId, @PathVariable Long attachmentId,
+                                   HttpServletRequest request, HttpServletResponse response) throws IOException {
+        log.info("Downloading attachment {} of booking: {}", attachmentId, bookingId);
+
+        attachmentService.download(bookingId, attachmentId, request, response);
+    }
+
+    @DeleteMapping("/{attachmentId}")
+    public ResponseEntity<ApiResponse<Void>> deleteAttachment(@PathVariable Long bookingId,
+                                                              @PathVariable Long attachmentId) {
+        log.info("Deleting attachment {} of booking: {}", attachmentId, bookingId);
+
+        attachmentService.delete(bookingId, attachmentId);
+        return ResponseEntity.ok(ApiResponse.success("Attachment deleted successfully", null));
+    }
+}
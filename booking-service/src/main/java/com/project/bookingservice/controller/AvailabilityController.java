@@ -0,0 +1,50 @@
+package com.project.bookingservice.controller;
+
+import com.project.bookingservice.dto.ProviderAvailabilityDto;
+import com.project.bookingservice.service.availability.AvailabilityService;
+import com.project.common.dto.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/availability")
+@RequiredArgsConstructor
+@Slf4j
+public class AvailabilityController {
+
+    private final AvailabilityService availabilityService;
+
+    @GetMapping("/slots")
+    public ResponseEntity<ApiResponse<List<ProviderAvailabilityDto>>> getAvailableSlots(
+            @RequestParam List<Long> providerIds,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "60") int durationMinutes,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime windowStart,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime windowEnd) {
+        log.info("Getting available slots for {} providers between {} and {}", providerIds.size(), from, to);
+
+        List<ProviderAvailabilityDto> availability = availabilityService.findAvailableSlots(
+                providerIds, from, to, durationMinutes, windowStart, windowEnd);
+        return ResponseEntity.ok(ApiResponse.success(availability));
+    }
+
+    @GetMapping("/free-providers")
+    public ResponseEntity<ApiResponse<List<Long>>> getFreeProviders(
+            @RequestParam List<Long> providerIds,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime startTime,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime endTime) {
+        log.info("Getting free providers among {} on {} {}-{}", providerIds.size(), date, startTime, endTime);
+
+        List<Long> freeProviders = availabilityService.findFreeProviders(providerIds, date, startTime, endTime);
+        return ResponseEntity.ok(ApiResponse.success(freeProviders));
+    }
+}
@@ -0,0 +1,100 @@
+package com.project.bookingservice.controller;
+
+import com.project.bookingservice.dto.BookingDto;
+import com.project.bookingservice.dto.BookingSummaryDto;
+import com.project.bookingservice.dto.CancelBookingRequest;
+import com.project.bookingservice.dto.CreateBookingRequest;
+import com.project.bookingservice.dto.CreateRecurringBookingRequest;
+import com.project.bookingservice.dto.RecurringBookingDto;
+import com.project.bookingservice.entity.Booking;
+import com.project.bookingservice.service.BookingService;
+import com.project.bookingservice.service.search.BookingSearchScope;
+import com.project.bookingservice.service.search.BookingSearchService;
+import com.project.common.dto.ApiResponse;
+import com.project.common.dto.CursorPage;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/bookings")
+@RequiredArgsConstructor
+@Slf4j
+public class BookingController {
+
+    private final BookingService bookingService;
+    private final BookingSearchService bookingSearchService;
+
+    @PostMapping
+    @PreAuthorize("hasRole('CUSTOMER') or hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<BookingDto>> createBooking(@Valid @RequestBody CreateBookingRequest request) {
+        log.info("Creating booking for provider: {}", request.getProviderId());
+
+        BookingDto booking = bookingService.createBooking(request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("Booking created successfully", booking));
+    }
+
+    @PostMapping("/recurring")
+    @PreAuthorize("hasRole('CUSTOMER') or hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<RecurringBookingDto>> createRecurringBooking(
+            @Valid @RequestBody CreateRecurringBookingRequest request) {
+        log.info("Creating recurring booking for provider: {}", request.getBooking().getProviderId());
+
+        RecurringBookingDto bookings = bookingService.createRecurringBooking(request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("Recurring booking created successfully", bookings));
+    }
+
+    @GetMapping("/search")
+    @PreAuthorize("hasRole('CUSTOMER') or hasRole('PROVIDER') or hasRole('BUSINESS_OWNER') or hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<CursorPage<BookingSummaryDto>>> searchBookings(
+            @RequestParam BookingSearchScope scope,
+            @RequestParam(required = false) Long ownerId,
+            @RequestParam(required = false) List<Booking.BookingStatus> status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        log.info("Searching {} bookings", scope);
+
+        CursorPage<BookingSummaryDto> page = bookingSearchService.search(scope, ownerId, status, from, to, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(page));
+    }
+
+    @GetMapping("/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<BookingDto>> getBookingById(@PathVariable Long id) {
+        log.info("Getting booking by ID: {}", id);
+
+        BookingDto booking = bookingService.getBookingById(id);
+        return ResponseEntity.ok(ApiResponse.success(booking));
+    }
+
+    @PutMapping("/{id}/cancel")
+    @PreAuthorize("hasRole('CUSTOMER') or hasRole('PROVIDER') or hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<BookingDto>> cancelBooking(@PathVariable Long id,
+                                                                 @Valid @RequestBody(required = false) CancelBookingRequest request) {
+        log.info("Cancelling booking: {}", id);
+
+        BookingDto booking = bookingService.cancelBooking(id, request != null ? request.getReason() : null);
+        return ResponseEntity.ok(ApiResponse.success("Booking cancelled successfully", booking));
+    }
+
+    @PutMapping("/{id}/complete")
+    @PreAuthorize("hasRole('PROVIDER') or hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<BookingDto>> completeBooking(@PathVariable Long id) {
+        log.info("Completing booking: {}", id);
+
+        BookingDto booking = bookingService.completeBooking(id);
+        return ResponseEntity.ok(ApiResponse.success("Booking completed successfully", booking));
+    }
+}
@@ -0,0 +1,43 @@
+package com.project.bookingservice.controller;
+
+import com.project.bookingservice.dto.CreateBookingRequest;
+import com.project.bookingservice.dto.HoldDto;
+import com.project.bookingservice.service.hold.HoldService;
+import com.project.common.dto.ApiResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/holds")
+@RequiredArgsConstructor
+@Slf4j
+public class HoldController {
+
+    private final HoldService holdService;
+
+    @PostMapping
+    @PreAuthorize("hasRole('CUSTOMER') or hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<HoldDto>> placeHold(@Valid @RequestBody CreateBookingRequest request) {
+        log.info("Placing hold for provider: {}", request.getProviderId());
+
+        HoldDto hold = holdService.placeHold(request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("Slot held successfully", hold));
+    }
+
+    @DeleteMapping("/{id}")
+    @PreAuthorize("hasRole('CUSTOMER') or hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Void>> releaseHold(@PathVariable UUID id) {
+        log.info("Releasing hold: {}", id);
+
+        holdService.releaseHold(id);
+        return ResponseEntity.ok(ApiResponse.success("Hold released successfully", null));
+    }
+}
@@ -0,0 +1,41 @@
+package com.project.bookingservice.controller;
+
+import com.project.bookingservice.dto.ProviderCalendarDto;
+import com.project.bookingservice.service.calendar.ProviderCalendarService;
+import com.project.common.dto.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.YearMonth;
+
+@RestController
+@RequestMapping("/api/v1/availability")
+@RequiredArgsConstructor
+@Slf4j
+public class ProviderCalendarController {
+
+    private final ProviderCalendarService providerCalendarService;
+
+    @GetMapping("/providers/{providerId}/calendar")
+    public ResponseEntity<ApiResponse<ProviderCalendarDto>> getCalendar(
+            @PathVariable Long providerId,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth month) {
+        log.info("Getting calendar for provider {} in {}", providerId, month);
+
+        ProviderCalendarDto calendar = providerCalendarService.getMonth(providerId, month);
+        return ResponseEntity.ok(ApiResponse.success(calendar));
+    }
+
+    @PostMapping("/calendar/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Integer>> rebuildCalendar() {
+        log.info("Rebuilding provider calendar summaries");
+
+        int providers = providerCalendarService.rebuild();
+        return ResponseEntity.ok(ApiResponse.success("Calendar summaries rebuilt", providers));
+    }
+}
@@ -0,0 +1,33 @@
+package com.project.bookingservice.controller;
+
+import com.project.bookingservice.dto.CreateReviewRequest;
+import com.project.bookingservice.dto.ReviewDto;
+import com.project.bookingservice.service.review.ReviewService;
+import com.project.common.dto.ApiResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/bookings/{bookingId}/reviews")
+@RequiredArgsConstructor
+@Slf4j
+public class ReviewController {
+
+    private final ReviewService reviewService;
+
+    @PostMapping
+    @PreAuthorize("hasRole('CUSTOMER')")
+    public ResponseEntity<ApiResponse<ReviewDto>> createReview(@PathVariable Long bookingId,
+                                                               @Valid @RequestBody CreateReviewRequest request) {
+        log.info("Creating review for booking: {}", bookingId);
+
+        ReviewDto review = reviewService.createReview(bookingId, request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("Review created successfully", review));
+    }
+}
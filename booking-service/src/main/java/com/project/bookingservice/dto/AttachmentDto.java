@@ -0,0 +1,21 @@
+package com.project.bookingservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttachmentDto {
+    private Long id;
+    private Long bookingId;
+    private String fileName;
+    private String fileType;
+    private Long fileSize;
+    private String checksumSha256;
+    private Long uploadedBy;
+    private LocalDateTime uploadedAt;
+}
@@ -0,0 +1,36 @@
+package com.project.bookingservice.dto;
+
+import com.project.bookingservice.entity.Booking;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingDto {
+    private Long id;
+    private Long customerId;
+    private Long providerId;
+    private Long businessId;
+    private String serviceName;
+    private String serviceDescription;
+    private LocalDate bookingDate;
+    private LocalTime startTime;
+    private LocalTime endTime;
+    private Booking.BookingStatus status;
+    private BigDecimal totalAmount;
+    private String currency;
+    private Booking.PaymentStatus paymentStatus;
+    private Long paymentId;
+    private String notes;
+    private UUID recurrenceId;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,31 @@
+package com.project.bookingservice.dto;
+
+import com.project.bookingservice.entity.Booking;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Booking list row; limited to the columns the search indexes carry
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingSummaryDto {
+    private Long id;
+    private Long customerId;
+    private Long providerId;
+    private Long businessId;
+    private String serviceName;
+    private LocalDate bookingDate;
+    private LocalTime startTime;
+    private LocalTime endTime;
+    private Booking.BookingStatus status;
+    private Booking.PaymentStatus paymentStatus;
+    private BigDecimal totalAmount;
+    private String currency;
+}
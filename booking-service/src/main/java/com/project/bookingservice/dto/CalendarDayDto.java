@@ -0,0 +1,20 @@
+package com.project.bookingservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CalendarDayDto {
+    private LocalDate date;
+    private int activeBookings;
+    private int completedBookings;
+    private int cancelledBookings;
+    private int bookedMinutes;
+    // null outside the availability horizon
+    private Integer freeMinutes;
+}
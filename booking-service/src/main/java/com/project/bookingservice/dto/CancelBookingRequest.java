@@ -0,0 +1,11 @@
+package com.project.bookingservice.dto;
+
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+@Data
+public class CancelBookingRequest {
+
+    @Size(max = 1000, message = "Cancellation reason must not exceed 1000 characters")
+    private String reason;
+}
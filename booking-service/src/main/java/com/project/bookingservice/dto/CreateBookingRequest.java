@@ -0,0 +1,50 @@
+package com.project.bookingservice.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.FutureOrPresent;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateBookingRequest {
+
+    @NotNull(message = "Provider ID is required")
+    private Long providerId;
+
+    private Long businessId;
+
+    @NotBlank(message = "Service name is required")
+    @Size(max = 255, message = "Service name must not exceed 255 characters")
+    private String serviceName;
+
+    private String serviceDescription;
+
+    @NotNull(message = "Booking date is required")
+    @FutureOrPresent(message = "Booking date must not be in the past")
+    private LocalDate bookingDate;
+
+    @NotNull(message = "Start time is required")
+    private LocalTime startTime;
+
+    @NotNull(message = "End time is required")
+    private LocalTime endTime;
+
+    @NotNull(message = "Total amount is required")
+    @DecimalMin(value = "0.0", message = "Total amount must not be negative")
+    private BigDecimal totalAmount;
+
+    @Size(min = 3, max = 3, message = "Currency must be a 3-letter code")
+    private String currency;
+
+    private String notes;
+}
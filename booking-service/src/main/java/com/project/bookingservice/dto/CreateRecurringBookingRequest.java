@@ -0,0 +1,34 @@
+package com.project.bookingservice.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateRecurringBookingRequest {
+
+    /**
+     * The first occurrence; its date is the start of the recurrence
+     */
+    @Valid
+    @NotNull(message = "Booking details are required")
+    private CreateBookingRequest booking;
+
+    /**
+     * RRULE subset, e.g. FREQ=WEEKLY;BYDAY=MO,TH;COUNT=20
+     */
+    @NotBlank(message = "Recurrence rule is required")
+    @Size(max = 255, message = "Recurrence rule must not exceed 255 characters")
+    private String recurrenceRule;
+
+    /**
+     * Reject the whole series when any occurrence conflicts instead of skipping those dates
+     */
+    private boolean allOrNothing;
+}
@@ -0,0 +1,15 @@
+package com.project.bookingservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProviderAvailabilityDto {
+    private Long providerId;
+    private List<DayAvailabilityDto> days;
+}
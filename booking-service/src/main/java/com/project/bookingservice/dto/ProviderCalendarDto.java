@@ -0,0 +1,17 @@
+package com.project.bookingservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.YearMonth;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProviderCalendarDto {
+    private Long providerId;
+    private YearMonth month;
+    private List<CalendarDayDto> days;
+}
@@ -0,0 +1,19 @@
+package com.project.bookingservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The part of user-service's provider profile booking-service cares about
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProviderScheduleDto {
+    private Long id;
+    private List<WorkingHoursDto> workingHours = new ArrayList<>();
+}
@@ -0,0 +1,18 @@
+package com.project.bookingservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecurringBookingDto {
+    private UUID recurrenceId;
+    private List<BookingDto> bookings;
+    private List<LocalDate> skippedDates;
+}
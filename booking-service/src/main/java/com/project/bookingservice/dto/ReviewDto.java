@@ -0,0 +1,20 @@
+package com.project.bookingservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewDto {
+    private Long id;
+    private Long bookingId;
+    private Long reviewerId;
+    private Long revieweeId;
+    private Integer rating;
+    private String comment;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,27 @@
+package com.project.bookingservice.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.DayOfWeek;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkingHoursDto {
+
+    @NotNull(message = "Day of week is required")
+    private DayOfWeek dayOfWeek;
+
+    // HH:mm, as stored by user-service; "24:00" closes at midnight
+    @NotBlank(message = "Start time is required")
+    private String startTime;
+
+    @NotBlank(message = "End time is required")
+    private String endTime;
+
+    private Boolean available = true;
+}
@@ -0,0 +1,94 @@
+package com.project.bookingservice.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.UUID;
+
+@Entity
+@Table(name = "bookings")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Booking {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long customerId;
+
+    @Column(nullable = false)
+    private Long providerId;
+
+    private Long businessId;
+
+    @Column(nullable = false)
+    private String serviceName;
+
+    private String serviceDescription;
+
+    @Column(nullable = false)
+    private LocalDate bookingDate;
+
+    @Column(nullable = false)
+    private LocalTime startTime;
+
+    @Column(nullable = false)
+    private LocalTime endTime;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    @Builder.Default
+    private BookingStatus status = BookingStatus.PENDING;
+
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal totalAmount;
+
+    @Column(length = 3)
+    @Builder.Default
+    private String currency = "USD";
+
+    @Enumerated(EnumType.STRING)
+    @Builder.Default
+    private PaymentStatus paymentStatus = PaymentStatus.PENDING;
+
+    private Long paymentId;
+
+    private String notes;
+
+    private UUID recurrenceId;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime cancelledAt;
+
+    private String cancellationReason;
+
+    public enum BookingStatus {
+        PENDING, CONFIRMED, IN_PROGRESS, COMPLETED, CANCELLED;
+
+        // Statuses that keep the provider's slot occupied
+        public static final Set<BookingStatus> ACTIVE = EnumSet.of(PENDING, CONFIRMED, IN_PROGRESS);
+    }
+
+    public enum PaymentStatus {
+        PENDING, PAID, FAILED, REFUNDED
+    }
+}
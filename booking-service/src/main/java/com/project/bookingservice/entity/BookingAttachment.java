@@ -0,0 +1,46 @@
+package com.project.bookingservice.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "booking_attachments")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookingAttachment {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long bookingId;
+
+    @Column(nullable = false)
+    private String fileName;
+
+    // Storage key, resolved by the configured AttachmentStorage
+    @Column(nullable = false, length = 500)
+    private String filePath;
+
+    @Column(length = 100)
+    private String fileType;
+
+    private Long fileSize;
+
+    @Column(length = 64)
+    private String checksumSha256;
+
+    @Column(nullable = false)
+    private Long uploadedBy;
+
+    @CreationTimestamp
+    private LocalDateTime uploadedAt;
+}
@@ -0,0 +1,39 @@
+package com.project.bookingservice.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "booking_reviews")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookingReview {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long bookingId;
+
+    @Column(nullable = false)
+    private Long reviewerId;
+
+    @Column(nullable = false)
+    private Long revieweeId;
+
+    @Column(nullable = false)
+    private Integer rating;
+
+    private String comment;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,16 @@
+package com.project.bookingservice.repository;
+
+import com.project.bookingservice.entity.BookingAttachment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface BookingAttachmentRepository extends JpaRepository<BookingAttachment, Long> {
+
+    List<BookingAttachment> findByBookingIdOrderByUploadedAtAsc(Long bookingId);
+
+    Optional<BookingAttachment> findByIdAndBookingId(Long id, Long bookingId);
+}
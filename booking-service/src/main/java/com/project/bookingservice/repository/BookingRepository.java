@@ -0,0 +1,27 @@
+package com.project.bookingservice.repository;
+
+import com.project.bookingservice.entity.Booking;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * bookings is range-partitioned by month of booking_date; queries that bound booking_date
+ * are planned against the matching partitions only, anything else visits every partition.
+ */
+@Repository
+public interface BookingRepository extends JpaRepository<Booking, Long> {
+
+    List<BookingSlotView> findByProviderIdInAndBookingDateBetweenAndStatusIn(Collection<Long> providerIds,
+                                                                             LocalDate from,
+                                                                             LocalDate to,
+                                                                             Collection<Booking.BookingStatus> statuses);
+
+    Optional<Booking> findByPaymentId(Long paymentId);
+
+    boolean existsByPaymentId(Long paymentId);
+}
@@ -0,0 +1,9 @@
+package com.project.bookingservice.repository;
+
+import com.project.bookingservice.entity.BookingReview;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BookingReviewRepository extends JpaRepository<BookingReview, Long> {
+}
@@ -0,0 +1,173 @@
+package com.project.bookingservice.repository;
+
+import com.project.bookingservice.dto.BookingSummaryDto;
+import com.project.bookingservice.entity.Booking;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+
+/**
+ * Keyset queries behind the booking search API
+ *
+ * Every query is shaped after one of the search indexes from V10: equality on the owner column
+ * (and on status for providers), then booking_date DESC, id DESC. Pages continue from the last
+ * (booking_date, id) seen instead of an OFFSET, so page 1000 costs the same as page 1. The cursor
+ * date is repeated as a plain upper bound because the planner prunes partitions on that, not on
+ * the row comparison.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BookingSearchJdbcRepository {
+
+    private static final String COLUMNS =
+            "id, customer_id, provider_id, business_id, service_name, booking_date, start_time, end_time, " +
+            "status, payment_status, total_amount, currency";
+
+    private static final String ORDER_BY = " ORDER BY booking_date DESC, id DESC LIMIT ?";
+
+    private static final RowMapper<BookingSummaryDto> SUMMARY_MAPPER = (rs, rowNum) -> new BookingSummaryDto(
+            rs.getLong("id"),
+            rs.getLong("customer_id"),
+            rs.getLong("provider_id"),
+            rs.getObject("business_id", Long.class),
+            rs.getString("service_name"),
+            rs.getDate("booking_date").toLocalDate(),
+            rs.getTime("start_time").toLocalTime(),
+            rs.getTime("end_time").toLocalTime(),
+            Booking.BookingStatus.valueOf(rs.getString("status")),
+            rs.getString("payment_status") != null ? Booking.PaymentStatus.valueOf(rs.getString("payment_status")) : null,
+            rs.getBigDecimal("total_amount"),
+            rs.getString("currency"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<BookingSummaryDto> findByCustomer(Long customerId, Collection<Booking.BookingStatus> statuses,
+                                                  LocalDate from, LocalDate to, LocalDate afterDate, Long afterId,
+                                                  int limit) {
+        return findByOwner("customer_id", customerId, statuses, from, to, afterDate, afterId, limit);
+    }
+
+    /**
+     * Bookings of any of the given businesses; an owner's businesses are read as one ordered
+     * range each and merged, like provider statuses
+     */
+    public List<BookingSummaryDto> findByBusinesses(Collection<Long> businessIds,
+                                                    Collection<Booking.BookingStatus> statuses,
+                                                    LocalDate from, LocalDate to, LocalDate afterDate, Long afterId,
+                                                    int limit) {
+        if (businessIds.isEmpty()) {
+            return List.of();
+        }
+        if (businessIds.size() == 1) {
+            return findByOwner("business_id", businessIds.iterator().next(), statuses, from, to, afterDate, afterId,
+                    limit);
+        }
+
+        List<String> branches = new ArrayList<>();
+        List<Object> args = new ArrayList<>();
+        for (Long businessId : businessIds) {
+            StringBuilder branch = new StringBuilder("SELECT ").append(COLUMNS)
+                    .append(" FROM bookings WHERE business_id = ?");
+            args.add(businessId);
+            appendStatuses(branch, args, statuses);
+            appendRange(branch, args, from, to, afterDate, afterId);
+            branches.add(branch.append(ORDER_BY).toString());
+            args.add(limit);
+        }
+        return merge(branches, args, limit);
+    }
+
+    /**
+     * status is a key column of the provider index, so several statuses are read as one
+     * ordered range each and merged, rather than one scan that has to sort. No status filter
+     * means every status.
+     */
+    public List<BookingSummaryDto> findByProvider(Long providerId, Collection<Booking.BookingStatus> statuses,
+                                                  LocalDate from, LocalDate to, LocalDate afterDate, Long afterId,
+                                                  int limit) {
+        Collection<Booking.BookingStatus> branches = statuses.isEmpty()
+                ? EnumSet.allOf(Booking.BookingStatus.class) : statuses;
+        if (branches.size() == 1) {
+            return findByOwner("provider_id", providerId, branches, from, to, afterDate, afterId, limit);
+        }
+
+        List<String> sqlBranches = new ArrayList<>();
+        List<Object> args = new ArrayList<>();
+        for (Booking.BookingStatus status : branches) {
+            StringBuilder branch = new StringBuilder("SELECT ").append(COLUMNS)
+                    .append(" FROM bookings WHERE provider_id = ? AND status = ?");
+            args.add(providerId);
+            args.add(status.name());
+            appendRange(branch, args, from, to, afterDate, afterId);
+            sqlBranches.add(branch.append(ORDER_BY).toString());
+            args.add(limit);
+        }
+        return merge(sqlBranches, args, limit);
+    }
+
+    /**
+     * Top rows across branches that are each already ordered and limited
+     */
+    private List<BookingSummaryDto> merge(List<String> branches, List<Object> args, int limit) {
+        StringBuilder sql = new StringBuilder("SELECT ").append(COLUMNS).append(" FROM (");
+        for (int i = 0; i < branches.size(); i++) {
+            if (i > 0) {
+                sql.append(" UNION ALL ");
+            }
+            sql.append('(').append(branches.get(i)).append(')');
+        }
+        sql.append(") merged").append(ORDER_BY);
+        args.add(limit);
+        return jdbcTemplate.query(sql.toString(), SUMMARY_MAPPER, args.toArray());
+    }
+
+    private List<BookingSummaryDto> findByOwner(String ownerColumn, Long ownerId,
+                                                Collection<Booking.BookingStatus> statuses,
+                                                LocalDate from, LocalDate to, LocalDate afterDate, Long afterId,
+                                                int limit) {
+        StringBuilder sql = new StringBuilder("SELECT ").append(COLUMNS)
+                .append(" FROM bookings WHERE ").append(ownerColumn).append(" = ?");
+        List<Object> args = new ArrayList<>();
+        args.add(ownerId);
+        appendStatuses(sql, args, statuses);
+        appendRange(sql, args, from, to, afterDate, afterId);
+        sql.append(ORDER_BY);
+        args.add(limit);
+        return jdbcTemplate.query(sql.toString(), SUMMARY_MAPPER, args.toArray());
+    }
+
+    private static void appendStatuses(StringBuilder sql, List<Object> args,
+                                       Collection<Booking.BookingStatus> statuses) {
+        if (!statuses.isEmpty()) {
+            sql.append(" AND status IN (").append(String.join(", ", Collections.nCopies(statuses.size(), "?")))
+                    .append(')');
+            statuses.forEach(status -> args.add(status.name()));
+        }
+    }
+
+    private static void appendRange(StringBuilder sql, List<Object> args, LocalDate from, LocalDate to,
+                                    LocalDate afterDate, Long afterId) {
+        if (from != null) {
+            sql.append(" AND booking_date >= ?");
+            args.add(from);
+        }
+        if (to != null) {
+            sql.append(" AND booking_date <= ?");
+            args.add(to);
+        }
+        if (afterDate != null) {
+            sql.append(" AND booking_date <= ? AND (booking_date, id) < (?, ?)");
+            args.add(afterDate);
+            args.add(afterDate);
+            args.add(afterId);
+        }
+    }
+}
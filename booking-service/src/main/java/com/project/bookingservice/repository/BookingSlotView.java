@@ -0,0 +1,18 @@
+package com.project.bookingservice.repository;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * The columns the availability index needs from a booking
+ */
+public interface BookingSlotView {
+
+    Long getProviderId();
+
+    LocalDate getBookingDate();
+
+    LocalTime getStartTime();
+
+    LocalTime getEndTime();
+}
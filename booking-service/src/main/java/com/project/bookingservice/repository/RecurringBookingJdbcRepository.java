@@ -0,0 +1,94 @@
+package com.project.bookingservice.repository;
+
+import com.project.bookingservice.entity.Booking;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Set-based insert for recurring bookings
+ *
+ * One statement takes every candidate date as an array, drops the dates that overlap an
+ * active booking of the provider and inserts the rest, so a year of weekly sessions is a
+ * single round trip. The booking_date bounds let the planner prune to the partitions the
+ * series spans.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RecurringBookingJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO bookings (customer_id, provider_id, business_id, service_name, service_description, " +
+            "booking_date, start_time, end_time, status, total_amount, currency, payment_status, notes, recurrence_id) " +
+            "SELECT ?, ?, ?, ?, ?, d.booking_date, ?, ?, ?, ?, ?, ?, ?, ? " +
+            "FROM unnest(?::date[]) AS d(booking_date) " +
+            "WHERE NOT EXISTS (SELECT 1 FROM bookings b " +
+            "WHERE b.provider_id = ? AND b.booking_date BETWEEN ? AND ? AND b.booking_date = d.booking_date " +
+            "AND b.status IN ('PENDING', 'CONFIRMED', 'IN_PROGRESS') " +
+            "AND b.slot && tsrange(d.booking_date + ?::time, " +
+            "CASE WHEN ?::time = TIME '00:00' THEN (d.booking_date + 1) + ?::time ELSE d.booking_date + ?::time END, '[)')) " +
+            "RETURNING id, booking_date, created_at, updated_at";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts the template on every date that is still free and returns the inserted bookings,
+     * in no particular order. Dates must be sorted ascending.
+     */
+    public List<Booking> insertNonConflicting(Booking template, UUID recurrenceId, List<LocalDate> dates) {
+        LocalDate first = dates.get(0);
+        LocalDate last = dates.get(dates.size() - 1);
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_SQL);
+            Array dateArray = connection.createArrayOf("date", dates.stream().map(Date::valueOf).toArray());
+            int i = 1;
+            ps.setLong(i++, template.getCustomerId());
+            ps.setLong(i++, template.getProviderId());
+            ps.setObject(i++, template.getBusinessId());
+            ps.setString(i++, template.getServiceName());
+            ps.setString(i++, template.getServiceDescription());
+            ps.setObject(i++, template.getStartTime());
+            ps.setObject(i++, template.getEndTime());
+            ps.setString(i++, template.getStatus().name());
+            ps.setBigDecimal(i++, template.getTotalAmount());
+            ps.setString(i++, template.getCurrency());
+            ps.setString(i++, template.getPaymentStatus().name());
+            ps.setString(i++, template.getNotes());
+            ps.setObject(i++, recurrenceId);
+            ps.setArray(i++, dateArray);
+            ps.setLong(i++, template.getProviderId());
+            ps.setObject(i++, first);
+            ps.setObject(i++, last);
+            ps.setObject(i++, template.getStartTime());
+            ps.setObject(i++, template.getEndTime());
+            ps.setObject(i++, template.getEndTime());
+            ps.setObject(i, template.getEndTime());
+            return ps;
+        }, (rs, rowNum) -> Booking.builder()
+                .id(rs.getLong("id"))
+                .customerId(template.getCustomerId())
+                .providerId(template.getProviderId())
+                .businessId(template.getBusinessId())
+                .serviceName(template.getServiceName())
+                .serviceDescription(template.getServiceDescription())
+                .bookingDate(rs.getDate("booking_date").toLocalDate())
+                .startTime(template.getStartTime())
+                .endTime(template.getEndTime())
+                .status(template.getStatus())
+                .totalAmount(template.getTotalAmount())
+                .currency(template.getCurrency())
+                .paymentStatus(template.getPaymentStatus())
+                .notes(template.getNotes())
+                .recurrenceId(recurrenceId)
+                .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+                .updatedAt(rs.getTimestamp("updated_at").toLocalDateTime())
+                .build());
+    }
+}
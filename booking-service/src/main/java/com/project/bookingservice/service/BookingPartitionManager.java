@@ -0,0 +1,192 @@
+package com.project.bookingservice.service;
+
+import com.project.common.exception.BusinessException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps the monthly bookings partitions ahead of new bookings and retires old ones
+ *
+ * Future months are created through create_bookings_partition so each gets its slot
+ * exclusion constraint. Months older than the retention are detached concurrently, which
+ * does not block writers on the parent, and then archived or dropped. Runs on one instance
+ * at a time under a Postgres advisory lock.
+ *
+ * There is no DEFAULT partition, so booking paths call {@link #requireBookable} to reject
+ * dates beyond the pre-created months before they reach the database.
+ */
+@Component
+@Slf4j
+public class BookingPartitionManager {
+
+    private static final long ADVISORY_LOCK_KEY = 0x626f6f6b696e6770L;
+    private static final String PARTITION_PREFIX = "bookings_p";
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private static final String PARTITIONS_SQL =
+            "SELECT c.relname, i.inhdetachpending FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+            "WHERE i.inhparent = 'bookings'::regclass";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int premakeMonths;
+    private final int retentionMonths;
+    private final String archiveMode;
+
+    public BookingPartitionManager(JdbcTemplate jdbcTemplate,
+                                   @Value("${app.partitions.premake-months:12}") int premakeMonths,
+                                   @Value("${app.partitions.retention-months:24}") int retentionMonths,
+                                   @Value("${app.partitions.archive-mode:archive}") String archiveMode) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.premakeMonths = premakeMonths;
+        this.retentionMonths = retentionMonths;
+        this.archiveMode = archiveMode;
+    }
+
+    /**
+     * Last date that has a partition once maintenance has run for the current month.
+     */
+    public LocalDate bookableUntil() {
+        return YearMonth.now().plusMonths(premakeMonths).atEndOfMonth();
+    }
+
+    public void requireBookable(LocalDate date) {
+        LocalDate last = bookableUntil();
+        if (date.isAfter(last)) {
+            throw new BusinessException("BOOKING_DATE_TOO_FAR", "Bookings can only be made up to " + last);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintain();
+    }
+
+    @Scheduled(cron = "${app.partitions.cron:0 15 3 * * *}")
+    public void maintain() {
+        try {
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                if (!tryLock(connection)) {
+                    log.debug("Partition maintenance already running elsewhere");
+                    return null;
+                }
+                try {
+                    createFuturePartitions(connection);
+                    if (retentionMonths > 0) {
+                        retireOldPartitions(connection);
+                    }
+                } finally {
+                    unlock(connection);
+                }
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.error("Booking partition maintenance failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private void createFuturePartitions(Connection connection) throws SQLException {
+        YearMonth current = YearMonth.now();
+        int created = 0;
+        try (PreparedStatement statement = connection.prepareStatement("SELECT create_bookings_partition(?)")) {
+            for (int i = 0; i <= premakeMonths; i++) {
+                statement.setObject(1, current.plusMonths(i).atDay(1));
+                try (ResultSet rs = statement.executeQuery()) {
+                    if (rs.next() && rs.getBoolean(1)) {
+                        created++;
+                    }
+                }
+            }
+        }
+        if (created > 0) {
+            log.info("Created {} booking partitions up to {}", created, current.plusMonths(premakeMonths));
+        }
+    }
+
+    private void retireOldPartitions(Connection connection) throws SQLException {
+        YearMonth oldestKept = YearMonth.now().minusMonths(retentionMonths);
+        List<String> expired = new ArrayList<>();
+        List<String> pending = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(PARTITIONS_SQL)) {
+            while (rs.next()) {
+                String name = rs.getString(1);
+                YearMonth month = monthOf(name);
+                if (month == null || !month.isBefore(oldestKept)) {
+                    continue;
+                }
+                (rs.getBoolean(2) ? pending : expired).add(name);
+            }
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            // a concurrent detach interrupted by a crash leaves the partition half detached
+            for (String name : pending) {
+                statement.execute("ALTER TABLE bookings DETACH PARTITION " + name + " FINALIZE");
+                archive(statement, name);
+            }
+            for (String name : expired) {
+                statement.execute("ALTER TABLE bookings DETACH PARTITION " + name + " CONCURRENTLY");
+                archive(statement, name);
+            }
+        }
+        if (!expired.isEmpty() || !pending.isEmpty()) {
+            log.info("Retired {} booking partitions older than {} ({})", expired.size() + pending.size(),
+                    oldestKept, archiveMode);
+        }
+    }
+
+    private void archive(Statement statement, String name) throws SQLException {
+        switch (archiveMode) {
+            case "drop" -> statement.execute("DROP TABLE " + name);
+            case "archive" -> statement.execute("ALTER TABLE " + name + " SET SCHEMA booking_archive");
+            default -> {
+                // detach: leave the table in place for an external export job
+            }
+        }
+    }
+
+    private boolean tryLock(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_try_advisory_lock(?)")) {
+            statement.setLong(1, ADVISORY_LOCK_KEY);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        }
+    }
+
+    private void unlock(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_advisory_unlock(?)")) {
+            statement.setLong(1, ADVISORY_LOCK_KEY);
+            statement.execute();
+        }
+    }
+
+    // names are generated by create_bookings_partition, so anything else is left alone
+    private static YearMonth monthOf(String partitionName) {
+        if (!partitionName.startsWith(PARTITION_PREFIX)) {
+            return null;
+        }
+        try {
+            return YearMonth.parse(partitionName.substring(PARTITION_PREFIX.length()), SUFFIX);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,499 @@
+package com.project.bookingservice.service;
+
+import com.project.bookingservice.dto.BookingDto;
+import com.project.bookingservice.dto.CreateBookingRequest;
+import com.project.bookingservice.dto.CreateRecurringBookingRequest;
+import com.project.bookingservice.dto.RecurringBookingDto;
+import com.project.bookingservice.entity.Booking;
+import com.project.bookingservice.repository.BookingRepository;
+import com.project.bookingservice.repository.RecurringBookingJdbcRepository;
+import com.project.bookingservice.service.availability.AvailabilityIndex;
+import com.project.bookingservice.service.availability.AvailabilityService;
+import com.project.bookingservice.service.availability.SlotMask;
+import com.project.bookingservice.service.calendar.ProviderDaySummaryProjection;
+import com.project.bookingservice.service.hold.SlotHold;
+import com.project.bookingservice.service.recurrence.RecurrenceRule;
+import com.project.bookingservice.util.JwtUtil;
+import com.project.bookingservice.util.StripedLocks;
+import com.project.common.event.BookingCancelledEvent;
+import com.project.common.event.BookingCreatedEvent;
+import com.project.common.exception.BusinessException;
+import com.project.common.outbox.OutboxWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Booking creation pipeline
+ *
+ * The excl_bookings_provider_slot exclusion constraint is what guarantees no double booking,
+ * across instances too. Within an instance, requests for the same provider are serialized on a
+ * striped lock so they queue in memory instead of racing to the constraint, while requests for
+ * different providers proceed in parallel. Transient failures are retried with jittered backoff.
+ *
+ * New bookings emit BookingCreated through the outbox in the insert transaction, and cancellations
+ * BookingCancelled in theirs; payment-service picks them up asynchronously, so no cross-service
+ * call sits on the request path.
+ */
+@Service
+@Slf4j
+public class BookingService {
+
+    private static final String EXCLUSION_VIOLATION = "23P01";
+    private static final String SLOT_CONSTRAINT = "excl_bookings_provider_slot";
+    private static final String NO_PARTITION = "no partition of relation";
+
+    private static final Set<Booking.BookingStatus> CANCELLABLE =
+            EnumSet.of(Booking.BookingStatus.PENDING, Booking.BookingStatus.CONFIRMED);
+    private static final Set<Booking.BookingStatus> COMPLETABLE =
+            EnumSet.of(Booking.BookingStatus.CONFIRMED, Booking.BookingStatus.IN_PROGRESS);
+
+    private final BookingRepository bookingRepository;
+    private final RecurringBookingJdbcRepository recurringBookingRepository;
+    private final TransactionTemplate transactionTemplate;
+    // for work started from an event handler, whose own transaction must survive a rejected insert
+    private final TransactionTemplate newTransactionTemplate;
+    private final AvailabilityIndex availabilityIndex;
+    private final AvailabilityService availabilityService;
+    private final CurrentUserService currentUserService;
+    private final OutboxWriter outboxWriter;
+    private final ProviderDaySummaryProjection dayProjection;
+    private final StripedLocks providerLocks;
+    private final BookingPartitionManager partitionManager;
+
+    @Value("${app.booking.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${app.booking.lock-timeout-ms:2000}")
+    private long lockTimeoutMs;
+
+    @Value("${app.recurrence.max-occurrences:366}")
+    private int maxOccurrences;
+
+    @Value("${app.recurrence.max-span-days:366}")
+    private int maxSpanDays;
+
+    public BookingService(BookingRepository bookingRepository,
+                          RecurringBookingJdbcRepository recurringBookingRepository,
+                          TransactionTemplate transactionTemplate,
+                          AvailabilityIndex availabilityIndex,
+                          AvailabilityService availabilityService,
+                          CurrentUserService currentUserService,
+                          OutboxWriter outboxWriter,
+                          ProviderDaySummaryProjection dayProjection,
+                          BookingPartitionManager partitionManager,
+                          @Value("${app.booking.lock-stripes:1024}") int lockStripes) {
+        this.bookingRepository = bookingRepository;
+        this.recurringBookingRepository = recurringBookingRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.newTransactionTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.newTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.availabilityIndex = availabilityIndex;
+        this.availabilityService = availabilityService;
+        this.currentUserService = currentUserService;
+        this.outboxWriter = outboxWriter;
+        this.dayProjection = dayProjection;
+        this.providerLocks = new StripedLocks(lockStripes);
+        this.partitionManager = partitionManager;
+    }
+
+    public BookingDto createBooking(CreateBookingRequest request) {
+        validateTimes(request.getStartTime(), request.getEndTime());
+        partitionManager.requireBookable(request.getBookingDate());
+        Long customerId = currentUserService.getCurrentUserId();
+        log.info("Creating booking for provider {} on {} {}-{}", request.getProviderId(),
+                request.getBookingDate(), request.getStartTime(), request.getEndTime());
+
+        // Cheap in-memory rejection when the index already knows the slot is booked or held
+        if (!availabilityIndex.isUnoccupied(request.getProviderId(), request.getBookingDate(),
+                SlotMask.range(request.getStartTime(), request.getEndTime()))) {
+            throw slotUnavailable();
+        }
+
+        Booking booking = Booking.builder()
+                .customerId(customerId)
+                .providerId(request.getProviderId())
+                .businessId(request.getBusinessId())
+                .serviceName(request.getServiceName())
+                .serviceDescription(request.getServiceDescription())
+                .bookingDate(request.getBookingDate())
+                .startTime(request.getStartTime())
+                .endTime(request.getEndTime())
+                .status(Booking.BookingStatus.PENDING)
+                .totalAmount(request.getTotalAmount())
+                .currency(request.getCurrency() != null ? request.getCurrency() : "USD")
+                .paymentStatus(Booking.PaymentStatus.PENDING)
+                .notes(request.getNotes())
+                .build();
+
+        Booking saved = insertWithProviderLock(booking, created -> {
+            dayProjection.created(created);
+            publishCreated(created);
+        });
+        availabilityService.bookingActivated(saved);
+        log.info("Booking created successfully with ID: {}", saved.getId());
+        return convertToDto(saved);
+    }
+
+    /**
+     * Expands the recurrence and books every occurrence that is still free in one statement.
+     * Occurrences the availability index or the database reject are skipped, or fail the
+     * whole series when allOrNothing is set.
+     */
+    public RecurringBookingDto createRecurringBooking(CreateRecurringBookingRequest request) {
+        CreateBookingRequest details = request.getBooking();
+        validateTimes(details.getStartTime(), details.getEndTime());
+        RecurrenceRule rule = RecurrenceRule.parse(request.getRecurrenceRule());
+        if (!rule.isBounded()) {
+            throw new BusinessException("INVALID_RECURRENCE_RULE", "Recurring bookings need COUNT or UNTIL");
+        }
+        Long customerId = currentUserService.getCurrentUserId();
+
+        List<LocalDate> candidates = expand(rule, details.getBookingDate());
+        long[] requested = SlotMask.range(details.getStartTime(), details.getEndTime());
+        List<LocalDate> dates = new ArrayList<>(candidates.size());
+        for (LocalDate date : candidates) {
+            // the index also knows about holds, which the database does not
+            if (availabilityIndex.isUnoccupied(details.getProviderId(), date, requested)) {
+                dates.add(date);
+            }
+        }
+        if (dates.isEmpty() || (request.isAllOrNothing() && dates.size() < candidates.size())) {
+            throw slotUnavailable();
+        }
+
+        Booking template = Booking.builder()
+                .customerId(customerId)
+                .providerId(details.getProviderId())
+                .businessId(details.getBusinessId())
+                .serviceName(details.getServiceName())
+                .serviceDescription(details.getServiceDescription())
+                .startTime(details.getStartTime())
+                .endTime(details.getEndTime())
+                .status(Booking.BookingStatus.PENDING)
+                .totalAmount(details.getTotalAmount())
+                .currency(details.getCurrency() != null ? details.getCurrency() : "USD")
+                .paymentStatus(Booking.PaymentStatus.PENDING)
+                .notes(details.getNotes())
+                .build();
+        UUID recurrenceId = UUID.randomUUID();
+
+        List<Booking> created = inProviderTransaction(details.getProviderId(), status -> {
+            List<Booking> inserted = recurringBookingRepository.insertNonConflicting(template, recurrenceId, dates);
+            if (inserted.isEmpty() || (request.isAllOrNothing() && inserted.size() < dates.size())) {
+                throw slotUnavailable();
+            }
+            inserted.sort(Comparator.comparing(Booking::getBookingDate));
+            dayProjection.createdAll(inserted);
+            Map<Long, BookingCreatedEvent> events = new LinkedHashMap<>();
+            for (Booking booking : inserted) {
+                events.put(booking.getId(), createdEvent(booking));
+            }
+            outboxWriter.appendAll(BookingCreatedEvent.AGGREGATE, BookingCreatedEvent.TYPE, events);
+            return inserted;
+        });
+
+        created.forEach(availabilityService::bookingActivated);
+        Set<LocalDate> bookedDates = created.stream().map(Booking::getBookingDate).collect(Collectors.toCollection(HashSet::new));
+        List<LocalDate> skipped = candidates.stream().filter(date -> !bookedDates.contains(date)).toList();
+        log.info("Recurring booking {} created {} of {} occurrences for provider {}", recurrenceId,
+                created.size(), candidates.size(), details.getProviderId());
+        return new RecurringBookingDto(recurrenceId, created.stream().map(this::convertToDto).toList(), skipped);
+    }
+
+    /**
+     * Turns a paid hold into a confirmed booking. claim runs first in the insert transaction
+     * and must remove the hold's row; if another delivery or instance already did, nothing is
+     * written. Runs in its own transaction because it is called from the PaymentCompleted
+     * handler. The hold's slots are still reserved in the index, so the usual in-memory
+     * pre-check is skipped and the constraint decides.
+     */
+    public BookingDto createConfirmedBooking(SlotHold hold, Long paymentId, BooleanSupplier claim) {
+        Booking booking = Booking.builder()
+                .customerId(hold.getCustomerId())
+                .providerId(hold.getProviderId())
+                .businessId(hold.getBusinessId())
+                .serviceName(hold.getServiceName())
+                .serviceDescription(hold.getServiceDescription())
+                .bookingDate(hold.getBookingDate())
+                .startTime(hold.getStartTime())
+                .endTime(hold.getEndTime())
+                .status(Booking.BookingStatus.CONFIRMED)
+                .totalAmount(hold.getTotalAmount())
+                .currency(hold.getCurrency())
+                .paymentStatus(Booking.PaymentStatus.PAID)
+                .paymentId(paymentId)
+                .notes(hold.getNotes())
+                .build();
+
+        // already paid, so there is nothing for payment-service to open
+        Booking saved = inProviderTransaction(hold.getProviderId(), newTransactionTemplate, status -> {
+            if (!claim.getAsBoolean()) {
+                throw new BusinessException("HOLD_EXPIRED", "Hold not found or already confirmed");
+            }
+            booking.setId(null);
+            Booking inserted = bookingRepository.saveAndFlush(booking);
+            dayProjection.created(inserted);
+            return inserted;
+        });
+        availabilityService.bookingActivated(saved);
+        log.info("Hold {} confirmed as booking {}", hold.getId(), saved.getId());
+        return convertToDto(saved);
+    }
+
+    /**
+     * Cancels a pending or confirmed booking; allowed for its customer, its provider and admins.
+     */
+    public BookingDto cancelBooking(Long id, String reason) {
+        Long currentUserId = JwtUtil.isAdmin() ? null : currentUserService.getCurrentUserId();
+        Booking cancelled = transactionTemplate.execute(status -> {
+            Booking booking = findBooking(id);
+            if (currentUserId != null && !currentUserId.equals(booking.getCustomerId())
+                    && !currentUserId.equals(booking.getProviderId())) {
+                throw new BusinessException("BOOKING_NOT_FOUND", "Booking not found");
+            }
+            if (!CANCELLABLE.contains(booking.getStatus())) {
+                throw new BusinessException("INVALID_BOOKING_STATUS", "Booking cannot be cancelled in status " + booking.getStatus());
+            }
+            Booking saved = transition(booking, Booking.BookingStatus.CANCELLED, reason);
+            outboxWriter.append(BookingCancelledEvent.AGGREGATE, saved.getId(), BookingCancelledEvent.TYPE,
+                    new BookingCancelledEvent(saved.getId(), saved.getPaymentId(), saved.getCustomerId(),
+                            saved.getProviderId(), reason));
+            return saved;
+        });
+        log.info("Booking {} cancelled", id);
+        return convertToDto(cancelled);
+    }
+
+    /**
+     * Marks a confirmed or in-progress booking as completed; allowed for its provider and admins.
+     */
+    public BookingDto completeBooking(Long id) {
+        Long currentUserId = JwtUtil.isAdmin() ? null : currentUserService.getCurrentUserId();
+        Booking completed = transactionTemplate.execute(status -> {
+            Booking booking = findBooking(id);
+            if (currentUserId != null && !currentUserId.equals(booking.getProviderId())) {
+                throw new BusinessException("BOOKING_NOT_FOUND", "Booking not found");
+            }
+            if (!COMPLETABLE.contains(booking.getStatus())) {
+                throw new BusinessException("INVALID_BOOKING_STATUS", "Booking cannot be completed in status " + booking.getStatus());
+            }
+            return transition(booking, Booking.BookingStatus.COMPLETED, null);
+        });
+        log.info("Booking {} completed", id);
+        return convertToDto(completed);
+    }
+
+    @Transactional(readOnly = true)
+    public BookingDto getBookingById(Long id) {
+        return convertToDto(findBooking(id));
+    }
+
+    private Booking findBooking(Long id) {
+        return bookingRepository.findById(id)
+                .orElseThrow(() -> new BusinessException("BOOKING_NOT_FOUND", "Booking not found"));
+    }
+
+    // Runs inside the caller's transaction; the slot is released in the index once it commits
+    private Booking transition(Booking booking, Booking.BookingStatus target, String reason) {
+        Booking.BookingStatus from = booking.getStatus();
+        booking.setStatus(target);
+        if (target == Booking.BookingStatus.CANCELLED) {
+            booking.setCancelledAt(LocalDateTime.now());
+            booking.setCancellationReason(reason);
+        }
+        Booking saved = bookingRepository.save(booking);
+        dayProjection.statusChanged(saved, from);
+
+        if (Booking.BookingStatus.ACTIVE.contains(from) && !Booking.BookingStatus.ACTIVE.contains(target)) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    availabilityService.bookingReleased(saved);
+                }
+            });
+        }
+        return saved;
+    }
+
+    private Booking insertWithProviderLock(Booking booking, Consumer<Booking> inTransaction) {
+        return inProviderTransaction(booking.getProviderId(), status -> {
+            booking.setId(null);
+            Booking saved = bookingRepository.saveAndFlush(booking);
+            inTransaction.accept(saved);
+            return saved;
+        });
+    }
+
+    private <T> T inProviderTransaction(Long providerId, TransactionCallback<T> action) {
+        return inProviderTransaction(providerId, transactionTemplate, action);
+    }
+
+    private <T> T inProviderTransaction(Long providerId, TransactionTemplate template, TransactionCallback<T> action) {
+        ReentrantLock lock = providerLocks.forKey(providerId);
+        try {
+            if (!lock.tryLock(lockTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new BusinessException("PROVIDER_BUSY", "Too many concurrent bookings for this provider, please retry");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException("BOOKING_INTERRUPTED", "Booking was interrupted");
+        }
+
+        try {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    return template.execute(action);
+                } catch (DataIntegrityViolationException e) {
+                    if (isSlotConflict(e)) {
+                        throw slotUnavailable();
+                    }
+                    if (isMissingPartition(e)) {
+                        // maintenance has not created this month yet
+                        throw new BusinessException("BOOKING_DATE_TOO_FAR", "Bookings are not open for this date yet");
+                    }
+                    throw e;
+                } catch (TransientDataAccessException e) {
+                    if (attempt >= maxAttempts) {
+                        log.warn("Giving up on booking for provider {} after {} attempts", providerId, attempt);
+                        throw e;
+                    }
+                    backoff(attempt);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void publishCreated(Booking booking) {
+        outboxWriter.append(BookingCreatedEvent.AGGREGATE, booking.getId(), BookingCreatedEvent.TYPE, createdEvent(booking));
+    }
+
+    private static BookingCreatedEvent createdEvent(Booking booking) {
+        return new BookingCreatedEvent(booking.getId(), booking.getCustomerId(), booking.getProviderId(),
+                booking.getBusinessId(), booking.getBookingDate(), booking.getStartTime(),
+                booking.getEndTime(), booking.getTotalAmount(), booking.getCurrency());
+    }
+
+    // Occurrences are pulled lazily so a huge COUNT is rejected without being materialized
+    private List<LocalDate> expand(RecurrenceRule rule, LocalDate first) {
+        LocalDate last = LocalDate.now().plusDays(maxSpanDays);
+        LocalDate bookableUntil = partitionManager.bookableUntil();
+        List<LocalDate> dates = new ArrayList<>();
+        Iterator<LocalDate> occurrences = rule.occurrences(first).iterator();
+        while (occurrences.hasNext()) {
+            LocalDate date = occurrences.next();
+            if (date.isAfter(last)) {
+                throw new BusinessException("RECURRENCE_TOO_LONG",
+                        "Recurring bookings must end within " + maxSpanDays + " days");
+            }
+            if (date.isAfter(bookableUntil)) {
+                throw new BusinessException("BOOKING_DATE_TOO_FAR",
+                        "Recurring bookings can only be made up to " + bookableUntil);
+            }
+            if (dates.size() == maxOccurrences) {
+                throw new BusinessException("RECURRENCE_TOO_LONG",
+                        "Recurring bookings are limited to " + maxOccurrences + " occurrences");
+            }
+            dates.add(date);
+        }
+        if (dates.isEmpty()) {
+            throw new BusinessException("INVALID_RECURRENCE_RULE", "Recurrence rule produces no occurrences");
+        }
+        return dates;
+    }
+
+    private static boolean isSlotConflict(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException && EXCLUSION_VIOLATION.equals(sqlException.getSQLState())) {
+                return true;
+            }
+            if (cause.getMessage() != null && cause.getMessage().contains(SLOT_CONSTRAINT)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isMissingPartition(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().contains(NO_PARTITION)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void backoff(int attempt) {
+        long delay = ThreadLocalRandom.current().nextLong(10L << attempt, 20L << attempt);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException("BOOKING_INTERRUPTED", "Booking was interrupted");
+        }
+    }
+
+    private static void validateTimes(LocalTime startTime, LocalTime endTime) {
+        if (!startTime.isBefore(endTime) && !endTime.equals(LocalTime.MIDNIGHT)) {
+            throw new BusinessException("INVALID_TIME_RANGE", "Start time must be before end time");
+        }
+    }
+
+    private static BusinessException slotUnavailable() {
+        return new BusinessException("SLOT_UNAVAILABLE", "The provider is already booked for this time");
+    }
+
+    private BookingDto convertToDto(Booking booking) {
+        BookingDto dto = new BookingDto();
+        dto.setId(booking.getId());
+        dto.setCustomerId(booking.getCustomerId());
+        dto.setProviderId(booking.getProviderId());
+        dto.setBusinessId(booking.getBusinessId());
+        dto.setServiceName(booking.getServiceName());
+        dto.setServiceDescription(booking.getServiceDescription());
+        dto.setBookingDate(booking.getBookingDate());
+        dto.setStartTime(booking.getStartTime());
+        dto.setEndTime(booking.getEndTime());
+        dto.setStatus(booking.getStatus());
+        dto.setTotalAmount(booking.getTotalAmount());
+        dto.setCurrency(booking.getCurrency());
+        dto.setPaymentStatus(booking.getPaymentStatus());
+        dto.setPaymentId(booking.getPaymentId());
+        dto.setNotes(booking.getNotes());
+        dto.setRecurrenceId(booking.getRecurrenceId());
+        dto.setCreatedAt(booking.getCreatedAt());
+        dto.setUpdatedAt(booking.getUpdatedAt());
+        return dto;
+    }
+}
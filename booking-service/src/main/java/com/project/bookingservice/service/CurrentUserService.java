@@ -0,0 +1,47 @@
+package com.project.bookingservice.service;
+
+import com.project.bookingservice.client.UserServiceClient;
+import com.project.bookingservice.dto.UserSummaryDto;
+import com.project.bookingservice.util.JwtUtil;
+import com.project.common.dto.ApiResponse;
+import com.project.common.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves the caller's user-service ID from their token
+ *
+ * The keycloak subject to user ID mapping never changes, so it is looked up once per user.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CurrentUserService {
+
+    private final UserServiceClient userServiceClient;
+    private final Map<String, Long> userIds = new ConcurrentHashMap<>();
+
+    public Long getCurrentUserId() {
+        String keycloakId = JwtUtil.getCurrentKeycloakId();
+        if (keycloakId == null) {
+            throw new BusinessException("UNAUTHENTICATED", "No authenticated user");
+        }
+
+        Long cached = userIds.get(keycloakId);
+        if (cached != null) {
+            return cached;
+        }
+
+        ApiResponse<UserSummaryDto> response = userServiceClient.getCurrentUser();
+        if (response == null || response.getData() == null || response.getData().getId() == null) {
+            throw new BusinessException("USER_NOT_FOUND", "User not found");
+        }
+        Long userId = response.getData().getId();
+        userIds.put(keycloakId, userId);
+        return userId;
+    }
+}
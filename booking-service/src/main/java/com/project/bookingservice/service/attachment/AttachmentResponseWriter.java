@@ -0,0 +1,109 @@
+package com.project.bookingservice.service.attachment;
+
+import com.project.bookingservice.entity.BookingAttachment;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Writes an attachment, or one byte range of it, to the servlet response
+ *
+ * On Tomcat the file is handed to the connector's sendfile, which copies it from the page
+ * cache to the socket with FileChannel.transferTo after the request thread has returned.
+ * Otherwise the channel is transferred to the response stream in chunks. Neither path reads
+ * the file onto the heap. Multi-range requests are answered with the whole file, which
+ * RFC 9110 allows.
+ */
+@Component
+@RequiredArgsConstructor
+public class AttachmentResponseWriter {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final AttachmentStorage storage;
+
+    public void write(BookingAttachment attachment, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        long length = attachment.getFileSize() != null ? attachment.getFileSize() : 0L;
+        String etag = attachment.getChecksumSha256() != null ? "\"" + attachment.getChecksumSha256() + "\"" : null;
+
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (etag != null) {
+            response.setHeader(HttpHeaders.ETAG, etag);
+            if (etag.equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+                response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                return;
+            }
+        }
+
+        long start = 0;
+        long end = length - 1;
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        // A stale If-Range validator means the client's partial copy is useless, so send everything
+        if (rangeHeader != null && (ifRange == null || ifRange.equals(etag))) {
+            try {
+                List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+                if (ranges.size() == 1) {
+                    start = ranges.get(0).getRangeStart(length);
+                    end = ranges.get(0).getRangeEnd(length);
+                    response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+                }
+            } catch (IllegalArgumentException e) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentType(attachment.getFileType() != null
+                ? attachment.getFileType() : MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(attachment.getFileName(), StandardCharsets.UTF_8).build().toString());
+        response.setContentLengthLong(count);
+        if (count <= 0) {
+            return;
+        }
+
+        Optional<Path> path = storage.localPath(attachment.getFilePath());
+        if (path.isPresent() && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, path.get().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        try (FileChannel channel = storage.open(attachment.getFilePath())) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, out);
+                if (transferred <= 0) {
+                    throw new IOException("Attachment " + attachment.getId() + " is shorter than its recorded size");
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+}
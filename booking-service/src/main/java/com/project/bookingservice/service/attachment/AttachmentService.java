@@ -0,0 +1,162 @@
+package com.project.bookingservice.service.attachment;
+
+import com.project.bookingservice.dto.AttachmentDto;
+import com.project.bookingservice.entity.Booking;
+import com.project.bookingservice.entity.BookingAttachment;
+import com.project.bookingservice.repository.BookingAttachmentRepository;
+import com.project.bookingservice.repository.BookingRepository;
+import com.project.bookingservice.service.CurrentUserService;
+import com.project.bookingservice.util.JwtUtil;
+import com.project.common.exception.BusinessException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Upload, listing and download of files attached to a booking
+ *
+ * Only the booking's customer and provider (and admins) can see or add attachments. The
+ * request body is streamed straight to {@link AttachmentStorage}; the row is written once
+ * the bytes are stored, and the stored file is removed again if that insert fails.
+ */
+@Service
+@Slf4j
+public class AttachmentService {
+
+    private static final int MAX_FILE_NAME_LENGTH = 255;
+
+    private final BookingRepository bookingRepository;
+    private final BookingAttachmentRepository attachmentRepository;
+    private final AttachmentStorage storage;
+    private final AttachmentResponseWriter responseWriter;
+    private final CurrentUserService currentUserService;
+    private final long maxBytes;
+
+    public AttachmentService(BookingRepository bookingRepository,
+                             BookingAttachmentRepository attachmentRepository,
+                             AttachmentStorage storage,
+                             AttachmentResponseWriter responseWriter,
+                             CurrentUserService currentUserService,
+                             @Value("${app.attachments.max-size:25MB}") DataSize maxSize) {
+        this.bookingRepository = bookingRepository;
+        this.attachmentRepository = attachmentRepository;
+        this.storage = storage;
+        this.responseWriter = responseWriter;
+        this.currentUserService = currentUserService;
+        this.maxBytes = maxSize.toBytes();
+    }
+
+    public AttachmentDto upload(Long bookingId, String fileName, String contentType, long contentLength,
+                                InputStream content) {
+        Long uploaderId = checkAccess(bookingId);
+        String name = sanitizeFileName(fileName);
+        if (contentLength > maxBytes) {
+            throw new BusinessException("ATTACHMENT_TOO_LARGE", "Attachments are limited to " + maxBytes + " bytes");
+        }
+
+        AttachmentStorage.StoredAttachment stored;
+        try {
+            stored = storage.store(content, maxBytes);
+        } catch (IOException e) {
+            log.warn("Storing attachment for booking {} failed: {}", bookingId, e.getMessage());
+            throw new BusinessException("ATTACHMENT_UPLOAD_FAILED", "The attachment could not be stored");
+        }
+
+        BookingAttachment attachment = BookingAttachment.builder()
+                .bookingId(bookingId)
+                .fileName(name)
+                .filePath(stored.key())
+                .fileType(StringUtils.hasText(contentType) ? truncate(contentType, 100) : null)
+                .fileSize(stored.size())
+                .checksumSha256(stored.sha256())
+                .uploadedBy(uploaderId)
+                .build();
+        try {
+            attachment = attachmentRepository.save(attachment);
+        } catch (RuntimeException e) {
+            deleteQuietly(stored.key());
+            throw e;
+        }
+        log.info("Attachment {} ({} bytes) added to booking {}", attachment.getId(), stored.size(), bookingId);
+        return convertToDto(attachment);
+    }
+
+    public List<AttachmentDto> getAttachments(Long bookingId) {
+        checkAccess(bookingId);
+        return attachmentRepository.findByBookingIdOrderByUploadedAtAsc(bookingId).stream()
+                .map(this::convertToDto)
+                .collect(Collectors.toList());
+    }
+
+    public void download(Long bookingId, Long attachmentId, HttpServletRequest request,
+                         HttpServletResponse response) throws IOException {
+        checkAccess(bookingId);
+        BookingAttachment attachment = findAttachment(bookingId, attachmentId);
+        responseWriter.write(attachment, request, response);
+    }
+
+    public void delete(Long bookingId, Long attachmentId) {
+        Long currentUserId = checkAccess(bookingId);
+        BookingAttachment attachment = findAttachment(bookingId, attachmentId);
+        if (!JwtUtil.isAdmin() && !attachment.getUploadedBy().equals(currentUserId)) {
+            throw new BusinessException("ACCESS_DENIED", "Only the uploader can delete an attachment");
+        }
+        attachmentRepository.delete(attachment);
+        deleteQuietly(attachment.getFilePath());
+        log.info("Attachment {} removed from booking {}", attachmentId, bookingId);
+    }
+
+    /**
+     * Returns the caller's user ID
+     */
+    private Long checkAccess(Long bookingId) {
+        Booking booking = bookingRepository.findById(bookingId)
+                .orElseThrow(() -> new BusinessException("BOOKING_NOT_FOUND", "Booking not found"));
+        Long currentUserId = currentUserService.getCurrentUserId();
+        if (!JwtUtil.isAdmin() && !booking.getCustomerId().equals(currentUserId)
+                && !booking.getProviderId().equals(currentUserId)) {
+            throw new BusinessException("BOOKING_NOT_FOUND", "Booking not found");
+        }
+        return currentUserId;
+    }
+
+    private BookingAttachment findAttachment(Long bookingId, Long attachmentId) {
+        return attachmentRepository.findByIdAndBookingId(attachmentId, bookingId)
+                .orElseThrow(() -> new BusinessException("ATTACHMENT_NOT_FOUND", "Attachment not found"));
+    }
+
+    private void deleteQuietly(String key) {
+        try {
+            storage.delete(key);
+        } catch (IOException e) {
+            log.warn("Could not delete stored attachment {}: {}", key, e.getMessage());
+        }
+    }
+
+    private static String sanitizeFileName(String fileName) {
+        String name = StringUtils.getFilename(StringUtils.cleanPath(fileName != null ? fileName : ""));
+        if (!StringUtils.hasText(name) || "..".equals(name)) {
+            throw new BusinessException("INVALID_FILE_NAME", "A file name is required");
+        }
+        return truncate(name, MAX_FILE_NAME_LENGTH);
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+
+    private AttachmentDto convertToDto(BookingAttachment attachment) {
+        return new AttachmentDto(attachment.getId(), attachment.getBookingId(), attachment.getFileName(),
+                attachment.getFileType(), attachment.getFileSize(), attachment.getChecksumSha256(),
+                attachment.getUploadedBy(), attachment.getUploadedAt());
+    }
+}
@@ -0,0 +1,33 @@
+package com.project.bookingservice.service.attachment;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Where attachment bytes live; the database only keeps the key returned by {@link #store}
+ *
+ * Implementations must stream: content is read in bounded chunks and never held whole in memory.
+ */
+public interface AttachmentStorage {
+
+    /**
+     * Copies the stream into a new object and returns its key, size and SHA-256.
+     * Fails with ATTACHMENT_TOO_LARGE once more than maxBytes have been read, leaving nothing behind.
+     */
+    StoredAttachment store(InputStream content, long maxBytes) throws IOException;
+
+    FileChannel open(String key) throws IOException;
+
+    /**
+     * The object's path on the local filesystem when it has one, for sendfile
+     */
+    Optional<Path> localPath(String key);
+
+    void delete(String key) throws IOException;
+
+    record StoredAttachment(String key, long size, String sha256) {
+    }
+}
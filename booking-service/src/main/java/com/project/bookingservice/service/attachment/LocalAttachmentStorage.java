@@ -0,0 +1,108 @@
+package com.project.bookingservice.service.attachment;
+
+import com.project.common.exception.BusinessException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Attachments as files under app.attachments.local.root
+ *
+ * Uploads go to a temp file through a fixed 64 KB buffer that also feeds the digest, then
+ * are moved into place, so a half-written file is never visible under its key. Keys are
+ * random and files are never rewritten, which keeps sendfile and cached ETags safe.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.attachments", name = "storage", havingValue = "local", matchIfMissing = true)
+@Slf4j
+public class LocalAttachmentStorage implements AttachmentStorage {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path root;
+    private final Path tmp;
+
+    public LocalAttachmentStorage(@Value("${app.attachments.local.root:data/attachments}") String root) throws IOException {
+        this.root = Path.of(root).toAbsolutePath().normalize();
+        this.tmp = this.root.resolve(".tmp");
+        Files.createDirectories(tmp);
+        log.info("Storing attachments under {}", this.root);
+    }
+
+    @Override
+    public StoredAttachment store(InputStream content, long maxBytes) throws IOException {
+        MessageDigest digest = sha256();
+        String id = UUID.randomUUID().toString();
+        String key = id.substring(0, 2) + "/" + id;
+        Path temp = tmp.resolve(id);
+
+        long size = 0;
+        try {
+            try (OutputStream out = Files.newOutputStream(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int read;
+                while ((read = content.read(buffer)) != -1) {
+                    size += read;
+                    if (size > maxBytes) {
+                        throw new BusinessException("ATTACHMENT_TOO_LARGE", "Attachments are limited to " + maxBytes + " bytes");
+                    }
+                    digest.update(buffer, 0, read);
+                    out.write(buffer, 0, read);
+                }
+            }
+            Path target = resolve(key);
+            Files.createDirectories(target.getParent());
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        return new StoredAttachment(key, size, HexFormat.of().formatHex(digest.digest()));
+    }
+
+    @Override
+    public FileChannel open(String key) throws IOException {
+        return FileChannel.open(resolve(key), StandardOpenOption.READ);
+    }
+
+    @Override
+    public Optional<Path> localPath(String key) {
+        return Optional.of(resolve(key));
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(resolve(key));
+    }
+
+    private Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root) || path.startsWith(tmp)) {
+            throw new IllegalArgumentException("Invalid attachment key: " + key);
+        }
+        return path;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
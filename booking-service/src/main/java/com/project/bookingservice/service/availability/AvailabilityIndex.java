@@ -0,0 +1,217 @@
+package com.project.bookingservice.service.availability;
+
+import com.project.bookingservice.dto.WorkingHoursDto;
+import com.project.bookingservice.repository.BookingSlotView;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * In-memory occupancy bitsets for every provider booking-service has been asked about
+ *
+ * Holds nothing it cannot rebuild: schedules come from user-service, occupancy from the
+ * bookings table and holds from the hold store, so an entry can be dropped and reloaded.
+ * Entries no query has read for a while are dropped by {@link #evictUnusedSince}, which keeps
+ * the index and the periodic refresh to the providers that are actually searched.
+ * Loaders call {@link #trackChanges} before reading, so booking writes that land between
+ * their read and {@link #load} can be replayed instead of being overwritten.
+ */
+@Component
+@Slf4j
+public class AvailabilityIndex {
+
+    private final Map<Long, ProviderAvailability> providers = new ConcurrentHashMap<>();
+
+    // One set per load in progress; every occupancy change is noted in all of them. A list, since
+    // a set's hash changes as it fills and a hashed container could no longer find it to remove
+    private final List<Set<Long>> changeTrackers = new CopyOnWriteArrayList<>();
+
+    public boolean isLoaded(Long providerId, LocalDate from, LocalDate to) {
+        ProviderAvailability availability = used(providerId);
+        return availability != null && availability.covers(from, to);
+    }
+
+    public List<Long> missing(Collection<Long> providerIds, LocalDate from, LocalDate to) {
+        List<Long> missing = new ArrayList<>();
+        for (Long providerId : providerIds) {
+            if (!isLoaded(providerId, from, to)) {
+                missing.add(providerId);
+            }
+        }
+        return missing;
+    }
+
+    public boolean contains(Long providerId) {
+        return providers.containsKey(providerId);
+    }
+
+    /**
+     * Starts recording providers whose occupancy changes; pass the result to {@link #stopTracking}.
+     */
+    public Set<Long> trackChanges() {
+        Set<Long> changed = ConcurrentHashMap.newKeySet();
+        changeTrackers.add(changed);
+        return changed;
+    }
+
+    /**
+     * Stops recording and returns the providers changed since {@link #trackChanges}; the
+     * caller reloads the ones it loaded from an older read.
+     */
+    public Set<Long> stopTracking(Set<Long> changed) {
+        changeTrackers.removeIf(tracker -> tracker == changed);
+        return changed;
+    }
+
+    /**
+     * Installs or replaces a provider's schedule and occupancy for [from, from + days)
+     */
+    public void load(Long providerId, List<WorkingHoursDto> workingHours, LocalDate from, int days,
+                     List<BookingSlotView> bookings) {
+        long[] occupied = new long[days * SlotMask.WORDS];
+        Map<Long, Integer> sharedSlots = new HashMap<>();
+        long[] mask = new long[SlotMask.WORDS];
+        long firstEpochDay = from.toEpochDay();
+        for (BookingSlotView booking : bookings) {
+            long epochDay = booking.getBookingDate().toEpochDay();
+            long index = (epochDay - firstEpochDay) * SlotMask.WORDS;
+            if (index < 0 || index + 1 >= occupied.length) {
+                continue;
+            }
+            SlotMask.range(SlotMask.startSlot(booking.getStartTime()), SlotMask.endSlot(booking.getEndTime()), mask, 0);
+            for (int word = 0; word < SlotMask.WORDS; word++) {
+                ProviderAvailability.countShared(sharedSlots, epochDay, word, occupied[(int) index + word] & mask[word]);
+                occupied[(int) index + word] |= mask[word];
+            }
+        }
+
+        ProviderAvailability availability = providers.computeIfAbsent(providerId,
+                id -> new ProviderAvailability(firstEpochDay, days));
+        if (workingHours != null) {
+            availability.replaceSchedule(weeklyMask(workingHours));
+        }
+        availability.replaceOccupancy(firstEpochDay, occupied, sharedSlots);
+    }
+
+    public void occupy(Long providerId, LocalDate date, LocalTime start, LocalTime end) {
+        noteChange(providerId);
+        ProviderAvailability availability = providers.get(providerId);
+        if (availability != null) {
+            availability.occupy(date, SlotMask.range(start, end));
+        }
+    }
+
+    public void release(Long providerId, LocalDate date, LocalTime start, LocalTime end) {
+        noteChange(providerId);
+        ProviderAvailability availability = providers.get(providerId);
+        if (availability != null) {
+            availability.release(date, SlotMask.range(start, end));
+        }
+    }
+
+    public boolean tryHold(Long providerId, LocalDate date, LocalTime start, LocalTime end) {
+        ProviderAvailability availability = used(providerId);
+        return availability != null && availability.tryHold(date, SlotMask.range(start, end));
+    }
+
+    public void releaseHold(Long providerId, LocalDate date, LocalTime start, LocalTime end) {
+        ProviderAvailability availability = providers.get(providerId);
+        if (availability != null) {
+            availability.releaseHold(date, SlotMask.range(start, end));
+        }
+    }
+
+    /**
+     * Drops the providers no query has read since the cutoff; returns how many were dropped.
+     * A dropped provider is loaded again on its next query.
+     */
+    public int evictUnusedSince(long cutoffMillis) {
+        int before = providers.size();
+        providers.values().removeIf(availability -> availability.unusedSince(cutoffMillis));
+        return before - providers.size();
+    }
+
+    public Collection<Long> loadedProviders() {
+        return List.copyOf(providers.keySet());
+    }
+
+    /**
+     * Free slots for the provider on the date, already intersected with the given time window
+     */
+    public void free(Long providerId, LocalDate date, long[] window, long[] out) {
+        ProviderAvailability availability = used(providerId);
+        if (availability == null) {
+            out[0] = 0L;
+            out[1] = 0L;
+            return;
+        }
+        availability.free(date, out);
+        out[0] &= window[0];
+        out[1] &= window[1];
+    }
+
+    public boolean isFree(Long providerId, LocalDate date, long[] requested) {
+        long[] free = new long[SlotMask.WORDS];
+        free(providerId, date, requested, free);
+        return free[0] == requested[0] && free[1] == requested[1];
+    }
+
+    /**
+     * Whether the slots are neither booked nor held; working hours are not considered, so this
+     * is safe as a pre-check for bookings the database will validate anyway.
+     */
+    public boolean isUnoccupied(Long providerId, LocalDate date, long[] requested) {
+        ProviderAvailability availability = used(providerId);
+        return availability == null || availability.unoccupied(date, requested);
+    }
+
+    private ProviderAvailability used(Long providerId) {
+        ProviderAvailability availability = providers.get(providerId);
+        if (availability != null) {
+            availability.touch();
+        }
+        return availability;
+    }
+
+    // Noted before the change is applied, so a load that overwrote it always finds the note
+    private void noteChange(Long providerId) {
+        for (Set<Long> changed : changeTrackers) {
+            changed.add(providerId);
+        }
+    }
+
+    private static long[] weeklyMask(List<WorkingHoursDto> workingHours) {
+        long[] weekly = new long[7 * SlotMask.WORDS];
+        long[] day = new long[SlotMask.WORDS];
+        for (WorkingHoursDto hours : workingHours) {
+            if (hours.getDayOfWeek() == null || Boolean.FALSE.equals(hours.getAvailable())) {
+                continue;
+            }
+            try {
+                SlotMask.range(SlotMask.startSlot(parseTime(hours.getStartTime())),
+                        SlotMask.endSlot(parseTime(hours.getEndTime())), day, 0);
+            } catch (RuntimeException e) {
+                log.warn("Ignoring unparseable working hours {}-{}", hours.getStartTime(), hours.getEndTime());
+                continue;
+            }
+            int offset = hours.getDayOfWeek().ordinal() * SlotMask.WORDS;
+            weekly[offset] |= day[0];
+            weekly[offset + 1] |= day[1];
+        }
+        return weekly;
+    }
+
+    private static LocalTime parseTime(String value) {
+        return "24:00".equals(value) ? LocalTime.MIDNIGHT : LocalTime.parse(value);
+    }
+}
@@ -0,0 +1,277 @@
+package com.project.bookingservice.service.availability;
+
+import com.project.bookingservice.client.UserServiceClient;
+import com.project.bookingservice.dto.DayAvailabilityDto;
+import com.project.bookingservice.dto.ProviderAvailabilityDto;
+import com.project.bookingservice.dto.ProviderScheduleDto;
+import com.project.bookingservice.dto.WorkingHoursDto;
+import com.project.bookingservice.entity.Booking;
+import com.project.bookingservice.repository.BookingRepository;
+import com.project.bookingservice.repository.BookingSlotView;
+import com.project.common.dto.ApiResponse;
+import com.project.common.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Free-slot search backed by {@link AvailabilityIndex}
+ *
+ * Providers are loaded on first use: weekly schedules from user-service and active bookings
+ * for the horizon, both fetched in batches. Booking writes on this instance are applied to the
+ * index directly; a periodic refresh reloads schedules and occupancy so schedule edits, writes
+ * from other instances and the rolling horizon are picked up. Providers not searched for the
+ * idle period are evicted before each refresh instead of being reloaded forever. Writes that
+ * land while a batch is being read are replayed by reloading those providers afterwards.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AvailabilityService {
+
+    // IDs travel in the schedules query string, so batches stay well under URL limits
+    private static final int LOAD_BATCH_SIZE = 200;
+
+    private final AvailabilityIndex availabilityIndex;
+    private final BookingRepository bookingRepository;
+    private final UserServiceClient userServiceClient;
+
+    @Value("${app.availability.horizon-days:90}")
+    private int horizonDays;
+
+    @Value("${app.availability.max-providers-per-query:5000}")
+    private int maxProvidersPerQuery;
+
+    @Value("${app.availability.idle-eviction-ms:1800000}")
+    private long idleEvictionMs;
+
+    public List<ProviderAvailabilityDto> findAvailableSlots(List<Long> providerIds, LocalDate from, LocalDate to,
+                                                            int durationMinutes, LocalTime windowStart,
+                                                            LocalTime windowEnd) {
+        List<Long> ids = validateProviders(providerIds);
+        validateRange(from, to);
+        if (durationMinutes <= 0 || durationMinutes > SlotMask.SLOTS_PER_DAY * SlotMask.SLOT_MINUTES) {
+            throw new BusinessException("INVALID_DURATION", "Duration must be between 1 minute and 24 hours");
+        }
+        ensureLoaded(ids);
+
+        long[] window = SlotMask.range(windowStart != null ? windowStart : LocalTime.MIN,
+                windowEnd != null ? windowEnd : LocalTime.MIDNIGHT);
+        int length = SlotMask.slotsFor(durationMinutes);
+        long[] free = new long[SlotMask.WORDS];
+        long[] starts = new long[SlotMask.WORDS];
+
+        List<ProviderAvailabilityDto> result = new ArrayList<>();
+        for (Long providerId : ids) {
+            List<DayAvailabilityDto> days = new ArrayList<>();
+            for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+                availabilityIndex.free(providerId, date, window, free);
+                SlotMask.runStarts(free, length, starts);
+                if (!SlotMask.isEmpty(starts)) {
+                    days.add(new DayAvailabilityDto(date, toTimes(starts)));
+                }
+            }
+            if (!days.isEmpty()) {
+                result.add(new ProviderAvailabilityDto(providerId, days));
+            }
+        }
+        return result;
+    }
+
+    public List<Long> findFreeProviders(List<Long> providerIds, LocalDate date, LocalTime startTime, LocalTime endTime) {
+        List<Long> ids = validateProviders(providerIds);
+        validateRange(date, date);
+        if (!startTime.isBefore(endTime) && !endTime.equals(LocalTime.MIDNIGHT)) {
+            throw new BusinessException("INVALID_TIME_RANGE", "Start time must be before end time");
+        }
+        ensureLoaded(ids);
+
+        long[] requested = SlotMask.range(startTime, endTime);
+        return ids.stream()
+                .filter(providerId -> availabilityIndex.isFree(providerId, date, requested))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Loads the provider into the index if needed; false when its schedule is unavailable.
+     */
+    public boolean ensureProviderLoaded(Long providerId) {
+        ensureLoaded(List.of(providerId));
+        LocalDate today = LocalDate.now();
+        return availabilityIndex.isLoaded(providerId, today, today.plusDays(horizonDays - 1L));
+    }
+
+    /**
+     * Free working minutes per day for the part of [from, to] inside the horizon
+     */
+    public Map<LocalDate, Integer> freeMinutes(Long providerId, LocalDate from, LocalDate to) {
+        LocalDate today = LocalDate.now();
+        LocalDate first = from.isBefore(today) ? today : from;
+        LocalDate last = to.isAfter(today.plusDays(horizonDays - 1L)) ? today.plusDays(horizonDays - 1L) : to;
+        if (first.isAfter(last) || !ensureProviderLoaded(providerId)) {
+            return Collections.emptyMap();
+        }
+
+        long[] allDay = SlotMask.range(LocalTime.MIN, LocalTime.MIDNIGHT);
+        long[] free = new long[SlotMask.WORDS];
+        Map<LocalDate, Integer> result = new HashMap<>();
+        for (LocalDate date = first; !date.isAfter(last); date = date.plusDays(1)) {
+            availabilityIndex.free(providerId, date, allDay, free);
+            result.put(date, (Long.bitCount(free[0]) + Long.bitCount(free[1])) * SlotMask.SLOT_MINUTES);
+        }
+        return result;
+    }
+
+    public void bookingActivated(Booking booking) {
+        availabilityIndex.occupy(booking.getProviderId(), booking.getBookingDate(),
+                booking.getStartTime(), booking.getEndTime());
+    }
+
+    public void bookingReleased(Booking booking) {
+        availabilityIndex.release(booking.getProviderId(), booking.getBookingDate(),
+                booking.getStartTime(), booking.getEndTime());
+    }
+
+    @Scheduled(fixedDelayString = "${app.availability.refresh-interval-ms:60000}")
+    public void refreshOccupancy() {
+        int evicted = availabilityIndex.evictUnusedSince(System.currentTimeMillis() - idleEvictionMs);
+        if (evicted > 0) {
+            log.debug("Evicted {} providers idle for {} ms", evicted, idleEvictionMs);
+        }
+        List<Long> loaded = new ArrayList<>(availabilityIndex.loadedProviders());
+        if (loaded.isEmpty()) {
+            return;
+        }
+        int refreshed = load(loaded);
+        log.debug("Refreshed schedules and occupancy for {} of {} providers", refreshed, loaded.size());
+    }
+
+    private void ensureLoaded(List<Long> providerIds) {
+        LocalDate today = LocalDate.now();
+        List<Long> missing = availabilityIndex.missing(providerIds, today, today.plusDays(horizonDays - 1L));
+        if (missing.isEmpty()) {
+            return;
+        }
+        int loaded = load(missing);
+        log.info("Loaded availability for {} of {} requested providers", loaded, missing.size());
+    }
+
+    /**
+     * Loads schedules and occupancy in batches, then reloads the providers whose bookings
+     * changed while their batch was being read; returns how many providers were loaded.
+     */
+    private int load(List<Long> providerIds) {
+        LocalDate today = LocalDate.now();
+        Set<Long> changed = availabilityIndex.trackChanges();
+        Set<Long> loaded = new HashSet<>();
+        try {
+            for (int i = 0; i < providerIds.size(); i += LOAD_BATCH_SIZE) {
+                loaded.addAll(loadBatch(providerIds.subList(i, Math.min(i + LOAD_BATCH_SIZE, providerIds.size())), today));
+            }
+        } finally {
+            availabilityIndex.stopTracking(changed);
+        }
+
+        List<Long> replay = changed.stream().filter(loaded::contains).collect(Collectors.toList());
+        for (int i = 0; i < replay.size(); i += LOAD_BATCH_SIZE) {
+            loadBatch(replay.subList(i, Math.min(i + LOAD_BATCH_SIZE, replay.size())), today);
+        }
+        if (!replay.isEmpty()) {
+            log.debug("Replayed availability for {} providers changed during loading", replay.size());
+        }
+        return loaded.size();
+    }
+
+    // Providers without a schedule are skipped unless already indexed, where the old schedule is kept
+    private List<Long> loadBatch(List<Long> batch, LocalDate today) {
+        Map<Long, List<WorkingHoursDto>> schedules = fetchSchedules(batch);
+        List<Long> loadable = batch.stream()
+                .filter(providerId -> schedules.containsKey(providerId) || availabilityIndex.contains(providerId))
+                .collect(Collectors.toList());
+        if (loadable.isEmpty()) {
+            return loadable;
+        }
+        Map<Long, List<BookingSlotView>> bookings = loadBookings(loadable, today);
+        for (Long providerId : loadable) {
+            availabilityIndex.load(providerId, schedules.get(providerId), today, horizonDays,
+                    bookings.getOrDefault(providerId, Collections.emptyList()));
+        }
+        return loadable;
+    }
+
+    private Map<Long, List<BookingSlotView>> loadBookings(List<Long> providerIds, LocalDate from) {
+        return bookingRepository.findByProviderIdInAndBookingDateBetweenAndStatusIn(
+                        providerIds, from, from.plusDays(horizonDays - 1L), Booking.BookingStatus.ACTIVE)
+                .stream()
+                .collect(Collectors.groupingBy(BookingSlotView::getProviderId));
+    }
+
+    private Map<Long, List<WorkingHoursDto>> fetchSchedules(List<Long> providerIds) {
+        try {
+            ApiResponse<List<ProviderScheduleDto>> response = userServiceClient.getProviderSchedules(providerIds);
+            if (response == null || response.getData() == null) {
+                return Collections.emptyMap();
+            }
+            Map<Long, List<WorkingHoursDto>> schedules = new HashMap<>();
+            for (ProviderScheduleDto schedule : response.getData()) {
+                schedules.put(schedule.getId(),
+                        schedule.getWorkingHours() != null ? schedule.getWorkingHours() : Collections.emptyList());
+            }
+            return schedules;
+        } catch (RuntimeException e) {
+            // Skipped for now and retried on the next query or refresh instead of failing the whole search
+            log.warn("Could not load schedules for {} providers: {}", providerIds.size(), e.getMessage());
+            return Collections.emptyMap();
+        }
+    }
+
+    private List<Long> validateProviders(List<Long> providerIds) {
+        if (providerIds == null || providerIds.isEmpty()) {
+            throw new BusinessException("PROVIDERS_REQUIRED", "At least one provider ID is required");
+        }
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(providerIds));
+        if (ids.size() > maxProvidersPerQuery) {
+            throw new BusinessException("TOO_MANY_PROVIDERS",
+                    "At most " + maxProvidersPerQuery + " providers can be queried at once");
+        }
+        return ids;
+    }
+
+    private void validateRange(LocalDate from, LocalDate to) {
+        LocalDate today = LocalDate.now();
+        if (from.isAfter(to)) {
+            throw new BusinessException("INVALID_DATE_RANGE", "Start date must not be after end date");
+        }
+        if (from.isBefore(today) || to.isAfter(today.plusDays(horizonDays - 1L))) {
+            throw new BusinessException("DATE_OUT_OF_RANGE",
+                    "Availability is only available for the next " + horizonDays + " days");
+        }
+    }
+
+    private static List<LocalTime> toTimes(long[] slots) {
+        List<LocalTime> times = new ArrayList<>(Long.bitCount(slots[0]) + Long.bitCount(slots[1]));
+        for (int word = 0; word < SlotMask.WORDS; word++) {
+            long bits = slots[word];
+            while (bits != 0) {
+                int slot = word * 64 + Long.numberOfTrailingZeros(bits);
+                times.add(SlotMask.timeOf(slot));
+                bits &= bits - 1;
+            }
+        }
+        return times;
+    }
+}
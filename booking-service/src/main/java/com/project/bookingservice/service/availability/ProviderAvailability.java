@@ -0,0 +1,275 @@
+package com.project.bookingservice.service.availability;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Weekly working mask, per-day occupancy and per-day holds for one provider over a window of days
+ *
+ * Reads are optimistic and only fall back to the read lock when a writer got in between,
+ * so free-slot scans across many providers never block each other.
+ *
+ * Bookings that start or end inside a slot take the whole slot, so two back-to-back bookings
+ * can both cover it. Every booking beyond the first on a slot is counted in sharedSlots, and
+ * releasing a booking only frees the slots nobody else still covers.
+ */
+class ProviderAvailability {
+
+    private final StampedLock lock = new StampedLock();
+
+    // indexed by DayOfWeek ordinal
+    private final long[] weeklyMask = new long[7 * SlotMask.WORDS];
+
+    private long firstEpochDay;
+    private long[] occupied;
+
+    // Extra bookings per occupied slot, keyed by slotKey; only guarded by the write lock, readers never look
+    private Map<Long, Integer> sharedSlots = new HashMap<>();
+
+    // Slots reserved by unexpired holds; kept apart so occupancy reloads do not drop them
+    private long[] held;
+
+    // Coarse, so the read path only writes it about once a second
+    private volatile long lastUsedMillis = System.currentTimeMillis();
+
+    ProviderAvailability(long firstEpochDay, int days) {
+        this.firstEpochDay = firstEpochDay;
+        this.occupied = new long[days * SlotMask.WORDS];
+        this.held = new long[days * SlotMask.WORDS];
+    }
+
+    void touch() {
+        long now = System.currentTimeMillis();
+        if (now - lastUsedMillis >= 1_000) {
+            lastUsedMillis = now;
+        }
+    }
+
+    boolean unusedSince(long cutoffMillis) {
+        return lastUsedMillis < cutoffMillis;
+    }
+
+    boolean covers(LocalDate from, LocalDate to) {
+        long stamp = lock.tryOptimisticRead();
+        long first = firstEpochDay;
+        long last = first + occupied.length / SlotMask.WORDS - 1;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                first = firstEpochDay;
+                last = first + occupied.length / SlotMask.WORDS - 1;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return from.toEpochDay() >= first && to.toEpochDay() <= last;
+    }
+
+    /**
+     * Writes working-and-not-occupied slots for the date into out; zero outside the window.
+     */
+    void free(LocalDate date, long[] out) {
+        int dow = date.getDayOfWeek().ordinal() * SlotMask.WORDS;
+        long epochDay = date.toEpochDay();
+
+        long stamp = lock.tryOptimisticRead();
+        readFree(epochDay, dow, out);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                readFree(epochDay, dow, out);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+    }
+
+    /**
+     * Whether none of the slots is booked or held, regardless of working hours; true outside the window.
+     */
+    boolean unoccupied(LocalDate date, long[] mask) {
+        long epochDay = date.toEpochDay();
+        long stamp = lock.tryOptimisticRead();
+        boolean unoccupied = readUnoccupied(epochDay, mask);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                unoccupied = readUnoccupied(epochDay, mask);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return unoccupied;
+    }
+
+    void occupy(LocalDate date, long[] mask) {
+        long epochDay = date.toEpochDay();
+        long stamp = lock.writeLock();
+        try {
+            int offset = offsetOf(epochDay);
+            if (offset >= 0) {
+                for (int word = 0; word < SlotMask.WORDS; word++) {
+                    countShared(sharedSlots, epochDay, word, occupied[offset + word] & mask[word]);
+                    occupied[offset + word] |= mask[word];
+                }
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Frees the booking's slots except those another booking still covers. A booking occupied
+     * twice, e.g. by a write that raced a load, keeps its slots taken until the next reload.
+     */
+    void release(LocalDate date, long[] mask) {
+        long epochDay = date.toEpochDay();
+        long stamp = lock.writeLock();
+        try {
+            int offset = offsetOf(epochDay);
+            if (offset >= 0) {
+                for (int word = 0; word < SlotMask.WORDS; word++) {
+                    occupied[offset + word] &= ~releaseShared(epochDay, word, occupied[offset + word] & mask[word]);
+                }
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Reserves the slots if they are all working, unbooked and unheld; all or nothing.
+     */
+    boolean tryHold(LocalDate date, long[] mask) {
+        int dow = date.getDayOfWeek().ordinal() * SlotMask.WORDS;
+        long stamp = lock.writeLock();
+        try {
+            int offset = offsetOf(date.toEpochDay());
+            if (offset < 0) {
+                return false;
+            }
+            long free0 = weeklyMask[dow] & ~occupied[offset] & ~held[offset];
+            long free1 = weeklyMask[dow + 1] & ~occupied[offset + 1] & ~held[offset + 1];
+            if ((free0 & mask[0]) != mask[0] || (free1 & mask[1]) != mask[1]) {
+                return false;
+            }
+            held[offset] |= mask[0];
+            held[offset + 1] |= mask[1];
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    void releaseHold(LocalDate date, long[] mask) {
+        long stamp = lock.writeLock();
+        try {
+            int offset = offsetOf(date.toEpochDay());
+            if (offset >= 0) {
+                held[offset] &= ~mask[0];
+                held[offset + 1] &= ~mask[1];
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    void replaceSchedule(long[] newWeeklyMask) {
+        long stamp = lock.writeLock();
+        try {
+            System.arraycopy(newWeeklyMask, 0, weeklyMask, 0, weeklyMask.length);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    void replaceOccupancy(long newFirstEpochDay, long[] newOccupied, Map<Long, Integer> newSharedSlots) {
+        long stamp = lock.writeLock();
+        try {
+            long[] newHeld = new long[newOccupied.length];
+            long shift = (newFirstEpochDay - firstEpochDay) * SlotMask.WORDS;
+            for (int i = 0; i < newHeld.length; i++) {
+                long source = i + shift;
+                if (source >= 0 && source < held.length) {
+                    newHeld[i] = held[(int) source];
+                }
+            }
+            firstEpochDay = newFirstEpochDay;
+            occupied = newOccupied;
+            sharedSlots = newSharedSlots;
+            held = newHeld;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private void readFree(long epochDay, int dow, long[] out) {
+        long[] days = occupied;
+        long[] holds = held;
+        long index = (epochDay - firstEpochDay) * SlotMask.WORDS;
+        if (index < 0 || index + 1 >= days.length || index + 1 >= holds.length) {
+            out[0] = 0L;
+            out[1] = 0L;
+            return;
+        }
+        out[0] = weeklyMask[dow] & ~days[(int) index] & ~holds[(int) index];
+        out[1] = weeklyMask[dow + 1] & ~days[(int) index + 1] & ~holds[(int) index + 1];
+    }
+
+    private boolean readUnoccupied(long epochDay, long[] mask) {
+        long[] days = occupied;
+        long[] holds = held;
+        long index = (epochDay - firstEpochDay) * SlotMask.WORDS;
+        if (index < 0 || index + 1 >= days.length || index + 1 >= holds.length) {
+            return true;
+        }
+        return ((days[(int) index] | holds[(int) index]) & mask[0]) == 0
+                && ((days[(int) index + 1] | holds[(int) index + 1]) & mask[1]) == 0;
+    }
+
+    /**
+     * Counts one more booking on each slot in overlap, the bits of the word a booking covers
+     * that were already taken
+     */
+    static void countShared(Map<Long, Integer> sharedSlots, long epochDay, int word, long overlap) {
+        while (overlap != 0) {
+            sharedSlots.merge(slotKey(epochDay, word, Long.numberOfTrailingZeros(overlap)), 1, Integer::sum);
+            overlap &= overlap - 1;
+        }
+    }
+
+    // Drops one booking from each slot in taken and returns the slots no booking covers any more
+    private long releaseShared(long epochDay, int word, long taken) {
+        if (sharedSlots.isEmpty()) {
+            return taken;
+        }
+        long freed = taken;
+        long bits = taken;
+        while (bits != 0) {
+            int bit = Long.numberOfTrailingZeros(bits);
+            Long key = slotKey(epochDay, word, bit);
+            Integer extra = sharedSlots.get(key);
+            if (extra != null) {
+                freed &= ~(1L << bit);
+                if (extra == 1) {
+                    sharedSlots.remove(key);
+                } else {
+                    sharedSlots.put(key, extra - 1);
+                }
+            }
+            bits &= bits - 1;
+        }
+        return freed;
+    }
+
+    private static long slotKey(long epochDay, int word, int bit) {
+        return epochDay * SlotMask.SLOTS_PER_DAY + word * 64L + bit;
+    }
+
+    private int offsetOf(long epochDay) {
+        long index = (epochDay - firstEpochDay) * SlotMask.WORDS;
+        return index < 0 || index + 1 >= occupied.length ? -1 : (int) index;
+    }
+}
@@ -0,0 +1,95 @@
+package com.project.bookingservice.service.availability;
+
+import java.time.LocalTime;
+
+/**
+ * Bit layout for one day of a provider's calendar
+ *
+ * A day is 96 fifteen-minute slots packed into two longs: slot i lives in word i / 64 at bit i % 64.
+ * Set bits mean "working" in a schedule mask and "taken" in an occupancy mask.
+ */
+public final class SlotMask {
+
+    public static final int SLOT_MINUTES = 15;
+    public static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+    public static final int WORDS = 2;
+
+    private static final long LAST_WORD_MASK = (1L << (SLOTS_PER_DAY - 64)) - 1;
+
+    private SlotMask() {
+    }
+
+    /**
+     * First slot touched by the given start time
+     */
+    public static int startSlot(LocalTime time) {
+        return time.toSecondOfDay() / 60 / SLOT_MINUTES;
+    }
+
+    /**
+     * Slot after the last one touched by the given end time; midnight means end of day
+     */
+    public static int endSlot(LocalTime time) {
+        if (time.equals(LocalTime.MIDNIGHT)) {
+            return SLOTS_PER_DAY;
+        }
+        return Math.ceilDiv(time.toSecondOfDay() / 60, SLOT_MINUTES);
+    }
+
+    public static int slotsFor(int minutes) {
+        return Math.ceilDiv(minutes, SLOT_MINUTES);
+    }
+
+    public static LocalTime timeOf(int slot) {
+        return LocalTime.ofSecondOfDay((long) slot * SLOT_MINUTES * 60);
+    }
+
+    /**
+     * Writes the mask for slots [fromSlot, toSlot) into target at the given offset
+     */
+    public static void range(int fromSlot, int toSlot, long[] target, int offset) {
+        for (int word = 0; word < WORDS; word++) {
+            int lo = Math.max(fromSlot, word * 64) - word * 64;
+            int hi = Math.min(toSlot, word * 64 + 64) - word * 64;
+            target[offset + word] = lo < hi ? bits(lo, hi) : 0L;
+        }
+    }
+
+    public static long[] range(LocalTime start, LocalTime end) {
+        long[] mask = new long[WORDS];
+        range(startSlot(start), endSlot(end), mask, 0);
+        return mask;
+    }
+
+    public static boolean isEmpty(long[] mask) {
+        return (mask[0] | mask[1]) == 0;
+    }
+
+    /**
+     * Keeps only the bits where a run of {@code length} consecutive set bits starts.
+     * Runs never wrap past the end of the day.
+     */
+    public static void runStarts(long[] free, int length, long[] out) {
+        long w0 = free[0];
+        long w1 = free[1] & LAST_WORD_MASK;
+        long r0 = w0;
+        long r1 = w1;
+        for (int shift = 1; shift < length && (r0 | r1) != 0; shift++) {
+            // bit i of the shifted value is bit i + shift of the free mask
+            if (shift < 64) {
+                r0 &= (w0 >>> shift) | (w1 << (64 - shift));
+                r1 &= w1 >>> shift;
+            } else {
+                r0 &= w1 >>> (shift - 64);
+                r1 = 0L;
+            }
+        }
+        out[0] = length > SLOTS_PER_DAY ? 0L : r0;
+        out[1] = length > SLOTS_PER_DAY ? 0L : r1;
+    }
+
+    private static long bits(int lo, int hi) {
+        long width = hi - lo == 64 ? -1L : (1L << (hi - lo)) - 1;
+        return width << lo;
+    }
+}
@@ -0,0 +1,143 @@
+package com.project.bookingservice.service.calendar;
+
+import com.project.bookingservice.dto.CalendarDayDto;
+import com.project.bookingservice.dto.ProviderCalendarDto;
+import com.project.bookingservice.service.availability.AvailabilityService;
+import com.project.common.exception.BusinessException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Month calendar for a provider page, read from provider_day_summary
+ *
+ * Booking counts come from the projection in a single query; free minutes come from the
+ * in-memory availability index for days inside its horizon.
+ */
+@Service
+@Slf4j
+public class ProviderCalendarService {
+
+    private static final String MONTH_SQL =
+            "SELECT booking_date, active_count, completed_count, cancelled_count, booked_minutes " +
+            "FROM provider_day_summary WHERE provider_id = ? AND booking_date BETWEEN ? AND ?";
+
+    private static final String PROVIDERS_SQL =
+            "SELECT provider_id FROM provider_day_summary UNION SELECT DISTINCT provider_id FROM bookings";
+
+    private static final String REBUILD_SQL =
+            "INSERT INTO provider_day_summary (provider_id, booking_date, active_count, completed_count, " +
+            "cancelled_count, booked_minutes) " +
+            "SELECT provider_id, booking_date, " +
+            "COUNT(*) FILTER (WHERE status IN ('PENDING', 'CONFIRMED', 'IN_PROGRESS')), " +
+            "COUNT(*) FILTER (WHERE status = 'COMPLETED'), " +
+            "COUNT(*) FILTER (WHERE status = 'CANCELLED'), " +
+            "COALESCE(SUM(EXTRACT(EPOCH FROM upper(slot) - lower(slot)) / 60) " +
+            "FILTER (WHERE status IN ('PENDING', 'CONFIRMED', 'IN_PROGRESS')), 0)::int " +
+            "FROM bookings WHERE provider_id = ? GROUP BY provider_id, booking_date";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AvailabilityService availabilityService;
+    private final int rebuildParallelism;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    public ProviderCalendarService(JdbcTemplate jdbcTemplate,
+                                   TransactionTemplate transactionTemplate,
+                                   AvailabilityService availabilityService,
+                                   @Value("${app.calendar.rebuild-parallelism:4}") int rebuildParallelism) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.availabilityService = availabilityService;
+        this.rebuildParallelism = rebuildParallelism;
+    }
+
+    public ProviderCalendarDto getMonth(Long providerId, YearMonth month) {
+        LocalDate first = month.atDay(1);
+        LocalDate last = month.atEndOfMonth();
+
+        Map<LocalDate, CalendarDayDto> summaries = new HashMap<>();
+        jdbcTemplate.query(MONTH_SQL, rs -> {
+            LocalDate date = rs.getDate("booking_date").toLocalDate();
+            summaries.put(date, new CalendarDayDto(date, rs.getInt("active_count"), rs.getInt("completed_count"),
+                    rs.getInt("cancelled_count"), rs.getInt("booked_minutes"), null));
+        }, providerId, first, last);
+
+        Map<LocalDate, Integer> freeMinutes = availabilityService.freeMinutes(providerId, first, last);
+
+        List<CalendarDayDto> days = new ArrayList<>(month.lengthOfMonth());
+        for (LocalDate date = first; !date.isAfter(last); date = date.plusDays(1)) {
+            CalendarDayDto day = summaries.get(date);
+            if (day == null) {
+                day = new CalendarDayDto(date, 0, 0, 0, 0, null);
+            }
+            day.setFreeMinutes(freeMinutes.get(date));
+            days.add(day);
+        }
+        return new ProviderCalendarDto(providerId, month, days);
+    }
+
+    /**
+     * Recomputes every provider's summary from bookings, several providers at a time.
+     * Each provider is replaced in its own transaction under the exclusive projection lock,
+     * so live bookings keep flowing and are never double counted.
+     */
+    public int rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            throw new BusinessException("REBUILD_IN_PROGRESS", "A calendar rebuild is already running");
+        }
+        try {
+            List<Long> providerIds = jdbcTemplate.queryForList(PROVIDERS_SQL, Long.class);
+            log.info("Rebuilding calendar summaries for {} providers with parallelism {}",
+                    providerIds.size(), rebuildParallelism);
+
+            ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, rebuildParallelism));
+            try {
+                List<Future<?>> futures = new ArrayList<>(providerIds.size());
+                for (Long providerId : providerIds) {
+                    futures.add(executor.submit(() -> rebuildProvider(providerId)));
+                }
+                int failed = 0;
+                for (Future<?> future : futures) {
+                    try {
+                        future.get();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new BusinessException("REBUILD_INTERRUPTED", "Calendar rebuild was interrupted");
+                    } catch (Exception e) {
+                        failed++;
+                        log.warn("Calendar rebuild failed for a provider: {}", e.getMessage());
+                    }
+                }
+                log.info("Calendar rebuild finished: {} providers, {} failed", providerIds.size(), failed);
+                return providerIds.size() - failed;
+            } finally {
+                executor.shutdownNow();
+            }
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    private void rebuildProvider(Long providerId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.queryForObject("SELECT pg_advisory_xact_lock(?, ?)::text", String.class,
+                    ProviderDaySummaryProjection.LOCK_NAMESPACE, ProviderDaySummaryProjection.lockKey(providerId));
+            jdbcTemplate.update("DELETE FROM provider_day_summary WHERE provider_id = ?", providerId);
+            jdbcTemplate.update(REBUILD_SQL, providerId);
+        });
+    }
+}
@@ -0,0 +1,112 @@
+package com.project.bookingservice.service.calendar;
+
+import com.project.bookingservice.entity.Booking;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Applies booking transitions to provider_day_summary as counter deltas
+ *
+ * Must run in the transaction that changes the booking. Every update also takes a shared
+ * per-provider advisory lock in the same statement; {@link ProviderCalendarService#rebuild()}
+ * takes it exclusively, so a rebuild never interleaves with a delta for the same provider.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProviderDaySummaryProjection {
+
+    static final int LOCK_NAMESPACE = 0x63616c;
+
+    private static final String APPLY_SQL =
+            "INSERT INTO provider_day_summary (provider_id, booking_date, active_count, completed_count, " +
+            "cancelled_count, booked_minutes) " +
+            "SELECT ?, ?, ?, ?, ?, ? FROM (SELECT pg_advisory_xact_lock_shared(?, ?)) AS provider_lock " +
+            "ON CONFLICT (provider_id, booking_date) DO UPDATE SET " +
+            "active_count = provider_day_summary.active_count + EXCLUDED.active_count, " +
+            "completed_count = provider_day_summary.completed_count + EXCLUDED.completed_count, " +
+            "cancelled_count = provider_day_summary.cancelled_count + EXCLUDED.cancelled_count, " +
+            "booked_minutes = provider_day_summary.booked_minutes + EXCLUDED.booked_minutes, " +
+            "updated_at = now()";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void created(Booking booking) {
+        apply(booking, null, booking.getStatus());
+    }
+
+    /**
+     * Applies a set of new bookings in one JDBC batch.
+     */
+    public void createdAll(List<Booking> bookings) {
+        List<Object[]> rows = new ArrayList<>(bookings.size());
+        for (Booking booking : bookings) {
+            Object[] row = row(booking, null, booking.getStatus());
+            if (row != null) {
+                rows.add(row);
+            }
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(APPLY_SQL, rows);
+        }
+    }
+
+    public void statusChanged(Booking booking, Booking.BookingStatus from) {
+        if (from != booking.getStatus()) {
+            apply(booking, from, booking.getStatus());
+        }
+    }
+
+    private void apply(Booking booking, Booking.BookingStatus from, Booking.BookingStatus to) {
+        Object[] row = row(booking, from, to);
+        if (row != null) {
+            jdbcTemplate.update(APPLY_SQL, row);
+        }
+    }
+
+    private static Object[] row(Booking booking, Booking.BookingStatus from, Booking.BookingStatus to) {
+        int[] delta = new int[3];
+        count(delta, from, -1);
+        count(delta, to, 1);
+        int minutes = minutes(booking.getStartTime(), booking.getEndTime());
+        int bookedMinutes = (isActive(to) ? minutes : 0) - (isActive(from) ? minutes : 0);
+        if (delta[0] == 0 && delta[1] == 0 && delta[2] == 0 && bookedMinutes == 0) {
+            // e.g. PENDING to CONFIRMED, both counted as active
+            return null;
+        }
+        return new Object[]{booking.getProviderId(), booking.getBookingDate(),
+                delta[0], delta[1], delta[2], bookedMinutes,
+                LOCK_NAMESPACE, lockKey(booking.getProviderId())};
+    }
+
+    static int lockKey(long providerId) {
+        return (int) (providerId ^ (providerId >>> 32));
+    }
+
+    private static void count(int[] delta, Booking.BookingStatus status, int sign) {
+        if (status == null) {
+            return;
+        }
+        if (isActive(status)) {
+            delta[0] += sign;
+        } else if (status == Booking.BookingStatus.COMPLETED) {
+            delta[1] += sign;
+        } else if (status == Booking.BookingStatus.CANCELLED) {
+            delta[2] += sign;
+        }
+    }
+
+    private static boolean isActive(Booking.BookingStatus status) {
+        return status != null && Booking.BookingStatus.ACTIVE.contains(status);
+    }
+
+    private static int minutes(LocalTime start, LocalTime end) {
+        Duration duration = Duration.between(start, end);
+        return (int) (duration.isNegative() || duration.isZero() ? duration.plusDays(1) : duration).toMinutes();
+    }
+}
@@ -0,0 +1,100 @@
+package com.project.bookingservice.service.event;
+
+import com.project.bookingservice.entity.Booking;
+import com.project.bookingservice.repository.BookingRepository;
+import com.project.bookingservice.service.calendar.ProviderDaySummaryProjection;
+import com.project.bookingservice.service.hold.HoldService;
+import com.project.common.event.PaymentCompletedEvent;
+import com.project.common.event.PaymentRefundRequestedEvent;
+import com.project.common.exception.BusinessException;
+import com.project.common.outbox.EventHandler;
+import com.project.common.outbox.OutboxEvent;
+import com.project.common.outbox.OutboxWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * Confirms a pending booking, or books a held slot, once payment-service reports the payment as completed
+ *
+ * A payment that arrives too late to buy anything, for a booking cancelled meanwhile or a hold
+ * that can no longer be confirmed, is sent back to payment-service for a refund in the same
+ * transaction that records the event as processed.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PaymentCompletedHandler implements EventHandler<PaymentCompletedEvent> {
+
+    // Lock contention, not a verdict on the hold; rethrown so the event is delivered again
+    private static final Set<String> RETRYABLE = Set.of("PROVIDER_BUSY", "BOOKING_INTERRUPTED");
+
+    private final BookingRepository bookingRepository;
+    private final ProviderDaySummaryProjection dayProjection;
+    private final HoldService holdService;
+    private final OutboxWriter outboxWriter;
+
+    @Override
+    public String eventType() {
+        return PaymentCompletedEvent.TYPE;
+    }
+
+    @Override
+    public Class<PaymentCompletedEvent> payloadType() {
+        return PaymentCompletedEvent.class;
+    }
+
+    @Override
+    public void handle(PaymentCompletedEvent payload, OutboxEvent event) {
+        if (payload.holdId() != null) {
+            confirmHold(payload);
+            return;
+        }
+        Booking booking = bookingRepository.findById(payload.bookingId()).orElse(null);
+        if (booking == null) {
+            requestRefund(payload, "Booking " + payload.bookingId() + " not found");
+            return;
+        }
+        Booking.BookingStatus from = booking.getStatus();
+        if (payload.paymentId().equals(booking.getPaymentId())
+                && booking.getPaymentStatus() == Booking.PaymentStatus.PAID) {
+            log.info("Booking {} already paid with payment {}", booking.getId(), payload.paymentId());
+            return;
+        }
+        if (from != Booking.BookingStatus.PENDING) {
+            // cancelled while the payment was in flight, or already paid through another payment
+            requestRefund(payload, "Booking " + booking.getId() + " is " + from);
+            return;
+        }
+        booking.setPaymentStatus(Booking.PaymentStatus.PAID);
+        booking.setPaymentId(payload.paymentId());
+        booking.setStatus(Booking.BookingStatus.CONFIRMED);
+        dayProjection.statusChanged(bookingRepository.save(booking), from);
+        log.info("Booking {} paid with payment {}", booking.getId(), payload.paymentId());
+    }
+
+    private void confirmHold(PaymentCompletedEvent payload) {
+        try {
+            holdService.confirmPaidHold(payload.holdId(), payload.paymentId());
+        } catch (BusinessException e) {
+            if (RETRYABLE.contains(e.getErrorCode())) {
+                throw e;
+            }
+            // the booking commits on its own, so a redelivery after a failed commit here finds it already made
+            if (bookingRepository.existsByPaymentId(payload.paymentId())) {
+                log.info("Hold {} was already confirmed with payment {}", payload.holdId(), payload.paymentId());
+                return;
+            }
+            // released, expired past the grace period, or the slot was taken
+            requestRefund(payload, "Hold " + payload.holdId() + " could not be confirmed: " + e.getMessage());
+        }
+    }
+
+    private void requestRefund(PaymentCompletedEvent payload, String reason) {
+        outboxWriter.append(PaymentRefundRequestedEvent.AGGREGATE, payload.paymentId(), PaymentRefundRequestedEvent.TYPE,
+                new PaymentRefundRequestedEvent(payload.paymentId(), payload.bookingId(), payload.holdId(), reason));
+        log.warn("Payment {} refund requested: {}", payload.paymentId(), reason);
+    }
+}
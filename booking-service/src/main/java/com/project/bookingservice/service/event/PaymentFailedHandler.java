@@ -0,0 +1,75 @@
+package com.project.bookingservice.service.event;
+
+import com.project.bookingservice.entity.Booking;
+import com.project.bookingservice.repository.BookingRepository;
+import com.project.bookingservice.service.availability.AvailabilityService;
+import com.project.bookingservice.service.calendar.ProviderDaySummaryProjection;
+import com.project.bookingservice.service.hold.HoldService;
+import com.project.common.event.PaymentFailedEvent;
+import com.project.common.outbox.EventHandler;
+import com.project.common.outbox.OutboxEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cancels a pending booking whose payment failed and frees its slot, or drops the hold it paid for
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PaymentFailedHandler implements EventHandler<PaymentFailedEvent> {
+
+    private final BookingRepository bookingRepository;
+    private final AvailabilityService availabilityService;
+    private final ProviderDaySummaryProjection dayProjection;
+    private final HoldService holdService;
+
+    @Override
+    public String eventType() {
+        return PaymentFailedEvent.TYPE;
+    }
+
+    @Override
+    public Class<PaymentFailedEvent> payloadType() {
+        return PaymentFailedEvent.class;
+    }
+
+    @Override
+    public void handle(PaymentFailedEvent payload, OutboxEvent event) {
+        if (payload.holdId() != null) {
+            holdService.abandonHold(payload.holdId());
+            return;
+        }
+        Booking booking = bookingRepository.findById(payload.bookingId()).orElse(null);
+        if (booking == null) {
+            log.warn("Payment {} failed for unknown booking {}", payload.paymentId(), payload.bookingId());
+            return;
+        }
+        booking.setPaymentStatus(Booking.PaymentStatus.FAILED);
+        booking.setPaymentId(payload.paymentId());
+        boolean cancel = booking.getStatus() == Booking.BookingStatus.PENDING;
+        if (cancel) {
+            booking.setStatus(Booking.BookingStatus.CANCELLED);
+            booking.setCancelledAt(LocalDateTime.now());
+            booking.setCancellationReason("Payment failed" + (payload.reason() != null ? ": " + payload.reason() : ""));
+        }
+        Booking saved = bookingRepository.save(booking);
+
+        if (cancel) {
+            dayProjection.statusChanged(saved, Booking.BookingStatus.PENDING);
+            // the slot only becomes free for others once the cancellation is committed
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    availabilityService.bookingReleased(saved);
+                }
+            });
+        }
+        log.info("Booking {} payment failed, cancelled: {}", booking.getId(), cancel);
+    }
+}
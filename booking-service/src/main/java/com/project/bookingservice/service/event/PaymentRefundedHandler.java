@@ -0,0 +1,47 @@
+package com.project.bookingservice.service.event;
+
+import com.project.bookingservice.entity.Booking;
+import com.project.bookingservice.repository.BookingRepository;
+import com.project.common.event.PaymentRefundedEvent;
+import com.project.common.outbox.EventHandler;
+import com.project.common.outbox.OutboxEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Marks a booking refunded once payment-service has returned its payment; a refunded hold
+ * payment usually never became a booking, so there is nothing to mark
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PaymentRefundedHandler implements EventHandler<PaymentRefundedEvent> {
+
+    private final BookingRepository bookingRepository;
+
+    @Override
+    public String eventType() {
+        return PaymentRefundedEvent.TYPE;
+    }
+
+    @Override
+    public Class<PaymentRefundedEvent> payloadType() {
+        return PaymentRefundedEvent.class;
+    }
+
+    @Override
+    public void handle(PaymentRefundedEvent payload, OutboxEvent event) {
+        Booking booking = payload.bookingId() != null
+                ? bookingRepository.findById(payload.bookingId()).orElse(null)
+                : bookingRepository.findByPaymentId(payload.paymentId()).orElse(null);
+        if (booking == null) {
+            log.info("Payment {} refunded without a booking: {}", payload.paymentId(), payload.reason());
+            return;
+        }
+        booking.setPaymentStatus(Booking.PaymentStatus.REFUNDED);
+        bookingRepository.save(booking);
+        log.info("Booking {} payment {} refunded {} {}", booking.getId(), payload.paymentId(),
+                payload.amount(), payload.currency());
+    }
+}
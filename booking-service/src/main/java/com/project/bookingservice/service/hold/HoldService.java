@@ -0,0 +1,210 @@
+package com.project.bookingservice.service.hold;
+
+import com.project.bookingservice.dto.BookingDto;
+import com.project.bookingservice.dto.CreateBookingRequest;
+import com.project.bookingservice.dto.HoldDto;
+import com.project.bookingservice.service.BookingPartitionManager;
+import com.project.bookingservice.service.BookingService;
+import com.project.bookingservice.service.CurrentUserService;
+import com.project.bookingservice.service.availability.AvailabilityIndex;
+import com.project.bookingservice.service.availability.AvailabilityService;
+import com.project.bookingservice.util.HashedTimingWheel;
+import com.project.bookingservice.util.JwtUtil;
+import com.project.common.exception.BusinessException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Temporary slot holds for checkout
+ *
+ * A hold reserves slots in the availability index immediately and lives in memory until it
+ * is confirmed, released or expires. Expiry is driven by a timing wheel and the database
+ * copy is written behind, so neither placing nor expiring a hold touches the database on the
+ * request path. Writing the copy announces the hold to payment-service, and the hold is
+ * confirmed when its payment completes, on whichever instance receives that event: the row
+ * is claimed in the booking transaction. Slot reservations in the index are per instance;
+ * bookings on other instances are still stopped by the exclusion constraint.
+ */
+@Service
+@Slf4j
+public class HoldService {
+
+    private final Map<UUID, SlotHold> holds = new ConcurrentHashMap<>();
+    private final HashedTimingWheel<UUID> expiryWheel;
+
+    private final AvailabilityIndex availabilityIndex;
+    private final AvailabilityService availabilityService;
+    private final BookingService bookingService;
+    private final BookingPartitionManager partitionManager;
+    private final CurrentUserService currentUserService;
+    private final HoldWriteBehind holdWriteBehind;
+    private final Duration ttl;
+
+    public HoldService(AvailabilityIndex availabilityIndex,
+                       AvailabilityService availabilityService,
+                       BookingService bookingService,
+                       BookingPartitionManager partitionManager,
+                       CurrentUserService currentUserService,
+                       HoldWriteBehind holdWriteBehind,
+                       @Value("${app.holds.ttl:10m}") Duration ttl,
+                       @Value("${app.holds.tick-ms:1000}") long tickMillis) {
+        this.availabilityIndex = availabilityIndex;
+        this.availabilityService = availabilityService;
+        this.bookingService = bookingService;
+        this.partitionManager = partitionManager;
+        this.currentUserService = currentUserService;
+        this.holdWriteBehind = holdWriteBehind;
+        this.ttl = ttl;
+        this.expiryWheel = new HashedTimingWheel<>(tickMillis, 512, System.currentTimeMillis());
+    }
+
+    public HoldDto placeHold(CreateBookingRequest request) {
+        if (!request.getStartTime().isBefore(request.getEndTime()) && !request.getEndTime().equals(LocalTime.MIDNIGHT)) {
+            throw new BusinessException("INVALID_TIME_RANGE", "Start time must be before end time");
+        }
+        partitionManager.requireBookable(request.getBookingDate());
+        Long customerId = currentUserService.getCurrentUserId();
+
+        if (!availabilityService.ensureProviderLoaded(request.getProviderId())) {
+            throw new BusinessException("PROVIDER_SCHEDULE_UNAVAILABLE", "Provider schedule is not available");
+        }
+        if (!availabilityIndex.tryHold(request.getProviderId(), request.getBookingDate(),
+                request.getStartTime(), request.getEndTime())) {
+            throw new BusinessException("SLOT_UNAVAILABLE", "The provider is not available for this time");
+        }
+
+        SlotHold hold = SlotHold.builder()
+                .id(UUID.randomUUID())
+                .customerId(customerId)
+                .providerId(request.getProviderId())
+                .businessId(request.getBusinessId())
+                .serviceName(request.getServiceName())
+                .serviceDescription(request.getServiceDescription())
+                .bookingDate(request.getBookingDate())
+                .startTime(request.getStartTime())
+                .endTime(request.getEndTime())
+                .totalAmount(request.getTotalAmount())
+                .currency(request.getCurrency() != null ? request.getCurrency() : "USD")
+                .notes(request.getNotes())
+                .expiresAt(Instant.now().plus(ttl))
+                .build();
+
+        track(hold);
+        holdWriteBehind.saved(hold);
+        log.info("Hold {} placed for provider {} on {} {}-{}", hold.getId(), hold.getProviderId(),
+                hold.getBookingDate(), hold.getStartTime(), hold.getEndTime());
+        return convertToDto(hold);
+    }
+
+    public void releaseHold(UUID holdId) {
+        SlotHold hold = holds.get(holdId);
+        if (hold == null) {
+            throw new BusinessException("HOLD_NOT_FOUND", "Hold not found or already expired");
+        }
+        if (!JwtUtil.isAdmin() && !hold.getCustomerId().equals(currentUserService.getCurrentUserId())) {
+            throw new BusinessException("HOLD_NOT_FOUND", "Hold not found or already expired");
+        }
+        if (holds.remove(holdId, hold)) {
+            untrack(hold);
+            log.info("Hold {} released", holdId);
+        }
+    }
+
+    /**
+     * Converts the hold into a CONFIRMED booking once its payment has completed. The hold is
+     * read from memory or, when another instance placed it, from the table.
+     */
+    public BookingDto confirmPaidHold(UUID holdId, Long paymentId) {
+        SlotHold local = holds.get(holdId);
+        SlotHold hold = local != null ? local : holdWriteBehind.find(holdId).orElse(null);
+        if (hold == null) {
+            throw new BusinessException("HOLD_EXPIRED", "Hold not found or already expired");
+        }
+
+        // the slots stay held while the booking is inserted so nothing else on this instance can take them
+        try {
+            return bookingService.createConfirmedBooking(hold, paymentId, () -> holdWriteBehind.claim(holdId));
+        } finally {
+            if (local != null && holds.remove(holdId, local)) {
+                untrack(local);
+            }
+        }
+    }
+
+    /**
+     * Drops a hold whose payment failed, here or in the table when another instance placed it.
+     */
+    public void abandonHold(UUID holdId) {
+        SlotHold local = holds.get(holdId);
+        if (local != null && holds.remove(holdId, local)) {
+            untrack(local);
+        }
+        // the row was flushed before payment-service heard of the hold, so it is always there to drop
+        holdWriteBehind.claim(holdId);
+        log.info("Hold {} abandoned after failed payment", holdId);
+    }
+
+    @Scheduled(fixedRateString = "${app.holds.tick-ms:1000}")
+    public void expireHolds() {
+        Instant now = Instant.now();
+        expiryWheel.advance(now.toEpochMilli(), holdId -> {
+            SlotHold hold = holds.get(holdId);
+            if (hold != null && hold.isExpired(now) && holds.remove(holdId, hold)) {
+                // the row outlives the hold for a grace period so a payment completed just in time still confirms
+                releaseSlots(hold);
+                log.debug("Hold {} expired", holdId);
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverHolds() {
+        holdWriteBehind.purgeExpired();
+        List<SlotHold> persisted = holdWriteBehind.findUnexpired();
+
+        int recovered = 0;
+        for (SlotHold hold : persisted) {
+            if (availabilityService.ensureProviderLoaded(hold.getProviderId())
+                    && availabilityIndex.tryHold(hold.getProviderId(), hold.getBookingDate(),
+                            hold.getStartTime(), hold.getEndTime())) {
+                track(hold);
+                recovered++;
+            }
+            // rows that cannot be placed here may belong to a live instance; they are left to expire
+        }
+        if (!persisted.isEmpty()) {
+            log.info("Recovered {} of {} persisted holds", recovered, persisted.size());
+        }
+    }
+
+    private void track(SlotHold hold) {
+        holds.put(hold.getId(), hold);
+        expiryWheel.schedule(hold.getId(), hold.getExpiresAt().toEpochMilli());
+    }
+
+    private void untrack(SlotHold hold) {
+        releaseSlots(hold);
+        holdWriteBehind.removed(hold.getId());
+    }
+
+    private void releaseSlots(SlotHold hold) {
+        availabilityIndex.releaseHold(hold.getProviderId(), hold.getBookingDate(), hold.getStartTime(), hold.getEndTime());
+    }
+
+    private HoldDto convertToDto(SlotHold hold) {
+        return new HoldDto(hold.getId(), hold.getProviderId(), hold.getBookingDate(),
+                hold.getStartTime(), hold.getEndTime(), hold.getExpiresAt());
+    }
+}
@@ -0,0 +1,190 @@
+package com.project.bookingservice.service.hold;
+
+import com.project.common.event.HoldPlacedEvent;
+import com.project.common.outbox.OutboxWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Persists holds in the background so placing or releasing a hold never waits on the database
+ *
+ * Pending changes are coalesced per hold: a hold released before the next flush is never
+ * written at all. A newly written hold emits HoldPlaced in the same transaction, so
+ * payment-service only opens payments for holds any instance can find in the table; the
+ * instance that receives PaymentCompleted claims the row to confirm it.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HoldWriteBehind {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO booking_holds (id, customer_id, provider_id, business_id, service_name, service_description, " +
+            "booking_date, start_time, end_time, total_amount, currency, notes, expires_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) ON CONFLICT (id) DO NOTHING";
+
+    private static final String DELETE_SQL = "DELETE FROM booking_holds WHERE id = ?";
+
+    private static final String SELECT_COLUMNS =
+            "SELECT id, customer_id, provider_id, business_id, service_name, service_description, booking_date, " +
+            "start_time, end_time, total_amount, currency, notes, expires_at FROM booking_holds ";
+
+    static final RowMapper<SlotHold> ROW_MAPPER = (rs, rowNum) -> SlotHold.builder()
+            .id(rs.getObject("id", UUID.class))
+            .customerId(rs.getLong("customer_id"))
+            .providerId(rs.getLong("provider_id"))
+            .businessId(rs.getObject("business_id", Long.class))
+            .serviceName(rs.getString("service_name"))
+            .serviceDescription(rs.getString("service_description"))
+            .bookingDate(rs.getDate("booking_date").toLocalDate())
+            .startTime(rs.getTime("start_time").toLocalTime())
+            .endTime(rs.getTime("end_time").toLocalTime())
+            .totalAmount(rs.getBigDecimal("total_amount"))
+            .currency(rs.getString("currency"))
+            .notes(rs.getString("notes"))
+            .expiresAt(rs.getTimestamp("expires_at").toInstant())
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxWriter outboxWriter;
+
+    @Value("${app.holds.confirm-grace:5m}")
+    private Duration confirmGrace;
+
+    // empty Optional marks a pending delete
+    private final Map<UUID, Optional<SlotHold>> pending = new ConcurrentHashMap<>();
+
+    public void saved(SlotHold hold) {
+        pending.put(hold.getId(), Optional.of(hold));
+    }
+
+    public void removed(UUID holdId) {
+        pending.compute(holdId, (id, current) -> current != null && current.isPresent() ? null : Optional.empty());
+    }
+
+    public List<SlotHold> findUnexpired() {
+        return jdbcTemplate.query(SELECT_COLUMNS + "WHERE expires_at > now()", ROW_MAPPER);
+    }
+
+    public Optional<SlotHold> find(UUID holdId) {
+        return jdbcTemplate.query(SELECT_COLUMNS + "WHERE id = ?", ROW_MAPPER, holdId).stream().findFirst();
+    }
+
+    /**
+     * Deletes the hold's row; true only for the one caller that actually removed it. Run in
+     * the transaction that books the hold, so a hold is converted at most once across instances.
+     */
+    public boolean claim(UUID holdId) {
+        return jdbcTemplate.update(DELETE_SQL, holdId) == 1;
+    }
+
+    /**
+     * Deletes rows of holds that expired longer ago than the confirmation grace period.
+     */
+    @Scheduled(fixedDelayString = "${app.holds.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        int purged = jdbcTemplate.update("DELETE FROM booking_holds WHERE expires_at <= now() - (? * INTERVAL '1 millisecond')",
+                confirmGrace.toMillis());
+        if (purged > 0) {
+            log.debug("Purged {} expired holds", purged);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.holds.flush-interval-ms:500}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<SlotHold> upserts = new ArrayList<>();
+        List<Object[]> deletes = new ArrayList<>();
+        for (UUID id : pending.keySet()) {
+            Optional<SlotHold> change = pending.remove(id);
+            if (change == null) {
+                continue;
+            }
+            if (change.isPresent()) {
+                upserts.add(change.get());
+            } else {
+                deletes.add(new Object[]{id});
+            }
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!upserts.isEmpty()) {
+                    insertAndAnnounce(upserts);
+                }
+                if (!deletes.isEmpty()) {
+                    jdbcTemplate.batchUpdate(DELETE_SQL, deletes);
+                }
+            });
+            log.debug("Flushed {} hold inserts and {} hold deletes", upserts.size(), deletes.size());
+        } catch (RuntimeException e) {
+            // holds stay authoritative in memory; unflushed ones are retried unless changed since
+            log.warn("Failed to persist {} hold changes: {}", upserts.size() + deletes.size(), e.getMessage());
+            upserts.forEach(hold -> pending.putIfAbsent(hold.getId(), Optional.of(hold)));
+            deletes.forEach(row -> pending.putIfAbsent((UUID) row[0], Optional.empty()));
+        }
+    }
+
+    private void insertAndAnnounce(List<SlotHold> holds) {
+        List<Object[]> rows = new ArrayList<>(holds.size());
+        for (SlotHold hold : holds) {
+            rows.add(toRow(hold));
+        }
+        int[] inserted = jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+
+        Map<UUID, HoldPlacedEvent> events = new LinkedHashMap<>();
+        for (int i = 0; i < holds.size(); i++) {
+            // rows that already existed were announced when first written
+            if (inserted[i] > 0 || inserted[i] == Statement.SUCCESS_NO_INFO) {
+                SlotHold hold = holds.get(i);
+                events.put(hold.getId(), new HoldPlacedEvent(hold.getId(), hold.getCustomerId(), hold.getProviderId(),
+                        hold.getBusinessId(), hold.getBookingDate(), hold.getStartTime(), hold.getEndTime(),
+                        hold.getTotalAmount(), hold.getCurrency(), hold.getExpiresAt()));
+            }
+        }
+        if (!events.isEmpty()) {
+            outboxWriter.appendAll(HoldPlacedEvent.AGGREGATE, HoldPlacedEvent.TYPE, events);
+        }
+    }
+
+    private static Object[] toRow(SlotHold hold) {
+        return new Object[]{
+                hold.getId(),
+                hold.getCustomerId(),
+                hold.getProviderId(),
+                hold.getBusinessId(),
+                hold.getServiceName(),
+                hold.getServiceDescription(),
+                Date.valueOf(hold.getBookingDate()),
+                Time.valueOf(hold.getStartTime()),
+                Time.valueOf(hold.getEndTime()),
+                hold.getTotalAmount(),
+                hold.getCurrency(),
+                hold.getNotes(),
+                Timestamp.from(hold.getExpiresAt())
+        };
+    }
+}
@@ -0,0 +1,37 @@
+package com.project.bookingservice.service.hold;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * A short-lived reservation of a provider's slot with everything needed to turn it into a booking
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class SlotHold {
+    private final UUID id;
+    private final Long customerId;
+    private final Long providerId;
+    private final Long businessId;
+    private final String serviceName;
+    private final String serviceDescription;
+    private final LocalDate bookingDate;
+    private final LocalTime startTime;
+    private final LocalTime endTime;
+    private final BigDecimal totalAmount;
+    private final String currency;
+    private final String notes;
+    private final Instant expiresAt;
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
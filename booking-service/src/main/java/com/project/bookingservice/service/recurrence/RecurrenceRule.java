@@ -0,0 +1,269 @@
+package com.project.bookingservice.service.recurrence;
+
+import com.project.common.exception.BusinessException;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * The subset of RFC 5545 RRULE used for recurring bookings
+ *
+ * Supports FREQ=DAILY|WEEKLY|MONTHLY with INTERVAL, COUNT, UNTIL, BYDAY (weekday codes
+ * without ordinals) and BYMONTHDAY (positive days). Weeks start on Monday. The first date
+ * is always an occurrence when it matches the rule, and occurrences are produced lazily
+ * in date order.
+ */
+public final class RecurrenceRule {
+
+    public enum Frequency { DAILY, WEEKLY, MONTHLY }
+
+    private static final DateTimeFormatter UNTIL_BASIC = DateTimeFormatter.BASIC_ISO_DATE;
+
+    // e.g. BYMONTHDAY=31 with INTERVAL=12 starting in February never matches
+    private static final int MAX_EMPTY_PERIODS = 1000;
+
+    private final Frequency frequency;
+    private final int interval;
+    private final Integer count;
+    private final LocalDate until;
+    private final Set<DayOfWeek> byDay;
+    private final TreeSet<Integer> byMonthDay;
+
+    private RecurrenceRule(Frequency frequency, int interval, Integer count, LocalDate until,
+                           Set<DayOfWeek> byDay, TreeSet<Integer> byMonthDay) {
+        this.frequency = frequency;
+        this.interval = interval;
+        this.count = count;
+        this.until = until;
+        this.byDay = byDay;
+        this.byMonthDay = byMonthDay;
+    }
+
+    public static RecurrenceRule parse(String rule) {
+        if (rule == null || rule.isBlank()) {
+            throw invalid("Recurrence rule is required");
+        }
+        String body = rule.trim();
+        if (body.regionMatches(true, 0, "RRULE:", 0, 6)) {
+            body = body.substring(6);
+        }
+
+        Frequency frequency = null;
+        int interval = 1;
+        Integer count = null;
+        LocalDate until = null;
+        Set<DayOfWeek> byDay = EnumSet.noneOf(DayOfWeek.class);
+        TreeSet<Integer> byMonthDay = new TreeSet<>();
+
+        for (String part : body.split(";")) {
+            int eq = part.indexOf('=');
+            if (eq <= 0) {
+                throw invalid("Malformed recurrence rule part: " + part);
+            }
+            String name = part.substring(0, eq).trim().toUpperCase(Locale.ROOT);
+            String value = part.substring(eq + 1).trim().toUpperCase(Locale.ROOT);
+            try {
+                switch (name) {
+                    case "FREQ" -> frequency = Frequency.valueOf(value);
+                    case "INTERVAL" -> interval = Integer.parseInt(value);
+                    case "COUNT" -> count = Integer.parseInt(value);
+                    case "UNTIL" -> until = parseUntil(value);
+                    case "BYDAY" -> {
+                        for (String day : value.split(",")) {
+                            byDay.add(parseDay(day.trim()));
+                        }
+                    }
+                    case "BYMONTHDAY" -> {
+                        for (String day : value.split(",")) {
+                            int monthDay = Integer.parseInt(day.trim());
+                            if (monthDay < 1 || monthDay > 31) {
+                                throw invalid("BYMONTHDAY must be between 1 and 31");
+                            }
+                            byMonthDay.add(monthDay);
+                        }
+                    }
+                    case "WKST" -> {
+                        if (!"MO".equals(value)) {
+                            throw invalid("Only WKST=MO is supported");
+                        }
+                    }
+                    default -> throw invalid("Unsupported recurrence rule part: " + name);
+                }
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                throw invalid("Invalid value for " + name + ": " + value);
+            }
+        }
+
+        if (frequency == null) {
+            throw invalid("FREQ is required");
+        }
+        if (interval < 1) {
+            throw invalid("INTERVAL must be positive");
+        }
+        if (count != null && count < 1) {
+            throw invalid("COUNT must be positive");
+        }
+        if (count != null && until != null) {
+            throw invalid("COUNT and UNTIL cannot be combined");
+        }
+        if (!byMonthDay.isEmpty() && frequency != Frequency.MONTHLY) {
+            throw invalid("BYMONTHDAY is only supported with FREQ=MONTHLY");
+        }
+        if (!byDay.isEmpty() && frequency == Frequency.MONTHLY) {
+            throw invalid("BYDAY is not supported with FREQ=MONTHLY");
+        }
+        return new RecurrenceRule(frequency, interval, count, until, byDay, byMonthDay);
+    }
+
+    public boolean isBounded() {
+        return count != null || until != null;
+    }
+
+    /**
+     * Occurrences starting at first, in ascending order; unbounded rules produce an infinite stream.
+     */
+    public Stream<LocalDate> occurrences(LocalDate first) {
+        Iterator<LocalDate> iterator = new OccurrenceIterator(first);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+                Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.SORTED | Spliterator.NONNULL), false);
+    }
+
+    private final class OccurrenceIterator implements Iterator<LocalDate> {
+
+        private final LocalDate first;
+        // start of the current period: the day, the Monday of the week, or the 1st of the month
+        private LocalDate period;
+        private final List<LocalDate> buffer = new ArrayList<>();
+        private int bufferIndex;
+        private int produced;
+        private LocalDate next;
+
+        OccurrenceIterator(LocalDate first) {
+            this.first = first;
+            this.period = switch (frequency) {
+                case DAILY -> first;
+                case WEEKLY -> first.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                case MONTHLY -> first.withDayOfMonth(1);
+            };
+            advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public LocalDate next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            LocalDate current = next;
+            advance();
+            return current;
+        }
+
+        private void advance() {
+            next = null;
+            if (count != null && produced >= count) {
+                return;
+            }
+            // An empty period (e.g. BYMONTHDAY=31 in a short month) just moves on to the next one
+            int emptyPeriods = 0;
+            while (bufferIndex >= buffer.size()) {
+                if ((until != null && period.isAfter(until)) || emptyPeriods++ > MAX_EMPTY_PERIODS) {
+                    return;
+                }
+                fillPeriod();
+            }
+            LocalDate candidate = buffer.get(bufferIndex++);
+            if (until != null && candidate.isAfter(until)) {
+                return;
+            }
+            produced++;
+            next = candidate;
+        }
+
+        private void fillPeriod() {
+            buffer.clear();
+            bufferIndex = 0;
+            switch (frequency) {
+                case DAILY -> {
+                    if (byDay.isEmpty() || byDay.contains(period.getDayOfWeek())) {
+                        buffer.add(period);
+                    }
+                    period = period.plusDays(interval);
+                }
+                case WEEKLY -> {
+                    if (byDay.isEmpty()) {
+                        addIfNotBeforeFirst(period.with(TemporalAdjusters.nextOrSame(first.getDayOfWeek())));
+                    } else {
+                        for (DayOfWeek day : byDay) {
+                            addIfNotBeforeFirst(period.plusDays(day.ordinal()));
+                        }
+                    }
+                    period = period.plusWeeks(interval);
+                }
+                case MONTHLY -> {
+                    if (byMonthDay.isEmpty()) {
+                        addMonthDay(first.getDayOfMonth());
+                    } else {
+                        for (int day : byMonthDay) {
+                            addMonthDay(day);
+                        }
+                    }
+                    period = period.plusMonths(interval);
+                }
+            }
+        }
+
+        private void addMonthDay(int day) {
+            if (day <= period.lengthOfMonth()) {
+                addIfNotBeforeFirst(period.withDayOfMonth(day));
+            }
+        }
+
+        private void addIfNotBeforeFirst(LocalDate date) {
+            if (!date.isBefore(first)) {
+                buffer.add(date);
+            }
+        }
+    }
+
+    private static LocalDate parseUntil(String value) {
+        String date = value.length() > 8 && value.charAt(8) == 'T' ? value.substring(0, 8) : value;
+        return date.contains("-") ? LocalDate.parse(date) : LocalDate.parse(date, UNTIL_BASIC);
+    }
+
+    private static DayOfWeek parseDay(String code) {
+        return switch (code) {
+            case "MO" -> DayOfWeek.MONDAY;
+            case "TU" -> DayOfWeek.TUESDAY;
+            case "WE" -> DayOfWeek.WEDNESDAY;
+            case "TH" -> DayOfWeek.THURSDAY;
+            case "FR" -> DayOfWeek.FRIDAY;
+            case "SA" -> DayOfWeek.SATURDAY;
+            case "SU" -> DayOfWeek.SUNDAY;
+            default -> throw invalid("Invalid BYDAY value: " + code);
+        };
+    }
+
+    private static BusinessException invalid(String message) {
+        return new BusinessException("INVALID_RECURRENCE_RULE", message);
+    }
+}
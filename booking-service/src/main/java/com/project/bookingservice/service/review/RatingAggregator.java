@@ -0,0 +1,149 @@
+package com.project.bookingservice.service.review;
+
+import com.project.common.event.BusinessRatingsUpdatedEvent;
+import com.project.common.event.ProviderRatingsUpdatedEvent;
+import com.project.common.outbox.OutboxWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+/**
+ * Running per-provider and per-business rating sums, pushed in coalesced batches
+ *
+ * Each review costs one single-row upsert per table. A scheduled publisher collects the
+ * providers and businesses whose stats moved since the last push and sends their current
+ * averages as one outbox event per batch, providers to user-service and businesses to
+ * business-service, so one reviewed many times between pushes is sent once.
+ */
+@Component
+@Slf4j
+public class RatingAggregator {
+
+    private static final String RECORD_SQL =
+            "INSERT INTO provider_rating_stats (provider_id, rating_sum, rating_count, version) VALUES (?, ?, 1, 1) " +
+            "ON CONFLICT (provider_id) DO UPDATE SET " +
+            "rating_sum = provider_rating_stats.rating_sum + EXCLUDED.rating_sum, " +
+            "rating_count = provider_rating_stats.rating_count + 1, " +
+            "version = provider_rating_stats.version + 1, " +
+            "updated_at = now()";
+
+    private static final String CLAIM_SQL =
+            "SELECT provider_id, rating_sum, rating_count, version FROM provider_rating_stats " +
+            "WHERE version > published_version ORDER BY provider_id LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private static final String MARK_SQL = "UPDATE provider_rating_stats SET published_version = ? WHERE provider_id = ?";
+
+    private static final String RECORD_BUSINESS_SQL =
+            "INSERT INTO business_rating_stats (business_id, rating_sum, rating_count, version) VALUES (?, ?, 1, 1) " +
+            "ON CONFLICT (business_id) DO UPDATE SET " +
+            "rating_sum = business_rating_stats.rating_sum + EXCLUDED.rating_sum, " +
+            "rating_count = business_rating_stats.rating_count + 1, " +
+            "version = business_rating_stats.version + 1, " +
+            "updated_at = now()";
+
+    private static final String CLAIM_BUSINESS_SQL =
+            "SELECT business_id, rating_sum, rating_count, version FROM business_rating_stats " +
+            "WHERE version > published_version ORDER BY business_id LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private static final String MARK_BUSINESS_SQL =
+            "UPDATE business_rating_stats SET published_version = ? WHERE business_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxWriter outboxWriter;
+    private final int batchSize;
+
+    public RatingAggregator(JdbcTemplate jdbcTemplate,
+                            TransactionTemplate transactionTemplate,
+                            OutboxWriter outboxWriter,
+                            @Value("${app.ratings.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.outboxWriter = outboxWriter;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Adds one rating to the provider's and, when the booking has one, the business's running
+     * totals; must run in the review's transaction.
+     */
+    public void record(Long providerId, Long businessId, int rating) {
+        jdbcTemplate.update(RECORD_SQL, providerId, rating);
+        if (businessId != null) {
+            jdbcTemplate.update(RECORD_BUSINESS_SQL, businessId, rating);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.ratings.publish-interval-ms:5000}")
+    public void publish() {
+        try {
+            int published;
+            do {
+                published = transactionTemplate.execute(status -> publishBatch());
+            } while (published == batchSize);
+            do {
+                published = transactionTemplate.execute(status -> publishBusinessBatch());
+            } while (published == batchSize);
+        } catch (RuntimeException e) {
+            log.warn("Publishing ratings failed, will retry: {}", e.getMessage());
+        }
+    }
+
+    private int publishBatch() {
+        List<ProviderRatingsUpdatedEvent.ProviderRating> ratings = jdbcTemplate.query(CLAIM_SQL,
+                (rs, rowNum) -> new ProviderRatingsUpdatedEvent.ProviderRating(
+                        rs.getLong("provider_id"),
+                        average(rs.getLong("rating_sum"), rs.getLong("rating_count")),
+                        (int) Math.min(Integer.MAX_VALUE, rs.getLong("rating_count")),
+                        rs.getLong("version")),
+                batchSize);
+        if (ratings.isEmpty()) {
+            return 0;
+        }
+
+        outboxWriter.append(ProviderRatingsUpdatedEvent.AGGREGATE, ratings.get(0).providerId(),
+                ProviderRatingsUpdatedEvent.TYPE, new ProviderRatingsUpdatedEvent(ratings));
+        jdbcTemplate.batchUpdate(MARK_SQL, ratings, ratings.size(),
+                (ps, rating) -> {
+                    ps.setLong(1, rating.version());
+                    ps.setLong(2, rating.providerId());
+                });
+        log.debug("Queued rating updates for {} providers", ratings.size());
+        return ratings.size();
+    }
+
+    private int publishBusinessBatch() {
+        List<BusinessRatingsUpdatedEvent.BusinessRating> ratings = jdbcTemplate.query(CLAIM_BUSINESS_SQL,
+                (rs, rowNum) -> new BusinessRatingsUpdatedEvent.BusinessRating(
+                        rs.getLong("business_id"),
+                        average(rs.getLong("rating_sum"), rs.getLong("rating_count")),
+                        (int) Math.min(Integer.MAX_VALUE, rs.getLong("rating_count")),
+                        rs.getLong("version")),
+                batchSize);
+        if (ratings.isEmpty()) {
+            return 0;
+        }
+
+        outboxWriter.append(BusinessRatingsUpdatedEvent.AGGREGATE, ratings.get(0).businessId(),
+                BusinessRatingsUpdatedEvent.TYPE, new BusinessRatingsUpdatedEvent(ratings));
+        jdbcTemplate.batchUpdate(MARK_BUSINESS_SQL, ratings, ratings.size(),
+                (ps, rating) -> {
+                    ps.setLong(1, rating.version());
+                    ps.setLong(2, rating.businessId());
+                });
+        log.debug("Queued rating updates for {} businesses", ratings.size());
+        return ratings.size();
+    }
+
+    private static BigDecimal average(long sum, long count) {
+        return count == 0 ? BigDecimal.ZERO
+                : BigDecimal.valueOf(sum).divide(BigDecimal.valueOf(count), 2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,65 @@
+package com.project.bookingservice.service.review;
+
+import com.project.bookingservice.dto.CreateReviewRequest;
+import com.project.bookingservice.dto.ReviewDto;
+import com.project.bookingservice.entity.Booking;
+import com.project.bookingservice.entity.BookingReview;
+import com.project.bookingservice.repository.BookingRepository;
+import com.project.bookingservice.repository.BookingReviewRepository;
+import com.project.bookingservice.service.CurrentUserService;
+import com.project.common.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReviewService {
+
+    private final BookingRepository bookingRepository;
+    private final BookingReviewRepository bookingReviewRepository;
+    private final CurrentUserService currentUserService;
+    private final RatingAggregator ratingAggregator;
+
+    /**
+     * Lets the customer of a completed booking review its provider, once per booking.
+     */
+    @Transactional
+    public ReviewDto createReview(Long bookingId, CreateReviewRequest request) {
+        Long customerId = currentUserService.getCurrentUserId();
+        Booking booking = bookingRepository.findById(bookingId)
+                .orElseThrow(() -> new BusinessException("BOOKING_NOT_FOUND", "Booking not found"));
+        if (!booking.getCustomerId().equals(customerId)) {
+            throw new BusinessException("BOOKING_NOT_FOUND", "Booking not found");
+        }
+        if (booking.getStatus() != Booking.BookingStatus.COMPLETED) {
+            throw new BusinessException("BOOKING_NOT_COMPLETED", "Only completed bookings can be reviewed");
+        }
+
+        BookingReview review = BookingReview.builder()
+                .bookingId(bookingId)
+                .reviewerId(customerId)
+                .revieweeId(booking.getProviderId())
+                .rating(request.getRating())
+                .comment(request.getComment())
+                .build();
+        BookingReview saved;
+        try {
+            saved = bookingReviewRepository.saveAndFlush(review);
+        } catch (DataIntegrityViolationException e) {
+            throw new BusinessException("REVIEW_EXISTS", "This booking has already been reviewed");
+        }
+
+        ratingAggregator.record(booking.getProviderId(), booking.getBusinessId(), request.getRating());
+        log.info("Review {} added for provider {} with rating {}", saved.getId(), booking.getProviderId(), request.getRating());
+        return convertToDto(saved);
+    }
+
+    private ReviewDto convertToDto(BookingReview review) {
+        return new ReviewDto(review.getId(), review.getBookingId(), review.getReviewerId(), review.getRevieweeId(),
+                review.getRating(), review.getComment(), review.getCreatedAt());
+    }
+}
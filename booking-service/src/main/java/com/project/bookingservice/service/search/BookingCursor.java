@@ -0,0 +1,29 @@
+package com.project.bookingservice.service.search;
+
+import com.project.common.exception.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+/**
+ * Position after the last row of a page, handed to clients as an opaque URL-safe string
+ */
+record BookingCursor(LocalDate bookingDate, long id) {
+
+    String encode() {
+        String raw = bookingDate + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static BookingCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            return new BookingCursor(LocalDate.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new BusinessException("INVALID_CURSOR", "Invalid page cursor");
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.project.bookingservice.service.search;
+
+/**
+ * Whose bookings a search lists: the caller's as customer, as provider, or those of their business
+ */
+public enum BookingSearchScope {
+    CUSTOMER, PROVIDER, BUSINESS
+}
@@ -0,0 +1,123 @@
+package com.project.bookingservice.service.search;
+
+import com.project.bookingservice.client.BusinessServiceClient;
+import com.project.bookingservice.dto.BookingSummaryDto;
+import com.project.bookingservice.entity.Booking;
+import com.project.bookingservice.repository.BookingSearchJdbcRepository;
+import com.project.bookingservice.service.CurrentUserService;
+import com.project.bookingservice.util.JwtUtil;
+import com.project.common.dto.ApiResponse;
+import com.project.common.dto.CursorPage;
+import com.project.common.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+
+/**
+ * "My bookings" lists for customers, providers and business owners, newest booking date first
+ *
+ * Non-admins always search their own bookings; admins may name the customer, provider or
+ * business. Business owners search the businesses business-service lists as theirs, all of
+ * them or one they name.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BookingSearchService {
+
+    private final BookingSearchJdbcRepository bookingSearchRepository;
+    private final CurrentUserService currentUserService;
+    private final BusinessServiceClient businessServiceClient;
+
+    @Value("${app.search.default-page-size:20}")
+    private int defaultPageSize;
+
+    @Value("${app.search.max-page-size:100}")
+    private int maxPageSize;
+
+    public CursorPage<BookingSummaryDto> search(BookingSearchScope scope, Long ownerId,
+                                                Collection<Booking.BookingStatus> statuses,
+                                                LocalDate from, LocalDate to, String cursor, Integer size) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new BusinessException("INVALID_DATE_RANGE", "Start date must not be after end date");
+        }
+        int pageSize = size == null ? defaultPageSize : Math.max(1, Math.min(size, maxPageSize));
+        Long owner = scope != BookingSearchScope.BUSINESS ? resolveOwner(scope, ownerId) : null;
+        List<Long> businesses = scope == BookingSearchScope.BUSINESS ? resolveBusinesses(ownerId) : List.of();
+        Collection<Booking.BookingStatus> statusFilter = statuses == null || statuses.isEmpty()
+                ? EnumSet.noneOf(Booking.BookingStatus.class) : EnumSet.copyOf(statuses);
+        BookingCursor after = cursor != null && !cursor.isBlank() ? BookingCursor.decode(cursor) : null;
+        LocalDate afterDate = after != null ? after.bookingDate() : null;
+        Long afterId = after != null ? after.id() : null;
+
+        // One extra row tells whether there is a next page without a count query
+        int limit = pageSize + 1;
+        List<BookingSummaryDto> rows = switch (scope) {
+            case CUSTOMER -> bookingSearchRepository.findByCustomer(owner, statusFilter, from, to, afterDate, afterId, limit);
+            case PROVIDER -> bookingSearchRepository.findByProvider(owner, statusFilter, from, to, afterDate, afterId, limit);
+            case BUSINESS -> bookingSearchRepository.findByBusinesses(businesses, statusFilter, from, to, afterDate, afterId, limit);
+        };
+
+        if (rows.size() <= pageSize) {
+            return new CursorPage<>(rows, pageSize, null);
+        }
+        List<BookingSummaryDto> page = rows.subList(0, pageSize);
+        BookingSummaryDto last = page.get(pageSize - 1);
+        return new CursorPage<>(List.copyOf(page), pageSize,
+                new BookingCursor(last.getBookingDate(), last.getId()).encode());
+    }
+
+    private Long resolveOwner(BookingSearchScope scope, Long ownerId) {
+        if (JwtUtil.isAdmin()) {
+            if (ownerId == null) {
+                throw new BusinessException("OWNER_REQUIRED", "An owner ID is required for " + scope + " searches");
+            }
+            return ownerId;
+        }
+
+        boolean allowed = scope == BookingSearchScope.CUSTOMER ? JwtUtil.isCustomer() : JwtUtil.isProvider();
+        if (!allowed) {
+            throw new BusinessException("ACCESS_DENIED", "Your role cannot search " + scope + " bookings");
+        }
+        Long currentUserId = currentUserService.getCurrentUserId();
+        if (ownerId != null && !ownerId.equals(currentUserId)) {
+            throw new BusinessException("ACCESS_DENIED", "You can only search your own bookings");
+        }
+        return currentUserId;
+    }
+
+    /**
+     * business_id is the business's own ID, not its owner's, so an owner's bookings are those of
+     * every business they own
+     */
+    private List<Long> resolveBusinesses(Long businessId) {
+        if (JwtUtil.isAdmin()) {
+            if (businessId == null) {
+                throw new BusinessException("OWNER_REQUIRED", "A business ID is required for BUSINESS searches");
+            }
+            return List.of(businessId);
+        }
+        if (!JwtUtil.isBusinessOwner()) {
+            throw new BusinessException("ACCESS_DENIED", "Your role cannot search BUSINESS bookings");
+        }
+
+        ApiResponse<List<Long>> response = businessServiceClient.getMyBusinessIds();
+        if (response == null || response.getData() == null) {
+            throw new BusinessException("BUSINESS_LOOKUP_FAILED", "Could not load your businesses");
+        }
+        List<Long> owned = response.getData();
+        if (businessId == null) {
+            return owned;
+        }
+        if (!owned.contains(businessId)) {
+            throw new BusinessException("ACCESS_DENIED", "You can only search bookings of your own businesses");
+        }
+        return List.of(businessId);
+    }
+}
@@ -0,0 +1,66 @@
+package com.project.bookingservice.util;
+
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timing wheel for large numbers of short timeouts
+ *
+ * Scheduling is O(1) and lock-free; a single caller drives {@link #advance} once per tick and
+ * only the buckets that came due are visited. Deadlines further out than one rotation simply
+ * stay in their bucket until a later pass. Entries are never cancelled: the expiry callback is
+ * expected to ignore items that were already completed.
+ */
+public class HashedTimingWheel<T> {
+
+    private final long tickMillis;
+    private final Queue<Entry<T>>[] buckets;
+    private final int mask;
+    private final long startMillis;
+
+    private volatile long nextTick;
+
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(long tickMillis, int bucketCount, long startMillis) {
+        int size = Integer.highestOneBit(Math.max(1, bucketCount - 1)) << 1;
+        this.tickMillis = tickMillis;
+        this.buckets = new Queue[size];
+        this.mask = size - 1;
+        this.startMillis = startMillis;
+        for (int i = 0; i < size; i++) {
+            buckets[i] = new ConcurrentLinkedQueue<>();
+        }
+    }
+
+    public void schedule(T item, long deadlineMillis) {
+        // the first tick ending at or after the deadline, so the bucket is never visited before it is due
+        long tick = Math.max(Math.ceilDiv(deadlineMillis - startMillis, tickMillis), nextTick);
+        buckets[(int) (tick & mask)].add(new Entry<>(item, deadlineMillis));
+    }
+
+    /**
+     * Expires everything due by nowMillis. Must not be called concurrently.
+     */
+    public void advance(long nowMillis, Consumer<T> onExpired) {
+        long targetTick = (nowMillis - startMillis) / tickMillis;
+        long tick = nextTick;
+        // after a long pause one full rotation already visits every bucket
+        long from = Math.max(tick, targetTick - mask);
+        for (long t = from; t <= targetTick; t++) {
+            Iterator<Entry<T>> iterator = buckets[(int) (t & mask)].iterator();
+            while (iterator.hasNext()) {
+                Entry<T> entry = iterator.next();
+                if (entry.deadlineMillis() <= nowMillis) {
+                    iterator.remove();
+                    onExpired.accept(entry.item());
+                }
+            }
+        }
+        nextTick = Math.max(tick, targetTick + 1);
+    }
+
+    private record Entry<T>(T item, long deadlineMillis) {
+    }
+}
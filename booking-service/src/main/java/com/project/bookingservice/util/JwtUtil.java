@@ -0,0 +1,84 @@
+package com.project.bookingservice.util;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class JwtUtil {
+
+    public static String getCurrentKeycloakId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof Jwt jwt) {
+            return jwt.getSubject();
+        }
+        return null;
+    }
+
+    public static String getCurrentUserEmail() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof Jwt jwt) {
+            return jwt.getClaim("email");
+        }
+        return null;
+    }
+
+    public static String getCurrentUserPreferredUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof Jwt jwt) {
+            return jwt.getClaim("preferred_username");
+        }
+        return null;
+    }
+
+    public static String getCurrentUserFirstName() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof Jwt jwt) {
+            return jwt.getClaim("given_name");
+        }
+        return null;
+    }
+
+    public static String getCurrentUserLastName() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof Jwt jwt) {
+            return jwt.getClaim("family_name");
+        }
+        return null;
+    }
+
+    public static List<String> getCurrentUserRoles() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof Jwt jwt) {
+            Map<String, Object> realmAccess = jwt.getClaim("realm_access");
+            if (realmAccess != null && realmAccess.get("roles") instanceof List) {
+                return (List<String>) realmAccess.get("roles");
+            }
+        }
+        return List.of();
+    }
+
+    public static boolean hasRole(String role) {
+        return getCurrentUserRoles().contains(role.toUpperCase());
+    }
+
+    public static boolean isAdmin() {
+        return hasRole("ADMIN");
+    }
+
+    public static boolean isCustomer() {
+        return hasRole("CUSTOMER");
+    }
+
+    public static boolean isProvider() {
+        return hasRole("PROVIDER");
+    }
+
+    public static boolean isBusinessOwner() {
+        return hasRole("BUSINESS_OWNER");
+    }
+}
\ No newline at end of file
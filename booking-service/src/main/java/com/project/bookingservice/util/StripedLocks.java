@@ -0,0 +1,29 @@
+package com.project.bookingservice.util;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fixed pool of locks shared out by key hash
+ *
+ * Callers for the same key always serialize; callers for different keys only collide when
+ * their keys land on the same stripe, so contention stays proportional to the key overlap.
+ */
+public class StripedLocks {
+
+    private final ReentrantLock[] locks;
+    private final int mask;
+
+    public StripedLocks(int stripes) {
+        int size = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        this.locks = new ReentrantLock[size];
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    public ReentrantLock forKey(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return locks[(int) (h ^ (h >>> 32)) & mask];
+    }
+}
@@ -0,0 +1,17 @@
+-- Composite indexes for the booking search API.
+-- Each one matches a search scope in key order (owner, [status,] booking_date DESC, id DESC), so
+-- a keyset page is a single descending range scan that stops after the page size, and INCLUDE
+-- carries the summary columns so old, all-visible partitions are answered from the index alone.
+CREATE INDEX idx_bookings_customer_search ON bookings (customer_id, booking_date DESC, id DESC)
+    INCLUDE (provider_id, business_id, status, payment_status, start_time, end_time, total_amount, currency, service_name);
+
+CREATE INDEX idx_bookings_provider_search ON bookings (provider_id, status, booking_date DESC, id DESC)
+    INCLUDE (customer_id, business_id, payment_status, start_time, end_time, total_amount, currency, service_name);
+
+CREATE INDEX idx_bookings_business_search ON bookings (business_id, booking_date DESC, id DESC)
+    INCLUDE (customer_id, provider_id, status, payment_status, start_time, end_time, total_amount, currency, service_name)
+    WHERE business_id IS NOT NULL;
+
+-- Prefixes of the indexes above (or, for status alone, too unselective to be used) and
+-- only cost write amplification on every booking insert and status change.
+DROP INDEX idx_bookings_customer_id, idx_bookings_provider_id, idx_bookings_business_id, idx_bookings_status;
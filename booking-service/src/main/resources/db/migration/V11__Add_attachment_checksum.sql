@@ -0,0 +1,3 @@
+-- SHA-256 of the stored bytes, computed while the upload streams to storage.
+-- Doubles as the strong ETag for downloads and range requests.
+ALTER TABLE booking_attachments ADD COLUMN checksum_sha256 VARCHAR(64);
@@ -0,0 +1,21 @@
+-- Running rating sum and count per business, kept like provider_rating_stats and pushed to
+-- business-service for search ranking
+CREATE TABLE business_rating_stats (
+    business_id BIGINT PRIMARY KEY,
+    rating_sum BIGINT NOT NULL DEFAULT 0,
+    rating_count BIGINT NOT NULL DEFAULT 0,
+    version BIGINT NOT NULL DEFAULT 0,
+    published_version BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+) WITH (fillfactor = 80);
+
+CREATE INDEX idx_business_rating_stats_unpublished ON business_rating_stats(business_id)
+    WHERE version > published_version;
+
+-- A business is rated by the provider reviews of its bookings
+INSERT INTO business_rating_stats (business_id, rating_sum, rating_count, version)
+SELECT b.business_id, SUM(r.rating), COUNT(*), 1
+FROM booking_reviews r
+JOIN bookings b ON b.id = r.booking_id AND b.provider_id = r.reviewee_id
+WHERE b.business_id IS NOT NULL
+GROUP BY b.business_id;
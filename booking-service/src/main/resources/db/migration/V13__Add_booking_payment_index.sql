@@ -0,0 +1,3 @@
+-- Finds the booking a payment event is about when the event does not carry the booking ID:
+-- a hold payment that may already have been confirmed, and refunds of hold payments.
+CREATE INDEX idx_bookings_payment_id ON bookings (payment_id) WHERE payment_id IS NOT NULL;
@@ -0,0 +1,4 @@
+-- Serves the availability index load: active bookings for a batch of providers over the horizon,
+-- answered from the index alone
+CREATE INDEX idx_bookings_provider_date_active ON bookings (provider_id, booking_date) INCLUDE (start_time, end_time)
+    WHERE status IN ('PENDING', 'CONFIRMED', 'IN_PROGRESS');
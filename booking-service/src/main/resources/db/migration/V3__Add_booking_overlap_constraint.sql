@@ -0,0 +1,20 @@
+-- A provider can never hold two active bookings whose time ranges overlap.
+-- booking_date and start/end times carry no zone, so the range is a tsrange in the provider's local time.
+-- An end time of 00:00 closes the booking at midnight at the end of the day.
+
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+ALTER TABLE bookings ADD CONSTRAINT chk_booking_times
+    CHECK (end_time > start_time OR end_time = TIME '00:00');
+
+ALTER TABLE bookings ADD COLUMN slot tsrange GENERATED ALWAYS AS (
+    tsrange(
+        booking_date + start_time,
+        CASE WHEN end_time = TIME '00:00' THEN (booking_date + 1) + end_time ELSE booking_date + end_time END,
+        '[)')
+) STORED;
+
+-- Cancelled and completed bookings free the slot
+ALTER TABLE bookings ADD CONSTRAINT excl_bookings_provider_slot
+    EXCLUDE USING gist (provider_id WITH =, slot WITH &&)
+    WHERE (status IN ('PENDING', 'CONFIRMED', 'IN_PROGRESS'));
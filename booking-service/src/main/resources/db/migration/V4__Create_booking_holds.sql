@@ -0,0 +1,19 @@
+-- Write-behind copy of the in-memory slot holds, read back only on startup
+CREATE TABLE booking_holds (
+    id UUID PRIMARY KEY,
+    customer_id BIGINT NOT NULL,
+    provider_id BIGINT NOT NULL,
+    business_id BIGINT,
+    service_name VARCHAR(255) NOT NULL,
+    service_description TEXT,
+    booking_date DATE NOT NULL,
+    start_time TIME NOT NULL,
+    end_time TIME NOT NULL,
+    total_amount DECIMAL(10,2) NOT NULL,
+    currency VARCHAR(3) DEFAULT 'USD',
+    notes TEXT,
+    expires_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_booking_holds_expires_at ON booking_holds(expires_at);
@@ -0,0 +1,123 @@
+-- Range-partition bookings by month of booking_date.
+-- Old months can then be detached whole instead of bloating one heap and its indexes, and
+-- queries that bound booking_date only touch the partitions they need.
+--
+-- Consequences of partitioning:
+--  * the primary key has to include the partition key, so it becomes (id, booking_date);
+--    ids still come from the same sequence and stay unique on their own
+--  * booking_reviews and booking_attachments can no longer reference bookings(id), so
+--    their foreign keys are dropped and the service keeps the references consistent
+--  * exclusion constraints cannot be declared on the parent, so excl_bookings_provider_slot
+--    is created per partition. A slot never crosses midnight, so it always lies inside its
+--    own month and per-partition checks are as strong as the old table-wide one.
+
+ALTER TABLE booking_reviews DROP CONSTRAINT fk_booking_reviews_booking;
+ALTER TABLE booking_attachments DROP CONSTRAINT fk_booking_attachments_booking;
+
+-- Set the old table aside; its indexes and the sequence must not go down with it
+ALTER SEQUENCE bookings_id_seq OWNED BY NONE;
+ALTER TABLE bookings RENAME TO bookings_legacy;
+ALTER TABLE bookings_legacy DROP CONSTRAINT excl_bookings_provider_slot;
+ALTER TABLE bookings_legacy DROP CONSTRAINT bookings_pkey;
+DROP INDEX idx_bookings_customer_id, idx_bookings_provider_id, idx_bookings_business_id,
+    idx_bookings_booking_date, idx_bookings_status, idx_bookings_payment_status,
+    idx_bookings_created_at, idx_bookings_provider_date_active;
+DROP TRIGGER update_bookings_updated_at ON bookings_legacy;
+
+CREATE TABLE bookings (
+    id BIGINT NOT NULL DEFAULT nextval('bookings_id_seq'),
+    customer_id BIGINT NOT NULL,
+    provider_id BIGINT NOT NULL,
+    business_id BIGINT,
+    service_name VARCHAR(255) NOT NULL,
+    service_description TEXT,
+    booking_date DATE NOT NULL,
+    start_time TIME NOT NULL,
+    end_time TIME NOT NULL,
+    status VARCHAR(50) NOT NULL DEFAULT 'PENDING',
+    total_amount DECIMAL(10,2) NOT NULL,
+    currency VARCHAR(3) DEFAULT 'USD',
+    payment_status VARCHAR(50) DEFAULT 'PENDING',
+    payment_id BIGINT,
+    notes TEXT,
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    cancelled_at TIMESTAMP WITH TIME ZONE,
+    cancellation_reason TEXT,
+    slot tsrange GENERATED ALWAYS AS (
+        tsrange(
+            booking_date + start_time,
+            CASE WHEN end_time = TIME '00:00' THEN (booking_date + 1) + end_time ELSE booking_date + end_time END,
+            '[)')
+    ) STORED,
+
+    CONSTRAINT bookings_pkey PRIMARY KEY (id, booking_date),
+    CONSTRAINT chk_booking_status CHECK (status IN ('PENDING', 'CONFIRMED', 'IN_PROGRESS', 'COMPLETED', 'CANCELLED')),
+    CONSTRAINT chk_payment_status CHECK (payment_status IN ('PENDING', 'PAID', 'FAILED', 'REFUNDED')),
+    CONSTRAINT chk_booking_times CHECK (end_time > start_time OR end_time = TIME '00:00')
+) PARTITION BY RANGE (booking_date);
+
+ALTER SEQUENCE bookings_id_seq OWNED BY bookings.id;
+
+-- Creates the month's partition with its slot exclusion constraint; returns false if it exists.
+-- Also called by BookingPartitionManager to keep partitions ahead of incoming bookings.
+CREATE OR REPLACE FUNCTION create_bookings_partition(month_start DATE)
+RETURNS BOOLEAN AS $$
+DECLARE
+    range_start DATE := date_trunc('month', month_start)::date;
+    range_end DATE := (date_trunc('month', month_start) + INTERVAL '1 month')::date;
+    suffix TEXT := to_char(date_trunc('month', month_start), 'YYYY_MM');
+BEGIN
+    IF to_regclass('bookings_p' || suffix) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+    EXECUTE format('CREATE TABLE %I PARTITION OF bookings FOR VALUES FROM (%L) TO (%L)',
+                   'bookings_p' || suffix, range_start, range_end);
+    EXECUTE format('ALTER TABLE %I ADD CONSTRAINT %I EXCLUDE USING gist (provider_id WITH =, slot WITH &&) '
+                   'WHERE (status IN (''PENDING'', ''CONFIRMED'', ''IN_PROGRESS''))',
+                   'bookings_p' || suffix, 'excl_bookings_provider_slot_' || suffix);
+    RETURN TRUE;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Partitions for every month that has data, plus the next twelve months
+DO $$
+DECLARE
+    partition_month DATE := LEAST(
+        COALESCE((SELECT date_trunc('month', MIN(booking_date))::date FROM bookings_legacy), CURRENT_DATE),
+        date_trunc('month', CURRENT_DATE)::date);
+BEGIN
+    WHILE partition_month <= date_trunc('month', CURRENT_DATE) + INTERVAL '12 months' LOOP
+        PERFORM create_bookings_partition(partition_month);
+        partition_month := (partition_month + INTERVAL '1 month')::date;
+    END LOOP;
+END;
+$$;
+
+INSERT INTO bookings (id, customer_id, provider_id, business_id, service_name, service_description,
+                      booking_date, start_time, end_time, status, total_amount, currency, payment_status,
+                      payment_id, notes, created_at, updated_at, cancelled_at, cancellation_reason)
+SELECT id, customer_id, provider_id, business_id, service_name, service_description,
+       booking_date, start_time, end_time, status, total_amount, currency, payment_status,
+       payment_id, notes, created_at, updated_at, cancelled_at, cancellation_reason
+FROM bookings_legacy;
+
+DROP TABLE bookings_legacy;
+
+-- Declared on the parent and created on every partition, present and future.
+-- Each index only spans one month, so index size and vacuum work per partition stay flat as history grows.
+CREATE INDEX idx_bookings_customer_id ON bookings(customer_id);
+CREATE INDEX idx_bookings_provider_id ON bookings(provider_id);
+CREATE INDEX idx_bookings_business_id ON bookings(business_id);
+CREATE INDEX idx_bookings_booking_date ON bookings(booking_date);
+CREATE INDEX idx_bookings_status ON bookings(status);
+CREATE INDEX idx_bookings_payment_status ON bookings(payment_status);
+CREATE INDEX idx_bookings_created_at ON bookings(created_at);
+CREATE INDEX idx_bookings_provider_date_active ON bookings (provider_id, booking_date) INCLUDE (start_time, end_time)
+    WHERE status IN ('PENDING', 'CONFIRMED', 'IN_PROGRESS');
+
+CREATE TRIGGER update_bookings_updated_at BEFORE UPDATE ON bookings
+    FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();
+
+-- Detached partitions are moved here when app.partitions.archive-mode is archive
+CREATE SCHEMA IF NOT EXISTS booking_archive;
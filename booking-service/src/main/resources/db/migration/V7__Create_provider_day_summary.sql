@@ -0,0 +1,28 @@
+-- Per provider and day booking counts for the calendar month view.
+-- Maintained incrementally by booking-service on create, cancel and complete, so the month
+-- view reads at most 31 rows instead of aggregating bookings.
+-- Only counters change on update and none of them are indexed, so the spare page space
+-- lets Postgres do HOT updates without touching the primary key index.
+CREATE TABLE provider_day_summary (
+    provider_id BIGINT NOT NULL,
+    booking_date DATE NOT NULL,
+    active_count INTEGER NOT NULL DEFAULT 0,
+    completed_count INTEGER NOT NULL DEFAULT 0,
+    cancelled_count INTEGER NOT NULL DEFAULT 0,
+    -- minutes taken by active bookings
+    booked_minutes INTEGER NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT provider_day_summary_pkey PRIMARY KEY (provider_id, booking_date)
+) WITH (fillfactor = 80);
+
+INSERT INTO provider_day_summary (provider_id, booking_date, active_count, completed_count, cancelled_count, booked_minutes)
+SELECT provider_id,
+       booking_date,
+       COUNT(*) FILTER (WHERE status IN ('PENDING', 'CONFIRMED', 'IN_PROGRESS')),
+       COUNT(*) FILTER (WHERE status = 'COMPLETED'),
+       COUNT(*) FILTER (WHERE status = 'CANCELLED'),
+       COALESCE(SUM(EXTRACT(EPOCH FROM upper(slot) - lower(slot)) / 60)
+                    FILTER (WHERE status IN ('PENDING', 'CONFIRMED', 'IN_PROGRESS')), 0)::int
+FROM bookings
+GROUP BY provider_id, booking_date;
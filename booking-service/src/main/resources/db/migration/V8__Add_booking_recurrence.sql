@@ -0,0 +1,4 @@
+-- Groups the occurrences created from one recurring booking request
+ALTER TABLE bookings ADD COLUMN recurrence_id UUID;
+
+CREATE INDEX idx_bookings_recurrence_id ON bookings(recurrence_id) WHERE recurrence_id IS NOT NULL;
@@ -0,0 +1,21 @@
+-- Running rating sum and count per provider, updated on each review insert.
+-- version moves on every change; rows with version > published_version still have to be
+-- pushed to user-service, so any number of reviews between pushes coalesce into one update.
+CREATE TABLE provider_rating_stats (
+    provider_id BIGINT PRIMARY KEY,
+    rating_sum BIGINT NOT NULL DEFAULT 0,
+    rating_count BIGINT NOT NULL DEFAULT 0,
+    version BIGINT NOT NULL DEFAULT 0,
+    published_version BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+) WITH (fillfactor = 80);
+
+CREATE INDEX idx_provider_rating_stats_unpublished ON provider_rating_stats(provider_id)
+    WHERE version > published_version;
+
+-- Only reviews of the booking's provider count towards the provider rating
+INSERT INTO provider_rating_stats (provider_id, rating_sum, rating_count, version)
+SELECT r.reviewee_id, SUM(r.rating), COUNT(*), 1
+FROM booking_reviews r
+JOIN bookings b ON b.id = r.booking_id AND b.provider_id = r.reviewee_id
+GROUP BY r.reviewee_id;
@@ -0,0 +1,116 @@
+package com.project.bookingservice.benchmark;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fills an empty booking database with -Dbench.rows synthetic bookings (50M by default)
+ *
+ * Rows are spread evenly over {@link BookingDataset#months()} months around today and generated
+ * server-side with generate_series, one month at a time in chunks of a million. Within a month
+ * row k goes to provider k mod PROVIDERS and takes a distinct day and half-hour slot of that
+ * provider's calendar, so no two active bookings overlap and the per-partition exclusion
+ * constraints hold. Past bookings are completed, future ones pending or confirmed, one in ten
+ * cancelled. The secondary indexes are dropped for the load and rebuilt at the end.
+ *
+ * Run with:
+ * mvn -pl booking-service test-compile exec:java -Dexec.classpathScope=test
+ *     -Dexec.mainClass=com.project.bookingservice.benchmark.BookingDataGenerator
+ */
+public final class BookingDataGenerator {
+
+    private static final long CHUNK = 1_000_000L;
+    private static final int SLOTS_PER_DAY = 16;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO bookings (customer_id, provider_id, business_id, service_name, booking_date,
+                                  start_time, end_time, status, total_amount, currency, payment_status, created_at)
+            SELECT 1 + (k * 48271 + ? * 7) % ?, provider,
+                   CASE WHEN provider % 10 < 7 THEN 1 + provider % ? END,
+                   (ARRAY['Haircut', 'Massage', 'Manicure', 'Consultation', 'Personal training', 'Facial'])[1 + k % 6],
+                   booking_date,
+                   TIME '08:00' + slot * INTERVAL '30 minutes',
+                   TIME '08:30' + slot * INTERVAL '30 minutes',
+                   status, 20 + k % 180, 'USD',
+                   CASE status WHEN 'PENDING' THEN 'PENDING' WHEN 'CANCELLED' THEN 'REFUNDED' ELSE 'PAID' END,
+                   (booking_date - 7)::timestamptz
+            FROM (SELECT k, provider, booking_date, slot,
+                         CASE WHEN k % 10 = 0 THEN 'CANCELLED'
+                              WHEN booking_date < CURRENT_DATE THEN 'COMPLETED'
+                              WHEN k % 10 < 4 THEN 'PENDING'
+                              ELSE 'CONFIRMED' END AS status
+                  FROM (SELECT k,
+                               1 + (k % ? * 7919 + ? * 104729) % ? AS provider,
+                               ?::date + (k / ? % ?)::int AS booking_date,
+                               (k / ? / ? + k % ?) % 16 AS slot
+                        FROM generate_series(?::bigint, ?::bigint) k) numbered) generated
+            """;
+
+    private BookingDataGenerator() {
+    }
+
+    public static void main(String[] args) throws SQLException {
+        long rows = Long.getLong("bench.rows", BookingDataset.DEFAULT_ROWS);
+        long perMonth = Math.ceilDiv(rows, BookingDataset.months());
+        if (perMonth > (long) BookingDataset.PROVIDERS * SLOTS_PER_DAY * 28) {
+            throw new IllegalArgumentException(rows + " rows do not fit the providers' calendars");
+        }
+
+        try (HikariDataSource dataSource = BookingDataset.dataSource(1)) {
+            Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+            // Held for the whole run, so the session settings below apply to every statement
+            try (Connection connection = dataSource.getConnection()) {
+                generate(new JdbcTemplate(new SingleConnectionDataSource(connection, true)), perMonth);
+            }
+        }
+    }
+
+    private static void generate(JdbcTemplate jdbcTemplate, long perMonth) {
+        if (Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT EXISTS (SELECT 1 FROM bookings)", Boolean.class))) {
+            throw new IllegalStateException("bookings is not empty; generate into a fresh database");
+        }
+        jdbcTemplate.execute("SET maintenance_work_mem = '1GB'");
+        jdbcTemplate.execute("SET synchronous_commit = off");
+
+        List<Map<String, Object>> indexes = jdbcTemplate.queryForList("""
+                SELECT indexrelid::regclass::text AS name, pg_get_indexdef(indexrelid) AS definition
+                FROM pg_index WHERE indrelid = 'bookings'::regclass AND NOT indisprimary
+                """);
+        indexes.forEach(index -> jdbcTemplate.execute("DROP INDEX " + index.get("name")));
+
+        long started = System.nanoTime();
+        YearMonth month = BookingDataset.firstMonth();
+        for (int m = 0; m < BookingDataset.months(); m++, month = month.plusMonths(1)) {
+            LocalDate monthStart = month.atDay(1);
+            int days = month.lengthOfMonth();
+            jdbcTemplate.queryForObject("SELECT create_bookings_partition(?)", Boolean.class, monthStart);
+            for (long from = 0; from < perMonth; from += CHUNK) {
+                long to = Math.min(from + CHUNK, perMonth) - 1;
+                int providers = BookingDataset.PROVIDERS;
+                jdbcTemplate.update(INSERT_SQL, m, BookingDataset.CUSTOMERS, BookingDataset.BUSINESSES,
+                        providers, m, providers,
+                        monthStart, providers, days,
+                        providers, days, providers,
+                        from, to);
+            }
+            System.out.printf("%s: %,d bookings (%ds)%n", month, perMonth, (System.nanoTime() - started) / 1_000_000_000L);
+        }
+
+        for (Map<String, Object> index : indexes) {
+            System.out.println("Rebuilding " + index.get("name"));
+            jdbcTemplate.execute((String) index.get("definition"));
+        }
+        jdbcTemplate.execute("VACUUM ANALYZE bookings");
+        System.out.printf("Done: %,d bookings in %ds%n", perMonth * BookingDataset.months(),
+                (System.nanoTime() - started) / 1_000_000_000L);
+    }
+}
@@ -0,0 +1,43 @@
+package com.project.bookingservice.benchmark;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import java.time.YearMonth;
+
+/**
+ * Shape of the synthetic booking dataset, shared by the generator and the search benchmark
+ *
+ * Connection settings come from -Dbench.db.url, -Dbench.db.username and -Dbench.db.password and
+ * default to the local booking_db from compose.yaml.
+ */
+final class BookingDataset {
+
+    static final long DEFAULT_ROWS = 50_000_000L;
+    static final int PROVIDERS = 50_000;
+    static final int CUSTOMERS = 2_000_000;
+    static final int BUSINESSES = 5_000;
+    // Must stay within app.partitions.premake-months
+    static final int MONTHS_BACK = 30;
+    static final int MONTHS_AHEAD = 5;
+
+    private BookingDataset() {
+    }
+
+    static YearMonth firstMonth() {
+        return YearMonth.now().minusMonths(MONTHS_BACK);
+    }
+
+    static int months() {
+        return MONTHS_BACK + MONTHS_AHEAD + 1;
+    }
+
+    static HikariDataSource dataSource(int poolSize) {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(System.getProperty("bench.db.url", "jdbc:postgresql://localhost:5437/booking_db"));
+        config.setUsername(System.getProperty("bench.db.username", "postgres"));
+        config.setPassword(System.getProperty("bench.db.password", "postgres"));
+        config.setMaximumPoolSize(poolSize);
+        return new HikariDataSource(config);
+    }
+}
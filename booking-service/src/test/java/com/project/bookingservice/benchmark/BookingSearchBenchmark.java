@@ -0,0 +1,133 @@
+package com.project.bookingservice.benchmark;
+
+import com.project.bookingservice.dto.BookingSummaryDto;
+import com.project.bookingservice.entity.Booking;
+import com.project.bookingservice.repository.BookingSearchJdbcRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of the booking search queries over the dataset written by {@link BookingDataGenerator}
+ *
+ * Every invocation searches a random customer, provider or business, so the runs measure index
+ * lookups rather than one hot page. businessDeepPageOffset is the OFFSET query the keyset cursor
+ * replaces, at the same depth as businessDeepPageKeyset.
+ *
+ * Run with:
+ * mvn -pl booking-service test-compile exec:java -Dexec.classpathScope=test
+ *     -Dexec.mainClass=com.project.bookingservice.benchmark.BookingSearchBenchmark
+ */
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class BookingSearchBenchmark {
+
+    private static final int PAGE = 21;
+    private static final int DEEP_OFFSET = 2_000;
+    private static final Set<Booking.BookingStatus> ANY_STATUS = EnumSet.noneOf(Booking.BookingStatus.class);
+
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private BookingSearchJdbcRepository repository;
+    private LocalDate today;
+    private LocalDate deepCursorDate;
+
+    @Setup
+    public void setUp() {
+        dataSource = BookingDataset.dataSource(8);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        repository = new BookingSearchJdbcRepository(jdbcTemplate);
+        today = LocalDate.now();
+
+        // a business has one booking per provider-day, so count back DEEP_OFFSET of them for the keyset page
+        Map<String, Object> perBusiness = jdbcTemplate.queryForMap(
+                "SELECT count(*) / count(DISTINCT business_id) AS per_business FROM bookings WHERE business_id IS NOT NULL");
+        long bookingsPerBusiness = ((Number) perBusiness.get("per_business")).longValue();
+        long days = BookingDataset.months() * 30L;
+        deepCursorDate = BookingDataset.firstMonth().plusMonths(BookingDataset.months()).atDay(1)
+                .minusDays(Math.max(1, DEEP_OFFSET * days / Math.max(1, bookingsPerBusiness)));
+    }
+
+    @TearDown
+    public void tearDown() {
+        dataSource.close();
+    }
+
+    @Benchmark
+    public List<BookingSummaryDto> customerFirstPage() {
+        return repository.findByCustomer(randomId(BookingDataset.CUSTOMERS), ANY_STATUS, null, null, null, null, PAGE);
+    }
+
+    @Benchmark
+    public List<BookingSummaryDto> providerAllStatusesFirstPage() {
+        return repository.findByProvider(randomId(BookingDataset.PROVIDERS), ANY_STATUS, null, null, null, null, PAGE);
+    }
+
+    @Benchmark
+    public List<BookingSummaryDto> providerUpcomingConfirmed() {
+        return repository.findByProvider(randomId(BookingDataset.PROVIDERS), EnumSet.of(Booking.BookingStatus.CONFIRMED),
+                today, today.plusDays(30), null, null, PAGE);
+    }
+
+    @Benchmark
+    public List<BookingSummaryDto> businessFirstPage() {
+        return repository.findByBusinesses(List.of(randomId(BookingDataset.BUSINESSES)), ANY_STATUS,
+                null, null, null, null, PAGE);
+    }
+
+    @Benchmark
+    public List<BookingSummaryDto> businessDeepPageKeyset() {
+        return repository.findByBusinesses(List.of(randomId(BookingDataset.BUSINESSES)), ANY_STATUS, null, null,
+                deepCursorDate, Long.MAX_VALUE, PAGE);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> businessDeepPageOffset() {
+        return jdbcTemplate.queryForList("""
+                SELECT id, customer_id, provider_id, business_id, service_name, booking_date, start_time, end_time,
+                       status, payment_status, total_amount, currency
+                FROM bookings WHERE business_id = ?
+                ORDER BY booking_date DESC, id DESC LIMIT ? OFFSET ?
+                """, randomId(BookingDataset.BUSINESSES), PAGE, DEEP_OFFSET);
+    }
+
+    private static long randomId(int count) {
+        return 1 + ThreadLocalRandom.current().nextInt(count);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(BookingSearchBenchmark.class.getSimpleName())
+                .jvmArgsAppend(System.getProperties().stringPropertyNames().stream()
+                        .filter(name -> name.startsWith("bench."))
+                        .map(name -> "-D" + name + "=" + System.getProperty(name))
+                        .toArray(String[]::new))
+                .build()).run();
+    }
+}
@@ -0,0 +1,164 @@
+package com.project.bookingservice.service;
+
+import com.project.bookingservice.dto.CreateBookingRequest;
+import com.project.bookingservice.support.PostgresIntegrationTest;
+import com.project.common.exception.BusinessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * Concurrent booking creation against the real exclusion constraint
+ *
+ * Many callers race for the same and overlapping slots of each provider; exactly one may win
+ * per provider and the table must never hold two overlapping active bookings. A second run
+ * books non-overlapping slots of one provider, all queued on its stripe, and the same number of
+ * bookings spread over distinct providers; every one of them must be accepted.
+ */
+class BookingServiceStressTest extends PostgresIntegrationTest {
+
+    private static final int PROVIDERS = 32;
+    private static final int CONTENDERS_PER_PROVIDER = 24;
+    private static final int SPREAD_BOOKINGS = 64;
+
+    private static final AtomicLong NEXT_PROVIDER = new AtomicLong(1_000_000);
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final LocalDate date = LocalDate.now().plusDays(7);
+
+    @BeforeEach
+    void setUp() {
+        when(currentUserService.getCurrentUserId()).thenReturn(1L);
+    }
+
+    @Test
+    void eachProviderSlotIsBookedExactlyOnce() throws Exception {
+        long firstProvider = NEXT_PROVIDER.getAndAdd(PROVIDERS);
+        Map<Long, AtomicInteger> wins = new ConcurrentHashMap<>();
+        Map<String, AtomicInteger> rejections = new ConcurrentHashMap<>();
+
+        List<Runnable> tasks = new ArrayList<>();
+        for (long providerId = firstProvider; providerId < firstProvider + PROVIDERS; providerId++) {
+            long id = providerId;
+            for (int i = 0; i < CONTENDERS_PER_PROVIDER; i++) {
+                // half ask for 10:00-11:00, half for the overlapping 10:30-11:30
+                LocalTime start = i % 2 == 0 ? LocalTime.of(10, 0) : LocalTime.of(10, 30);
+                tasks.add(() -> {
+                    try {
+                        bookingService.createBooking(request(id, start, start.plusHours(1)));
+                        wins.computeIfAbsent(id, key -> new AtomicInteger()).incrementAndGet();
+                    } catch (BusinessException e) {
+                        rejections.computeIfAbsent(e.getErrorCode(), key -> new AtomicInteger()).incrementAndGet();
+                    }
+                });
+            }
+        }
+        runConcurrently(tasks);
+
+        assertThat(wins).hasSize(PROVIDERS);
+        assertThat(wins.values()).allSatisfy(count -> assertThat(count.get()).isEqualTo(1));
+        assertThat(rejections.keySet()).isSubsetOf("SLOT_UNAVAILABLE", "PROVIDER_BUSY");
+        assertThat(rejections.values().stream().mapToInt(AtomicInteger::get).sum())
+                .isEqualTo(PROVIDERS * (CONTENDERS_PER_PROVIDER - 1));
+        assertThat(overlappingBookings(firstProvider, firstProvider + PROVIDERS - 1)).isZero();
+    }
+
+    @Test
+    void queuedAndSpreadBookingsAreAllAccepted() throws Exception {
+        long contendedProvider = NEXT_PROVIDER.getAndIncrement();
+        long firstSpreadProvider = NEXT_PROVIDER.getAndAdd(SPREAD_BOOKINGS);
+
+        bookContended(contendedProvider);
+        bookSpread(firstSpreadProvider);
+
+        assertThat(activeBookings(contendedProvider, contendedProvider)).isEqualTo(SPREAD_BOOKINGS);
+        assertThat(activeBookings(firstSpreadProvider, firstSpreadProvider + SPREAD_BOOKINGS - 1))
+                .isEqualTo(SPREAD_BOOKINGS);
+        assertThat(overlappingBookings(contendedProvider, firstSpreadProvider + SPREAD_BOOKINGS - 1)).isZero();
+    }
+
+    private Integer activeBookings(long firstProvider, long lastProvider) {
+        return jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM bookings WHERE provider_id BETWEEN ? AND ? " +
+                "AND status IN ('PENDING', 'CONFIRMED', 'IN_PROGRESS')",
+                Integer.class, firstProvider, lastProvider);
+    }
+
+    private Integer overlappingBookings(long firstProvider, long lastProvider) {
+        return jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM bookings a JOIN bookings b " +
+                "ON a.provider_id = b.provider_id AND a.id < b.id AND a.slot && b.slot " +
+                "WHERE a.provider_id BETWEEN ? AND ? " +
+                "AND a.status IN ('PENDING', 'CONFIRMED', 'IN_PROGRESS') " +
+                "AND b.status IN ('PENDING', 'CONFIRMED', 'IN_PROGRESS')",
+                Integer.class, firstProvider, lastProvider);
+    }
+
+    // SPREAD_BOOKINGS non-overlapping 15 minute slots of one provider; all serialize on its stripe
+    private void bookContended(long providerId) throws Exception {
+        List<Runnable> tasks = new ArrayList<>();
+        for (int i = 0; i < SPREAD_BOOKINGS; i++) {
+            LocalTime start = LocalTime.of(6, 0).plusMinutes(15L * i);
+            tasks.add(() -> bookingService.createBooking(request(providerId, start, start.plusMinutes(15))));
+        }
+        runConcurrently(tasks);
+    }
+
+    // one booking for each of SPREAD_BOOKINGS providers
+    private void bookSpread(long firstProvider) throws Exception {
+        List<Runnable> tasks = new ArrayList<>();
+        for (int i = 0; i < SPREAD_BOOKINGS; i++) {
+            long providerId = firstProvider + i;
+            tasks.add(() -> bookingService.createBooking(request(providerId, LocalTime.of(9, 0), LocalTime.of(9, 15))));
+        }
+        runConcurrently(tasks);
+    }
+
+    // Starts every task at once on virtual threads; task failures fail the test
+    private static void runConcurrently(List<Runnable> tasks) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>(tasks.size());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Runnable task : tasks) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run();
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        }
+    }
+
+    private CreateBookingRequest request(long providerId, LocalTime start, LocalTime end) {
+        return new CreateBookingRequest(providerId, null, "Stress test", null, date, start, end,
+                new BigDecimal("10.00"), "USD", null);
+    }
+}
@@ -0,0 +1,149 @@
+package com.project.bookingservice.service.availability;
+
+import com.project.bookingservice.dto.WorkingHoursDto;
+import com.project.bookingservice.repository.BookingSlotView;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AvailabilityIndexTest {
+
+    private static final long PROVIDER = 7L;
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 2);
+
+    private final AvailabilityIndex index = new AvailabilityIndex();
+
+    @Test
+    void unknownProviderIsUnoccupied() {
+        assertThat(index.isUnoccupied(PROVIDER, TODAY, SlotMask.range(LocalTime.of(9, 0), LocalTime.of(10, 0)))).isTrue();
+    }
+
+    @Test
+    void unoccupiedIgnoresWorkingHours() {
+        // no schedule at all, as for a provider whose working hours user-service never set
+        index.load(PROVIDER, List.of(), TODAY, 7, List.of());
+        long[] slot = SlotMask.range(LocalTime.of(9, 0), LocalTime.of(10, 0));
+
+        assertThat(index.isFree(PROVIDER, TODAY, slot)).isFalse();
+        assertThat(index.isUnoccupied(PROVIDER, TODAY, slot)).isTrue();
+    }
+
+    @Test
+    void bookingsAndHoldsOccupySlots() {
+        index.load(PROVIDER, List.of(allDay(TODAY.getDayOfWeek())), TODAY, 7, List.of());
+
+        index.occupy(PROVIDER, TODAY, LocalTime.of(9, 0), LocalTime.of(10, 0));
+        assertThat(index.isUnoccupied(PROVIDER, TODAY, SlotMask.range(LocalTime.of(9, 45), LocalTime.of(10, 15)))).isFalse();
+        assertThat(index.isUnoccupied(PROVIDER, TODAY, SlotMask.range(LocalTime.of(10, 0), LocalTime.of(11, 0)))).isTrue();
+
+        assertThat(index.tryHold(PROVIDER, TODAY, LocalTime.of(10, 0), LocalTime.of(11, 0))).isTrue();
+        assertThat(index.isUnoccupied(PROVIDER, TODAY, SlotMask.range(LocalTime.of(10, 30), LocalTime.of(10, 45)))).isFalse();
+
+        index.releaseHold(PROVIDER, TODAY, LocalTime.of(10, 0), LocalTime.of(11, 0));
+        index.release(PROVIDER, TODAY, LocalTime.of(9, 0), LocalTime.of(10, 0));
+        assertThat(index.isUnoccupied(PROVIDER, TODAY, SlotMask.range(LocalTime.of(9, 0), LocalTime.of(11, 0)))).isTrue();
+    }
+
+    @Test
+    void releasingOneOfTwoBookingsSharingASlotKeepsTheSlotTaken() {
+        index.load(PROVIDER, List.of(allDay(TODAY.getDayOfWeek())), TODAY, 7, List.of());
+        long[] shared = SlotMask.range(LocalTime.of(9, 0), LocalTime.of(9, 15));
+
+        // both take the 9:00 slot, one ending and the other starting inside it
+        index.occupy(PROVIDER, TODAY, LocalTime.of(8, 0), LocalTime.of(9, 10));
+        index.occupy(PROVIDER, TODAY, LocalTime.of(9, 10), LocalTime.of(10, 0));
+
+        index.release(PROVIDER, TODAY, LocalTime.of(8, 0), LocalTime.of(9, 10));
+        assertThat(index.isUnoccupied(PROVIDER, TODAY, shared)).isFalse();
+        assertThat(index.isUnoccupied(PROVIDER, TODAY, SlotMask.range(LocalTime.of(8, 0), LocalTime.of(9, 0)))).isTrue();
+
+        index.release(PROVIDER, TODAY, LocalTime.of(9, 10), LocalTime.of(10, 0));
+        assertThat(index.isUnoccupied(PROVIDER, TODAY, SlotMask.range(LocalTime.of(8, 0), LocalTime.of(10, 0)))).isTrue();
+    }
+
+    @Test
+    void loadedBookingsSharingASlotAreCountedToo() {
+        index.load(PROVIDER, List.of(allDay(TODAY.getDayOfWeek())), TODAY, 7, List.of(
+                booking(LocalTime.of(8, 0), LocalTime.of(9, 10)),
+                booking(LocalTime.of(9, 10), LocalTime.of(10, 0))));
+
+        index.release(PROVIDER, TODAY, LocalTime.of(9, 10), LocalTime.of(10, 0));
+
+        assertThat(index.isUnoccupied(PROVIDER, TODAY, SlotMask.range(LocalTime.of(9, 0), LocalTime.of(9, 15)))).isFalse();
+        assertThat(index.isUnoccupied(PROVIDER, TODAY, SlotMask.range(LocalTime.of(9, 15), LocalTime.of(10, 0)))).isTrue();
+    }
+
+    @Test
+    void onlyProvidersUnusedSinceTheCutoffAreEvicted() {
+        index.load(PROVIDER, List.of(), TODAY, 7, List.of());
+        long loadedAt = System.currentTimeMillis();
+
+        assertThat(index.evictUnusedSince(loadedAt - 60_000)).isZero();
+        assertThat(index.contains(PROVIDER)).isTrue();
+
+        assertThat(index.evictUnusedSince(loadedAt + 60_000)).isEqualTo(1);
+        assertThat(index.contains(PROVIDER)).isFalse();
+    }
+
+    @Test
+    void datesOutsideTheWindowAreLeftToTheDatabase() {
+        index.load(PROVIDER, List.of(), TODAY, 7, List.of());
+        long[] slot = SlotMask.range(LocalTime.of(9, 0), LocalTime.of(10, 0));
+
+        assertThat(index.isUnoccupied(PROVIDER, TODAY.plusDays(30), slot)).isTrue();
+        assertThat(index.isUnoccupied(PROVIDER, TODAY.minusDays(1), slot)).isTrue();
+    }
+
+    @Test
+    void changesDuringALoadAreReportedToTheLoader() {
+        index.load(PROVIDER, List.of(), TODAY, 7, List.of());
+        index.occupy(PROVIDER, TODAY, LocalTime.of(8, 0), LocalTime.of(9, 0));
+
+        Set<Long> changed = index.trackChanges();
+        index.occupy(PROVIDER, TODAY, LocalTime.of(9, 0), LocalTime.of(10, 0));
+        index.release(8L, TODAY, LocalTime.of(9, 0), LocalTime.of(10, 0));
+        assertThat(index.stopTracking(changed)).containsExactlyInAnyOrder(PROVIDER, 8L);
+
+        index.occupy(9L, TODAY, LocalTime.of(9, 0), LocalTime.of(10, 0));
+        assertThat(changed).doesNotContain(9L);
+    }
+
+    private static BookingSlotView booking(LocalTime start, LocalTime end) {
+        return new BookingSlotView() {
+            @Override
+            public Long getProviderId() {
+                return PROVIDER;
+            }
+
+            @Override
+            public LocalDate getBookingDate() {
+                return TODAY;
+            }
+
+            @Override
+            public LocalTime getStartTime() {
+                return start;
+            }
+
+            @Override
+            public LocalTime getEndTime() {
+                return end;
+            }
+        };
+    }
+
+    private static WorkingHoursDto allDay(DayOfWeek day) {
+        WorkingHoursDto hours = new WorkingHoursDto();
+        hours.setDayOfWeek(day);
+        hours.setStartTime("00:00");
+        hours.setEndTime("24:00");
+        hours.setAvailable(true);
+        return hours;
+    }
+}
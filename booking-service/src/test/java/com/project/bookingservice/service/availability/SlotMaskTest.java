@@ -0,0 +1,87 @@
+package com.project.bookingservice.service.availability;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlotMaskTest {
+
+    @Test
+    void slotBoundariesRoundOutward() {
+        assertThat(SlotMask.startSlot(LocalTime.of(9, 0))).isEqualTo(36);
+        assertThat(SlotMask.startSlot(LocalTime.of(9, 14))).isEqualTo(36);
+        assertThat(SlotMask.endSlot(LocalTime.of(9, 15))).isEqualTo(37);
+        assertThat(SlotMask.endSlot(LocalTime.of(9, 16))).isEqualTo(38);
+        assertThat(SlotMask.endSlot(LocalTime.MIDNIGHT)).isEqualTo(SlotMask.SLOTS_PER_DAY);
+        assertThat(SlotMask.timeOf(37)).isEqualTo(LocalTime.of(9, 15));
+        assertThat(SlotMask.slotsFor(50)).isEqualTo(4);
+    }
+
+    @Test
+    void rangeSpansBothWords() {
+        // 15:00 is slot 60, 17:00 is slot 68
+        long[] mask = SlotMask.range(LocalTime.of(15, 0), LocalTime.of(17, 0));
+
+        assertThat(mask[0]).isEqualTo(0xFL << 60);
+        assertThat(mask[1]).isEqualTo(0xFL);
+    }
+
+    @Test
+    void wholeDayFillsExactlyNinetySixBits() {
+        long[] mask = SlotMask.range(LocalTime.MIDNIGHT, LocalTime.MIDNIGHT);
+
+        assertThat(mask[0]).isEqualTo(-1L);
+        assertThat(mask[1]).isEqualTo((1L << 32) - 1);
+        assertThat(Long.bitCount(mask[0]) + Long.bitCount(mask[1])).isEqualTo(SlotMask.SLOTS_PER_DAY);
+    }
+
+    @Test
+    void emptyRangeIsEmpty() {
+        long[] mask = new long[SlotMask.WORDS];
+        SlotMask.range(40, 40, mask, 0);
+
+        assertThat(SlotMask.isEmpty(mask)).isTrue();
+        assertThat(SlotMask.isEmpty(SlotMask.range(LocalTime.of(9, 0), LocalTime.of(9, 15)))).isFalse();
+    }
+
+    @Test
+    void runStartsKeepsOnlyStartsOfLongEnoughRuns() {
+        long[] free = new long[SlotMask.WORDS];
+        // a four slot run at 2..5 and a two slot run at 10..11
+        free[0] = (0xFL << 2) | (0x3L << 10);
+        long[] out = new long[SlotMask.WORDS];
+
+        SlotMask.runStarts(free, 3, out);
+
+        assertThat(out[0]).isEqualTo((1L << 2) | (1L << 3));
+        assertThat(out[1]).isZero();
+    }
+
+    @Test
+    void runStartsCrossesTheWordBoundary() {
+        long[] free = new long[SlotMask.WORDS];
+        SlotMask.range(62, 66, free, 0);
+        long[] out = new long[SlotMask.WORDS];
+
+        SlotMask.runStarts(free, 4, out);
+
+        assertThat(out[0]).isEqualTo(1L << 62);
+        assertThat(out[1]).isZero();
+    }
+
+    @Test
+    void runsNeverWrapPastTheEndOfTheDay() {
+        long[] free = new long[SlotMask.WORDS];
+        SlotMask.range(0, SlotMask.SLOTS_PER_DAY, free, 0);
+        long[] out = new long[SlotMask.WORDS];
+
+        SlotMask.runStarts(free, 4, out);
+        assertThat(Long.bitCount(out[0]) + Long.bitCount(out[1])).isEqualTo(SlotMask.SLOTS_PER_DAY - 3);
+        assertThat(out[1] >>> (SlotMask.SLOTS_PER_DAY - 64 - 3)).isZero();
+
+        SlotMask.runStarts(free, SlotMask.SLOTS_PER_DAY + 1, out);
+        assertThat(SlotMask.isEmpty(out)).isTrue();
+    }
+}
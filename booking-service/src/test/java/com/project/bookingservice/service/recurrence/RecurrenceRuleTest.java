@@ -0,0 +1,135 @@
+package com.project.bookingservice.service.recurrence;
+
+import com.project.common.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RecurrenceRuleTest {
+
+    // a Monday
+    private static final LocalDate MONDAY = LocalDate.of(2026, 1, 5);
+
+    @Test
+    void countStopsAfterThatManyOccurrences() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=DAILY;COUNT=3");
+
+        assertThat(rule.isBounded()).isTrue();
+        assertThat(occurrences(rule, MONDAY)).containsExactly(dates("2026-01-05", "2026-01-06", "2026-01-07"));
+    }
+
+    @Test
+    void untilIsInclusiveAndMayCarryATime() {
+        LocalDate[] expected = dates("2026-01-05", "2026-01-12", "2026-01-19");
+
+        assertThat(occurrences(RecurrenceRule.parse("FREQ=WEEKLY;UNTIL=20260119T235959Z"), MONDAY))
+                .containsExactly(expected);
+        assertThat(occurrences(RecurrenceRule.parse("FREQ=WEEKLY;UNTIL=2026-01-19"), MONDAY))
+                .containsExactly(expected);
+        assertThat(occurrences(RecurrenceRule.parse("FREQ=WEEKLY;UNTIL=20260118"), MONDAY))
+                .containsExactly(dates("2026-01-05", "2026-01-12"));
+    }
+
+    @Test
+    void intervalStepsWholePeriods() {
+        assertThat(occurrences(RecurrenceRule.parse("FREQ=DAILY;INTERVAL=3;COUNT=3"), MONDAY))
+                .containsExactly(dates("2026-01-05", "2026-01-08", "2026-01-11"));
+        // starting on a Wednesday keeps the Wednesday of every other week
+        assertThat(occurrences(RecurrenceRule.parse("FREQ=WEEKLY;INTERVAL=2;COUNT=3"), MONDAY.plusDays(2)))
+                .containsExactly(dates("2026-01-07", "2026-01-21", "2026-02-04"));
+        assertThat(occurrences(RecurrenceRule.parse("FREQ=MONTHLY;INTERVAL=2;COUNT=3"), MONDAY))
+                .containsExactly(dates("2026-01-05", "2026-03-05", "2026-05-05"));
+    }
+
+    @Test
+    void weeklyByDaySkipsDaysBeforeTheFirstDate() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=FR,MO,WE;COUNT=5");
+
+        assertThat(occurrences(rule, MONDAY.plusDays(2))).containsExactly(
+                dates("2026-01-07", "2026-01-09", "2026-01-12", "2026-01-14", "2026-01-16"));
+    }
+
+    @Test
+    void dailyByDayKeepsOnlyThoseWeekdays() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=DAILY;BYDAY=SA,SU;COUNT=3");
+
+        assertThat(occurrences(rule, MONDAY))
+                .containsExactly(dates("2026-01-10", "2026-01-11", "2026-01-17"));
+    }
+
+    @Test
+    void monthlyOnTheThirtyFirstSkipsShorterMonths() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=MONTHLY;COUNT=4");
+
+        assertThat(occurrences(rule, LocalDate.of(2026, 1, 31)))
+                .containsExactly(dates("2026-01-31", "2026-03-31", "2026-05-31", "2026-07-31"));
+    }
+
+    @Test
+    void byMonthDayIsOrderedWithinTheMonthAndStartsAtTheFirstDate() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=MONTHLY;BYMONTHDAY=15,1;COUNT=4");
+
+        assertThat(occurrences(rule, LocalDate.of(2026, 1, 10)))
+                .containsExactly(dates("2026-01-15", "2026-02-01", "2026-02-15", "2026-03-01"));
+    }
+
+    @Test
+    void leapDayRecursOnlyInLeapYears() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=MONTHLY;INTERVAL=12;COUNT=2");
+
+        assertThat(occurrences(rule, LocalDate.of(2024, 2, 29)))
+                .containsExactly(dates("2024-02-29", "2028-02-29"));
+    }
+
+    @Test
+    void aRuleThatNeverMatchesEndsInsteadOfSearchingForever() {
+        // every twelfth month from February is always February, which has no 30th
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=MONTHLY;INTERVAL=12;BYMONTHDAY=30");
+
+        assertThat(rule.isBounded()).isFalse();
+        assertThat(rule.occurrences(LocalDate.of(2026, 2, 1)).limit(1).collect(Collectors.toList())).isEmpty();
+    }
+
+    @Test
+    void unboundedRulesAreProducedLazily() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=DAILY");
+
+        assertThat(rule.isBounded()).isFalse();
+        assertThat(rule.occurrences(MONDAY).skip(999).findFirst()).contains(MONDAY.plusDays(999));
+    }
+
+    @Test
+    void prefixAndCaseAreIgnored() {
+        RecurrenceRule rule = RecurrenceRule.parse(" rrule:freq=weekly;byday=tu;count=2;wkst=mo ");
+
+        assertThat(occurrences(rule, MONDAY)).containsExactly(dates("2026-01-06", "2026-01-13"));
+    }
+
+    @Test
+    void invalidRulesAreRejected() {
+        for (String rule : Arrays.asList(null, " ", "COUNT=3", "FREQ", "FREQ=YEARLY", "FREQ=DAILY;INTERVAL=0",
+                "FREQ=DAILY;INTERVAL=x", "FREQ=DAILY;COUNT=0", "FREQ=DAILY;COUNT=2;UNTIL=20260110",
+                "FREQ=DAILY;UNTIL=2026-13-01", "FREQ=WEEKLY;BYMONTHDAY=1", "FREQ=MONTHLY;BYDAY=MO",
+                "FREQ=WEEKLY;BYDAY=XX", "FREQ=MONTHLY;BYMONTHDAY=32", "FREQ=DAILY;WKST=SU",
+                "FREQ=DAILY;BYSETPOS=1")) {
+            assertThatThrownBy(() -> RecurrenceRule.parse(rule))
+                    .as(rule)
+                    .isInstanceOfSatisfying(BusinessException.class,
+                            e -> assertThat(e.getErrorCode()).isEqualTo("INVALID_RECURRENCE_RULE"));
+        }
+    }
+
+    private static List<LocalDate> occurrences(RecurrenceRule rule, LocalDate first) {
+        return rule.occurrences(first).limit(100).collect(Collectors.toList());
+    }
+
+    private static LocalDate[] dates(String... values) {
+        return Arrays.stream(values).map(LocalDate::parse).toArray(LocalDate[]::new);
+    }
+}
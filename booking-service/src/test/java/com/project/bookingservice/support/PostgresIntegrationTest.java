@@ -0,0 +1,34 @@
+package com.project.bookingservice.support;
+
+import com.project.bookingservice.client.UserServiceClient;
+import com.project.bookingservice.service.CurrentUserService;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Base for tests that need the real schema
+ *
+ * One Postgres container is shared by every test class in the run, so the cached Spring
+ * context keeps pointing at a live database; Flyway migrates it when the context starts.
+ * user-service is mocked, including the caller lookup.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public abstract class PostgresIntegrationTest {
+
+    @ServiceConnection
+    protected static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    static {
+        POSTGRES.start();
+    }
+
+    @MockitoBean
+    protected UserServiceClient userServiceClient;
+
+    @MockitoBean
+    protected CurrentUserService currentUserService;
+}
@@ -0,0 +1,88 @@
+package com.project.bookingservice.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HashedTimingWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    private final HashedTimingWheel<String> wheel = new HashedTimingWheel<>(100, 8, START);
+    private final List<String> expired = new ArrayList<>();
+
+    @Test
+    void itemsExpireOnTheFirstTickAfterTheirDeadline() {
+        wheel.schedule("a", START + 250);
+
+        wheel.advance(START + 200, expired::add);
+        wheel.advance(START + 299, expired::add);
+        assertThat(expired).isEmpty();
+
+        wheel.advance(START + 300, expired::add);
+        assertThat(expired).containsExactly("a");
+    }
+
+    @Test
+    void itemsDueMidTickAreNotDeferredByARotation() {
+        wheel.schedule("a", START + 250);
+
+        // the tick holding the deadline starts before it is due
+        wheel.advance(START + 250, expired::add);
+        wheel.advance(START + 350, expired::add);
+
+        assertThat(expired).containsExactly("a");
+    }
+
+    @Test
+    void itemsExpireExactlyOnce() {
+        wheel.schedule("a", START + 100);
+
+        wheel.advance(START + 500, expired::add);
+        wheel.advance(START + 600, expired::add);
+        wheel.advance(START + 5_000, expired::add);
+
+        assertThat(expired).containsExactly("a");
+    }
+
+    @Test
+    void deadlinesBeyondOneRotationWaitForALaterPass() {
+        // 8 buckets of 100ms make an 800ms rotation
+        wheel.schedule("far", START + 2_050);
+
+        for (long now = START; now < START + 2_050; now += 100) {
+            wheel.advance(now, expired::add);
+        }
+        assertThat(expired).isEmpty();
+
+        wheel.advance(START + 2_100, expired::add);
+        assertThat(expired).containsExactly("far");
+    }
+
+    @Test
+    void longPauseExpiresEverythingDue() {
+        for (int i = 0; i < 20; i++) {
+            wheel.schedule("item-" + i, START + i * 70L);
+        }
+        wheel.schedule("later", START + 100_000);
+
+        wheel.advance(START + 10_000, expired::add);
+
+        assertThat(expired).hasSize(20).doesNotContain("later");
+    }
+
+    @Test
+    void pastDeadlinesGoToTheNextTick() {
+        wheel.advance(START + 1_000, expired::add);
+        wheel.schedule("late", START + 10);
+
+        wheel.advance(START + 1_000, expired::add);
+        assertThat(expired).isEmpty();
+
+        wheel.advance(START + 1_100, expired::add);
+        assertThat(expired).containsExactly("late");
+    }
+}
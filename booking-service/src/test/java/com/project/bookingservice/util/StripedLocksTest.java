@@ -0,0 +1,89 @@
+package com.project.bookingservice.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StripedLocksTest {
+
+    @Test
+    void sameKeyAlwaysMapsToTheSameLock() {
+        StripedLocks locks = new StripedLocks(64);
+
+        for (long key = 0; key < 1_000; key++) {
+            assertThat(locks.forKey(key)).isSameAs(locks.forKey(key));
+        }
+    }
+
+    @Test
+    void stripeCountRoundsUpToAPowerOfTwo() {
+        StripedLocks locks = new StripedLocks(100);
+        Set<ReentrantLock> distinct = new HashSet<>();
+
+        for (long key = 0; key < 100_000; key++) {
+            distinct.add(locks.forKey(key));
+        }
+
+        assertThat(distinct).hasSize(128);
+    }
+
+    @Test
+    void sequentialKeysSpreadAcrossStripes() {
+        StripedLocks locks = new StripedLocks(256);
+        Set<ReentrantLock> distinct = new HashSet<>();
+
+        // provider ids are sequential, so neighbours must not pile onto a few stripes
+        for (long key = 1; key <= 256; key++) {
+            distinct.add(locks.forKey(key));
+        }
+
+        assertThat(distinct.size()).isGreaterThan(128);
+    }
+
+    @Test
+    void singleStripeStillWorks() {
+        StripedLocks locks = new StripedLocks(1);
+
+        assertThat(locks.forKey(1L)).isNotNull();
+    }
+
+    @Test
+    void callersForOneKeySerialize() throws InterruptedException {
+        StripedLocks locks = new StripedLocks(16);
+        int threads = 16;
+        int increments = 10_000;
+        long[] counter = new long[1];
+        CountDownLatch start = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int t = 0; t < threads; t++) {
+                executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < increments; i++) {
+                        ReentrantLock lock = locks.forKey(42L);
+                        lock.lock();
+                        try {
+                            counter[0]++;
+                        } finally {
+                            lock.unlock();
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            executor.shutdown();
+            assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        }
+
+        assertThat(counter[0]).isEqualTo((long) threads * increments);
+    }
+}
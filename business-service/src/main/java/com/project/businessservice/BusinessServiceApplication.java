@@ -1,13 +1,20 @@
 package com.project.businessservice;
 
+import com.project.businessservice.config.RankingProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
+import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableDiscoveryClient
+@EnableFeignClients
+@EnableScheduling
+@EnableConfigurationProperties(RankingProperties.class)
 public class BusinessServiceApplication {
     public static void main(String[] args) {
         SpringApplication.run(BusinessServiceApplication.class, args);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,25 @@
+package com.project.businessservice.client;
+
+import com.project.businessservice.dto.UserSummaryDto;
+import com.project.common.dto.ApiResponse;
+import com.project.common.event.BusinessOwnerChangedEvent;
+import com.project.common.outbox.HttpEventBroker;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
+
+@FeignClient(name = "user-service")
+public interface UserServiceClient {
+
+    @GetMapping("/api/v1/users/me")
+    ApiResponse<UserSummaryDto> getCurrentUser();
+
+    // Business owners with ID above afterId, for the owner_summaries resync
+    @GetMapping("/internal/business-owners/summaries")
+    List<BusinessOwnerChangedEvent> getOwnerSummaries(@RequestHeader(HttpEventBroker.TOKEN_HEADER) String token,
+                                                      @RequestParam("afterId") long afterId,
+                                                      @RequestParam("limit") int limit);
+}
@@ -0,0 +1,38 @@
+package com.project.businessservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Business search ranking settings
+ *
+ * Each query type has its own signal weights; a request picks one explicitly or gets
+ * keyword with a text query, nearby with a location and browse otherwise.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.ranking")
+public class RankingProperties {
+
+    private boolean enabled = true;
+    private int defaultLimit = 20;
+    private int maxLimit = 100;
+    private double maxRadiusKm = 100;
+
+    // Ratings backed by fewer reviews than this are pulled toward priorRating
+    private int ratingConfidenceReviews = 10;
+    private double priorRating = 3.5;
+
+    private Map<String, QueryType> queryTypes = new HashMap<>();
+
+    @Data
+    public static class QueryType {
+        private double text;
+        private double distance;
+        private double openNow;
+        private double verified;
+        private double rating;
+    }
+}
@@ -0,0 +1,63 @@
+package com.project.businessservice.controller;
+
+import com.project.businessservice.dto.AddressRequest;
+import com.project.businessservice.dto.BusinessAddressDto;
+import com.project.businessservice.service.BusinessAddressService;
+import com.project.common.dto.ApiResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/businesses/{businessId}/addresses")
+@RequiredArgsConstructor
+@Slf4j
+public class BusinessAddressController {
+
+    private final BusinessAddressService addressService;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<BusinessAddressDto>>> getAddresses(@PathVariable Long businessId) {
+        log.info("Getting addresses for business: {}", businessId);
+
+        List<BusinessAddressDto> addresses = addressService.getAddresses(businessId);
+        return ResponseEntity.ok(ApiResponse.success(addresses));
+    }
+
+    @PostMapping
+    @PreAuthorize("hasRole('BUSINESS_OWNER') or hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<BusinessAddressDto>> addAddress(@PathVariable Long businessId,
+                                                                      @Valid @RequestBody AddressRequest request) {
+        log.info("Adding address to business: {}", businessId);
+
+        BusinessAddressDto address = addressService.addAddress(businessId, request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("Address added successfully", address));
+    }
+
+    @PutMapping("/{addressId}")
+    @PreAuthorize("hasRole('BUSINESS_OWNER') or hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<BusinessAddressDto>> updateAddress(@PathVariable Long businessId,
+                                                                         @PathVariable Long addressId,
+                                                                         @Valid @RequestBody AddressRequest request) {
+        log.info("Updating address {} of business: {}", addressId, businessId);
+
+        BusinessAddressDto address = addressService.updateAddress(businessId, addressId, request);
+        return ResponseEntity.ok(ApiResponse.success("Address updated successfully", address));
+    }
+
+    @DeleteMapping("/{addressId}")
+    @PreAuthorize("hasRole('BUSINESS_OWNER') or hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Void>> deleteAddress(@PathVariable Long businessId, @PathVariable Long addressId) {
+        log.info("Deleting address {} of business: {}", addressId, businessId);
+
+        addressService.deleteAddress(businessId, addressId);
+        return ResponseEntity.ok(ApiResponse.success("Address deleted successfully", null));
+    }
+}
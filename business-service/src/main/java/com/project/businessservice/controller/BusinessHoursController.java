@@ -0,0 +1,39 @@
+package com.project.businessservice.controller;
+
+import com.project.businessservice.dto.BusinessHoursDto;
+import com.project.businessservice.dto.UpdateHoursRequest;
+import com.project.businessservice.service.BusinessHoursService;
+import com.project.common.dto.ApiResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/businesses/{businessId}/hours")
+@RequiredArgsConstructor
+@Slf4j
+public class BusinessHoursController {
+
+    private final BusinessHoursService hoursService;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<BusinessHoursDto>> getHours(@PathVariable Long businessId) {
+        log.info("Getting hours for business: {}", businessId);
+
+        BusinessHoursDto hours = hoursService.getHours(businessId);
+        return ResponseEntity.ok(ApiResponse.success(hours));
+    }
+
+    @PutMapping
+    @PreAuthorize("hasRole('BUSINESS_OWNER') or hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<BusinessHoursDto>> updateHours(@PathVariable Long businessId,
+                                                                     @Valid @RequestBody UpdateHoursRequest request) {
+        log.info("Updating hours of business: {}", businessId);
+
+        BusinessHoursDto hours = hoursService.updateHours(businessId, request);
+        return ResponseEntity.ok(ApiResponse.success("Hours updated successfully", hours));
+    }
+}
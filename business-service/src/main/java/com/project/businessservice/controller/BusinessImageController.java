@@ -0,0 +1,75 @@
+package com.project.businessservice.controller;
+
+import com.project.businessservice.dto.BusinessImageDto;
+import com.project.businessservice.entity.BusinessImage;
+import com.project.businessservice.service.image.BusinessImageService;
+import com.project.common.dto.ApiResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Uploads take the raw image as the request body (not multipart), so it is streamed to storage
+ * as it arrives. Content is served at /{imageId}/content?size=thumb; the URLs in listings also
+ * carry the content hash as v and are served as immutable.
+ */
+@RestController
+@RequestMapping("/api/v1/businesses/{businessId}/images")
+@RequiredArgsConstructor
+@Slf4j
+public class BusinessImageController {
+
+    private final BusinessImageService imageService;
+
+    @PostMapping
+    @PreAuthorize("hasRole('BUSINESS_OWNER') or hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<BusinessImageDto>> uploadImage(
+            @PathVariable Long businessId,
+            @RequestParam(required = false) BusinessImage.ImageType imageType,
+            @RequestParam(required = false) String altText,
+            @RequestParam(required = false) Boolean primary,
+            @RequestParam(required = false) Integer displayOrder,
+            HttpServletRequest request) throws IOException {
+        log.info("Uploading image for business: {}", businessId);
+
+        BusinessImageDto image = imageService.upload(businessId, request.getContentLengthLong(),
+                request.getInputStream(), imageType, altText, primary, displayOrder);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("Image uploaded successfully", image));
+    }
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<BusinessImageDto>>> getImages(@PathVariable Long businessId) {
+        log.info("Getting images for business: {}", businessId);
+
+        List<BusinessImageDto> images = imageService.getImages(businessId);
+        return ResponseEntity.ok(ApiResponse.success(images));
+    }
+
+    @GetMapping("/{imageId}/content")
+    public void getImageContent(@PathVariable Long businessId, @PathVariable Long imageId,
+                                @RequestParam(required = false) String size,
+                                @RequestParam(name = "v", required = false) String version,
+                                HttpServletRequest request, HttpServletResponse response) throws IOException {
+        log.debug("Serving image {} of business {} at size {}", imageId, businessId, size);
+
+        imageService.serve(businessId, imageId, size, version, request, response);
+    }
+
+    @DeleteMapping("/{imageId}")
+    @PreAuthorize("hasRole('BUSINESS_OWNER') or hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Void>> deleteImage(@PathVariable Long businessId, @PathVariable Long imageId) {
+        log.info("Deleting image {} of business: {}", imageId, businessId);
+
+        imageService.deleteImage(businessId, imageId);
+        return ResponseEntity.ok(ApiResponse.success("Image deleted successfully", null));
+    }
+}
@@ -0,0 +1,91 @@
+package com.project.businessservice.controller;
+
+import com.project.businessservice.dto.BusinessImportDto;
+import com.project.businessservice.dto.BusinessImportErrorDto;
+import com.project.businessservice.entity.BusinessImport;
+import com.project.businessservice.service.ingest.BusinessImportService;
+import com.project.common.dto.ApiResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Bulk onboarding from partner feeds. The feed is the raw request body, CSV with a header row
+ * or one JSON object per line; without a format parameter it is taken from the Content-Type.
+ * The import runs in the background: poll it for progress and page through its errors.
+ */
+@RestController
+@RequestMapping("/api/v1/business-imports")
+@RequiredArgsConstructor
+@Slf4j
+public class BusinessImportController {
+
+    private final BusinessImportService importService;
+
+    @PostMapping
+    @PreAuthorize("hasRole('ADMIN') or hasRole('SYSTEM')")
+    public ResponseEntity<ApiResponse<BusinessImportDto>> startImport(
+            @RequestParam String source,
+            @RequestParam(required = false) BusinessImport.Format format,
+            HttpServletRequest request) throws IOException {
+        log.info("Starting business import from: {}", source);
+
+        BusinessImportDto job = importService.startImport(source,
+                format != null ? format : formatOf(request.getContentType()),
+                request.getContentLengthLong(), request.getInputStream());
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("Import accepted", job));
+    }
+
+    @GetMapping("/{importId}")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('SYSTEM')")
+    public ResponseEntity<ApiResponse<BusinessImportDto>> getImport(@PathVariable Long importId) {
+        log.info("Getting business import: {}", importId);
+
+        BusinessImportDto job = importService.getImport(importId);
+        return ResponseEntity.ok(ApiResponse.success(job));
+    }
+
+    @GetMapping("/{importId}/errors")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('SYSTEM')")
+    public ResponseEntity<ApiResponse<List<BusinessImportErrorDto>>> getErrors(
+            @PathVariable Long importId,
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(required = false) Integer limit) {
+        log.info("Getting errors of business import: {}", importId);
+
+        List<BusinessImportErrorDto> errors = importService.getErrors(importId, afterId, limit);
+        return ResponseEntity.ok(ApiResponse.success(errors));
+    }
+
+    @PostMapping("/{importId}/resume")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('SYSTEM')")
+    public ResponseEntity<ApiResponse<BusinessImportDto>> resumeImport(@PathVariable Long importId) {
+        log.info("Resuming business import: {}", importId);
+
+        BusinessImportDto job = importService.resumeImport(importId);
+        return ResponseEntity.ok(ApiResponse.success("Import resumed", job));
+    }
+
+    private static BusinessImport.Format formatOf(String contentType) {
+        if (contentType == null) {
+            return null;
+        }
+        String type = contentType.toLowerCase(Locale.ROOT);
+        if (type.startsWith("text/csv")) {
+            return BusinessImport.Format.CSV;
+        }
+        if (type.startsWith("application/x-ndjson") || type.startsWith("application/jsonl")) {
+            return BusinessImport.Format.NDJSON;
+        }
+        return null;
+    }
+}
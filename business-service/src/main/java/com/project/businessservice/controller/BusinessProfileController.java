@@ -0,0 +1,26 @@
+package com.project.businessservice.controller;
+
+import com.project.businessservice.dto.BusinessProfileDto;
+import com.project.businessservice.service.profile.BusinessProfileService;
+import com.project.common.dto.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/businesses/{businessId}/profile")
+@RequiredArgsConstructor
+@Slf4j
+public class BusinessProfileController {
+
+    private final BusinessProfileService profileService;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<BusinessProfileDto>> getProfile(@PathVariable Long businessId) {
+        log.info("Getting profile of business: {}", businessId);
+
+        BusinessProfileDto profile = profileService.getProfile(businessId);
+        return ResponseEntity.ok(ApiResponse.success(profile));
+    }
+}
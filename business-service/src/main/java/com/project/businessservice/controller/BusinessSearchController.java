@@ -0,0 +1,55 @@
+package com.project.businessservice.controller;
+
+import com.project.businessservice.dto.NearbyBusinessDto;
+import com.project.businessservice.dto.RankedBusinessDto;
+import com.project.businessservice.service.geo.GeoSearchService;
+import com.project.businessservice.service.ranking.RankingService;
+import com.project.common.dto.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Instant;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/businesses")
+@RequiredArgsConstructor
+@Slf4j
+public class BusinessSearchController {
+
+    private final GeoSearchService geoSearchService;
+    private final RankingService rankingService;
+
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<List<RankedBusinessDto>>> search(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) Double lat,
+            @RequestParam(required = false) Double lon,
+            @RequestParam(required = false) Double radiusKm,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String queryType,
+            @RequestParam(required = false) Integer limit) {
+        log.debug("Searching businesses for '{}' near {},{} as {}", q, lat, lon, queryType);
+
+        List<RankedBusinessDto> businesses = rankingService.search(q, lat, lon, radiusKm, type, queryType, limit);
+        return ResponseEntity.ok(ApiResponse.success(businesses));
+    }
+
+    @GetMapping("/nearby")
+    public ResponseEntity<ApiResponse<List<NearbyBusinessDto>>> findNearby(
+            @RequestParam double lat,
+            @RequestParam double lon,
+            @RequestParam(required = false) Double radiusKm,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String type,
+            @RequestParam(defaultValue = "false") boolean openNow,
+            @RequestParam(required = false) Instant openAt) {
+        log.debug("Finding businesses near {},{} within {} km", lat, lon, radiusKm);
+
+        Instant open = openAt != null ? openAt : (openNow ? Instant.now() : null);
+        List<NearbyBusinessDto> businesses = geoSearchService.findNearby(lat, lon, radiusKm, limit, type, open);
+        return ResponseEntity.ok(ApiResponse.success(businesses));
+    }
+}
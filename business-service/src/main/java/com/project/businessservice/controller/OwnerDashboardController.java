@@ -0,0 +1,41 @@
+package com.project.businessservice.controller;
+
+import com.project.businessservice.dto.OwnerDashboardDto;
+import com.project.businessservice.service.owner.OwnerDashboardService;
+import com.project.common.dto.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/owners")
+@RequiredArgsConstructor
+@Slf4j
+public class OwnerDashboardController {
+
+    private final OwnerDashboardService dashboardService;
+
+    @GetMapping("/me/dashboard")
+    public ResponseEntity<ApiResponse<OwnerDashboardDto>> getMyDashboard() {
+        log.info("Getting dashboard of current owner");
+
+        OwnerDashboardDto dashboard = dashboardService.getMyDashboard();
+        return ResponseEntity.ok(ApiResponse.success(dashboard));
+    }
+
+    @GetMapping("/me/business-ids")
+    public ResponseEntity<ApiResponse<List<Long>>> getMyBusinessIds() {
+        return ResponseEntity.ok(ApiResponse.success(dashboardService.getMyBusinessIds()));
+    }
+
+    @GetMapping("/{ownerId}/dashboard")
+    public ResponseEntity<ApiResponse<OwnerDashboardDto>> getOwnerDashboard(@PathVariable Long ownerId) {
+        log.info("Getting dashboard of owner: {}", ownerId);
+
+        OwnerDashboardDto dashboard = dashboardService.getOwnerDashboard(ownerId);
+        return ResponseEntity.ok(ApiResponse.success(dashboard));
+    }
+}
@@ -0,0 +1,89 @@
+package com.project.businessservice.controller;
+
+import com.project.businessservice.dto.CatalogDto;
+import com.project.businessservice.dto.ServiceOfferingDto;
+import com.project.businessservice.dto.ServiceOfferingRequest;
+import com.project.businessservice.service.ServiceOfferingService;
+import com.project.businessservice.service.catalog.CatalogSnapshot;
+import com.project.common.dto.ApiResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/businesses/{businessId}/services")
+@RequiredArgsConstructor
+@Slf4j
+public class ServiceOfferingController {
+
+    private final ServiceOfferingService offeringService;
+
+    /**
+     * Active services; clients and the gateway revalidate with If-None-Match and get a 304
+     * while the catalog version is unchanged
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<CatalogDto>> getCatalog(
+            @PathVariable Long businessId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        log.debug("Getting catalog for business: {}", businessId);
+
+        CatalogSnapshot snapshot = offeringService.getCatalog(businessId);
+        if (snapshot.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(snapshot.etag())
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(snapshot.etag())
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponse.success(snapshot.toDto()));
+    }
+
+    @GetMapping("/{serviceId}")
+    public ResponseEntity<ApiResponse<ServiceOfferingDto>> getService(@PathVariable Long businessId,
+                                                                      @PathVariable Long serviceId) {
+        log.debug("Getting service {} of business: {}", serviceId, businessId);
+
+        ServiceOfferingDto service = offeringService.getService(businessId, serviceId);
+        return ResponseEntity.ok(ApiResponse.success(service));
+    }
+
+    @PostMapping
+    @PreAuthorize("hasRole('BUSINESS_OWNER') or hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<ServiceOfferingDto>> addService(@PathVariable Long businessId,
+                                                                      @Valid @RequestBody ServiceOfferingRequest request) {
+        log.info("Adding service to business: {}", businessId);
+
+        ServiceOfferingDto service = offeringService.addService(businessId, request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("Service added successfully", service));
+    }
+
+    @PutMapping("/{serviceId}")
+    @PreAuthorize("hasRole('BUSINESS_OWNER') or hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<ServiceOfferingDto>> updateService(@PathVariable Long businessId,
+                                                                         @PathVariable Long serviceId,
+                                                                         @Valid @RequestBody ServiceOfferingRequest request) {
+        log.info("Updating service {} of business: {}", serviceId, businessId);
+
+        ServiceOfferingDto service = offeringService.updateService(businessId, serviceId, request);
+        return ResponseEntity.ok(ApiResponse.success("Service updated successfully", service));
+    }
+
+    @DeleteMapping("/{serviceId}")
+    @PreAuthorize("hasRole('BUSINESS_OWNER') or hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Void>> deleteService(@PathVariable Long businessId, @PathVariable Long serviceId) {
+        log.info("Deleting service {} of business: {}", serviceId, businessId);
+
+        offeringService.deleteService(businessId, serviceId);
+        return ResponseEntity.ok(ApiResponse.success("Service deleted successfully", null));
+    }
+}
@@ -0,0 +1,39 @@
+package com.project.businessservice.controller;
+
+import com.project.businessservice.dto.ServiceSearchResponse;
+import com.project.businessservice.service.facet.ServiceFacetIndex;
+import com.project.businessservice.service.facet.ServiceSearchService;
+import com.project.common.dto.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.math.BigDecimal;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/v1/services")
+@RequiredArgsConstructor
+@Slf4j
+public class ServiceSearchController {
+
+    private final ServiceSearchService searchService;
+
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<ServiceSearchResponse>> search(
+            @RequestParam(required = false) Set<String> category,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) Integer minDuration,
+            @RequestParam(required = false) Integer maxDuration,
+            @RequestParam(required = false) ServiceFacetIndex.Sort sort,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size) {
+        log.debug("Searching services in categories {} priced {}-{}", category, minPrice, maxPrice);
+
+        ServiceSearchResponse response = searchService.search(category, minPrice, maxPrice, minDuration, maxDuration,
+                sort, page, size);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+}
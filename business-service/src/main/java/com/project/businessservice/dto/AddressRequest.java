@@ -0,0 +1,48 @@
+package com.project.businessservice.dto;
+
+import com.project.businessservice.entity.BusinessAddress;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AddressRequest {
+
+    private BusinessAddress.AddressType addressType;
+
+    @NotBlank(message = "Street address is required")
+    @Size(max = 255, message = "Street address must not exceed 255 characters")
+    private String streetAddress;
+
+    @NotBlank(message = "City is required")
+    @Size(max = 100, message = "City must not exceed 100 characters")
+    private String city;
+
+    @Size(max = 100, message = "State or province must not exceed 100 characters")
+    private String stateProvince;
+
+    @Size(max = 20, message = "Postal code must not exceed 20 characters")
+    private String postalCode;
+
+    @NotBlank(message = "Country is required")
+    @Size(max = 100, message = "Country must not exceed 100 characters")
+    private String country;
+
+    @DecimalMin(value = "-90.0", message = "Latitude must be between -90 and 90")
+    @DecimalMax(value = "90.0", message = "Latitude must be between -90 and 90")
+    private BigDecimal latitude;
+
+    @DecimalMin(value = "-180.0", message = "Longitude must be between -180 and 180")
+    @DecimalMax(value = "180.0", message = "Longitude must be between -180 and 180")
+    private BigDecimal longitude;
+
+    private Boolean primary;
+}
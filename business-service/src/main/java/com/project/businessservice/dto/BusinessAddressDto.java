@@ -0,0 +1,25 @@
+package com.project.businessservice.dto;
+
+import com.project.businessservice.entity.BusinessAddress;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BusinessAddressDto {
+    private Long id;
+    private Long businessId;
+    private BusinessAddress.AddressType addressType;
+    private String streetAddress;
+    private String city;
+    private String stateProvince;
+    private String postalCode;
+    private String country;
+    private BigDecimal latitude;
+    private BigDecimal longitude;
+    private Boolean primary;
+}
@@ -0,0 +1,16 @@
+package com.project.businessservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BusinessHoursDto {
+    private Long businessId;
+    private String timezone;
+    private List<DayHoursDto> days;
+}
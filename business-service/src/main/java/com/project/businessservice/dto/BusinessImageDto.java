@@ -0,0 +1,25 @@
+package com.project.businessservice.dto;
+
+import com.project.businessservice.entity.BusinessImage;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BusinessImageDto {
+    private Long id;
+    private Long businessId;
+    private BusinessImage.ImageType imageType;
+    private String altText;
+    private Integer displayOrder;
+    private Boolean primary;
+    private Integer width;
+    private Integer height;
+    private BusinessImage.ProcessingStatus processingStatus;
+    // Size name (and "original") to a content-hashed URL that can be cached indefinitely
+    private Map<String, String> urls;
+}
@@ -0,0 +1,27 @@
+package com.project.businessservice.dto;
+
+import com.project.businessservice.entity.BusinessImport;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BusinessImportDto {
+    private Long id;
+    private String source;
+    private BusinessImport.Format format;
+    private Long fileSize;
+    private BusinessImport.Status status;
+    private Long rowsRead;
+    private Long rowsUpserted;
+    private Long rowsRejected;
+    private Long verifiedCount;
+    private Long rejectedCount;
+    private String errorMessage;
+    private LocalDateTime createdAt;
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,18 @@
+package com.project.businessservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BusinessImportErrorDto {
+    private Long id;
+    // INGEST for feed rows that were not loaded, VERIFY for businesses the rules rejected
+    private String stage;
+    private Long rowNumber;
+    private Long businessId;
+    private String externalRef;
+    private String message;
+}
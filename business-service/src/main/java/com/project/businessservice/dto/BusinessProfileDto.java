@@ -0,0 +1,35 @@
+package com.project.businessservice.dto;
+
+import com.project.businessservice.entity.Business;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Everything a business page shows, assembled in one response
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BusinessProfileDto {
+    private Long id;
+    private Long ownerId;
+    private String name;
+    private String description;
+    private String businessType;
+    private String email;
+    private String phone;
+    private String website;
+    private Business.BusinessStatus status;
+    private Business.VerificationStatus verificationStatus;
+    private List<BusinessAddressDto> addresses;
+    private BusinessHoursDto hours;
+    private Long catalogVersion;
+    private List<ServiceOfferingDto> services;
+    private List<BusinessImageDto> images;
+    private List<BusinessSocialMediaDto> socialMedia;
+}
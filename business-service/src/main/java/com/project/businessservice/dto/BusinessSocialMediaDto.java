@@ -0,0 +1,16 @@
+package com.project.businessservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BusinessSocialMediaDto {
+    private Long id;
+    private String platform;
+    private String profileUrl;
+    private Integer followerCount;
+    private Boolean verified;
+}
@@ -0,0 +1,19 @@
+package com.project.businessservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Active services of one business as of catalog version
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogDto {
+    private Long businessId;
+    private Long version;
+    private List<ServiceOfferingDto> services;
+}
@@ -0,0 +1,26 @@
+package com.project.businessservice.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DayHoursDto {
+
+    // 0 = Sunday ... 6 = Saturday
+    @NotNull(message = "Day of week is required")
+    @Min(value = 0, message = "Day of week must be between 0 (Sunday) and 6 (Saturday)")
+    @Max(value = 6, message = "Day of week must be between 0 (Sunday) and 6 (Saturday)")
+    private Integer dayOfWeek;
+
+    private LocalTime openingTime;
+    private LocalTime closingTime;
+    private Boolean closed;
+}
@@ -0,0 +1,15 @@
+package com.project.businessservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetBucketDto {
+    private Long from;
+    // Exclusive; null for the open-ended last band
+    private Long to;
+    private Integer count;
+}
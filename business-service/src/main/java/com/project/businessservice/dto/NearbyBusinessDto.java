@@ -0,0 +1,18 @@
+package com.project.businessservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NearbyBusinessDto {
+    private Long businessId;
+    private String name;
+    private String businessType;
+    private String city;
+    private double latitude;
+    private double longitude;
+    private double distanceKm;
+}
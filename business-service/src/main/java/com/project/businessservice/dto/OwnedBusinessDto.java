@@ -0,0 +1,17 @@
+package com.project.businessservice.dto;
+
+import com.project.businessservice.entity.Business;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OwnedBusinessDto {
+    private Long id;
+    private String name;
+    private String businessType;
+    private Business.BusinessStatus status;
+    private Business.VerificationStatus verificationStatus;
+}
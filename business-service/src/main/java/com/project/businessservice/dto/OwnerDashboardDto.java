@@ -0,0 +1,20 @@
+package com.project.businessservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * An owner and their businesses, served entirely from business-service's own tables
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OwnerDashboardDto {
+    private OwnerSummaryDto owner;
+    private List<OwnedBusinessDto> businesses;
+}
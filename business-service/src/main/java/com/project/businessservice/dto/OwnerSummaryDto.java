@@ -0,0 +1,22 @@
+package com.project.businessservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OwnerSummaryDto {
+    private Long ownerId;
+    private String fullName;
+    private String email;
+    private String businessName;
+    private Boolean verified;
+    private String businessStatus;
+    private Boolean active;
+    // When this copy was last refreshed from user-service
+    private Instant syncedAt;
+}
@@ -0,0 +1,22 @@
+package com.project.businessservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RankedBusinessDto {
+    private Long businessId;
+    private String name;
+    private String businessType;
+    private String city;
+    // null without a location in the query or on the business
+    private Double distanceKm;
+    private boolean openNow;
+    private boolean verified;
+    private double rating;
+    private int totalReviews;
+    private double score;
+}
@@ -0,0 +1,22 @@
+package com.project.businessservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ServiceOfferingDto {
+    private Long id;
+    private Long businessId;
+    private String name;
+    private String description;
+    private String category;
+    private BigDecimal price;
+    private String currency;
+    private Integer durationMinutes;
+    private Boolean active;
+}
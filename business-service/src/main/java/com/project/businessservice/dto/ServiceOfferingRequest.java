@@ -0,0 +1,37 @@
+package com.project.businessservice.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ServiceOfferingRequest {
+
+    @NotBlank(message = "Service name is required")
+    @Size(max = 255, message = "Service name must not exceed 255 characters")
+    private String name;
+
+    private String description;
+
+    @Size(max = 100, message = "Category must not exceed 100 characters")
+    private String category;
+
+    @DecimalMin(value = "0.0", message = "Price must not be negative")
+    private BigDecimal price;
+
+    @Size(min = 3, max = 3, message = "Currency must be a 3-letter code")
+    private String currency;
+
+    @Min(value = 1, message = "Duration must be at least one minute")
+    private Integer durationMinutes;
+
+    private Boolean active;
+}
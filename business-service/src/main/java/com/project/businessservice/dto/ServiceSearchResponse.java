@@ -0,0 +1,27 @@
+package com.project.businessservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One page of matching services with facet counts; each facet counts what the results would
+ * be with that facet's own filter changed and the others kept
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ServiceSearchResponse {
+    private Integer total;
+    private Integer page;
+    private Integer size;
+    private List<ServiceOfferingDto> services;
+    private Map<String, Integer> categories;
+    // Price bands in whole currency units
+    private List<FacetBucketDto> priceBands;
+    // Duration bands in minutes
+    private List<FacetBucketDto> durationBands;
+}
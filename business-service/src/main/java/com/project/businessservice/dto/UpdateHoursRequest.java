@@ -0,0 +1,27 @@
+package com.project.businessservice.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Replaces the whole week; days left out are closed
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UpdateHoursRequest {
+
+    // IANA zone such as Europe/Berlin; unchanged when omitted
+    @Size(max = 64, message = "Timezone must not exceed 64 characters")
+    private String timezone;
+
+    @NotNull(message = "Days are required")
+    @Size(max = 7, message = "At most one entry per day of the week")
+    private List<@Valid DayHoursDto> days;
+}
@@ -0,0 +1,76 @@
+package com.project.businessservice.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "businesses")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Business {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // user-service ID of the owning BusinessOwner
+    @Column(nullable = false)
+    private Long ownerId;
+
+    @Column(nullable = false)
+    private String name;
+
+    private String description;
+
+    @Column(nullable = false, length = 100)
+    private String businessType;
+
+    @Column(length = 100)
+    private String registrationNumber;
+
+    @Column(length = 100)
+    private String taxId;
+
+    @Column(nullable = false)
+    private String email;
+
+    @Column(length = 20)
+    private String phone;
+
+    private String website;
+
+    // IANA zone that business_hours are expressed in
+    @Column(nullable = false, length = 64)
+    @Builder.Default
+    private String timezone = "UTC";
+
+    @Enumerated(EnumType.STRING)
+    @Builder.Default
+    private BusinessStatus status = BusinessStatus.ACTIVE;
+
+    @Enumerated(EnumType.STRING)
+    @Builder.Default
+    private VerificationStatus verificationStatus = VerificationStatus.PENDING;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+
+    public enum BusinessStatus {
+        ACTIVE, INACTIVE, SUSPENDED
+    }
+
+    public enum VerificationStatus {
+        PENDING, VERIFIED, REJECTED
+    }
+}
@@ -0,0 +1,57 @@
+package com.project.businessservice.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Entity
+@Table(name = "business_addresses")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BusinessAddress {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long businessId;
+
+    @Enumerated(EnumType.STRING)
+    @Builder.Default
+    private AddressType addressType = AddressType.PRIMARY;
+
+    @Column(nullable = false)
+    private String streetAddress;
+
+    @Column(nullable = false, length = 100)
+    private String city;
+
+    @Column(length = 100)
+    private String stateProvince;
+
+    @Column(length = 20)
+    private String postalCode;
+
+    @Column(nullable = false, length = 100)
+    private String country;
+
+    @Column(precision = 10, scale = 8)
+    private BigDecimal latitude;
+
+    @Column(precision = 11, scale = 8)
+    private BigDecimal longitude;
+
+    @Column(name = "is_primary")
+    @Builder.Default
+    private Boolean primary = false;
+
+    public enum AddressType {
+        PRIMARY, BILLING, SHIPPING, BRANCH
+    }
+}
@@ -0,0 +1,37 @@
+package com.project.businessservice.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalTime;
+
+@Entity
+@Table(name = "business_hours")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BusinessHours {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long businessId;
+
+    // 0 = Sunday ... 6 = Saturday
+    @Column(nullable = false)
+    private Integer dayOfWeek;
+
+    private LocalTime openingTime;
+
+    // Before openingTime means the business closes after midnight
+    private LocalTime closingTime;
+
+    @Column(name = "is_closed")
+    @Builder.Default
+    private Boolean closed = false;
+}
@@ -0,0 +1,74 @@
+package com.project.businessservice.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "business_images")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BusinessImage {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long businessId;
+
+    @Column(nullable = false, length = 500)
+    private String imageUrl;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 50)
+    @Builder.Default
+    private ImageType imageType = ImageType.GALLERY;
+
+    private String altText;
+
+    @Builder.Default
+    private Integer displayOrder = 0;
+
+    @Column(name = "is_primary")
+    @Builder.Default
+    private Boolean primary = false;
+
+    // Null for images that only have an external imageUrl
+    private String storageKey;
+
+    @Column(length = 100)
+    private String contentType;
+
+    private Long fileSize;
+    private Integer width;
+    private Integer height;
+
+    // SHA-256 of the stored original
+    @Column(length = 64)
+    private String contentHash;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private ProcessingStatus processingStatus = ProcessingStatus.READY;
+
+    @CreationTimestamp
+    @Column(updatable = false)
+    private LocalDateTime uploadedAt;
+
+    public enum ImageType {
+        LOGO, COVER, GALLERY, CERTIFICATE
+    }
+
+    // PROCESSING while an instance holds the claim; see ImageProcessor
+    public enum ProcessingStatus {
+        PENDING, PROCESSING, READY, FAILED
+    }
+}
@@ -0,0 +1,53 @@
+package com.project.businessservice.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * A resized copy of an uploaded business image, one per configured size
+ */
+@Entity
+@Table(name = "business_image_variants")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BusinessImageVariant {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long imageId;
+
+    @Column(nullable = false, length = 20)
+    private String sizeName;
+
+    @Column(nullable = false)
+    private Integer width;
+
+    @Column(nullable = false)
+    private Integer height;
+
+    @Column(nullable = false, length = 100)
+    private String contentType;
+
+    @Column(nullable = false)
+    private Long fileSize;
+
+    @Column(nullable = false)
+    private String storageKey;
+
+    @Column(nullable = false, length = 64)
+    private String contentHash;
+
+    @CreationTimestamp
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+}
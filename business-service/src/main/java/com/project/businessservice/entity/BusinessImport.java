@@ -0,0 +1,95 @@
+package com.project.businessservice.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * A partner feed being loaded; progress and checkpoints are written by the import worker over JDBC
+ */
+@Entity
+@Table(name = "business_imports")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BusinessImport {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String source;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Format format;
+
+    @Column(nullable = false)
+    private String storageKey;
+
+    // Volume ID of the feed store holding the file; see ImportFeedStorage
+    @Column(length = 64)
+    private String storageVolume;
+
+    @Column(nullable = false)
+    private Long fileSize;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private Status status = Status.INGESTING;
+
+    // Feed rows consumed by committed chunks; the ingest checkpoint
+    @Builder.Default
+    private Long rowsRead = 0L;
+
+    @Builder.Default
+    private Long rowsUpserted = 0L;
+
+    @Builder.Default
+    private Long rowsRejected = 0L;
+
+    // Highest business ID the verification stage has committed
+    @Builder.Default
+    private Long verifyCheckpoint = 0L;
+
+    @Builder.Default
+    private Long verifiedCount = 0L;
+
+    @Builder.Default
+    private Long rejectedCount = 0L;
+
+    @Column(length = 500)
+    private String errorMessage;
+
+    private String createdBy;
+
+    @Column(length = 64)
+    private String lockedBy;
+
+    private LocalDateTime lockedUntil;
+
+    @CreationTimestamp
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime completedAt;
+
+    public enum Format {
+        CSV, NDJSON
+    }
+
+    public enum Status {
+        INGESTING, VERIFYING, COMPLETED, FAILED
+    }
+}
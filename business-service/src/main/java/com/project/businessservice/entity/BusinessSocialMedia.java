@@ -0,0 +1,35 @@
+package com.project.businessservice.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "business_social_media")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BusinessSocialMedia {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long businessId;
+
+    @Column(nullable = false, length = 50)
+    private String platform;
+
+    @Column(nullable = false)
+    private String profileUrl;
+
+    @Builder.Default
+    private Integer followerCount = 0;
+
+    @Column(name = "is_verified")
+    @Builder.Default
+    private Boolean verified = false;
+}
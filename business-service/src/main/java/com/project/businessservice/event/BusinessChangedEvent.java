@@ -0,0 +1,12 @@
+package com.project.businessservice.event;
+
+/**
+ * Published inside the writing transaction whenever a business or one of its child tables
+ * changes; in-memory read models listen after commit and reload what they hold for it.
+ */
+public record BusinessChangedEvent(Long businessId, Aspect aspect) {
+
+    public enum Aspect {
+        BUSINESS, ADDRESSES, HOURS, SERVICES, IMAGES, SOCIAL_MEDIA
+    }
+}
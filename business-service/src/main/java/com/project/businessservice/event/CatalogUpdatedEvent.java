@@ -0,0 +1,13 @@
+package com.project.businessservice.event;
+
+/**
+ * Published by the catalog snapshot store after it has replaced a business's snapshot, or
+ * with a null businessId after loading every catalog; indexes derived from the catalog
+ * listen to it rather than to {@link BusinessChangedEvent} so they never read ahead of the store.
+ */
+public record CatalogUpdatedEvent(Long businessId) {
+
+    public boolean isFullLoad() {
+        return businessId == null;
+    }
+}
@@ -0,0 +1,7 @@
+package com.project.businessservice.event;
+
+/**
+ * Published inside the upload transaction; variants are generated after it commits
+ */
+public record ImageUploadedEvent(Long imageId) {
+}
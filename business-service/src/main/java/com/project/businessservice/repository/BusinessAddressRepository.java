@@ -0,0 +1,23 @@
+package com.project.businessservice.repository;
+
+import com.project.businessservice.entity.BusinessAddress;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface BusinessAddressRepository extends JpaRepository<BusinessAddress, Long> {
+
+    List<BusinessAddress> findByBusinessIdOrderByIdAsc(Long businessId);
+
+    Optional<BusinessAddress> findByIdAndBusinessId(Long id, Long businessId);
+
+    @Modifying
+    @Query("UPDATE BusinessAddress a SET a.primary = false WHERE a.businessId = :businessId AND a.id <> :keepId AND a.primary = true")
+    int clearOtherPrimary(@Param("businessId") Long businessId, @Param("keepId") Long keepId);
+}
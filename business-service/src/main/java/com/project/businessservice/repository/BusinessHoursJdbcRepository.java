@@ -0,0 +1,55 @@
+package com.project.businessservice.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.time.LocalTime;
+
+/**
+ * Reads business_hours with each business's time zone, grouped by business, for the open-hours index
+ */
+@Repository
+@RequiredArgsConstructor
+public class BusinessHoursJdbcRepository {
+
+    private static final int FETCH_SIZE = 10_000;
+
+    private static final String HOURS_SQL =
+            "SELECT b.id, b.timezone, h.day_of_week, h.opening_time, h.closing_time " +
+            "FROM businesses b JOIN business_hours h ON h.business_id = b.id " +
+            "WHERE NOT COALESCE(h.is_closed, false) AND h.opening_time IS NOT NULL AND h.closing_time IS NOT NULL ";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public interface HoursRowHandler {
+        void accept(long businessId, String timezone, int dayOfWeek, LocalTime openingTime, LocalTime closingTime);
+    }
+
+    /**
+     * Streams the open days of every business, all rows of one business together; must run
+     * inside a transaction for the fetch size to apply
+     */
+    public void streamOpenDays(HoursRowHandler handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(HOURS_SQL + "ORDER BY b.id");
+            ps.setFetchSize(FETCH_SIZE);
+            return ps;
+        }, (RowCallbackHandler) rs -> emit(rs, handler));
+    }
+
+    public void findOpenDays(long businessId, HoursRowHandler handler) {
+        jdbcTemplate.query(HOURS_SQL + "AND b.id = ?", (RowCallbackHandler) rs -> emit(rs, handler), businessId);
+    }
+
+    private static void emit(ResultSet rs, HoursRowHandler handler) throws SQLException {
+        Time opening = rs.getTime(4);
+        Time closing = rs.getTime(5);
+        handler.accept(rs.getLong(1), rs.getString(2), rs.getInt(3), opening.toLocalTime(), closing.toLocalTime());
+    }
+}
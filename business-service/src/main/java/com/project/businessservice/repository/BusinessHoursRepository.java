@@ -0,0 +1,20 @@
+package com.project.businessservice.repository;
+
+import com.project.businessservice.entity.BusinessHours;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface BusinessHoursRepository extends JpaRepository<BusinessHours, Long> {
+
+    List<BusinessHours> findByBusinessIdOrderByDayOfWeekAsc(Long businessId);
+
+    @Modifying
+    @Query("DELETE FROM BusinessHours h WHERE h.businessId = :businessId")
+    int deleteByBusinessId(@Param("businessId") Long businessId);
+}
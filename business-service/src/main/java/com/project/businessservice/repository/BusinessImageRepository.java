@@ -0,0 +1,55 @@
+package com.project.businessservice.repository;
+
+import com.project.businessservice.entity.BusinessImage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface BusinessImageRepository extends JpaRepository<BusinessImage, Long> {
+
+    List<BusinessImage> findByBusinessIdOrderByDisplayOrderAscIdAsc(Long businessId);
+
+    Optional<BusinessImage> findByIdAndBusinessId(Long id, Long businessId);
+
+    /**
+     * Images pending for over a minute, and images whose processing claim has outlived the timeout
+     */
+    @Query(value = "SELECT id FROM business_images " +
+            "WHERE (processing_status = 'PENDING' AND uploaded_at < CURRENT_TIMESTAMP - INTERVAL '1 minute') " +
+            "OR (processing_status = 'PROCESSING' " +
+            "AND processing_claimed_at < CURRENT_TIMESTAMP - (:timeoutMs * INTERVAL '1 millisecond'))",
+            nativeQuery = true)
+    List<Long> findIdsToProcess(@Param("timeoutMs") long timeoutMs);
+
+    /**
+     * Moves a pending image, or one whose claim has outlived the timeout, to PROCESSING under
+     * the given claim; 0 when another instance holds it or it is no longer pending
+     */
+    @Modifying
+    @Query(value = "UPDATE business_images SET processing_status = 'PROCESSING', processing_claim = :claim, " +
+            "processing_claimed_at = CURRENT_TIMESTAMP " +
+            "WHERE id = :id AND (processing_status = 'PENDING' OR (processing_status = 'PROCESSING' " +
+            "AND processing_claimed_at < CURRENT_TIMESTAMP - (:timeoutMs * INTERVAL '1 millisecond')))",
+            nativeQuery = true)
+    int claimForProcessing(@Param("id") Long id, @Param("claim") UUID claim, @Param("timeoutMs") long timeoutMs);
+
+    /**
+     * Sets the outcome if the claim is still held; 0 when it was taken over in the meantime
+     */
+    @Modifying
+    @Query(value = "UPDATE business_images SET processing_status = :status, processing_claim = NULL " +
+            "WHERE id = :id AND processing_status = 'PROCESSING' AND processing_claim = :claim",
+            nativeQuery = true)
+    int finishProcessing(@Param("id") Long id, @Param("claim") UUID claim, @Param("status") String status);
+
+    @Modifying
+    @Query("UPDATE BusinessImage i SET i.primary = false WHERE i.businessId = :businessId AND i.id <> :keepId AND i.primary = true")
+    int clearOtherPrimary(@Param("businessId") Long businessId, @Param("keepId") Long keepId);
+}
@@ -0,0 +1,19 @@
+package com.project.businessservice.repository;
+
+import com.project.businessservice.entity.BusinessImageVariant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface BusinessImageVariantRepository extends JpaRepository<BusinessImageVariant, Long> {
+
+    List<BusinessImageVariant> findByImageId(Long imageId);
+
+    List<BusinessImageVariant> findByImageIdIn(Collection<Long> imageIds);
+
+    Optional<BusinessImageVariant> findByImageIdAndSizeName(Long imageId, String sizeName);
+}
@@ -0,0 +1,398 @@
+package com.project.businessservice.repository;
+
+import com.project.businessservice.dto.BusinessImportErrorDto;
+import com.project.businessservice.service.ingest.ImportedBusiness;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bulk writes and checkpoints behind partner feed imports
+ *
+ * A chunk of businesses goes to Postgres as one INSERT ... SELECT FROM unnest(arrays) upsert,
+ * one round trip and one statement however many rows it carries, instead of a statement per
+ * row. Progress updates are guarded by the lease holder, so a worker that lost its lease
+ * cannot commit a chunk another worker has taken over.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BusinessImportJdbcRepository {
+
+    private static final String UPSERT_BUSINESSES_SQL =
+            "INSERT INTO businesses (source, last_import_id, external_ref, owner_id, name, description, business_type, " +
+            "registration_number, tax_id, email, phone, website, timezone) " +
+            "SELECT ?::varchar, ?::bigint, t.* FROM unnest(?::varchar[], ?::bigint[], ?::varchar[], ?::text[], " +
+            "?::varchar[], ?::varchar[], ?::varchar[], ?::varchar[], ?::varchar[], ?::varchar[], ?::varchar[]) " +
+            "AS t(external_ref, owner_id, name, description, business_type, registration_number, tax_id, email, " +
+            "phone, website, timezone) " +
+            "ON CONFLICT (source, external_ref) WHERE external_ref IS NOT NULL DO UPDATE SET " +
+            "last_import_id = EXCLUDED.last_import_id, owner_id = EXCLUDED.owner_id, name = EXCLUDED.name, " +
+            "description = EXCLUDED.description, business_type = EXCLUDED.business_type, " +
+            "registration_number = EXCLUDED.registration_number, tax_id = EXCLUDED.tax_id, email = EXCLUDED.email, " +
+            "phone = EXCLUDED.phone, website = EXCLUDED.website, timezone = EXCLUDED.timezone, " +
+            // identity changes send a verified or rejected business back through verification
+            "verification_status = CASE WHEN (businesses.name, businesses.registration_number, businesses.tax_id, businesses.email) " +
+            "IS DISTINCT FROM (EXCLUDED.name, EXCLUDED.registration_number, EXCLUDED.tax_id, EXCLUDED.email) " +
+            "THEN 'PENDING' ELSE businesses.verification_status END, " +
+            "updated_at = CURRENT_TIMESTAMP " +
+            "RETURNING id, external_ref";
+
+    private static final String UPSERT_ADDRESSES_SQL =
+            "INSERT INTO business_addresses (business_id, address_type, street_address, city, state_province, " +
+            "postal_code, country, latitude, longitude, is_primary) " +
+            "SELECT t.business_id, 'PRIMARY', t.street_address, t.city, t.state_province, t.postal_code, t.country, " +
+            "t.latitude, t.longitude, true " +
+            "FROM unnest(?::bigint[], ?::varchar[], ?::varchar[], ?::varchar[], ?::varchar[], ?::varchar[], " +
+            "?::numeric[], ?::numeric[]) " +
+            "AS t(business_id, street_address, city, state_province, postal_code, country, latitude, longitude) " +
+            "ON CONFLICT (business_id) WHERE is_primary DO UPDATE SET " +
+            "street_address = EXCLUDED.street_address, city = EXCLUDED.city, state_province = EXCLUDED.state_province, " +
+            "postal_code = EXCLUDED.postal_code, country = EXCLUDED.country, latitude = EXCLUDED.latitude, " +
+            "longitude = EXCLUDED.longitude";
+
+    private static final String INSERT_ERROR_SQL =
+            "INSERT INTO business_import_errors (import_id, stage, row_number, business_id, external_ref, message) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String LEASE = "locked_until = CURRENT_TIMESTAMP + (? * INTERVAL '1 millisecond'), " +
+            "updated_at = CURRENT_TIMESTAMP ";
+
+    private static final String UNFINISHED = "status IN ('INGESTING', 'VERIFYING') ";
+
+    private static final String READABLE = "(storage_volume IS NULL OR storage_volume = ?) ";
+
+    private static final String CLAIMABLE_SQL =
+            "SELECT id FROM business_imports WHERE " + UNFINISHED + "AND " + READABLE +
+            "AND (locked_until IS NULL OR locked_until < CURRENT_TIMESTAMP) ORDER BY id LIMIT ?";
+
+    private static final String CLAIM_SQL =
+            "UPDATE business_imports SET locked_by = ?, " + LEASE +
+            "WHERE id = ? AND " + UNFINISHED + "AND " + READABLE +
+            "AND (locked_until IS NULL OR locked_until < CURRENT_TIMESTAMP)";
+
+    private static final String ADVANCE_INGEST_SQL =
+            "UPDATE business_imports SET rows_read = ?, rows_upserted = rows_upserted + ?, " +
+            "rows_rejected = rows_rejected + ?, " + LEASE +
+            "WHERE id = ? AND locked_by = ? AND status = 'INGESTING'";
+
+    private static final String START_VERIFICATION_SQL =
+            "UPDATE business_imports SET status = 'VERIFYING', " + LEASE +
+            "WHERE id = ? AND locked_by = ? AND status = 'INGESTING'";
+
+    private static final String PENDING_CANDIDATES_SQL =
+            "SELECT id, external_ref, name, registration_number, tax_id, email FROM businesses " +
+            "WHERE last_import_id = ? AND verification_status = 'PENDING' AND id > ? ORDER BY id LIMIT ?";
+
+    private static final String VERIFIED_REGISTRATIONS_SQL =
+            "SELECT registration_number, id FROM businesses " +
+            "WHERE registration_number = ANY(?) AND verification_status = 'VERIFIED'";
+
+    private static final String PRIMARY_ADDRESS_SQL =
+            "SELECT business_id FROM business_addresses WHERE is_primary AND business_id = ANY(?)";
+
+    private static final String APPLY_VERIFICATION_SQL =
+            "UPDATE businesses SET verification_status = ?, updated_at = CURRENT_TIMESTAMP " +
+            "WHERE id = ANY(?) AND last_import_id = ? AND verification_status = 'PENDING'";
+
+    private static final String ADVANCE_VERIFY_SQL =
+            "UPDATE business_imports SET verify_checkpoint = ?, verified_count = verified_count + ?, " +
+            "rejected_count = rejected_count + ?, " + LEASE +
+            "WHERE id = ? AND locked_by = ? AND status = 'VERIFYING'";
+
+    private static final String COMPLETE_SQL =
+            "UPDATE business_imports SET status = 'COMPLETED', completed_at = CURRENT_TIMESTAMP, locked_by = NULL, " +
+            "locked_until = NULL, updated_at = CURRENT_TIMESTAMP WHERE id = ? AND locked_by = ? AND status = 'VERIFYING'";
+
+    private static final String FAIL_SQL =
+            "UPDATE business_imports SET status = 'FAILED', error_message = ?, locked_by = NULL, locked_until = NULL, " +
+            "updated_at = CURRENT_TIMESTAMP WHERE id = ? AND locked_by = ? AND " + UNFINISHED;
+
+    // back to ingesting: rows already loaded are skipped by the checkpoint, and a finished ingest stage only re-reads the feed
+    private static final String RESUME_SQL =
+            "UPDATE business_imports SET status = 'INGESTING', error_message = NULL, updated_at = CURRENT_TIMESTAMP " +
+            "WHERE id = ? AND status = 'FAILED'";
+
+    private static final String ERRORS_SQL =
+            "SELECT id, stage, row_number, business_id, external_ref, message FROM business_import_errors " +
+            "WHERE import_id = ? AND id > ? ORDER BY id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts or updates the businesses by (source, external_ref) and returns their IDs by
+     * external_ref; the external refs must be distinct
+     */
+    public Map<String, Long> upsertBusinesses(long importId, String source, Collection<ImportedBusiness> businesses) {
+        Map<String, Long> ids = new HashMap<>(businesses.size() * 2);
+        if (businesses.isEmpty()) {
+            return ids;
+        }
+        int n = businesses.size();
+        String[] externalRefs = new String[n];
+        Long[] ownerIds = new Long[n];
+        String[] names = new String[n];
+        String[] descriptions = new String[n];
+        String[] businessTypes = new String[n];
+        String[] registrationNumbers = new String[n];
+        String[] taxIds = new String[n];
+        String[] emails = new String[n];
+        String[] phones = new String[n];
+        String[] websites = new String[n];
+        String[] timezones = new String[n];
+        int i = 0;
+        for (ImportedBusiness business : businesses) {
+            externalRefs[i] = business.externalRef();
+            ownerIds[i] = business.ownerId();
+            names[i] = business.name();
+            descriptions[i] = business.description();
+            businessTypes[i] = business.businessType();
+            registrationNumbers[i] = business.registrationNumber();
+            taxIds[i] = business.taxId();
+            emails[i] = business.email();
+            phones[i] = business.phone();
+            websites[i] = business.website();
+            timezones[i] = business.timezone();
+            i++;
+        }
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(UPSERT_BUSINESSES_SQL);
+            ps.setString(1, source);
+            ps.setLong(2, importId);
+            setArray(ps, 3, connection, "varchar", externalRefs);
+            setArray(ps, 4, connection, "bigint", ownerIds);
+            setArray(ps, 5, connection, "varchar", names);
+            setArray(ps, 6, connection, "text", descriptions);
+            setArray(ps, 7, connection, "varchar", businessTypes);
+            setArray(ps, 8, connection, "varchar", registrationNumbers);
+            setArray(ps, 9, connection, "varchar", taxIds);
+            setArray(ps, 10, connection, "varchar", emails);
+            setArray(ps, 11, connection, "varchar", phones);
+            setArray(ps, 12, connection, "varchar", websites);
+            setArray(ps, 13, connection, "varchar", timezones);
+            return ps;
+        }, (RowCallbackHandler) rs -> ids.put(rs.getString(2), rs.getLong(1)));
+        return ids;
+    }
+
+    /**
+     * Makes each given address its business's primary address, replacing the previous one in place
+     */
+    public void upsertPrimaryAddresses(Map<String, Long> businessIds, Collection<ImportedBusiness> businesses) {
+        List<ImportedBusiness> located = new ArrayList<>();
+        for (ImportedBusiness business : businesses) {
+            if (business.address() != null && businessIds.containsKey(business.externalRef())) {
+                located.add(business);
+            }
+        }
+        if (located.isEmpty()) {
+            return;
+        }
+        int n = located.size();
+        Long[] ids = new Long[n];
+        String[] streets = new String[n];
+        String[] cities = new String[n];
+        String[] states = new String[n];
+        String[] postalCodes = new String[n];
+        String[] countries = new String[n];
+        BigDecimal[] latitudes = new BigDecimal[n];
+        BigDecimal[] longitudes = new BigDecimal[n];
+        for (int i = 0; i < n; i++) {
+            ImportedBusiness business = located.get(i);
+            ImportedBusiness.Address address = business.address();
+            ids[i] = businessIds.get(business.externalRef());
+            streets[i] = address.streetAddress();
+            cities[i] = address.city();
+            states[i] = address.stateProvince();
+            postalCodes[i] = address.postalCode();
+            countries[i] = address.country();
+            latitudes[i] = address.latitude();
+            longitudes[i] = address.longitude();
+        }
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(UPSERT_ADDRESSES_SQL);
+            setArray(ps, 1, connection, "bigint", ids);
+            setArray(ps, 2, connection, "varchar", streets);
+            setArray(ps, 3, connection, "varchar", cities);
+            setArray(ps, 4, connection, "varchar", states);
+            setArray(ps, 5, connection, "varchar", postalCodes);
+            setArray(ps, 6, connection, "varchar", countries);
+            setArray(ps, 7, connection, "numeric", latitudes);
+            setArray(ps, 8, connection, "numeric", longitudes);
+            return ps;
+        });
+    }
+
+    public void insertErrors(long importId, List<ImportError> errors) {
+        if (errors.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_ERROR_SQL, errors, errors.size(), (ps, error) -> {
+            ps.setLong(1, importId);
+            ps.setString(2, error.stage());
+            setNullableLong(ps, 3, error.rowNumber());
+            setNullableLong(ps, 4, error.businessId());
+            ps.setString(5, error.externalRef());
+            ps.setString(6, error.message());
+        });
+    }
+
+    /**
+     * Unfinished imports nobody holds a live lease on, oldest first
+     */
+    public List<Long> findClaimable(String storageVolume, int limit) {
+        return jdbcTemplate.queryForList(CLAIMABLE_SQL, Long.class, storageVolume, limit);
+    }
+
+    /**
+     * Takes the lease on an unfinished import whose feed is on the given volume if nobody holds a live one
+     */
+    public boolean claim(long importId, String workerId, String storageVolume, long leaseMillis) {
+        return jdbcTemplate.update(CLAIM_SQL, workerId, leaseMillis, importId, storageVolume) == 1;
+    }
+
+    /**
+     * Moves the ingest checkpoint to rowsRead and renews the lease; false when the lease was lost
+     */
+    public boolean advanceIngest(long importId, String workerId, long rowsRead, int upserted, int rejected,
+                                 long leaseMillis) {
+        return jdbcTemplate.update(ADVANCE_INGEST_SQL, rowsRead, upserted, rejected, leaseMillis, importId, workerId) == 1;
+    }
+
+    public boolean startVerification(long importId, String workerId, long leaseMillis) {
+        return jdbcTemplate.update(START_VERIFICATION_SQL, leaseMillis, importId, workerId) == 1;
+    }
+
+    /**
+     * The next businesses of this import still awaiting verification, by ascending ID
+     */
+    public List<VerificationCandidate> findPendingCandidates(long importId, long afterId, int limit) {
+        return jdbcTemplate.query(PENDING_CANDIDATES_SQL, (rs, rowNum) -> new VerificationCandidate(
+                rs.getLong("id"),
+                rs.getString("external_ref"),
+                rs.getString("name"),
+                rs.getString("registration_number"),
+                rs.getString("tax_id"),
+                rs.getString("email")), importId, afterId, limit);
+    }
+
+    /**
+     * Verified businesses holding any of the registration numbers, by number
+     */
+    public Map<String, Long> findVerifiedRegistrations(Collection<String> registrationNumbers) {
+        Map<String, Long> holders = new HashMap<>();
+        if (registrationNumbers.isEmpty()) {
+            return holders;
+        }
+        String[] numbers = registrationNumbers.toArray(new String[0]);
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(VERIFIED_REGISTRATIONS_SQL);
+            setArray(ps, 1, connection, "varchar", numbers);
+            return ps;
+        }, (RowCallbackHandler) rs -> holders.putIfAbsent(rs.getString(1), rs.getLong(2)));
+        return holders;
+    }
+
+    public Set<Long> findWithPrimaryAddress(Collection<Long> businessIds) {
+        Set<Long> located = new HashSet<>();
+        if (businessIds.isEmpty()) {
+            return located;
+        }
+        Long[] ids = businessIds.toArray(new Long[0]);
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(PRIMARY_ADDRESS_SQL);
+            setArray(ps, 1, connection, "bigint", ids);
+            return ps;
+        }, (RowCallbackHandler) rs -> located.add(rs.getLong(1)));
+        return located;
+    }
+
+    /**
+     * Sets the outcome on businesses that are still pending from this import; a business
+     * re-imported or decided by hand in the meantime is left alone
+     */
+    public void applyVerification(long importId, Collection<Long> businessIds, String verificationStatus) {
+        if (businessIds.isEmpty()) {
+            return;
+        }
+        Long[] ids = businessIds.toArray(new Long[0]);
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(APPLY_VERIFICATION_SQL);
+            ps.setString(1, verificationStatus);
+            setArray(ps, 2, connection, "bigint", ids);
+            ps.setLong(3, importId);
+            return ps;
+        });
+    }
+
+    public boolean advanceVerify(long importId, String workerId, long checkpoint, int verified, int rejected,
+                                 long leaseMillis) {
+        return jdbcTemplate.update(ADVANCE_VERIFY_SQL, checkpoint, verified, rejected, leaseMillis, importId, workerId) == 1;
+    }
+
+    public boolean complete(long importId, String workerId) {
+        return jdbcTemplate.update(COMPLETE_SQL, importId, workerId) == 1;
+    }
+
+    public void fail(long importId, String workerId, String message) {
+        jdbcTemplate.update(FAIL_SQL, message, importId, workerId);
+    }
+
+    public boolean resume(long importId) {
+        return jdbcTemplate.update(RESUME_SQL, importId) == 1;
+    }
+
+    public List<BusinessImportErrorDto> findErrors(long importId, long afterId, int limit) {
+        return jdbcTemplate.query(ERRORS_SQL, (rs, rowNum) -> new BusinessImportErrorDto(
+                rs.getLong("id"),
+                rs.getString("stage"),
+                rs.getObject("row_number", Long.class),
+                rs.getObject("business_id", Long.class),
+                rs.getString("external_ref"),
+                rs.getString("message")), importId, afterId, limit);
+    }
+
+    private static void setArray(PreparedStatement ps, int index, Connection connection, String type, Object[] values)
+            throws SQLException {
+        ps.setArray(index, connection.createArrayOf(type, values));
+    }
+
+    private static void setNullableLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value != null) {
+            ps.setLong(index, value);
+        } else {
+            ps.setNull(index, Types.BIGINT);
+        }
+    }
+
+    public record VerificationCandidate(long id, String externalRef, String name, String registrationNumber,
+                                        String taxId, String email) {
+    }
+
+    /**
+     * A feed row that was not loaded (INGEST) or a business the verification rules rejected (VERIFY)
+     */
+    public record ImportError(String stage, Long rowNumber, Long businessId, String externalRef, String message) {
+
+        public static ImportError ingest(long rowNumber, String externalRef, String message) {
+            return new ImportError("INGEST", rowNumber, null, externalRef, message);
+        }
+
+        public static ImportError verify(long businessId, String externalRef, String message) {
+            return new ImportError("VERIFY", null, businessId, externalRef, message);
+        }
+    }
+}
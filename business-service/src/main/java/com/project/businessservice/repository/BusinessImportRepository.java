@@ -0,0 +1,9 @@
+package com.project.businessservice.repository;
+
+import com.project.businessservice.entity.BusinessImport;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BusinessImportRepository extends JpaRepository<BusinessImport, Long> {
+}
@@ -0,0 +1,27 @@
+package com.project.businessservice.repository;
+
+import com.project.businessservice.entity.Business;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface BusinessRepository extends JpaRepository<Business, Long> {
+
+    List<Business> findByOwnerIdOrderByIdAsc(Long ownerId);
+
+    @Query("SELECT b.id FROM Business b WHERE b.ownerId = :ownerId ORDER BY b.id")
+    List<Long> findIdsByOwnerId(@Param("ownerId") Long ownerId);
+
+    /**
+     * Marks the business's service catalog as changed; call in the transaction that changes it
+     */
+    @Modifying
+    @Query(value = "UPDATE businesses SET catalog_version = catalog_version + 1, catalog_updated_at = now() " +
+            "WHERE id = :businessId", nativeQuery = true)
+    int bumpCatalogVersion(@Param("businessId") Long businessId);
+}
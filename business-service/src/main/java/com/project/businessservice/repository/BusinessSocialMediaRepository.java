@@ -0,0 +1,13 @@
+package com.project.businessservice.repository;
+
+import com.project.businessservice.entity.BusinessSocialMedia;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface BusinessSocialMediaRepository extends JpaRepository<BusinessSocialMedia, Long> {
+
+    List<BusinessSocialMedia> findByBusinessIdOrderByPlatformAsc(Long businessId);
+}
@@ -0,0 +1,89 @@
+package com.project.businessservice.repository;
+
+import com.project.businessservice.dto.ServiceOfferingDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Reads behind the catalog snapshots: every business with its catalog version and active
+ * services, and the businesses whose catalog changed since a point in time
+ */
+@Repository
+@RequiredArgsConstructor
+public class CatalogJdbcRepository {
+
+    private static final int FETCH_SIZE = 10_000;
+
+    private static final String CATALOG_SQL =
+            "SELECT b.id AS business_id, b.catalog_version, s.id, s.name, s.description, s.category, s.price, " +
+            "s.currency, s.duration_minutes " +
+            "FROM businesses b LEFT JOIN business_services s ON s.business_id = b.id AND s.is_active ";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public interface CatalogRowHandler {
+        // service is null for a business without active services
+        void accept(long businessId, long version, ServiceOfferingDto service);
+    }
+
+    /**
+     * Streams every business's catalog, rows of one business together; must run inside a
+     * transaction for the fetch size to apply
+     */
+    public void streamCatalogs(CatalogRowHandler handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(CATALOG_SQL + "ORDER BY b.id, s.id");
+            ps.setFetchSize(FETCH_SIZE);
+            return ps;
+        }, (RowCallbackHandler) rs -> emit(rs, handler));
+    }
+
+    public void findCatalog(long businessId, CatalogRowHandler handler) {
+        jdbcTemplate.query(CATALOG_SQL + "WHERE b.id = ? ORDER BY s.id",
+                (RowCallbackHandler) rs -> emit(rs, handler), businessId);
+    }
+
+    public List<CatalogVersion> findChangedSince(Instant since) {
+        return jdbcTemplate.query(
+                "SELECT id, catalog_version FROM businesses WHERE catalog_updated_at >= ?",
+                (rs, rowNum) -> new CatalogVersion(rs.getLong(1), rs.getLong(2)),
+                Timestamp.from(since));
+    }
+
+    // The database clock, so polling windows do not depend on this host's clock
+    public Instant currentTime() {
+        return jdbcTemplate.queryForObject("SELECT now()", Timestamp.class).toInstant();
+    }
+
+    private static void emit(ResultSet rs, CatalogRowHandler handler) throws SQLException {
+        long businessId = rs.getLong("business_id");
+        long version = rs.getLong("catalog_version");
+        long serviceId = rs.getLong("id");
+        if (rs.wasNull()) {
+            handler.accept(businessId, version, null);
+            return;
+        }
+        handler.accept(businessId, version, new ServiceOfferingDto(
+                serviceId,
+                businessId,
+                rs.getString("name"),
+                rs.getString("description"),
+                rs.getString("category"),
+                rs.getBigDecimal("price"),
+                rs.getString("currency"),
+                (Integer) rs.getObject("duration_minutes"),
+                true));
+    }
+
+    public record CatalogVersion(long businessId, long version) {
+    }
+}
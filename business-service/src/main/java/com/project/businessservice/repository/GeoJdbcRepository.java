@@ -0,0 +1,125 @@
+package com.project.businessservice.repository;
+
+import com.project.businessservice.dto.NearbyBusinessDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Reads behind geo search: the located, active businesses that make up the in-memory grid,
+ * and the earthdistance queries used when the grid is not available
+ */
+@Repository
+@RequiredArgsConstructor
+public class GeoJdbcRepository {
+
+    private static final int FETCH_SIZE = 10_000;
+
+    private static final String LOCATED_SQL =
+            "SELECT a.business_id, a.latitude, a.longitude, b.business_type " +
+            "FROM business_addresses a JOIN businesses b ON b.id = a.business_id " +
+            "WHERE a.is_primary AND a.latitude IS NOT NULL AND a.longitude IS NOT NULL AND b.status = 'ACTIVE'";
+
+    private static final String NEARBY_SQL =
+            "SELECT b.id, b.name, b.business_type, a.city, a.latitude, a.longitude, " +
+            "earth_distance(ll_to_earth(?, ?), ll_to_earth(a.latitude::float8, a.longitude::float8)) / 1000.0 AS distance_km " +
+            "FROM business_addresses a JOIN businesses b ON b.id = a.business_id " +
+            "WHERE a.is_primary AND a.latitude IS NOT NULL AND a.longitude IS NOT NULL AND b.status = 'ACTIVE' " +
+            "AND earth_box(ll_to_earth(?, ?), ?) @> ll_to_earth(a.latitude::float8, a.longitude::float8) " +
+            "AND earth_distance(ll_to_earth(?, ?), ll_to_earth(a.latitude::float8, a.longitude::float8)) <= ? ";
+
+    private static final String CARDS_SQL =
+            "SELECT b.id, b.name, b.business_type, a.city, a.latitude, a.longitude " +
+            "FROM businesses b LEFT JOIN business_addresses a ON a.business_id = b.id AND a.is_primary " +
+            "WHERE b.id = ANY(?)";
+
+    private static final RowMapper<NearbyBusinessDto> NEARBY_MAPPER = (rs, rowNum) -> new NearbyBusinessDto(
+            rs.getLong("id"),
+            rs.getString("name"),
+            rs.getString("business_type"),
+            rs.getString("city"),
+            rs.getDouble("latitude"),
+            rs.getDouble("longitude"),
+            rs.getDouble("distance_km"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public interface LocatedBusinessHandler {
+        void accept(long businessId, double latitude, double longitude, String businessType);
+    }
+
+    /**
+     * Streams every located active business; must run inside a transaction for the fetch size to apply
+     */
+    public void streamLocated(LocatedBusinessHandler handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(LOCATED_SQL);
+            ps.setFetchSize(FETCH_SIZE);
+            return ps;
+        }, (RowCallbackHandler) rs -> handler.accept(rs.getLong(1), rs.getDouble(2), rs.getDouble(3), rs.getString(4)));
+    }
+
+    public Optional<LocatedBusiness> findLocated(long businessId) {
+        List<LocatedBusiness> rows = jdbcTemplate.query(LOCATED_SQL + " AND a.business_id = ?",
+                (rs, rowNum) -> new LocatedBusiness(rs.getLong(1), rs.getDouble(2), rs.getDouble(3), rs.getString(4)),
+                businessId);
+        return rows.stream().findFirst();
+    }
+
+    public List<NearbyBusinessDto> findNearby(double latitude, double longitude, double radiusKm, String businessType,
+                                              int limit) {
+        double radiusMeters = radiusKm * 1000.0;
+        String sql = NEARBY_SQL + (businessType != null ? "AND b.business_type = ? " : "") + "ORDER BY distance_km LIMIT ?";
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql);
+            int i = 1;
+            ps.setDouble(i++, latitude);
+            ps.setDouble(i++, longitude);
+            ps.setDouble(i++, latitude);
+            ps.setDouble(i++, longitude);
+            ps.setDouble(i++, radiusMeters);
+            ps.setDouble(i++, latitude);
+            ps.setDouble(i++, longitude);
+            ps.setDouble(i++, radiusMeters);
+            if (businessType != null) {
+                ps.setString(i++, businessType);
+            }
+            ps.setInt(i, limit);
+            return ps;
+        }, NEARBY_MAPPER);
+    }
+
+    /**
+     * Name, type and primary location for the given businesses in one round trip
+     */
+    public Map<Long, BusinessCard> findCards(List<Long> businessIds) {
+        Map<Long, BusinessCard> cards = new HashMap<>();
+        if (businessIds.isEmpty()) {
+            return cards;
+        }
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(CARDS_SQL);
+            Array ids = connection.createArrayOf("bigint", businessIds.toArray());
+            ps.setArray(1, ids);
+            return ps;
+        }, (RowCallbackHandler) rs -> cards.put(rs.getLong("id"),
+                new BusinessCard(rs.getString("name"), rs.getString("business_type"), rs.getString("city"),
+                        rs.getDouble("latitude"), rs.getDouble("longitude"))));
+        return cards;
+    }
+
+    public record LocatedBusiness(long businessId, double latitude, double longitude, String businessType) {
+    }
+
+    public record BusinessCard(String name, String businessType, String city, double latitude, double longitude) {
+    }
+}
@@ -0,0 +1,85 @@
+package com.project.businessservice.repository;
+
+import com.project.businessservice.dto.OwnerSummaryDto;
+import com.project.common.event.BusinessOwnerChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * owner_summaries, the local copy of business owners fed by user-service
+ *
+ * Every write is guarded by version, so a late event or a resync page read before a change
+ * never overwrites a newer summary.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OwnerSummaryJdbcRepository {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO owner_summaries (owner_id, keycloak_id, full_name, email, business_name, verified, " +
+            "business_status, active, version, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, now()) " +
+            "ON CONFLICT (owner_id) DO UPDATE SET keycloak_id = EXCLUDED.keycloak_id, full_name = EXCLUDED.full_name, " +
+            "email = EXCLUDED.email, business_name = EXCLUDED.business_name, verified = EXCLUDED.verified, " +
+            "business_status = EXCLUDED.business_status, active = EXCLUDED.active, version = EXCLUDED.version, " +
+            "updated_at = now() WHERE owner_summaries.version < EXCLUDED.version";
+
+    private static final String FIND_SQL =
+            "SELECT owner_id, full_name, email, business_name, verified, business_status, active, updated_at " +
+            "FROM owner_summaries WHERE owner_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Applies the summaries in one batch; returns how many were newer than what was held
+     */
+    public int upsertAll(List<BusinessOwnerChangedEvent> summaries) {
+        if (summaries.isEmpty()) {
+            return 0;
+        }
+        int[][] counts = jdbcTemplate.batchUpdate(UPSERT_SQL, summaries, summaries.size(), (ps, summary) -> {
+            ps.setLong(1, summary.ownerId());
+            ps.setString(2, summary.keycloakId());
+            ps.setString(3, summary.fullName());
+            ps.setString(4, summary.email());
+            ps.setString(5, summary.businessName());
+            ps.setBoolean(6, summary.verified());
+            ps.setString(7, summary.businessStatus());
+            ps.setBoolean(8, summary.active());
+            ps.setLong(9, summary.version());
+        });
+        int applied = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                applied += Math.max(count, 0);
+            }
+        }
+        return applied;
+    }
+
+    public Optional<OwnerSummaryDto> findByOwnerId(long ownerId) {
+        List<OwnerSummaryDto> rows = jdbcTemplate.query(FIND_SQL, (rs, rowNum) -> new OwnerSummaryDto(
+                rs.getLong("owner_id"),
+                rs.getString("full_name"),
+                rs.getString("email"),
+                rs.getString("business_name"),
+                rs.getBoolean("verified"),
+                rs.getString("business_status"),
+                rs.getBoolean("active"),
+                rs.getTimestamp("updated_at").toInstant()), ownerId);
+        return rows.stream().findFirst();
+    }
+
+    public Optional<Long> findOwnerIdByKeycloakId(String keycloakId) {
+        List<Long> ids = jdbcTemplate.queryForList("SELECT owner_id FROM owner_summaries WHERE keycloak_id = ?",
+                Long.class, keycloakId);
+        return ids.stream().findFirst();
+    }
+
+    public boolean isEmpty() {
+        return jdbcTemplate.queryForList("SELECT 1 FROM owner_summaries LIMIT 1", Integer.class).isEmpty();
+    }
+}
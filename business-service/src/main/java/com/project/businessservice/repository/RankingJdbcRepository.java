@@ -0,0 +1,51 @@
+package com.project.businessservice.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+
+/**
+ * Reads the ranking signals of every active business for the in-memory ranking index
+ */
+@Repository
+@RequiredArgsConstructor
+public class RankingJdbcRepository {
+
+    private static final int FETCH_SIZE = 10_000;
+
+    private static final String RANKABLE_SQL =
+            "SELECT b.id, b.name, b.description, b.business_type, b.verification_status = 'VERIFIED' AS verified, " +
+            "b.rating, b.total_reviews, a.latitude, a.longitude " +
+            "FROM businesses b LEFT JOIN business_addresses a ON a.business_id = b.id AND a.is_primary " +
+            "WHERE b.status = 'ACTIVE' ORDER BY b.id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public interface RankableBusinessHandler {
+        void accept(long businessId, String name, String description, String businessType, boolean verified,
+                    double rating, int totalReviews, Double latitude, Double longitude);
+    }
+
+    /**
+     * Streams every active business in ID order; must run inside a transaction for the fetch size to apply
+     */
+    public void streamRankable(RankableBusinessHandler handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(RANKABLE_SQL);
+            ps.setFetchSize(FETCH_SIZE);
+            return ps;
+        }, (RowCallbackHandler) rs -> handler.accept(
+                rs.getLong("id"),
+                rs.getString("name"),
+                rs.getString("description"),
+                rs.getString("business_type"),
+                rs.getBoolean("verified"),
+                rs.getDouble("rating"),
+                rs.getInt("total_reviews"),
+                rs.getObject("latitude", Double.class),
+                rs.getObject("longitude", Double.class)));
+    }
+}
@@ -0,0 +1,13 @@
+package com.project.businessservice.repository;
+
+import com.project.businessservice.entity.ServiceOffering;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ServiceOfferingRepository extends JpaRepository<ServiceOffering, Long> {
+
+    Optional<ServiceOffering> findByIdAndBusinessId(Long id, Long businessId);
+}
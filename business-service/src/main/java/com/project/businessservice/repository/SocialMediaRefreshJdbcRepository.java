@@ -0,0 +1,138 @@
+package com.project.businessservice.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Shard leases and batched write-back behind the follower count refresh
+ */
+@Repository
+@RequiredArgsConstructor
+public class SocialMediaRefreshJdbcRepository {
+
+    // 3 parameters per row, well under the 65535 bind parameters Postgres allows per statement
+    public static final int MAX_BATCH = 5000;
+
+    private static final String LEASE = "locked_until = CURRENT_TIMESTAMP + (? * INTERVAL '1 millisecond') ";
+
+    private static final String ENSURE_SHARDS_SQL =
+            "INSERT INTO social_media_refresh_shards (shard) SELECT generate_series(0, ? - 1) ON CONFLICT (shard) DO NOTHING";
+
+    // least recently completed due shard that nobody holds a live lease on
+    private static final String CLAIM_SQL =
+            "UPDATE social_media_refresh_shards SET locked_by = ?, " + LEASE +
+            "WHERE shard = (SELECT shard FROM social_media_refresh_shards WHERE shard < ? " +
+            "AND (locked_until IS NULL OR locked_until < CURRENT_TIMESTAMP) " +
+            "AND (last_completed_at IS NULL OR last_completed_at < CURRENT_TIMESTAMP - (? * INTERVAL '1 millisecond')) " +
+            "ORDER BY last_completed_at NULLS FIRST, shard LIMIT 1 FOR UPDATE SKIP LOCKED) RETURNING shard";
+
+    private static final String RENEW_SQL =
+            "UPDATE social_media_refresh_shards SET " + LEASE + "WHERE shard = ? AND locked_by = ?";
+
+    private static final String COMPLETE_SQL =
+            "UPDATE social_media_refresh_shards SET last_completed_at = CURRENT_TIMESTAMP, locked_by = NULL, " +
+            "locked_until = NULL WHERE shard = ? AND locked_by = ?";
+
+    private static final String RELEASE_SQL =
+            "UPDATE social_media_refresh_shards SET locked_by = NULL, locked_until = NULL WHERE shard = ? AND locked_by = ?";
+
+    private static final String SHARD_PAGE_SQL =
+            "SELECT id, business_id, platform, profile_url FROM business_social_media " +
+            "WHERE mod(business_id, ?) = ? AND id > ? ORDER BY id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void ensureShards(int shardCount) {
+        jdbcTemplate.update(ENSURE_SHARDS_SQL, shardCount);
+    }
+
+    /**
+     * Takes the lease on a shard not refreshed within intervalMillis, if there is one
+     */
+    public Optional<Integer> claimShard(String workerId, int shardCount, long leaseMillis, long intervalMillis) {
+        List<Integer> shards = jdbcTemplate.queryForList(CLAIM_SQL, Integer.class, workerId, leaseMillis,
+                shardCount, intervalMillis);
+        return shards.stream().findFirst();
+    }
+
+    /**
+     * False when the lease ran out and another instance took the shard
+     */
+    public boolean renew(int shard, String workerId, long leaseMillis) {
+        return jdbcTemplate.update(RENEW_SQL, leaseMillis, shard, workerId) == 1;
+    }
+
+    public void complete(int shard, String workerId) {
+        jdbcTemplate.update(COMPLETE_SQL, shard, workerId);
+    }
+
+    public void release(int shard, String workerId) {
+        jdbcTemplate.update(RELEASE_SQL, shard, workerId);
+    }
+
+    /**
+     * Next profiles of the shard after afterId, by ascending ID
+     */
+    public List<SocialProfile> findShardPage(int shardCount, int shard, long afterId, int limit) {
+        return jdbcTemplate.query(SHARD_PAGE_SQL, (rs, rowNum) -> new SocialProfile(
+                rs.getLong("id"),
+                rs.getLong("business_id"),
+                rs.getString("platform"),
+                rs.getString("profile_url")), shardCount, shard, afterId, limit);
+    }
+
+    /**
+     * Writes the fetched counts in one UPDATE ... FROM (VALUES ...) per MAX_BATCH rows and
+     * returns the businesses where a value actually changed
+     */
+    public Set<Long> applyCounts(List<FollowerUpdate> updates) {
+        Set<Long> changed = new HashSet<>();
+        for (int from = 0; from < updates.size(); from += MAX_BATCH) {
+            List<FollowerUpdate> batch = updates.subList(from, Math.min(updates.size(), from + MAX_BATCH));
+            jdbcTemplate.query(connection -> {
+                PreparedStatement ps = connection.prepareStatement(applySql(batch.size()));
+                int i = 1;
+                for (FollowerUpdate update : batch) {
+                    ps.setLong(i++, update.id());
+                    ps.setInt(i++, update.followerCount());
+                    ps.setBoolean(i++, update.verified());
+                }
+                return ps;
+            }, (RowCallbackHandler) rs -> {
+                if (rs.getBoolean("changed")) {
+                    changed.add(rs.getLong("business_id"));
+                }
+            });
+        }
+        return changed;
+    }
+
+    // the self-join reads the rows as they were before this statement, which is what tells changed rows apart
+    private static String applySql(int rows) {
+        StringBuilder sql = new StringBuilder(160 + rows * 36);
+        sql.append("UPDATE business_social_media s SET follower_count = v.follower_count, is_verified = v.verified, ")
+                .append("refreshed_at = CURRENT_TIMESTAMP FROM (VALUES ");
+        for (int n = 0; n < rows; n++) {
+            sql.append(n == 0 ? "" : ", ").append("(?::bigint, ?::integer, ?::boolean)");
+        }
+        sql.append(") AS v(id, follower_count, verified) JOIN business_social_media old ON old.id = v.id ")
+                .append("WHERE s.id = v.id RETURNING s.business_id, ")
+                .append("(old.follower_count IS DISTINCT FROM v.follower_count ")
+                .append("OR old.is_verified IS DISTINCT FROM v.verified) AS changed");
+        return sql.toString();
+    }
+
+    public record SocialProfile(long id, long businessId, String platform, String profileUrl) {
+    }
+
+    public record FollowerUpdate(long id, int followerCount, boolean verified) {
+    }
+}
@@ -0,0 +1,35 @@
+package com.project.businessservice.service;
+
+import com.project.businessservice.entity.Business;
+import com.project.businessservice.repository.BusinessRepository;
+import com.project.businessservice.util.JwtUtil;
+import com.project.common.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Ownership checks shared by every endpoint that edits a business or its child rows
+ */
+@Service
+@RequiredArgsConstructor
+public class BusinessAccessService {
+
+    private final BusinessRepository businessRepository;
+    private final CurrentUserService currentUserService;
+
+    public Business getBusiness(Long businessId) {
+        return businessRepository.findById(businessId)
+                .orElseThrow(() -> new BusinessException("BUSINESS_NOT_FOUND", "Business not found"));
+    }
+
+    /**
+     * Loads the business if the caller owns it or is an admin
+     */
+    public Business requireManageable(Long businessId) {
+        Business business = getBusiness(businessId);
+        if (!JwtUtil.isAdmin() && !business.getOwnerId().equals(currentUserService.getCurrentUserId())) {
+            throw new BusinessException("ACCESS_DENIED", "You can only manage your own businesses");
+        }
+        return business;
+    }
+}
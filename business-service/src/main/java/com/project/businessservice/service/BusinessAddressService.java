@@ -0,0 +1,115 @@
+package com.project.businessservice.service;
+
+import com.project.businessservice.dto.AddressRequest;
+import com.project.businessservice.dto.BusinessAddressDto;
+import com.project.businessservice.entity.BusinessAddress;
+import com.project.businessservice.event.BusinessChangedEvent;
+import com.project.businessservice.repository.BusinessAddressRepository;
+import com.project.common.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * A business has at most one primary address; it is the one geo search places the business at.
+ * Marking an address primary demotes the previous one.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BusinessAddressService {
+
+    private final BusinessAddressRepository addressRepository;
+    private final BusinessAccessService accessService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional(readOnly = true)
+    public List<BusinessAddressDto> getAddresses(Long businessId) {
+        accessService.getBusiness(businessId);
+        return listAddresses(businessId);
+    }
+
+    /**
+     * Addresses of a business already known to exist
+     */
+    @Transactional(readOnly = true)
+    public List<BusinessAddressDto> listAddresses(Long businessId) {
+        return addressRepository.findByBusinessIdOrderByIdAsc(businessId).stream()
+                .map(this::convertToDto)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional
+    public BusinessAddressDto addAddress(Long businessId, AddressRequest request) {
+        accessService.requireManageable(businessId);
+        BusinessAddress address = BusinessAddress.builder().businessId(businessId).build();
+        if (Boolean.TRUE.equals(request.getPrimary())) {
+            addressRepository.clearOtherPrimary(businessId, 0L);
+        }
+        apply(address, request);
+        return save(address);
+    }
+
+    @Transactional
+    public BusinessAddressDto updateAddress(Long businessId, Long addressId, AddressRequest request) {
+        accessService.requireManageable(businessId);
+        BusinessAddress address = findAddress(businessId, addressId);
+        // before the entity is dirtied, so the auto-flush ahead of this update cannot hit the unique primary index
+        if (Boolean.TRUE.equals(request.getPrimary())) {
+            addressRepository.clearOtherPrimary(businessId, addressId);
+        }
+        apply(address, request);
+        return save(address);
+    }
+
+    @Transactional
+    public void deleteAddress(Long businessId, Long addressId) {
+        accessService.requireManageable(businessId);
+        BusinessAddress address = findAddress(businessId, addressId);
+        addressRepository.delete(address);
+        eventPublisher.publishEvent(new BusinessChangedEvent(businessId, BusinessChangedEvent.Aspect.ADDRESSES));
+        log.info("Address {} removed from business {}", addressId, businessId);
+    }
+
+    private BusinessAddressDto save(BusinessAddress address) {
+        if ((address.getLatitude() == null) != (address.getLongitude() == null)) {
+            throw new BusinessException("INVALID_COORDINATES", "Latitude and longitude must be given together");
+        }
+        BusinessAddress saved = addressRepository.save(address);
+        eventPublisher.publishEvent(new BusinessChangedEvent(saved.getBusinessId(), BusinessChangedEvent.Aspect.ADDRESSES));
+        log.info("Address {} saved for business {}", saved.getId(), saved.getBusinessId());
+        return convertToDto(saved);
+    }
+
+    private BusinessAddress findAddress(Long businessId, Long addressId) {
+        return addressRepository.findByIdAndBusinessId(addressId, businessId)
+                .orElseThrow(() -> new BusinessException("ADDRESS_NOT_FOUND", "Address not found"));
+    }
+
+    private static void apply(BusinessAddress address, AddressRequest request) {
+        if (request.getAddressType() != null) {
+            address.setAddressType(request.getAddressType());
+        }
+        address.setStreetAddress(request.getStreetAddress());
+        address.setCity(request.getCity());
+        address.setStateProvince(request.getStateProvince());
+        address.setPostalCode(request.getPostalCode());
+        address.setCountry(request.getCountry());
+        address.setLatitude(request.getLatitude());
+        address.setLongitude(request.getLongitude());
+        if (request.getPrimary() != null) {
+            address.setPrimary(request.getPrimary());
+        }
+    }
+
+    private BusinessAddressDto convertToDto(BusinessAddress address) {
+        return new BusinessAddressDto(address.getId(), address.getBusinessId(), address.getAddressType(),
+                address.getStreetAddress(), address.getCity(), address.getStateProvince(), address.getPostalCode(),
+                address.getCountry(), address.getLatitude(), address.getLongitude(), address.getPrimary());
+    }
+}
@@ -0,0 +1,93 @@
+package com.project.businessservice.service;
+
+import com.project.businessservice.dto.BusinessHoursDto;
+import com.project.businessservice.dto.DayHoursDto;
+import com.project.businessservice.dto.UpdateHoursRequest;
+import com.project.businessservice.entity.Business;
+import com.project.businessservice.entity.BusinessHours;
+import com.project.businessservice.event.BusinessChangedEvent;
+import com.project.businessservice.repository.BusinessHoursRepository;
+import com.project.common.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DateTimeException;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Weekly opening hours, replaced a whole week at a time
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BusinessHoursService {
+
+    private final BusinessHoursRepository hoursRepository;
+    private final BusinessAccessService accessService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional(readOnly = true)
+    public BusinessHoursDto getHours(Long businessId) {
+        Business business = accessService.getBusiness(businessId);
+        return new BusinessHoursDto(business.getId(), business.getTimezone(), listDays(businessId));
+    }
+
+    /**
+     * Days of a business already known to exist, in its own time zone
+     */
+    @Transactional(readOnly = true)
+    public List<DayHoursDto> listDays(Long businessId) {
+        return convertDays(hoursRepository.findByBusinessIdOrderByDayOfWeekAsc(businessId));
+    }
+
+    @Transactional
+    public BusinessHoursDto updateHours(Long businessId, UpdateHoursRequest request) {
+        Business business = accessService.requireManageable(businessId);
+        if (request.getTimezone() != null) {
+            try {
+                business.setTimezone(ZoneId.of(request.getTimezone()).getId());
+            } catch (DateTimeException e) {
+                throw new BusinessException("INVALID_TIMEZONE", "Unknown time zone: " + request.getTimezone());
+            }
+        }
+
+        boolean[] seen = new boolean[7];
+        List<BusinessHours> week = new ArrayList<>();
+        for (DayHoursDto day : request.getDays()) {
+            if (seen[day.getDayOfWeek()]) {
+                throw new BusinessException("DUPLICATE_DAY", "Day " + day.getDayOfWeek() + " is given more than once");
+            }
+            seen[day.getDayOfWeek()] = true;
+            boolean closed = Boolean.TRUE.equals(day.getClosed());
+            if (!closed && (day.getOpeningTime() == null || day.getClosingTime() == null)) {
+                throw new BusinessException("INVALID_HOURS", "Opening and closing time are required on open days");
+            }
+            week.add(BusinessHours.builder()
+                    .businessId(businessId)
+                    .dayOfWeek(day.getDayOfWeek())
+                    .openingTime(closed ? null : day.getOpeningTime())
+                    .closingTime(closed ? null : day.getClosingTime())
+                    .closed(closed)
+                    .build());
+        }
+
+        // bulk delete runs straight away, ahead of the inserts, so they cannot collide on unique_business_day
+        hoursRepository.deleteByBusinessId(businessId);
+        List<BusinessHours> saved = hoursRepository.saveAll(week);
+        eventPublisher.publishEvent(new BusinessChangedEvent(businessId, BusinessChangedEvent.Aspect.HOURS));
+        log.info("Hours updated for business {} ({} days)", businessId, saved.size());
+        return new BusinessHoursDto(business.getId(), business.getTimezone(), convertDays(saved));
+    }
+
+    private static List<DayHoursDto> convertDays(List<BusinessHours> hours) {
+        return hours.stream()
+                .map(h -> new DayHoursDto(h.getDayOfWeek(), h.getOpeningTime(), h.getClosingTime(), h.getClosed()))
+                .collect(Collectors.toList());
+    }
+}
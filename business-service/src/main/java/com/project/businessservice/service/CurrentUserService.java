@@ -0,0 +1,56 @@
+package com.project.businessservice.service;
+
+import com.project.businessservice.client.UserServiceClient;
+import com.project.businessservice.dto.UserSummaryDto;
+import com.project.businessservice.repository.OwnerSummaryJdbcRepository;
+import com.project.businessservice.util.JwtUtil;
+import com.project.common.dto.ApiResponse;
+import com.project.common.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves the caller's user-service ID from their token
+ *
+ * The keycloak subject to user ID mapping never changes, so it is looked up once per user.
+ * Business owners are found in owner_summaries; only other users cost a call to user-service.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CurrentUserService {
+
+    private final UserServiceClient userServiceClient;
+    private final OwnerSummaryJdbcRepository ownerSummaryRepository;
+    private final Map<String, Long> userIds = new ConcurrentHashMap<>();
+
+    public Long getCurrentUserId() {
+        String keycloakId = JwtUtil.getCurrentKeycloakId();
+        if (keycloakId == null) {
+            throw new BusinessException("UNAUTHENTICATED", "No authenticated user");
+        }
+
+        Long cached = userIds.get(keycloakId);
+        if (cached != null) {
+            return cached;
+        }
+
+        Long ownerId = ownerSummaryRepository.findOwnerIdByKeycloakId(keycloakId).orElse(null);
+        if (ownerId != null) {
+            userIds.put(keycloakId, ownerId);
+            return ownerId;
+        }
+
+        ApiResponse<UserSummaryDto> response = userServiceClient.getCurrentUser();
+        if (response == null || response.getData() == null || response.getData().getId() == null) {
+            throw new BusinessException("USER_NOT_FOUND", "User not found");
+        }
+        Long userId = response.getData().getId();
+        userIds.put(keycloakId, userId);
+        return userId;
+    }
+}
@@ -0,0 +1,105 @@
+package com.project.businessservice.service;
+
+import com.project.businessservice.dto.ServiceOfferingDto;
+import com.project.businessservice.dto.ServiceOfferingRequest;
+import com.project.businessservice.entity.ServiceOffering;
+import com.project.businessservice.event.BusinessChangedEvent;
+import com.project.businessservice.repository.BusinessRepository;
+import com.project.businessservice.repository.ServiceOfferingRepository;
+import com.project.businessservice.service.catalog.CatalogSnapshot;
+import com.project.businessservice.service.catalog.CatalogSnapshotStore;
+import com.project.common.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Services a business offers. Reads come from {@link CatalogSnapshotStore}; every write bumps
+ * the business's catalog version in the same transaction.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ServiceOfferingService {
+
+    private final ServiceOfferingRepository serviceRepository;
+    private final BusinessRepository businessRepository;
+    private final BusinessAccessService accessService;
+    private final CatalogSnapshotStore catalogStore;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public CatalogSnapshot getCatalog(Long businessId) {
+        return catalogStore.get(businessId);
+    }
+
+    public ServiceOfferingDto getService(Long businessId, Long serviceId) {
+        return catalogStore.get(businessId).services().stream()
+                .filter(service -> service.getId().equals(serviceId))
+                .findFirst()
+                .orElseThrow(() -> new BusinessException("SERVICE_NOT_FOUND", "Service not found"));
+    }
+
+    @Transactional
+    public ServiceOfferingDto addService(Long businessId, ServiceOfferingRequest request) {
+        accessService.requireManageable(businessId);
+        ServiceOffering service = ServiceOffering.builder().businessId(businessId).build();
+        apply(service, request);
+        return save(service);
+    }
+
+    @Transactional
+    public ServiceOfferingDto updateService(Long businessId, Long serviceId, ServiceOfferingRequest request) {
+        accessService.requireManageable(businessId);
+        ServiceOffering service = findService(businessId, serviceId);
+        apply(service, request);
+        return save(service);
+    }
+
+    @Transactional
+    public void deleteService(Long businessId, Long serviceId) {
+        accessService.requireManageable(businessId);
+        ServiceOffering service = findService(businessId, serviceId);
+        serviceRepository.delete(service);
+        catalogChanged(businessId);
+        log.info("Service {} removed from business {}", serviceId, businessId);
+    }
+
+    private ServiceOfferingDto save(ServiceOffering service) {
+        ServiceOffering saved = serviceRepository.save(service);
+        catalogChanged(saved.getBusinessId());
+        log.info("Service {} saved for business {}", saved.getId(), saved.getBusinessId());
+        return convertToDto(saved);
+    }
+
+    private void catalogChanged(Long businessId) {
+        businessRepository.bumpCatalogVersion(businessId);
+        eventPublisher.publishEvent(new BusinessChangedEvent(businessId, BusinessChangedEvent.Aspect.SERVICES));
+    }
+
+    private ServiceOffering findService(Long businessId, Long serviceId) {
+        return serviceRepository.findByIdAndBusinessId(serviceId, businessId)
+                .orElseThrow(() -> new BusinessException("SERVICE_NOT_FOUND", "Service not found"));
+    }
+
+    private static void apply(ServiceOffering service, ServiceOfferingRequest request) {
+        service.setName(request.getName());
+        service.setDescription(request.getDescription());
+        service.setCategory(request.getCategory());
+        service.setPrice(request.getPrice());
+        if (request.getCurrency() != null) {
+            service.setCurrency(request.getCurrency().toUpperCase());
+        }
+        service.setDurationMinutes(request.getDurationMinutes());
+        if (request.getActive() != null) {
+            service.setActive(request.getActive());
+        }
+    }
+
+    private ServiceOfferingDto convertToDto(ServiceOffering service) {
+        return new ServiceOfferingDto(service.getId(), service.getBusinessId(), service.getName(),
+                service.getDescription(), service.getCategory(), service.getPrice(), service.getCurrency(),
+                service.getDurationMinutes(), service.getActive());
+    }
+}
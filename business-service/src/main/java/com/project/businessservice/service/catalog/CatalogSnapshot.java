@@ -0,0 +1,48 @@
+package com.project.businessservice.service.catalog;
+
+import com.project.businessservice.dto.CatalogDto;
+import com.project.businessservice.dto.ServiceOfferingDto;
+
+import java.util.List;
+
+/**
+ * Immutable copy of one business's active services at a catalog version
+ *
+ * The version comes from businesses.catalog_version, so every instance serving the same
+ * version hands out the same ETag. The service DTOs are shared between requests and must
+ * not be modified.
+ */
+public record CatalogSnapshot(long businessId, long version, List<ServiceOfferingDto> services) {
+
+    public CatalogSnapshot {
+        services = List.copyOf(services);
+    }
+
+    public String etag() {
+        return "\"catalog-" + businessId + "-" + version + "\"";
+    }
+
+    /**
+     * Whether an If-None-Match header names this snapshot
+     */
+    public boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String etag = etag();
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag) || tag.equals("*")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public CatalogDto toDto() {
+        return new CatalogDto(businessId, version, services);
+    }
+}
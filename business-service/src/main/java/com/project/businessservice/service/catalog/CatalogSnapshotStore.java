@@ -0,0 +1,186 @@
+package com.project.businessservice.service.catalog;
+
+import com.project.businessservice.dto.ServiceOfferingDto;
+import com.project.businessservice.event.BusinessChangedEvent;
+import com.project.businessservice.event.CatalogUpdatedEvent;
+import com.project.businessservice.repository.CatalogJdbcRepository;
+import com.project.common.exception.BusinessException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory catalog of every business, one immutable {@link CatalogSnapshot} each
+ *
+ * A change replaces the business's snapshot whole, and a snapshot only ever replaces one with
+ * a lower or equal version, so concurrent refreshes cannot roll a catalog back. Changes made
+ * on this instance are applied after commit; changes made elsewhere are found by polling
+ * catalog_updated_at, with an overlap that covers transactions still committing when the
+ * previous poll ran. Once loaded, reads do not touch Postgres.
+ */
+@Service
+@Slf4j
+public class CatalogSnapshotStore {
+
+    private final Map<Long, CatalogSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final CatalogJdbcRepository catalogRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration syncOverlap;
+    private volatile Instant lastSync;
+
+    public CatalogSnapshotStore(CatalogJdbcRepository catalogRepository,
+                                TransactionTemplate transactionTemplate,
+                                ApplicationEventPublisher eventPublisher,
+                                @Value("${app.catalog.sync-overlap-ms:120000}") long syncOverlapMs) {
+        this.catalogRepository = catalogRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.readOnlyTransaction.setReadOnly(true);
+        this.eventPublisher = eventPublisher;
+        this.syncOverlap = Duration.ofMillis(syncOverlapMs);
+    }
+
+    /**
+     * Current snapshot; a business created since the load is read through once
+     */
+    public CatalogSnapshot get(long businessId) {
+        CatalogSnapshot snapshot = snapshots.get(businessId);
+        if (snapshot != null) {
+            return snapshot;
+        }
+        snapshot = refresh(businessId);
+        if (snapshot == null) {
+            throw new BusinessException("BUSINESS_NOT_FOUND", "Business not found");
+        }
+        return snapshot;
+    }
+
+    /**
+     * The held snapshot, without reading through to the database
+     */
+    public Optional<CatalogSnapshot> cached(long businessId) {
+        return Optional.ofNullable(snapshots.get(businessId));
+    }
+
+    /**
+     * Every snapshot currently held, as a live read-only view
+     */
+    public Collection<CatalogSnapshot> all() {
+        return Collections.unmodifiableCollection(snapshots.values());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        try {
+            long started = System.nanoTime();
+            Instant syncFrom = catalogRepository.currentTime();
+            Collector collector = new Collector();
+            readOnlyTransaction.executeWithoutResult(status -> catalogRepository.streamCatalogs(collector));
+            collector.flush();
+            lastSync = syncFrom;
+            eventPublisher.publishEvent(new CatalogUpdatedEvent(null));
+            log.info("Catalog snapshots loaded for {} businesses in {} ms", collector.businesses,
+                    (System.nanoTime() - started) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.error("Catalog snapshot load failed, retrying on the next sync: {}", e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.catalog.sync-interval-ms:30000}",
+            initialDelayString = "${app.catalog.sync-interval-ms:30000}")
+    public void syncChanges() {
+        Instant since = lastSync;
+        if (since == null) {
+            loadAll();
+            return;
+        }
+        try {
+            Instant now = catalogRepository.currentTime();
+            int refreshed = 0;
+            Instant from = since.minus(syncOverlap);
+            for (CatalogJdbcRepository.CatalogVersion changed : catalogRepository.findChangedSince(from)) {
+                CatalogSnapshot current = snapshots.get(changed.businessId());
+                if (current == null || current.version() < changed.version()) {
+                    refresh(changed.businessId());
+                    refreshed++;
+                }
+            }
+            lastSync = now;
+            if (refreshed > 0) {
+                log.debug("Catalog sync refreshed {} businesses", refreshed);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Catalog sync failed, will retry: {}", e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBusinessChanged(BusinessChangedEvent event) {
+        if (event.aspect() == BusinessChangedEvent.Aspect.SERVICES) {
+            refresh(event.businessId());
+        }
+    }
+
+    // Null when the business does not exist
+    private CatalogSnapshot refresh(long businessId) {
+        Collector collector = new Collector();
+        catalogRepository.findCatalog(businessId, collector);
+        collector.flush();
+        eventPublisher.publishEvent(new CatalogUpdatedEvent(businessId));
+        return snapshots.get(businessId);
+    }
+
+    private void install(CatalogSnapshot snapshot) {
+        snapshots.merge(snapshot.businessId(), snapshot,
+                (current, candidate) -> candidate.version() >= current.version() ? candidate : current);
+    }
+
+    /**
+     * Folds consecutive rows of the same business into one snapshot
+     */
+    private final class Collector implements CatalogJdbcRepository.CatalogRowHandler {
+
+        private long businessId = -1;
+        private long version;
+        private final List<ServiceOfferingDto> services = new ArrayList<>();
+        private int businesses;
+
+        @Override
+        public void accept(long businessId, long version, ServiceOfferingDto service) {
+            if (businessId != this.businessId) {
+                flush();
+                this.businessId = businessId;
+                this.version = version;
+            }
+            if (service != null) {
+                services.add(service);
+            }
+        }
+
+        void flush() {
+            if (businessId < 0) {
+                return;
+            }
+            install(new CatalogSnapshot(businessId, version, services));
+            services.clear();
+            businesses++;
+            businessId = -1;
+        }
+    }
+}
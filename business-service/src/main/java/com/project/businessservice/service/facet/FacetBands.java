@@ -0,0 +1,71 @@
+package com.project.businessservice.service.facet;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Consecutive value bands given by their lower bounds; the last band is open-ended
+ */
+public final class FacetBands {
+
+    private final long[] lowerBounds;
+
+    public FacetBands(long[] lowerBounds) {
+        if (lowerBounds.length == 0 || lowerBounds.length > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("Between 1 and " + Byte.MAX_VALUE + " bands are supported");
+        }
+        this.lowerBounds = lowerBounds.clone();
+        Arrays.sort(this.lowerBounds);
+    }
+
+    public int size() {
+        return lowerBounds.length;
+    }
+
+    public long lower(int band) {
+        return lowerBounds[band];
+    }
+
+    // Exclusive; Long.MAX_VALUE for the last band
+    public long upper(int band) {
+        return band + 1 < lowerBounds.length ? lowerBounds[band + 1] : Long.MAX_VALUE;
+    }
+
+    /**
+     * Band holding value, or -1 for a negative (missing) value or one below the first band
+     */
+    public int bandOf(long value) {
+        if (value < 0 || value < lowerBounds[0]) {
+            return -1;
+        }
+        int found = Arrays.binarySearch(lowerBounds, value);
+        return found >= 0 ? found : -found - 2;
+    }
+
+    /**
+     * Splits the bands overlapping [min, max] into those entirely inside it and those that
+     * need every value checked
+     */
+    public Coverage cover(long min, long max) {
+        List<Integer> full = new ArrayList<>();
+        List<Integer> partial = new ArrayList<>();
+        for (int band = 0; band < lowerBounds.length; band++) {
+            long lo = lower(band);
+            long hi = upper(band) == Long.MAX_VALUE ? Long.MAX_VALUE : upper(band) - 1;
+            if (hi < min || lo > max) {
+                continue;
+            }
+            if (lo >= min && hi <= max) {
+                full.add(band);
+            } else {
+                partial.add(band);
+            }
+        }
+        return new Coverage(full.stream().mapToInt(Integer::intValue).toArray(),
+                partial.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    public record Coverage(int[] full, int[] partial) {
+    }
+}
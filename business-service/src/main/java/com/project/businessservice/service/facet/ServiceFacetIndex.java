@@ -0,0 +1,591 @@
+package com.project.businessservice.service.facet;
+
+import com.project.businessservice.dto.ServiceOfferingDto;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Inverted index over active services for category / price / duration faceted search
+ *
+ * Services are numbered densely as docs. Each category, price band and duration band has a
+ * bitmap over the docs, and a live bitmap masks out replaced ones. A search walks the
+ * bitmaps one 64-doc word at a time and, in that single pass, both collects the matches and
+ * counts facets: a doc is counted under a facet when it passes every filter except possibly
+ * that facet's own, so the counts say what selecting another value would return.
+ *
+ * For price ordering each category keeps its priced docs sorted by price, and so does the
+ * whole index; a page is taken by walking those arrays rather than sorting the matches.
+ * Docs added since the last build are kept in an unsorted tail and merged in per query.
+ * A business's services are replaced by retiring its docs and appending new ones; once the
+ * tail and retired docs grow past a tenth of the index it is rebuilt and swapped in whole.
+ */
+public class ServiceFacetIndex {
+
+    public enum Sort {
+        NONE, PRICE_ASC, PRICE_DESC
+    }
+
+    public record Query(Set<String> categories, Long minPriceCents, Long maxPriceCents,
+                        Integer minDuration, Integer maxDuration, Sort sort, int offset, int limit) {
+    }
+
+    public record Result(int total, List<ServiceOfferingDto> services, Map<String, Integer> categoryCounts,
+                         int[] priceCounts, int[] durationCounts) {
+    }
+
+    private static final long ALL = -1L;
+    // price cents in the high bits, doc in the low ones, so one long sort orders docs by price
+    private static final int DOC_BITS = 29;
+    private static final long DOC_MASK = (1L << DOC_BITS) - 1;
+
+    private final FacetBands priceBands;
+    private final FacetBands durationBands;
+
+    // Interned category names; ids only grow and are shared by every Data generation
+    private final Map<String, Integer> categoryIds = new ConcurrentHashMap<>();
+    private final List<String> categoryNames = new CopyOnWriteArrayList<>();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Data data;
+    private volatile boolean loaded;
+    private Set<Long> changedDuringRebuild;
+
+    public ServiceFacetIndex(FacetBands priceBands, FacetBands durationBands) {
+        this.priceBands = priceBands;
+        this.durationBands = durationBands;
+        this.data = new Data(0);
+        this.data.sortPrices();
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public FacetBands priceBands() {
+        return priceBands;
+    }
+
+    public FacetBands durationBands() {
+        return durationBands;
+    }
+
+    /**
+     * Replaces everything indexed for a business with its current active services
+     */
+    public void replaceBusiness(long businessId, Collection<ServiceOfferingDto> services) {
+        lock.writeLock().lock();
+        try {
+            data.replace(businessId, services);
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.add(businessId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Whether enough docs are retired or unsorted that a rebuild is worth it
+     */
+    public boolean needsCompaction() {
+        lock.readLock().lock();
+        try {
+            int stale = data.retired + (data.size - data.sortedUpTo);
+            return stale > 0 && stale >= data.size / 10;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void beginRebuild() {
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Swaps in the rebuilt index and returns the businesses changed since {@link #beginRebuild};
+     * the caller re-applies them.
+     */
+    public Set<Long> finishRebuild(Builder builder) {
+        builder.data.sortPrices();
+        lock.writeLock().lock();
+        try {
+            data = builder.data;
+            loaded = true;
+            Set<Long> changed = changedDuringRebuild != null ? changedDuringRebuild : Set.of();
+            changedDuringRebuild = null;
+            return changed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void abortRebuild() {
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Builder builder(int expectedServices) {
+        return new Builder(expectedServices);
+    }
+
+    public Result search(Query query) {
+        lock.readLock().lock();
+        try {
+            return data.search(query);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int internCategory(String category) {
+        Integer id = categoryIds.get(category);
+        if (id != null) {
+            return id;
+        }
+        synchronized (categoryNames) {
+            return categoryIds.computeIfAbsent(category, name -> {
+                categoryNames.add(name);
+                return categoryNames.size() - 1;
+            });
+        }
+    }
+
+    static long toCents(BigDecimal price) {
+        return price != null ? price.movePointRight(2).longValue() : -1L;
+    }
+
+    /**
+     * Accumulates a full index off to the side; not thread-safe, handed to {@link #finishRebuild}
+     */
+    public final class Builder {
+
+        private final Data data;
+
+        private Builder(int expectedServices) {
+            this.data = new Data(expectedServices);
+        }
+
+        public void addBusiness(long businessId, Collection<ServiceOfferingDto> services) {
+            data.replace(businessId, services);
+        }
+    }
+
+    private final class Data {
+
+        private ServiceOfferingDto[] docs;
+        private long[] prices;
+        private long[] durations;
+        private int[] categoryOf;
+        private byte[] priceBandOf;
+        private byte[] durationBandOf;
+        private int size;
+        private int retired;
+
+        private long[] live;
+        private final List<long[]> categoryBits = new ArrayList<>();
+        private final long[][] priceBits;
+        private final long[][] durationBits;
+
+        private final Map<Long, int[]> docsOfBusiness = new HashMap<>();
+
+        // Priced docs below sortedUpTo in (price, doc) order, overall and per category id
+        private int sortedUpTo;
+        private int[] byPrice = new int[0];
+        private int[][] byPriceInCategory = new int[0][];
+
+        Data(int capacity) {
+            int docCapacity = Math.max(64, capacity);
+            docs = new ServiceOfferingDto[docCapacity];
+            prices = new long[docCapacity];
+            durations = new long[docCapacity];
+            categoryOf = new int[docCapacity];
+            priceBandOf = new byte[docCapacity];
+            durationBandOf = new byte[docCapacity];
+            live = new long[words(docCapacity)];
+            priceBits = new long[priceBands.size()][words(docCapacity)];
+            durationBits = new long[durationBands.size()][words(docCapacity)];
+        }
+
+        void replace(long businessId, Collection<ServiceOfferingDto> services) {
+            int[] previous = docsOfBusiness.remove(businessId);
+            if (previous != null) {
+                for (int doc : previous) {
+                    live[doc >>> 6] &= ~(1L << doc);
+                }
+                retired += previous.length;
+            }
+            if (services.isEmpty()) {
+                return;
+            }
+            int[] added = new int[services.size()];
+            int n = 0;
+            for (ServiceOfferingDto service : services) {
+                added[n++] = add(service);
+            }
+            docsOfBusiness.put(businessId, added);
+        }
+
+        private int add(ServiceOfferingDto service) {
+            if (size == docs.length) {
+                grow(docs.length * 2);
+            }
+            int doc = size++;
+            long bit = 1L << doc;
+            int word = doc >>> 6;
+            docs[doc] = service;
+            live[word] |= bit;
+
+            int category = service.getCategory() != null ? internCategory(service.getCategory()) : -1;
+            categoryOf[doc] = category;
+            if (category >= 0) {
+                categoryBitmap(category)[word] |= bit;
+            }
+
+            long price = toCents(service.getPrice());
+            prices[doc] = price;
+            int priceBand = priceBands.bandOf(price);
+            priceBandOf[doc] = (byte) priceBand;
+            if (priceBand >= 0) {
+                priceBits[priceBand][word] |= bit;
+            }
+
+            long duration = service.getDurationMinutes() != null ? service.getDurationMinutes() : -1L;
+            durations[doc] = duration;
+            int durationBand = durationBands.bandOf(duration);
+            durationBandOf[doc] = (byte) durationBand;
+            if (durationBand >= 0) {
+                durationBits[durationBand][word] |= bit;
+            }
+            return doc;
+        }
+
+        private long[] categoryBitmap(int category) {
+            while (categoryBits.size() <= category) {
+                categoryBits.add(new long[live.length]);
+            }
+            return categoryBits.get(category);
+        }
+
+        private void grow(int capacity) {
+            docs = Arrays.copyOf(docs, capacity);
+            prices = Arrays.copyOf(prices, capacity);
+            durations = Arrays.copyOf(durations, capacity);
+            categoryOf = Arrays.copyOf(categoryOf, capacity);
+            priceBandOf = Arrays.copyOf(priceBandOf, capacity);
+            durationBandOf = Arrays.copyOf(durationBandOf, capacity);
+            int words = words(capacity);
+            live = Arrays.copyOf(live, words);
+            categoryBits.replaceAll(bits -> Arrays.copyOf(bits, words));
+            for (int band = 0; band < priceBits.length; band++) {
+                priceBits[band] = Arrays.copyOf(priceBits[band], words);
+            }
+            for (int band = 0; band < durationBits.length; band++) {
+                durationBits[band] = Arrays.copyOf(durationBits[band], words);
+            }
+        }
+
+        void sortPrices() {
+            long[] keys = new long[size];
+            int priced = 0;
+            int[] perCategory = new int[categoryNames.size()];
+            for (int doc = 0; doc < size; doc++) {
+                if (prices[doc] >= 0 && (live[doc >>> 6] & (1L << doc)) != 0) {
+                    keys[priced++] = (prices[doc] << DOC_BITS) | doc;
+                    if (categoryOf[doc] >= 0) {
+                        perCategory[categoryOf[doc]]++;
+                    }
+                }
+            }
+            Arrays.sort(keys, 0, priced);
+
+            byPrice = new int[priced];
+            byPriceInCategory = new int[perCategory.length][];
+            for (int category = 0; category < perCategory.length; category++) {
+                byPriceInCategory[category] = new int[perCategory[category]];
+            }
+            int[] filled = new int[perCategory.length];
+            for (int i = 0; i < priced; i++) {
+                int doc = (int) (keys[i] & DOC_MASK);
+                byPrice[i] = doc;
+                int category = categoryOf[doc];
+                if (category >= 0) {
+                    byPriceInCategory[category][filled[category]++] = doc;
+                }
+            }
+            sortedUpTo = size;
+        }
+
+        Result search(Query query) {
+            int words = words(size);
+            int categoryCount = categoryNames.size();
+
+            boolean filterCategory = query.categories() != null && !query.categories().isEmpty();
+            long[][] selected = new long[0][];
+            if (filterCategory) {
+                List<long[]> bitmaps = new ArrayList<>();
+                for (String name : query.categories()) {
+                    Integer id = categoryIds.get(name);
+                    if (id != null && id < categoryBits.size()) {
+                        bitmaps.add(categoryBits.get(id));
+                    }
+                }
+                selected = bitmaps.toArray(new long[0][]);
+            }
+
+            boolean filterPrice = query.minPriceCents() != null || query.maxPriceCents() != null;
+            long minPrice = query.minPriceCents() != null ? query.minPriceCents() : 0L;
+            long maxPrice = query.maxPriceCents() != null ? query.maxPriceCents() : Long.MAX_VALUE;
+            FacetBands.Coverage priceCover = priceBands.cover(minPrice, maxPrice);
+
+            boolean filterDuration = query.minDuration() != null || query.maxDuration() != null;
+            long minDuration = query.minDuration() != null ? query.minDuration() : 0L;
+            long maxDuration = query.maxDuration() != null ? query.maxDuration() : Long.MAX_VALUE;
+            FacetBands.Coverage durationCover = durationBands.cover(minDuration, maxDuration);
+
+            long[] matches = new long[words];
+            int[] categoryCounts = new int[categoryCount];
+            int[] priceCounts = new int[priceBands.size()];
+            int[] durationCounts = new int[durationBands.size()];
+            int total = 0;
+            int pricedMatches = 0;
+
+            for (int i = 0; i < words; i++) {
+                long alive = live[i];
+                if (alive == 0) {
+                    continue;
+                }
+                long c = ALL;
+                if (filterCategory) {
+                    c = 0;
+                    for (long[] bits : selected) {
+                        c |= bits[i];
+                    }
+                }
+                long p = filterPrice ? bandMask(priceBits, priceCover, prices, minPrice, maxPrice, i) : ALL;
+                long d = filterDuration
+                        ? bandMask(durationBits, durationCover, durations, minDuration, maxDuration, i) : ALL;
+
+                long all = alive & c & p & d;
+                matches[i] = all;
+                int base = i << 6;
+                for (long w = all; w != 0; w &= w - 1) {
+                    int doc = base + Long.numberOfTrailingZeros(w);
+                    total++;
+                    if (prices[doc] >= 0) {
+                        pricedMatches++;
+                    }
+                    count(categoryCounts, categoryOf[doc]);
+                    count(priceCounts, priceBandOf[doc]);
+                    count(durationCounts, durationBandOf[doc]);
+                }
+                for (long w = alive & ~c & p & d; w != 0; w &= w - 1) {
+                    count(categoryCounts, categoryOf[base + Long.numberOfTrailingZeros(w)]);
+                }
+                for (long w = alive & c & ~p & d; w != 0; w &= w - 1) {
+                    count(priceCounts, priceBandOf[base + Long.numberOfTrailingZeros(w)]);
+                }
+                for (long w = alive & c & p & ~d; w != 0; w &= w - 1) {
+                    count(durationCounts, durationBandOf[base + Long.numberOfTrailingZeros(w)]);
+                }
+            }
+
+            Map<String, Integer> categoryFacet = new HashMap<>();
+            for (int category = 0; category < categoryCount; category++) {
+                if (categoryCounts[category] > 0) {
+                    categoryFacet.put(categoryNames.get(category), categoryCounts[category]);
+                }
+            }
+
+            int[] page = query.sort() == Sort.NONE || query.sort() == null
+                    ? pageInDocOrder(matches, query.offset(), query.limit())
+                    : pageByPrice(query, matches, pricedMatches, filterCategory, minPrice, maxPrice);
+            List<ServiceOfferingDto> services = new ArrayList<>(page.length);
+            for (int doc : page) {
+                services.add(docs[doc]);
+            }
+            return new Result(total, services, categoryFacet, priceCounts, durationCounts);
+        }
+
+        private int[] pageInDocOrder(long[] matches, int offset, int limit) {
+            int[] page = new int[limit];
+            int skipped = 0;
+            int taken = 0;
+            for (int i = 0; i < matches.length && taken < limit; i++) {
+                for (long w = matches[i]; w != 0 && taken < limit; w &= w - 1) {
+                    if (skipped < offset) {
+                        skipped++;
+                    } else {
+                        page[taken++] = (i << 6) + Long.numberOfTrailingZeros(w);
+                    }
+                }
+            }
+            return Arrays.copyOf(page, taken);
+        }
+
+        /**
+         * Priced matches by price, then unpriced ones in doc order. Each sorted array can only
+         * contribute its first offset + limit matches, so only those are read, plus the tail.
+         */
+        private int[] pageByPrice(Query query, long[] matches, int pricedMatches, boolean filterCategory,
+                                  long minPrice, long maxPrice) {
+            boolean descending = query.sort() == Sort.PRICE_DESC;
+            int wanted = query.offset() + query.limit();
+
+            List<int[]> sources = new ArrayList<>();
+            if (filterCategory) {
+                for (String name : query.categories()) {
+                    Integer id = categoryIds.get(name);
+                    if (id != null && id < byPriceInCategory.length) {
+                        sources.add(byPriceInCategory[id]);
+                    }
+                }
+            } else {
+                sources.add(byPrice);
+            }
+
+            // category arrays are disjoint, so together they hold at most pricedMatches matches
+            long[] candidates = new long[Math.min(pricedMatches, wanted * sources.size()) + 16];
+            int found = 0;
+            for (int[] sorted : sources) {
+                int first = found;
+                if (descending) {
+                    for (int i = upperBound(sorted, maxPrice) - 1; i >= 0 && found - first < wanted; i--) {
+                        found = collect(sorted[i], matches, candidates, found);
+                    }
+                } else {
+                    for (int i = lowerBound(sorted, minPrice); i < sorted.length && found - first < wanted; i++) {
+                        found = collect(sorted[i], matches, candidates, found);
+                    }
+                }
+            }
+            for (int doc = sortedUpTo; doc < size; doc++) {
+                if (prices[doc] >= 0 && (matches[doc >>> 6] & (1L << doc)) != 0) {
+                    if (found == candidates.length) {
+                        candidates = Arrays.copyOf(candidates, found * 2);
+                    }
+                    candidates[found++] = key(doc);
+                }
+            }
+            Arrays.sort(candidates, 0, found);
+
+            int[] page = new int[query.limit()];
+            int taken = 0;
+            for (int rank = query.offset(); rank < found && taken < query.limit(); rank++) {
+                long candidate = descending ? candidates[found - 1 - rank] : candidates[rank];
+                page[taken++] = (int) (candidate & DOC_MASK);
+            }
+            if (taken < query.limit()) {
+                int skip = Math.max(0, query.offset() - pricedMatches);
+                for (int i = 0; i < matches.length && taken < query.limit(); i++) {
+                    for (long w = matches[i]; w != 0 && taken < query.limit(); w &= w - 1) {
+                        int doc = (i << 6) + Long.numberOfTrailingZeros(w);
+                        if (prices[doc] >= 0) {
+                            continue;
+                        }
+                        if (skip > 0) {
+                            skip--;
+                        } else {
+                            page[taken++] = doc;
+                        }
+                    }
+                }
+            }
+            return Arrays.copyOf(page, taken);
+        }
+
+        private int collect(int doc, long[] matches, long[] candidates, int found) {
+            if ((matches[doc >>> 6] & (1L << doc)) != 0) {
+                candidates[found++] = key(doc);
+            }
+            return found;
+        }
+
+        private long key(int doc) {
+            return (prices[doc] << DOC_BITS) | doc;
+        }
+
+        // First index whose price is >= price
+        private int lowerBound(int[] sorted, long price) {
+            int lo = 0;
+            int hi = sorted.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (prices[sorted[mid]] < price) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+
+        // First index whose price is > price
+        private int upperBound(int[] sorted, long price) {
+            int lo = 0;
+            int hi = sorted.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (prices[sorted[mid]] <= price) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+    }
+
+    /**
+     * Docs in word i whose value is within [min, max]: whole bands straight from their bitmaps,
+     * bands straddling a bound checked doc by doc
+     */
+    private static long bandMask(long[][] bandBits, FacetBands.Coverage cover, long[] values, long min, long max,
+                                 int i) {
+        long mask = 0;
+        for (int band : cover.full()) {
+            mask |= bandBits[band][i];
+        }
+        long straddling = 0;
+        for (int band : cover.partial()) {
+            straddling |= bandBits[band][i];
+        }
+        for (long w = straddling & ~mask; w != 0; w &= w - 1) {
+            int bit = Long.numberOfTrailingZeros(w);
+            long value = values[(i << 6) + bit];
+            if (value >= min && value <= max) {
+                mask |= 1L << bit;
+            }
+        }
+        return mask;
+    }
+
+    private static void count(int[] counts, int bucket) {
+        if (bucket >= 0 && bucket < counts.length) {
+            counts[bucket]++;
+        }
+    }
+
+    private static int words(int docs) {
+        return (docs + 63) >>> 6;
+    }
+}
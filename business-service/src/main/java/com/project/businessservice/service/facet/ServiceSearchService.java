@@ -0,0 +1,134 @@
+package com.project.businessservice.service.facet;
+
+import com.project.businessservice.dto.FacetBucketDto;
+import com.project.businessservice.dto.ServiceSearchResponse;
+import com.project.businessservice.event.CatalogUpdatedEvent;
+import com.project.businessservice.service.catalog.CatalogSnapshot;
+import com.project.businessservice.service.catalog.CatalogSnapshotStore;
+import com.project.common.exception.BusinessException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Faceted search over active services, served from {@link ServiceFacetIndex}
+ *
+ * The index is built from the catalog snapshots rather than Postgres and follows them
+ * business by business; a periodic check rebuilds it once enough docs are stale.
+ */
+@Service
+@Slf4j
+public class ServiceSearchService {
+
+    private final ServiceFacetIndex index;
+    private final CatalogSnapshotStore catalogStore;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final int defaultPageSize;
+    private final int maxPageSize;
+
+    public ServiceSearchService(CatalogSnapshotStore catalogStore,
+                                @Value("${app.facets.price-bands:0,25,50,100,200,500}") long[] priceBands,
+                                @Value("${app.facets.duration-bands:0,30,60,90,120,180}") long[] durationBands,
+                                @Value("${app.facets.default-page-size:20}") int defaultPageSize,
+                                @Value("${app.facets.max-page-size:100}") int maxPageSize) {
+        this.catalogStore = catalogStore;
+        long[] priceBandCents = new long[priceBands.length];
+        for (int i = 0; i < priceBands.length; i++) {
+            priceBandCents[i] = priceBands[i] * 100;
+        }
+        this.index = new ServiceFacetIndex(new FacetBands(priceBandCents), new FacetBands(durationBands));
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+    }
+
+    public ServiceSearchResponse search(Set<String> categories, BigDecimal minPrice, BigDecimal maxPrice,
+                                        Integer minDuration, Integer maxDuration, ServiceFacetIndex.Sort sort,
+                                        Integer page, Integer size) {
+        if (!index.isLoaded()) {
+            throw new BusinessException("SEARCH_UNAVAILABLE", "Service search is still loading, try again shortly");
+        }
+        if (minPrice != null && maxPrice != null && minPrice.compareTo(maxPrice) > 0
+                || minDuration != null && maxDuration != null && minDuration > maxDuration) {
+            throw new BusinessException("INVALID_RANGE", "Range minimum must not exceed its maximum");
+        }
+        int pageSize = size != null ? Math.max(1, Math.min(size, maxPageSize)) : defaultPageSize;
+        int pageNumber = page != null ? Math.max(0, page) : 0;
+
+        ServiceFacetIndex.Result result = index.search(new ServiceFacetIndex.Query(categories,
+                minPrice != null ? ServiceFacetIndex.toCents(minPrice.max(BigDecimal.ZERO)) : null,
+                maxPrice != null ? ServiceFacetIndex.toCents(maxPrice.max(BigDecimal.ZERO)) : null,
+                minDuration, maxDuration, sort != null ? sort : ServiceFacetIndex.Sort.NONE,
+                pageNumber * pageSize, pageSize));
+
+        return new ServiceSearchResponse(result.total(), pageNumber, pageSize, result.services(),
+                result.categoryCounts(), buckets(index.priceBands(), result.priceCounts(), 100),
+                buckets(index.durationBands(), result.durationCounts(), 1));
+    }
+
+    @EventListener
+    public void onCatalogUpdated(CatalogUpdatedEvent event) {
+        if (event.isFullLoad()) {
+            rebuild();
+        } else {
+            apply(event.businessId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.facets.compaction-check-ms:60000}",
+            initialDelayString = "${app.facets.compaction-check-ms:60000}")
+    public void compactIfNeeded() {
+        if (index.isLoaded() && index.needsCompaction()) {
+            rebuild();
+        }
+    }
+
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long started = System.nanoTime();
+            index.beginRebuild();
+            ServiceFacetIndex.Builder builder = index.builder(1024);
+            int services = 0;
+            for (CatalogSnapshot snapshot : catalogStore.all()) {
+                builder.addBusiness(snapshot.businessId(), snapshot.services());
+                services += snapshot.services().size();
+            }
+            Set<Long> changed = index.finishRebuild(builder);
+            changed.forEach(this::apply);
+            log.info("Service facet index rebuilt with {} services in {} ms ({} replayed)", services,
+                    (System.nanoTime() - started) / 1_000_000, changed.size());
+        } catch (RuntimeException e) {
+            index.abortRebuild();
+            log.error("Service facet index rebuild failed: {}", e.getMessage(), e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    // Reads the store's snapshot and applies it as one step, so the last writer always applies the newest
+    private synchronized void apply(long businessId) {
+        index.replaceBusiness(businessId, catalogStore.cached(businessId)
+                .map(CatalogSnapshot::services)
+                .orElse(List.of()));
+    }
+
+    private static List<FacetBucketDto> buckets(FacetBands bands, int[] counts, long unit) {
+        List<FacetBucketDto> buckets = new ArrayList<>(bands.size());
+        for (int band = 0; band < bands.size(); band++) {
+            long upper = bands.upper(band);
+            buckets.add(new FacetBucketDto(bands.lower(band) / unit,
+                    upper == Long.MAX_VALUE ? null : upper / unit, counts[band]));
+        }
+        return buckets;
+    }
+}
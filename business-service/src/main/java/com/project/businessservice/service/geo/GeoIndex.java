@@ -0,0 +1,303 @@
+package com.project.businessservice.service.geo;
+
+import com.project.businessservice.util.BoundedTopK;
+import com.project.businessservice.util.LongLongHashMap;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongPredicate;
+
+/**
+ * Fixed-degree lat/lon grid over the primary address of every active business
+ *
+ * Each cell is an immutable set of parallel primitive arrays replaced whole on change, so
+ * queries read without locks and never see a half-applied update. A query scans only the
+ * cells under the bounding box of its circle, rejects on latitude before doing any trig,
+ * and keeps the nearest k in a bounded heap. Writers are serialized; a full rebuild swaps
+ * in a new grid and replays anything that changed while it was loading.
+ */
+public class GeoIndex {
+
+    public static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180.0;
+    private static final long NO_CELL = Long.MIN_VALUE;
+
+    private final double cellDegrees;
+    private final int latCells;
+    private final int lonCells;
+
+    private volatile Map<Long, Cell> cells = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    // Interned business_type values; typeIds only grows
+    private final Map<String, Integer> typeIds = new ConcurrentHashMap<>();
+    private final AtomicInteger nextTypeId = new AtomicInteger();
+
+    private final Object writeLock = new Object();
+    private LongLongHashMap cellOf = new LongLongHashMap(1024);
+    private Set<Long> changedDuringRebuild;
+
+    public GeoIndex(double cellDegrees) {
+        this.cellDegrees = cellDegrees;
+        this.latCells = (int) Math.ceil(180.0 / cellDegrees);
+        this.lonCells = (int) Math.ceil(360.0 / cellDegrees);
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * ID for a business type filter, or -1 when no indexed business has that type
+     */
+    public int typeId(String businessType) {
+        return typeIds.getOrDefault(businessType, -1);
+    }
+
+    public void put(long businessId, double latitude, double longitude, String businessType) {
+        int type = internType(businessType);
+        synchronized (writeLock) {
+            removeLocked(businessId);
+            long key = cellKey(latitude, longitude);
+            cells.compute(key, (k, cell) -> (cell == null ? Cell.EMPTY : cell).with(businessId, latitude, longitude, type));
+            cellOf.put(businessId, key);
+            noteChange(businessId);
+        }
+    }
+
+    public void remove(long businessId) {
+        synchronized (writeLock) {
+            removeLocked(businessId);
+            noteChange(businessId);
+        }
+    }
+
+    /**
+     * Starts recording changes so they can be replayed onto the grid the rebuild produces
+     */
+    public void beginRebuild() {
+        synchronized (writeLock) {
+            changedDuringRebuild = new HashSet<>();
+        }
+    }
+
+    /**
+     * Swaps in the rebuilt grid and returns the businesses changed since {@link #beginRebuild};
+     * the caller reloads and re-applies them.
+     */
+    public Set<Long> finishRebuild(Builder builder) {
+        synchronized (writeLock) {
+            Map<Long, Cell> rebuilt = new ConcurrentHashMap<>(builder.cells.size() * 2);
+            builder.cells.forEach((key, cell) -> rebuilt.put(key, cell.build()));
+            cells = rebuilt;
+            cellOf = builder.cellOf;
+            loaded = true;
+            Set<Long> changed = changedDuringRebuild != null ? changedDuringRebuild : Set.of();
+            changedDuringRebuild = null;
+            return changed;
+        }
+    }
+
+    public void abortRebuild() {
+        synchronized (writeLock) {
+            changedDuringRebuild = null;
+        }
+    }
+
+    public Builder builder(int expectedSize) {
+        return new Builder(expectedSize);
+    }
+
+    /**
+     * Fills out with the nearest (distance km, business ID) pairs within radiusKm, nearest
+     * first once drained. typeId -1 means any type; filter, when given, is only asked about
+     * businesses that would otherwise make the cut.
+     */
+    public void nearest(double latitude, double longitude, double radiusKm, int typeId, LongPredicate filter,
+                        BoundedTopK out) {
+        Map<Long, Cell> grid = cells;
+        double latDelta = radiusKm / KM_PER_DEGREE;
+        double minLat = latitude - latDelta;
+        double maxLat = latitude + latDelta;
+
+        double lonDelta;
+        double angular = radiusKm / EARTH_RADIUS_KM;
+        double cosLat = Math.cos(Math.toRadians(latitude));
+        if (maxLat >= 90.0 || minLat <= -90.0 || Math.sin(angular) >= cosLat) {
+            lonDelta = 180.0;
+        } else {
+            lonDelta = Math.toDegrees(Math.asin(Math.sin(angular) / cosLat));
+        }
+
+        int firstLatCell = Math.max(0, latIndex(Math.max(-90.0, minLat)));
+        int lastLatCell = Math.min(latCells - 1, latIndex(Math.min(90.0, maxLat)));
+        int firstLonCell = (int) Math.floor((longitude - lonDelta + 180.0) / cellDegrees);
+        int lonSpan = Math.min(lonCells, (int) Math.floor((longitude + lonDelta + 180.0) / cellDegrees) - firstLonCell + 1);
+
+        double latRad = Math.toRadians(latitude);
+        for (int i = firstLatCell; i <= lastLatCell; i++) {
+            for (int step = 0; step < lonSpan; step++) {
+                int j = Math.floorMod(firstLonCell + step, lonCells);
+                Cell cell = grid.get((long) i * lonCells + j);
+                if (cell != null) {
+                    scan(cell, latitude, longitude, latRad, cosLat, minLat, maxLat, radiusKm, typeId, filter, out);
+                }
+            }
+        }
+    }
+
+    private static void scan(Cell cell, double latitude, double longitude, double latRad, double cosLat,
+                             double minLat, double maxLat, double radiusKm, int typeId, LongPredicate filter,
+                             BoundedTopK out) {
+        long[] ids = cell.ids;
+        double[] lats = cell.latitudes;
+        double[] lons = cell.longitudes;
+        int[] types = cell.types;
+        for (int n = 0; n < ids.length; n++) {
+            double lat = lats[n];
+            if (lat < minLat || lat > maxLat || (typeId >= 0 && types[n] != typeId)) {
+                continue;
+            }
+            double distance = haversine(latRad, cosLat, longitude, lat, lons[n]);
+            if (distance <= radiusKm && distance < out.worstKey() && (filter == null || filter.test(ids[n]))) {
+                out.offer(distance, ids[n]);
+            }
+        }
+    }
+
+    public static double haversine(double lat1Rad, double cosLat1, double lon1, double lat2, double lon2) {
+        double lat2Rad = Math.toRadians(lat2);
+        double sinDLat = Math.sin((lat2Rad - lat1Rad) / 2);
+        double sinDLon = Math.sin(Math.toRadians(lon2 - lon1) / 2);
+        double a = sinDLat * sinDLat + cosLat1 * Math.cos(lat2Rad) * sinDLon * sinDLon;
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    private void removeLocked(long businessId) {
+        long key = cellOf.remove(businessId, NO_CELL);
+        if (key != NO_CELL) {
+            cells.computeIfPresent(key, (k, cell) -> cell.without(businessId));
+        }
+    }
+
+    private void noteChange(long businessId) {
+        if (changedDuringRebuild != null) {
+            changedDuringRebuild.add(businessId);
+        }
+    }
+
+    private int internType(String businessType) {
+        return typeIds.computeIfAbsent(businessType != null ? businessType : "", t -> nextTypeId.getAndIncrement());
+    }
+
+    private int latIndex(double latitude) {
+        return Math.min(latCells - 1, (int) Math.floor((latitude + 90.0) / cellDegrees));
+    }
+
+    private long cellKey(double latitude, double longitude) {
+        int j = Math.floorMod((int) Math.floor((longitude + 180.0) / cellDegrees), lonCells);
+        return (long) latIndex(latitude) * lonCells + j;
+    }
+
+    /**
+     * Accumulates a full grid off to the side; not thread-safe, handed to {@link #finishRebuild}
+     */
+    public final class Builder {
+
+        private final Map<Long, CellBuilder> cells = new HashMap<>();
+        private final LongLongHashMap cellOf;
+
+        private Builder(int expectedSize) {
+            this.cellOf = new LongLongHashMap(expectedSize);
+        }
+
+        public void add(long businessId, double latitude, double longitude, String businessType) {
+            if (cellOf.containsKey(businessId)) {
+                return;
+            }
+            long key = cellKey(latitude, longitude);
+            cells.computeIfAbsent(key, k -> new CellBuilder()).add(businessId, latitude, longitude, internType(businessType));
+            cellOf.put(businessId, key);
+        }
+    }
+
+    private static final class CellBuilder {
+        private long[] ids = new long[8];
+        private double[] latitudes = new double[8];
+        private double[] longitudes = new double[8];
+        private int[] types = new int[8];
+        private int size;
+
+        void add(long id, double latitude, double longitude, int type) {
+            if (size == ids.length) {
+                int capacity = size * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                latitudes = Arrays.copyOf(latitudes, capacity);
+                longitudes = Arrays.copyOf(longitudes, capacity);
+                types = Arrays.copyOf(types, capacity);
+            }
+            ids[size] = id;
+            latitudes[size] = latitude;
+            longitudes[size] = longitude;
+            types[size] = type;
+            size++;
+        }
+
+        Cell build() {
+            return new Cell(Arrays.copyOf(ids, size), Arrays.copyOf(latitudes, size),
+                    Arrays.copyOf(longitudes, size), Arrays.copyOf(types, size));
+        }
+    }
+
+    private record Cell(long[] ids, double[] latitudes, double[] longitudes, int[] types) {
+
+        static final Cell EMPTY = new Cell(new long[0], new double[0], new double[0], new int[0]);
+
+        Cell with(long id, double latitude, double longitude, int type) {
+            int n = ids.length;
+            long[] newIds = Arrays.copyOf(ids, n + 1);
+            double[] newLatitudes = Arrays.copyOf(latitudes, n + 1);
+            double[] newLongitudes = Arrays.copyOf(longitudes, n + 1);
+            int[] newTypes = Arrays.copyOf(types, n + 1);
+            newIds[n] = id;
+            newLatitudes[n] = latitude;
+            newLongitudes[n] = longitude;
+            newTypes[n] = type;
+            return new Cell(newIds, newLatitudes, newLongitudes, newTypes);
+        }
+
+        // null removes the cell from the map once it is empty
+        Cell without(long id) {
+            int index = -1;
+            for (int n = 0; n < ids.length; n++) {
+                if (ids[n] == id) {
+                    index = n;
+                    break;
+                }
+            }
+            if (index < 0) {
+                return this;
+            }
+            if (ids.length == 1) {
+                return null;
+            }
+            int last = ids.length - 1;
+            long[] newIds = Arrays.copyOf(ids, last);
+            double[] newLatitudes = Arrays.copyOf(latitudes, last);
+            double[] newLongitudes = Arrays.copyOf(longitudes, last);
+            int[] newTypes = Arrays.copyOf(types, last);
+            if (index < last) {
+                newIds[index] = ids[last];
+                newLatitudes[index] = latitudes[last];
+                newLongitudes[index] = longitudes[last];
+                newTypes[index] = types[last];
+            }
+            return new Cell(newIds, newLatitudes, newLongitudes, newTypes);
+        }
+    }
+}
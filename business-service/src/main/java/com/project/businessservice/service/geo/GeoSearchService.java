@@ -0,0 +1,176 @@
+package com.project.businessservice.service.geo;
+
+import com.project.businessservice.dto.NearbyBusinessDto;
+import com.project.businessservice.event.BusinessChangedEvent;
+import com.project.businessservice.repository.GeoJdbcRepository;
+import com.project.businessservice.service.hours.OpenHoursIndex;
+import com.project.businessservice.service.hours.OpenHoursService;
+import com.project.businessservice.util.BoundedTopK;
+import com.project.common.exception.BusinessException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * "Businesses near me": k-nearest within a radius, optionally of one business type
+ *
+ * Served from {@link GeoIndex} once it has been loaded at startup; until then, or with
+ * app.geo.enabled=false, the same query runs on the earthdistance index in Postgres. Address
+ * and business changes on this instance are applied after commit; the periodic rebuild picks
+ * up changes made through other instances.
+ *
+ * With openAt, only businesses open at that instant by {@link OpenHoursService} are returned.
+ * The grid applies it while selecting the nearest k; the Postgres path over-fetches up to
+ * app.geo.max-results and filters afterwards.
+ */
+@Service
+@Slf4j
+public class GeoSearchService {
+
+    private final GeoIndex index;
+    private final GeoJdbcRepository geoRepository;
+    private final OpenHoursService openHoursService;
+    private final TransactionTemplate readOnlyTransaction;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final boolean enabled;
+    private final double maxRadiusKm;
+    private final int maxResults;
+
+    public GeoSearchService(GeoJdbcRepository geoRepository,
+                            OpenHoursService openHoursService,
+                            TransactionTemplate transactionTemplate,
+                            @Value("${app.geo.enabled:true}") boolean enabled,
+                            @Value("${app.geo.cell-degrees:0.05}") double cellDegrees,
+                            @Value("${app.geo.max-radius-km:100}") double maxRadiusKm,
+                            @Value("${app.geo.max-results:200}") int maxResults) {
+        this.geoRepository = geoRepository;
+        this.openHoursService = openHoursService;
+        this.readOnlyTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.readOnlyTransaction.setReadOnly(true);
+        this.index = new GeoIndex(cellDegrees);
+        this.enabled = enabled;
+        this.maxRadiusKm = maxRadiusKm;
+        this.maxResults = maxResults;
+    }
+
+    public List<NearbyBusinessDto> findNearby(double latitude, double longitude, Double radiusKm, Integer limit,
+                                              String businessType, Instant openAt) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new BusinessException("INVALID_COORDINATES", "Latitude must be within ±90 and longitude within ±180");
+        }
+        double radius = radiusKm != null ? radiusKm : maxRadiusKm;
+        if (radius <= 0 || radius > maxRadiusKm) {
+            throw new BusinessException("INVALID_RADIUS", "Radius must be between 0 and " + maxRadiusKm + " km");
+        }
+        int k = limit != null ? Math.max(1, Math.min(limit, maxResults)) : 20;
+
+        OpenHoursIndex.OpenAt open = null;
+        if (openAt != null) {
+            open = openHoursService.openAt(openAt).orElseThrow(() -> new BusinessException("SEARCH_UNAVAILABLE",
+                    "Opening hours are still loading, try again shortly"));
+        }
+
+        if (!enabled || !index.isLoaded()) {
+            if (open == null) {
+                return geoRepository.findNearby(latitude, longitude, radius, businessType, k);
+            }
+            OpenHoursIndex.OpenAt isOpen = open;
+            return geoRepository.findNearby(latitude, longitude, radius, businessType, maxResults).stream()
+                    .filter(business -> isOpen.test(business.getBusinessId()))
+                    .limit(k)
+                    .collect(Collectors.toList());
+        }
+
+        int typeId = businessType != null ? index.typeId(businessType) : -1;
+        if (businessType != null && typeId < 0) {
+            return List.of();
+        }
+        BoundedTopK nearest = new BoundedTopK(k);
+        index.nearest(latitude, longitude, radius, typeId, open, nearest);
+        int found = nearest.drainSorted();
+
+        List<Long> ids = new ArrayList<>(found);
+        for (int i = 0; i < found; i++) {
+            ids.add(nearest.valueAt(i));
+        }
+        Map<Long, GeoJdbcRepository.BusinessCard> cards = geoRepository.findCards(ids);
+        List<NearbyBusinessDto> result = new ArrayList<>(found);
+        for (int i = 0; i < found; i++) {
+            GeoJdbcRepository.BusinessCard card = cards.get(ids.get(i));
+            if (card != null) {
+                result.add(new NearbyBusinessDto(ids.get(i), card.name(), card.businessType(), card.city(),
+                        card.latitude(), card.longitude(), nearest.keyAt(i)));
+            }
+        }
+        return result;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAtStartup() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.geo.rebuild-interval-ms:600000}",
+            initialDelayString = "${app.geo.rebuild-interval-ms:600000}")
+    public void scheduledRebuild() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long started = System.nanoTime();
+            index.beginRebuild();
+            GeoIndex.Builder builder = index.builder(1024);
+            AtomicInteger count = new AtomicInteger();
+            readOnlyTransaction.executeWithoutResult(status -> geoRepository.streamLocated(
+                    (businessId, latitude, longitude, businessType) -> {
+                        builder.add(businessId, latitude, longitude, businessType);
+                        count.incrementAndGet();
+                    }));
+            Set<Long> changed = index.finishRebuild(builder);
+            changed.forEach(this::refresh);
+            log.info("Geo index rebuilt with {} businesses in {} ms ({} replayed)", count.get(),
+                    (System.nanoTime() - started) / 1_000_000, changed.size());
+        } catch (RuntimeException e) {
+            index.abortRebuild();
+            log.error("Geo index rebuild failed: {}", e.getMessage(), e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBusinessChanged(BusinessChangedEvent event) {
+        if (enabled && (event.aspect() == BusinessChangedEvent.Aspect.BUSINESS
+                || event.aspect() == BusinessChangedEvent.Aspect.ADDRESSES)) {
+            refresh(event.businessId());
+        }
+    }
+
+    private void refresh(long businessId) {
+        geoRepository.findLocated(businessId).ifPresentOrElse(
+                located -> index.put(businessId, located.latitude(), located.longitude(), located.businessType()),
+                () -> index.remove(businessId));
+    }
+}
@@ -0,0 +1,265 @@
+package com.project.businessservice.service.hours;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.LongPredicate;
+
+/**
+ * Weekly open-hours bitmap of every business, addressed directly by business ID
+ *
+ * Bitmaps live in one flat long array, {@link WeeklyHours#WORDS} longs per ID, next to a
+ * short array holding each business's interned time zone (-1 when it has no hours). IDs are
+ * BIGSERIAL and therefore dense; any above maxDenseId go to a small overflow map instead.
+ *
+ * {@link #at} resolves the instant to a (word, mask) pair once per distinct zone, after which
+ * testing a business is two array reads and an AND. Readers take no locks: a business whose
+ * hours are being replaced may briefly answer from either version. Writers are serialized;
+ * a full rebuild swaps in new arrays and replays anything that changed while it was loading.
+ */
+public class OpenHoursIndex {
+
+    private static final short NO_HOURS = -1;
+
+    private final long maxDenseId;
+
+    private volatile State state = new State(0);
+    private volatile Map<Long, Entry> overflow = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    // Interned zones; only grows, an index is never reused
+    private final List<ZoneId> zones = new CopyOnWriteArrayList<>();
+    private final Map<String, Short> zoneIds = new ConcurrentHashMap<>();
+
+    private final Object writeLock = new Object();
+    private Set<Long> changedDuringRebuild;
+
+    public OpenHoursIndex(long maxDenseId) {
+        this.maxDenseId = maxDenseId;
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Replaces a business's week; bits are the {@link WeeklyHours#WORDS} longs built for it
+     */
+    public void put(long businessId, String timezone, long[] bits) {
+        short zone = internZone(timezone);
+        synchronized (writeLock) {
+            if (businessId > maxDenseId) {
+                overflow.put(businessId, new Entry(zone, bits.clone()));
+            } else {
+                State current = ensureCapacity((int) businessId + 1);
+                System.arraycopy(bits, 0, current.bits, (int) businessId * WeeklyHours.WORDS, WeeklyHours.WORDS);
+                current.zones[(int) businessId] = zone;
+            }
+            noteChange(businessId);
+        }
+    }
+
+    public void remove(long businessId) {
+        synchronized (writeLock) {
+            if (businessId > maxDenseId) {
+                overflow.remove(businessId);
+            } else {
+                State current = state;
+                if (businessId < current.capacity) {
+                    current.zones[(int) businessId] = NO_HOURS;
+                    Arrays.fill(current.bits, (int) businessId * WeeklyHours.WORDS,
+                            ((int) businessId + 1) * WeeklyHours.WORDS, 0L);
+                }
+            }
+            noteChange(businessId);
+        }
+    }
+
+    /**
+     * Evaluator for one instant; cheap to create, meant to be used for a single query
+     */
+    public OpenAt at(Instant instant) {
+        int zoneCount = zones.size();
+        int[] words = new int[zoneCount];
+        long[] masks = new long[zoneCount];
+        for (int z = 0; z < zoneCount; z++) {
+            int slot = WeeklyHours.slotOf(instant.atZone(zones.get(z)));
+            words[z] = slot >>> 6;
+            masks[z] = 1L << (slot & 63);
+        }
+        return new OpenAt(state, overflow, words, masks);
+    }
+
+    public void beginRebuild() {
+        synchronized (writeLock) {
+            changedDuringRebuild = new HashSet<>();
+        }
+    }
+
+    /**
+     * Swaps in the rebuilt bitmaps and returns the businesses changed since {@link #beginRebuild};
+     * the caller reloads and re-applies them.
+     */
+    public Set<Long> finishRebuild(Builder builder) {
+        synchronized (writeLock) {
+            state = builder.state;
+            overflow = new ConcurrentHashMap<>(builder.overflow);
+            loaded = true;
+            Set<Long> changed = changedDuringRebuild != null ? changedDuringRebuild : Set.of();
+            changedDuringRebuild = null;
+            return changed;
+        }
+    }
+
+    public void abortRebuild() {
+        synchronized (writeLock) {
+            changedDuringRebuild = null;
+        }
+    }
+
+    public Builder builder() {
+        return new Builder();
+    }
+
+    private State ensureCapacity(int capacity) {
+        State current = state;
+        if (capacity <= current.capacity) {
+            return current;
+        }
+        State grown = current.grow(capacity);
+        state = grown;
+        return grown;
+    }
+
+    private void noteChange(long businessId) {
+        if (changedDuringRebuild != null) {
+            changedDuringRebuild.add(businessId);
+        }
+    }
+
+    private short internZone(String timezone) {
+        String key = timezone != null ? timezone : "UTC";
+        Short zone = zoneIds.get(key);
+        if (zone != null) {
+            return zone;
+        }
+        synchronized (zones) {
+            return zoneIds.computeIfAbsent(key, id -> {
+                zones.add(ZoneId.of(id));
+                return (short) (zones.size() - 1);
+            });
+        }
+    }
+
+    /**
+     * "Is this business open at T" for many businesses; also usable as a search predicate
+     */
+    public static final class OpenAt implements LongPredicate {
+
+        private final State state;
+        private final Map<Long, Entry> overflow;
+        private final int[] words;
+        private final long[] masks;
+
+        private OpenAt(State state, Map<Long, Entry> overflow, int[] words, long[] masks) {
+            this.state = state;
+            this.overflow = overflow;
+            this.words = words;
+            this.masks = masks;
+        }
+
+        @Override
+        public boolean test(long businessId) {
+            if (businessId >= 0 && businessId < state.capacity) {
+                int zone = state.zones[(int) businessId];
+                return zone >= 0 && zone < words.length
+                        && (state.bits[(int) businessId * WeeklyHours.WORDS + words[zone]] & masks[zone]) != 0;
+            }
+            Entry entry = overflow.isEmpty() ? null : overflow.get(businessId);
+            return entry != null && entry.zone < words.length
+                    && (entry.bits[words[entry.zone]] & masks[entry.zone]) != 0;
+        }
+
+        /**
+         * Moves the open businesses among ids[0 .. count) to the front, keeping their order,
+         * and returns how many there are
+         */
+        public int retainOpen(long[] ids, int count) {
+            long[] bits = state.bits;
+            short[] zoneOf = state.zones;
+            int capacity = state.capacity;
+            int kept = 0;
+            for (int i = 0; i < count; i++) {
+                long id = ids[i];
+                boolean open;
+                if (id >= 0 && id < capacity) {
+                    int zone = zoneOf[(int) id];
+                    open = zone >= 0 && zone < words.length
+                            && (bits[(int) id * WeeklyHours.WORDS + words[zone]] & masks[zone]) != 0;
+                } else {
+                    open = test(id);
+                }
+                if (open) {
+                    ids[kept++] = id;
+                }
+            }
+            return kept;
+        }
+    }
+
+    /**
+     * Accumulates a full index off to the side; not thread-safe, handed to {@link #finishRebuild}
+     */
+    public final class Builder {
+
+        private State state = new State(0);
+        private final Map<Long, Entry> overflow = new HashMap<>();
+
+        private Builder() {
+        }
+
+        public void put(long businessId, String timezone, long[] bits) {
+            short zone = internZone(timezone);
+            if (businessId > maxDenseId) {
+                overflow.put(businessId, new Entry(zone, bits.clone()));
+                return;
+            }
+            if (businessId >= state.capacity) {
+                state = state.grow((int) businessId + 1);
+            }
+            System.arraycopy(bits, 0, state.bits, (int) businessId * WeeklyHours.WORDS, WeeklyHours.WORDS);
+            state.zones[(int) businessId] = zone;
+        }
+    }
+
+    private record Entry(short zone, long[] bits) {
+    }
+
+    private static final class State {
+        final int capacity;
+        final long[] bits;
+        final short[] zones;
+
+        State(int capacity) {
+            this.capacity = capacity;
+            this.bits = new long[capacity * WeeklyHours.WORDS];
+            this.zones = new short[capacity];
+            Arrays.fill(zones, NO_HOURS);
+        }
+
+        // Grows by half again at least, so a run of new IDs does not copy on every insert
+        State grow(int minCapacity) {
+            State grown = new State(Math.max(minCapacity, capacity + (capacity >> 1) + 64));
+            System.arraycopy(bits, 0, grown.bits, 0, bits.length);
+            System.arraycopy(zones, 0, grown.zones, 0, zones.length);
+            return grown;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.project.businessservice.service.hours;
+
+import com.project.businessservice.event.BusinessChangedEvent;
+import com.project.businessservice.repository.BusinessHoursJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Keeps {@link OpenHoursIndex} loaded: a full load at startup and on a schedule, and a
+ * single-business refresh after every hours or time zone change made on this instance
+ */
+@Service
+@Slf4j
+public class OpenHoursService {
+
+    private final OpenHoursIndex index;
+    private final BusinessHoursJdbcRepository hoursRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final boolean enabled;
+
+    public OpenHoursService(BusinessHoursJdbcRepository hoursRepository,
+                            TransactionTemplate transactionTemplate,
+                            @Value("${app.hours.enabled:true}") boolean enabled,
+                            @Value("${app.hours.max-dense-id:10000000}") long maxDenseId) {
+        this.hoursRepository = hoursRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.readOnlyTransaction.setReadOnly(true);
+        this.index = new OpenHoursIndex(maxDenseId);
+        this.enabled = enabled;
+    }
+
+    /**
+     * Evaluator for the given instant, empty until the index has been loaded
+     */
+    public Optional<OpenHoursIndex.OpenAt> openAt(Instant instant) {
+        return enabled && index.isLoaded() ? Optional.of(index.at(instant)) : Optional.empty();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAtStartup() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.hours.rebuild-interval-ms:600000}",
+            initialDelayString = "${app.hours.rebuild-interval-ms:600000}")
+    public void scheduledRebuild() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long started = System.nanoTime();
+            index.beginRebuild();
+            OpenHoursIndex.Builder builder = index.builder();
+            WeekCollector collector = new WeekCollector(builder::put);
+            readOnlyTransaction.executeWithoutResult(status -> hoursRepository.streamOpenDays(collector));
+            collector.flush();
+            Set<Long> changed = index.finishRebuild(builder);
+            changed.forEach(this::refresh);
+            log.info("Open hours index rebuilt with {} businesses in {} ms ({} replayed)", collector.businesses,
+                    (System.nanoTime() - started) / 1_000_000, changed.size());
+        } catch (RuntimeException e) {
+            index.abortRebuild();
+            log.error("Open hours index rebuild failed: {}", e.getMessage(), e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBusinessChanged(BusinessChangedEvent event) {
+        if (enabled && (event.aspect() == BusinessChangedEvent.Aspect.HOURS
+                || event.aspect() == BusinessChangedEvent.Aspect.BUSINESS)) {
+            refresh(event.businessId());
+        }
+    }
+
+    private void refresh(long businessId) {
+        WeekCollector collector = new WeekCollector(index::put);
+        hoursRepository.findOpenDays(businessId, collector);
+        if (!collector.flush()) {
+            index.remove(businessId);
+        }
+    }
+
+    private interface WeekSink {
+        void put(long businessId, String timezone, long[] bits);
+    }
+
+    /**
+     * Folds consecutive rows of the same business into one bitmap
+     */
+    private static final class WeekCollector implements BusinessHoursJdbcRepository.HoursRowHandler {
+
+        private final WeekSink sink;
+        private final long[] bits = new long[WeeklyHours.WORDS];
+        private int businesses;
+        private long businessId = -1;
+        private String timezone;
+
+        WeekCollector(WeekSink sink) {
+            this.sink = sink;
+        }
+
+        @Override
+        public void accept(long businessId, String timezone, int dayOfWeek, LocalTime openingTime,
+                           LocalTime closingTime) {
+            if (businessId != this.businessId) {
+                flush();
+                this.businessId = businessId;
+                this.timezone = timezone;
+            }
+            WeeklyHours.addDay(bits, 0, dayOfWeek, openingTime, closingTime);
+        }
+
+        // Returns whether a business was pending
+        boolean flush() {
+            if (businessId < 0) {
+                return false;
+            }
+            try {
+                sink.put(businessId, timezone, bits);
+                businesses++;
+            } catch (DateTimeException e) {
+                log.warn("Business {} has an unknown time zone '{}', skipping its hours", businessId, timezone);
+            }
+            Arrays.fill(bits, 0L);
+            businessId = -1;
+            return true;
+        }
+    }
+}
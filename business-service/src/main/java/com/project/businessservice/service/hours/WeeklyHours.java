@@ -0,0 +1,58 @@
+package com.project.businessservice.service.hours;
+
+import java.time.LocalTime;
+import java.time.ZonedDateTime;
+
+/**
+ * Layout of the weekly open-hours bitmap: 7 days of 96 quarter-hour slots, Sunday first
+ * to match business_hours.day_of_week, packed into 11 longs per business.
+ *
+ * A slot is set only when the business is open for all of it, so 09:10-17:50 sets
+ * 09:15-17:45. A closing time at or before the opening time runs past midnight into the
+ * next day; 00:00 as a closing time means end of day.
+ */
+public final class WeeklyHours {
+
+    public static final int SLOT_MINUTES = 15;
+    public static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+    public static final int SLOTS_PER_WEEK = 7 * SLOTS_PER_DAY;
+    public static final int WORDS = (SLOTS_PER_WEEK + 63) / 64;
+
+    private WeeklyHours() {
+    }
+
+    /**
+     * Sets the slots of one business_hours row in bits[offset .. offset + WORDS)
+     */
+    public static void addDay(long[] bits, int offset, int dayOfWeek, LocalTime openingTime, LocalTime closingTime) {
+        int open = openingTime.getHour() * 60 + openingTime.getMinute();
+        int close = closingTime.getHour() * 60 + closingTime.getMinute();
+        if (close == 0) {
+            close = 24 * 60;
+        }
+        int firstSlot = (open + SLOT_MINUTES - 1) / SLOT_MINUTES;
+        int base = dayOfWeek * SLOTS_PER_DAY;
+        if (close > open) {
+            setRange(bits, offset, base + firstSlot, base + close / SLOT_MINUTES);
+        } else {
+            setRange(bits, offset, base + firstSlot, base + SLOTS_PER_DAY);
+            int nextDay = ((dayOfWeek + 1) % 7) * SLOTS_PER_DAY;
+            setRange(bits, offset, nextDay, nextDay + close / SLOT_MINUTES);
+        }
+    }
+
+    /**
+     * Week slot containing the given local time
+     */
+    public static int slotOf(ZonedDateTime time) {
+        int dayOfWeek = time.getDayOfWeek().getValue() % 7;
+        return dayOfWeek * SLOTS_PER_DAY + (time.getHour() * 60 + time.getMinute()) / SLOT_MINUTES;
+    }
+
+    // [from, to) in week slots
+    private static void setRange(long[] bits, int offset, int from, int to) {
+        for (int slot = from; slot < to; slot++) {
+            bits[offset + (slot >>> 6)] |= 1L << (slot & 63);
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.project.businessservice.service.image;
+
+import com.project.businessservice.dto.BusinessImageDto;
+import com.project.businessservice.entity.BusinessImage;
+import com.project.businessservice.entity.BusinessImageVariant;
+import com.project.businessservice.event.BusinessChangedEvent;
+import com.project.businessservice.event.ImageUploadedEvent;
+import com.project.businessservice.repository.BusinessImageRepository;
+import com.project.businessservice.repository.BusinessImageVariantRepository;
+import com.project.businessservice.service.BusinessAccessService;
+import com.project.common.exception.BusinessException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Upload, listing, serving and removal of business images
+ *
+ * The request body is streamed to {@link ImageStorage} and only its header is read on the
+ * request thread, to check the format and pixel count; the resized variants are made by
+ * {@link ImageProcessor} after the upload commits. Listings carry a content-hashed URL per
+ * size, so list views fetch thumbnails and browsers and CDNs can cache them for good.
+ */
+@Service
+@Slf4j
+public class BusinessImageService {
+
+    private static final Set<String> FORMATS = Set.of("jpeg", "png", "gif");
+    private static final int VERSION_LENGTH = 16;
+
+    private final BusinessImageRepository imageRepository;
+    private final BusinessImageVariantRepository variantRepository;
+    private final BusinessAccessService accessService;
+    private final ImageStorage storage;
+    private final ImageVariantSizes variantSizes;
+    private final ImageResponseWriter responseWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long maxBytes;
+    private final long maxPixels;
+
+    public BusinessImageService(BusinessImageRepository imageRepository,
+                                BusinessImageVariantRepository variantRepository,
+                                BusinessAccessService accessService,
+                                ImageStorage storage,
+                                ImageVariantSizes variantSizes,
+                                ImageResponseWriter responseWriter,
+                                TransactionTemplate transactionTemplate,
+                                ApplicationEventPublisher eventPublisher,
+                                @Value("${app.images.max-size:10MB}") DataSize maxSize,
+                                @Value("${app.images.max-pixels:40000000}") long maxPixels) {
+        this.imageRepository = imageRepository;
+        this.variantRepository = variantRepository;
+        this.accessService = accessService;
+        this.storage = storage;
+        this.variantSizes = variantSizes;
+        this.responseWriter = responseWriter;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.maxBytes = maxSize.toBytes();
+        this.maxPixels = maxPixels;
+    }
+
+    public BusinessImageDto upload(Long businessId, long contentLength, InputStream content,
+                                   BusinessImage.ImageType imageType, String altText, Boolean primary,
+                                   Integer displayOrder) {
+        accessService.requireManageable(businessId);
+        if (contentLength > maxBytes) {
+            throw new BusinessException("IMAGE_TOO_LARGE", "Images are limited to " + maxBytes + " bytes");
+        }
+
+        ImageStorage.StoredImage stored;
+        try {
+            stored = storage.store(content, maxBytes);
+        } catch (IOException e) {
+            log.warn("Storing image for business {} failed: {}", businessId, e.getMessage());
+            throw new BusinessException("IMAGE_UPLOAD_FAILED", "The image could not be stored");
+        }
+
+        try {
+            ImageResizer.Probe probe = probe(stored.key());
+            BusinessImage saved = transactionTemplate.execute(status -> {
+                if (Boolean.TRUE.equals(primary)) {
+                    imageRepository.clearOtherPrimary(businessId, 0L);
+                }
+                BusinessImage image = imageRepository.save(BusinessImage.builder()
+                        .businessId(businessId)
+                        .imageUrl("")
+                        .imageType(imageType != null ? imageType : BusinessImage.ImageType.GALLERY)
+                        .altText(altText)
+                        .displayOrder(displayOrder != null ? displayOrder : 0)
+                        .primary(Boolean.TRUE.equals(primary))
+                        .storageKey(stored.key())
+                        .contentType(probe.contentType())
+                        .fileSize(stored.size())
+                        .width(probe.width())
+                        .height(probe.height())
+                        .contentHash(stored.sha256())
+                        .processingStatus(BusinessImage.ProcessingStatus.PENDING)
+                        .build());
+                image.setImageUrl(contentUrl(image, null, stored.sha256()));
+                eventPublisher.publishEvent(new ImageUploadedEvent(image.getId()));
+                eventPublisher.publishEvent(new BusinessChangedEvent(businessId, BusinessChangedEvent.Aspect.IMAGES));
+                return image;
+            });
+            log.info("Image {} ({} bytes, {}x{}) added to business {}", saved.getId(), stored.size(),
+                    probe.width(), probe.height(), businessId);
+            return convertToDto(saved, List.of());
+        } catch (RuntimeException e) {
+            deleteQuietly(stored.key());
+            throw e;
+        }
+    }
+
+    public List<BusinessImageDto> getImages(Long businessId) {
+        accessService.getBusiness(businessId);
+        return listImages(businessId);
+    }
+
+    /**
+     * Images of a business already known to exist
+     */
+    public List<BusinessImageDto> listImages(Long businessId) {
+        List<BusinessImage> images = imageRepository.findByBusinessIdOrderByDisplayOrderAscIdAsc(businessId);
+        Map<Long, List<BusinessImageVariant>> variants = variantRepository
+                .findByImageIdIn(images.stream().map(BusinessImage::getId).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.groupingBy(BusinessImageVariant::getImageId));
+        return images.stream()
+                .map(image -> convertToDto(image, variants.getOrDefault(image.getId(), List.of())))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * The variant for size when there is one, otherwise the original
+     */
+    public void serve(Long businessId, Long imageId, String size, String version, HttpServletRequest request,
+                      HttpServletResponse response) throws IOException {
+        if (size != null && variantSizes.pixels(size).isEmpty()) {
+            throw new BusinessException("INVALID_IMAGE_SIZE", "Unknown image size: " + size);
+        }
+        BusinessImage image = findImage(businessId, imageId);
+        if (image.getStorageKey() == null) {
+            throw new BusinessException("IMAGE_NOT_FOUND", "Image has no stored content");
+        }
+        ImageResponseWriter.ImageFile file = new ImageResponseWriter.ImageFile(image.getStorageKey(),
+                image.getContentType(), image.getFileSize(), image.getContentHash());
+        if (size != null) {
+            Optional<BusinessImageVariant> variant = variantRepository.findByImageIdAndSizeName(imageId, size);
+            if (variant.isPresent()) {
+                file = new ImageResponseWriter.ImageFile(variant.get().getStorageKey(), variant.get().getContentType(),
+                        variant.get().getFileSize(), variant.get().getContentHash());
+            }
+        }
+        boolean versioned = version != null && version.length() >= VERSION_LENGTH
+                && file.sha256().startsWith(version);
+        responseWriter.write(file, versioned, request, response);
+    }
+
+    public void deleteImage(Long businessId, Long imageId) {
+        accessService.requireManageable(businessId);
+        List<String> keys = transactionTemplate.execute(status -> {
+            BusinessImage image = findImage(businessId, imageId);
+            List<String> stored = new ArrayList<>();
+            if (image.getStorageKey() != null) {
+                stored.add(image.getStorageKey());
+            }
+            variantRepository.findByImageId(imageId).forEach(variant -> stored.add(variant.getStorageKey()));
+            imageRepository.delete(image);
+            eventPublisher.publishEvent(new BusinessChangedEvent(businessId, BusinessChangedEvent.Aspect.IMAGES));
+            return stored;
+        });
+        keys.forEach(this::deleteQuietly);
+        log.info("Image {} removed from business {}", imageId, businessId);
+    }
+
+    private ImageResizer.Probe probe(String key) {
+        ImageResizer.Probe probe;
+        try (FileChannel channel = storage.open(key); InputStream content = Channels.newInputStream(channel)) {
+            probe = ImageResizer.probe(content);
+        } catch (IOException e) {
+            throw new BusinessException("INVALID_IMAGE", "Only JPEG, PNG and GIF images are accepted");
+        }
+        if (!FORMATS.contains(probe.format())) {
+            throw new BusinessException("INVALID_IMAGE", "Only JPEG, PNG and GIF images are accepted");
+        }
+        if ((long) probe.width() * probe.height() > maxPixels) {
+            throw new BusinessException("IMAGE_TOO_LARGE", "Images are limited to " + maxPixels + " pixels");
+        }
+        return probe;
+    }
+
+    private BusinessImage findImage(Long businessId, Long imageId) {
+        return imageRepository.findByIdAndBusinessId(imageId, businessId)
+                .orElseThrow(() -> new BusinessException("IMAGE_NOT_FOUND", "Image not found"));
+    }
+
+    private void deleteQuietly(String key) {
+        try {
+            storage.delete(key);
+        } catch (IOException e) {
+            log.warn("Could not delete stored image {}: {}", key, e.getMessage());
+        }
+    }
+
+    private static String contentUrl(BusinessImage image, String size, String sha256) {
+        return "/api/v1/businesses/" + image.getBusinessId() + "/images/" + image.getId() + "/content?"
+                + (size != null ? "size=" + size + "&" : "") + "v=" + sha256.substring(0, VERSION_LENGTH);
+    }
+
+    private BusinessImageDto convertToDto(BusinessImage image, List<BusinessImageVariant> variants) {
+        Map<String, String> urls = new LinkedHashMap<>();
+        if (image.getStorageKey() == null) {
+            urls.put("original", image.getImageUrl());
+        } else {
+            Map<String, BusinessImageVariant> bySize = variants.stream()
+                    .collect(Collectors.toMap(BusinessImageVariant::getSizeName, v -> v));
+            int longestSide = Math.max(image.getWidth(), image.getHeight());
+            // smallest first; a size the original already fits is served by the original
+            List<Map.Entry<String, Integer>> sizes = new ArrayList<>(variantSizes.all().entrySet());
+            for (int i = sizes.size() - 1; i >= 0; i--) {
+                String name = sizes.get(i).getKey();
+                BusinessImageVariant variant = bySize.get(name);
+                if (variant != null) {
+                    urls.put(name, contentUrl(image, name, variant.getContentHash()));
+                } else if (longestSide <= sizes.get(i).getValue()) {
+                    urls.put(name, contentUrl(image, name, image.getContentHash()));
+                }
+            }
+            urls.put("original", contentUrl(image, null, image.getContentHash()));
+        }
+        return new BusinessImageDto(image.getId(), image.getBusinessId(), image.getImageType(), image.getAltText(),
+                image.getDisplayOrder(), image.getPrimary(), image.getWidth(), image.getHeight(),
+                image.getProcessingStatus(), urls);
+    }
+}
@@ -0,0 +1,208 @@
+package com.project.businessservice.service.image;
+
+import com.project.businessservice.entity.BusinessImage;
+import com.project.businessservice.entity.BusinessImageVariant;
+import com.project.businessservice.event.BusinessChangedEvent;
+import com.project.businessservice.event.ImageUploadedEvent;
+import com.project.businessservice.repository.BusinessImageRepository;
+import com.project.businessservice.repository.BusinessImageVariantRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generates the resized variants of uploaded images on a fixed pool of platform threads
+ *
+ * Decoding and scaling are CPU-bound, so the pool is sized to a few cores and fronted by a
+ * bounded queue. When the queue is full the image simply stays PENDING; the sweeper
+ * resubmits pending images that have waited longer than a minute, which also covers uploads
+ * whose instance went down before their variants were made.
+ *
+ * Every instance sweeps, so a worker first claims the image by moving it to PROCESSING under a
+ * fresh claim ID and only the claim holder writes the outcome. A claim older than
+ * app.images.processing-timeout-ms is taken over, for instances that died mid-image.
+ */
+@Component
+@Slf4j
+public class ImageProcessor {
+
+    private final BusinessImageRepository imageRepository;
+    private final BusinessImageVariantRepository variantRepository;
+    private final ImageStorage storage;
+    private final ImageVariantSizes variantSizes;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ThreadPoolExecutor pool;
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private final float jpegQuality;
+    private final long processingTimeoutMs;
+
+    public ImageProcessor(BusinessImageRepository imageRepository,
+                          BusinessImageVariantRepository variantRepository,
+                          ImageStorage storage,
+                          ImageVariantSizes variantSizes,
+                          TransactionTemplate transactionTemplate,
+                          ApplicationEventPublisher eventPublisher,
+                          @Value("${app.images.workers:2}") int workers,
+                          @Value("${app.images.queue-capacity:200}") int queueCapacity,
+                          @Value("${app.images.jpeg-quality:0.82}") float jpegQuality,
+                          @Value("${app.images.processing-timeout-ms:600000}") long processingTimeoutMs) {
+        this.imageRepository = imageRepository;
+        this.variantRepository = variantRepository;
+        this.storage = storage;
+        this.variantSizes = variantSizes;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.jpegQuality = jpegQuality;
+        this.processingTimeoutMs = processingTimeoutMs;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-worker-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @TransactionalEventListener
+    public void onImageUploaded(ImageUploadedEvent event) {
+        submit(event.imageId());
+    }
+
+    @Scheduled(fixedDelayString = "${app.images.sweep-interval-ms:60000}",
+            initialDelayString = "${app.images.sweep-interval-ms:60000}")
+    public void sweepPending() {
+        imageRepository.findIdsToProcess(processingTimeoutMs).forEach(this::submit);
+    }
+
+    public void submit(Long imageId) {
+        if (!inFlight.add(imageId)) {
+            return;
+        }
+        try {
+            pool.execute(() -> {
+                try {
+                    process(imageId);
+                } finally {
+                    inFlight.remove(imageId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(imageId);
+            log.debug("Image queue full, image {} left for the sweeper", imageId);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    private void process(Long imageId) {
+        BusinessImage image = imageRepository.findById(imageId).orElse(null);
+        if (image == null || image.getStorageKey() == null) {
+            return;
+        }
+        UUID claim = UUID.randomUUID();
+        Integer claimed = transactionTemplate.execute(status ->
+                imageRepository.claimForProcessing(imageId, claim, processingTimeoutMs));
+        if (claimed == null || claimed == 0) {
+            log.debug("Image {} is already processed or claimed elsewhere", imageId);
+            return;
+        }
+        long started = System.nanoTime();
+        List<BusinessImageVariant> variants = new ArrayList<>();
+        try {
+            BufferedImage current;
+            try (FileChannel channel = storage.open(image.getStorageKey());
+                 InputStream content = Channels.newInputStream(channel)) {
+                current = ImageResizer.decode(content);
+            }
+            int longestSide = Math.max(current.getWidth(), current.getHeight());
+            for (Map.Entry<String, Integer> size : variantSizes.all().entrySet()) {
+                if (longestSide <= size.getValue()) {
+                    // the original already fits and is served for this size
+                    continue;
+                }
+                current = ImageResizer.fit(current, size.getValue());
+                ImageResizer.Encoded encoded = ImageResizer.encode(current, jpegQuality);
+                ImageStorage.StoredImage stored = storage.store(new ByteArrayInputStream(encoded.bytes()),
+                        Long.MAX_VALUE);
+                variants.add(BusinessImageVariant.builder()
+                        .imageId(imageId)
+                        .sizeName(size.getKey())
+                        .width(encoded.width())
+                        .height(encoded.height())
+                        .contentType(encoded.contentType())
+                        .fileSize(stored.size())
+                        .storageKey(stored.key())
+                        .contentHash(stored.sha256())
+                        .build());
+            }
+            List<BusinessImageVariant> replaced = transactionTemplate.execute(status -> {
+                BusinessImage latest = imageRepository.findById(imageId)
+                        .orElseThrow(() -> new IllegalStateException("Image was deleted while it was processed"));
+                if (imageRepository.finishProcessing(imageId, claim, BusinessImage.ProcessingStatus.READY.name()) == 0) {
+                    throw new IllegalStateException("Processing claim was taken over");
+                }
+                List<BusinessImageVariant> previous = variantRepository.findByImageId(imageId);
+                variantRepository.deleteAll(previous);
+                variantRepository.flush();
+                variantRepository.saveAll(variants);
+                eventPublisher.publishEvent(
+                        new BusinessChangedEvent(latest.getBusinessId(), BusinessChangedEvent.Aspect.IMAGES));
+                return previous;
+            });
+            replaced.forEach(variant -> deleteQuietly(variant.getStorageKey()));
+            log.info("Generated {} variants for image {} in {} ms", variants.size(), imageId,
+                    (System.nanoTime() - started) / 1_000_000);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Generating variants for image {} failed: {}", imageId, e.getMessage());
+            variants.forEach(variant -> deleteQuietly(variant.getStorageKey()));
+            markFailed(imageId, claim);
+        }
+    }
+
+    // Only while the claim is held, so a run that lost its claim never overwrites another run's outcome
+    private void markFailed(Long imageId, UUID claim) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    imageRepository.finishProcessing(imageId, claim, BusinessImage.ProcessingStatus.FAILED.name()));
+        } catch (RuntimeException e) {
+            log.warn("Could not mark image {} as failed: {}", imageId, e.getMessage());
+        }
+    }
+
+    private void deleteQuietly(String key) {
+        try {
+            storage.delete(key);
+        } catch (IOException e) {
+            log.warn("Could not delete image file {}: {}", key, e.getMessage());
+        }
+    }
+}
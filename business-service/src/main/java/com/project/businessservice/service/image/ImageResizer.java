@@ -0,0 +1,123 @@
+package com.project.businessservice.service.image;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.Locale;
+
+/**
+ * Probing, decoding and downscaling with the JDK's ImageIO and Java2D
+ *
+ * Downscaling halves the image with bilinear filtering until it is within a factor of two
+ * of the target, then does one last bilinear step; that is close to area-averaging quality
+ * at a fraction of its cost. Opaque results are written as JPEG, anything with alpha as PNG.
+ */
+public final class ImageResizer {
+
+    private ImageResizer() {
+    }
+
+    public record Probe(String format, int width, int height) {
+
+        public String contentType() {
+            return "image/" + format;
+        }
+    }
+
+    public record Encoded(byte[] bytes, String contentType, int width, int height) {
+    }
+
+    /**
+     * Format and dimensions from the header only, without decoding pixels
+     */
+    public static Probe probe(InputStream content) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(content)) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) {
+                throw new IOException("Not a supported image format");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                String format = reader.getFormatName().toLowerCase(Locale.ROOT);
+                return new Probe("jpg".equals(format) ? "jpeg" : format, reader.getWidth(0), reader.getHeight(0));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    public static BufferedImage decode(InputStream content) throws IOException {
+        BufferedImage image = ImageIO.read(content);
+        if (image == null) {
+            throw new IOException("Not a supported image format");
+        }
+        return image;
+    }
+
+    /**
+     * Scales so the longer side is maxDimension; the image is returned as is when already within it
+     */
+    public static BufferedImage fit(BufferedImage source, int maxDimension) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        if (Math.max(width, height) <= maxDimension) {
+            return source;
+        }
+        double scale = (double) maxDimension / Math.max(width, height);
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        boolean alpha = source.getColorModel().hasAlpha();
+        BufferedImage current = source;
+        while (width / 2 >= targetWidth && height / 2 >= targetHeight) {
+            width /= 2;
+            height /= 2;
+            current = draw(current, width, height, alpha);
+        }
+        return draw(current, targetWidth, targetHeight, alpha);
+    }
+
+    public static Encoded encode(BufferedImage image, float jpegQuality) throws IOException {
+        boolean alpha = image.getColorModel().hasAlpha();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(alpha ? "png" : "jpeg").next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (!alpha) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(jpegQuality);
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return new Encoded(out.toByteArray(), alpha ? "image/png" : "image/jpeg", image.getWidth(), image.getHeight());
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height, boolean alpha) {
+        BufferedImage target = new BufferedImage(width, height,
+                alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+}
@@ -0,0 +1,76 @@
+package com.project.businessservice.service.image;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Writes a stored image to the response, through Tomcat's sendfile when available
+ *
+ * A request whose v parameter names the content hash gets a year-long immutable
+ * Cache-Control, since that URL can never serve other bytes; anything else must revalidate.
+ * The hash doubles as a strong ETag.
+ */
+@Component
+@RequiredArgsConstructor
+public class ImageResponseWriter {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final String IMMUTABLE = "public, max-age=31536000, immutable";
+    private static final String REVALIDATE = "public, no-cache";
+
+    private final ImageStorage storage;
+
+    public record ImageFile(String key, String contentType, long size, String sha256) {
+    }
+
+    public void write(ImageFile file, boolean versioned, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        String etag = "\"" + file.sha256() + "\"";
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, versioned ? IMMUTABLE : REVALIDATE);
+        if (etag.equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        response.setContentType(file.contentType());
+        response.setContentLengthLong(file.size());
+        if (file.size() <= 0) {
+            return;
+        }
+
+        Optional<Path> path = storage.localPath(file.key());
+        if (path.isPresent() && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, path.get().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, file.size());
+            return;
+        }
+
+        try (FileChannel channel = storage.open(file.key())) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = 0;
+            while (position < file.size()) {
+                long transferred = channel.transferTo(position, file.size() - position, out);
+                if (transferred <= 0) {
+                    throw new IOException("Image " + file.key() + " is shorter than its recorded size");
+                }
+                position += transferred;
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.project.businessservice.service.image;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Where image bytes, originals and variants alike, live; the database keeps the key returned by {@link #store}
+ *
+ * Implementations must stream: content is read in bounded chunks and never held whole in memory.
+ */
+public interface ImageStorage {
+
+    /**
+     * Copies the stream into a new object and returns its key, size and SHA-256.
+     * Fails with IMAGE_TOO_LARGE once more than maxBytes have been read, leaving nothing behind.
+     */
+    StoredImage store(InputStream content, long maxBytes) throws IOException;
+
+    FileChannel open(String key) throws IOException;
+
+    /**
+     * The object's path on the local filesystem when it has one, for sendfile and decoding
+     */
+    Optional<Path> localPath(String key);
+
+    void delete(String key) throws IOException;
+
+    record StoredImage(String key, long size, String sha256) {
+    }
+}
@@ -0,0 +1,45 @@
+package com.project.businessservice.service.image;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Named variant sizes from app.images.variants, e.g. "thumb=160,small=320"; each size is the
+ * longest side in pixels
+ */
+@Component
+public class ImageVariantSizes {
+
+    // Largest first, so each variant can be scaled down from the previous one
+    private final Map<String, Integer> sizes;
+
+    public ImageVariantSizes(
+            @Value("${app.images.variants:thumb=160,small=320,medium=640,large=1280}") String variants) {
+        Map<String, Integer> parsed = new LinkedHashMap<>();
+        for (String entry : variants.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Image variant must be name=pixels: " + entry);
+            }
+            parsed.put(parts[0].trim(), Integer.parseInt(parts[1].trim()));
+        }
+        Map<String, Integer> ordered = new LinkedHashMap<>();
+        parsed.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .forEach(e -> ordered.put(e.getKey(), e.getValue()));
+        this.sizes = Collections.unmodifiableMap(ordered);
+    }
+
+    public Map<String, Integer> all() {
+        return sizes;
+    }
+
+    public Optional<Integer> pixels(String name) {
+        return Optional.ofNullable(sizes.get(name));
+    }
+}
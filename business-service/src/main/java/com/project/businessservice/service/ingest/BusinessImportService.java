@@ -0,0 +1,134 @@
+package com.project.businessservice.service.ingest;
+
+import com.project.businessservice.dto.BusinessImportDto;
+import com.project.businessservice.dto.BusinessImportErrorDto;
+import com.project.businessservice.entity.BusinessImport;
+import com.project.businessservice.repository.BusinessImportJdbcRepository;
+import com.project.businessservice.repository.BusinessImportRepository;
+import com.project.businessservice.util.JwtUtil;
+import com.project.common.exception.BusinessException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Accepts partner feeds and reports on their imports; {@link BusinessImportWorker} does the loading
+ *
+ * The feed is streamed to {@link ImportFeedStorage} before the import is recorded, so the
+ * upload returns as soon as the bytes are on disk and the worker can re-read them on resume.
+ */
+@Service
+@Slf4j
+public class BusinessImportService {
+
+    private static final Pattern SOURCE = Pattern.compile("^[A-Za-z0-9._-]{1,100}$");
+    private static final int MAX_ERRORS_PAGE = 1000;
+
+    private final BusinessImportRepository importRepository;
+    private final BusinessImportJdbcRepository importJdbcRepository;
+    private final ImportFeedStorage feedStorage;
+    private final BusinessImportWorker worker;
+    private final long maxBytes;
+
+    public BusinessImportService(BusinessImportRepository importRepository,
+                                 BusinessImportJdbcRepository importJdbcRepository,
+                                 ImportFeedStorage feedStorage,
+                                 BusinessImportWorker worker,
+                                 @Value("${app.imports.max-size:2GB}") DataSize maxSize) {
+        this.importRepository = importRepository;
+        this.importJdbcRepository = importJdbcRepository;
+        this.feedStorage = feedStorage;
+        this.worker = worker;
+        this.maxBytes = maxSize.toBytes();
+    }
+
+    public BusinessImportDto startImport(String source, BusinessImport.Format format, long contentLength,
+                                         InputStream content) {
+        if (source == null || !SOURCE.matcher(source).matches()) {
+            throw new BusinessException("INVALID_SOURCE", "Source must be 1-100 letters, digits, '.', '_' or '-'");
+        }
+        if (format == null) {
+            throw new BusinessException("INVALID_FORMAT", "Give format=CSV or format=NDJSON, or a text/csv or application/x-ndjson body");
+        }
+        if (contentLength > maxBytes) {
+            throw new BusinessException("IMPORT_TOO_LARGE", "Feeds are limited to " + maxBytes + " bytes");
+        }
+
+        ImportFeedStorage.StoredFeed stored;
+        try {
+            stored = feedStorage.store(content, maxBytes);
+        } catch (IOException e) {
+            log.warn("Storing feed from {} failed: {}", source, e.getMessage());
+            throw new BusinessException("IMPORT_UPLOAD_FAILED", "The feed could not be stored");
+        }
+
+        BusinessImport saved;
+        try {
+            saved = importRepository.save(BusinessImport.builder()
+                    .source(source)
+                    .format(format)
+                    .storageKey(stored.key())
+                    .storageVolume(feedStorage.volumeId())
+                    .fileSize(stored.size())
+                    .createdBy(JwtUtil.getCurrentKeycloakId())
+                    .build());
+        } catch (RuntimeException e) {
+            deleteQuietly(stored.key());
+            throw e;
+        }
+        log.info("Import {} of {} bytes of {} from {} accepted", saved.getId(), stored.size(), format, source);
+        worker.submit(saved.getId());
+        return convertToDto(saved);
+    }
+
+    public BusinessImportDto getImport(Long importId) {
+        return convertToDto(findImport(importId));
+    }
+
+    /**
+     * Rejected rows and businesses in the order they were recorded, afterId being the last ID of the previous page
+     */
+    public List<BusinessImportErrorDto> getErrors(Long importId, Long afterId, Integer limit) {
+        findImport(importId);
+        int size = limit != null ? Math.max(1, Math.min(limit, MAX_ERRORS_PAGE)) : 100;
+        return importJdbcRepository.findErrors(importId, afterId != null ? afterId : 0L, size);
+    }
+
+    /**
+     * Restarts a failed import from its last checkpoint
+     */
+    public BusinessImportDto resumeImport(Long importId) {
+        findImport(importId);
+        if (!importJdbcRepository.resume(importId)) {
+            throw new BusinessException("IMPORT_NOT_RESUMABLE", "Only failed imports can be resumed");
+        }
+        log.info("Import {} resumed", importId);
+        worker.submit(importId);
+        return convertToDto(findImport(importId));
+    }
+
+    private BusinessImport findImport(Long importId) {
+        return importRepository.findById(importId)
+                .orElseThrow(() -> new BusinessException("IMPORT_NOT_FOUND", "Import not found"));
+    }
+
+    private void deleteQuietly(String key) {
+        try {
+            feedStorage.delete(key);
+        } catch (IOException e) {
+            log.warn("Could not delete import feed {}: {}", key, e.getMessage());
+        }
+    }
+
+    private BusinessImportDto convertToDto(BusinessImport job) {
+        return new BusinessImportDto(job.getId(), job.getSource(), job.getFormat(), job.getFileSize(), job.getStatus(),
+                job.getRowsRead(), job.getRowsUpserted(), job.getRowsRejected(), job.getVerifiedCount(),
+                job.getRejectedCount(), job.getErrorMessage(), job.getCreatedAt(), job.getCompletedAt());
+    }
+}
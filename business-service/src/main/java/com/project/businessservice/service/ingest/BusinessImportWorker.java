@@ -0,0 +1,312 @@
+package com.project.businessservice.service.ingest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.businessservice.entity.BusinessImport;
+import com.project.businessservice.repository.BusinessImportJdbcRepository;
+import com.project.businessservice.repository.BusinessImportJdbcRepository.ImportError;
+import com.project.businessservice.repository.BusinessImportJdbcRepository.VerificationCandidate;
+import com.project.businessservice.repository.BusinessImportRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+
+/**
+ * Runs partner feed imports in two checkpointed stages
+ *
+ * Ingest streams the feed in chunks: the next chunk is parsed and validated across
+ * app.imports.validation-threads while the current one is upserted, and each chunk commits
+ * together with the checkpoint that covers it. Verify then walks the import's pending
+ * businesses by ID in batches through the {@link VerificationRule}s, again committing each
+ * batch with its checkpoint. An import is held under a lease renewed at every checkpoint; when
+ * an instance dies, the sweep picks the import up after the last committed chunk or batch, and
+ * a failed import is resumed the same way. Only instances that mount the feed's storage volume
+ * can claim it: with app.imports.root on a shared volume that is any instance, otherwise the
+ * import waits for its own instance to come back.
+ *
+ * Imported businesses reach the in-memory read models (geo, hours, catalog, profiles) on their
+ * scheduled rebuilds rather than through a change event per row.
+ */
+@Component
+@Slf4j
+public class BusinessImportWorker {
+
+    private static final int MIN_SLICE = 64;
+
+    private final BusinessImportRepository importRepository;
+    private final BusinessImportJdbcRepository importJdbcRepository;
+    private final ImportFeedStorage feedStorage;
+    private final ImportRowValidator validator;
+    private final List<VerificationRule> rules;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final String workerId = UUID.randomUUID().toString();
+    private final ExecutorService importPool;
+    private final ExecutorService validationPool;
+    private final Semaphore slots;
+    private final int validationThreads;
+    private final int chunkSize;
+    private final int verifyBatchSize;
+    private final long leaseMs;
+    private volatile boolean stopping;
+
+    public BusinessImportWorker(BusinessImportRepository importRepository,
+                                BusinessImportJdbcRepository importJdbcRepository,
+                                ImportFeedStorage feedStorage,
+                                ImportRowValidator validator,
+                                List<VerificationRule> rules,
+                                ObjectMapper objectMapper,
+                                TransactionTemplate transactionTemplate,
+                                @Value("${app.imports.workers:1}") int workers,
+                                @Value("${app.imports.validation-threads:0}") int validationThreads,
+                                @Value("${app.imports.chunk-size:2000}") int chunkSize,
+                                @Value("${app.imports.verify-batch-size:1000}") int verifyBatchSize,
+                                @Value("${app.imports.lease-ms:300000}") long leaseMs) {
+        this.importRepository = importRepository;
+        this.importJdbcRepository = importJdbcRepository;
+        this.feedStorage = feedStorage;
+        this.validator = validator;
+        this.rules = rules;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.validationThreads = validationThreads > 0 ? validationThreads : Runtime.getRuntime().availableProcessors();
+        this.importPool = Executors.newFixedThreadPool(Math.max(1, workers));
+        this.validationPool = Executors.newFixedThreadPool(this.validationThreads);
+        this.slots = new Semaphore(Math.max(1, workers));
+        this.chunkSize = chunkSize;
+        this.verifyBatchSize = verifyBatchSize;
+        this.leaseMs = leaseMs;
+    }
+
+    /**
+     * Starts the import here if a worker is free and nobody else holds it; otherwise the sweep gets to it
+     */
+    public void submit(long importId) {
+        if (stopping || !slots.tryAcquire()) {
+            return;
+        }
+        if (!importJdbcRepository.claim(importId, workerId, feedStorage.volumeId(), leaseMs)) {
+            slots.release();
+            return;
+        }
+        importPool.execute(() -> {
+            try {
+                run(importId);
+            } finally {
+                slots.release();
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeAtStartup() {
+        sweep();
+    }
+
+    @Scheduled(fixedDelayString = "${app.imports.sweep-interval-ms:60000}",
+            initialDelayString = "${app.imports.sweep-interval-ms:60000}")
+    public void sweep() {
+        try {
+            int free = slots.availablePermits();
+            if (free > 0) {
+                importJdbcRepository.findClaimable(feedStorage.volumeId(), free).forEach(this::submit);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Import sweep failed: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // running imports stop at their next chunk; their leases expire and an instance on the same volume resumes them
+        stopping = true;
+        importPool.shutdownNow();
+        validationPool.shutdownNow();
+    }
+
+    private void run(long importId) {
+        long started = System.nanoTime();
+        try {
+            BusinessImport job = importRepository.findById(importId).orElseThrow();
+            if (job.getStatus() == BusinessImport.Status.INGESTING) {
+                log.info("Ingesting import {} from {} after row {}", importId, job.getSource(), job.getRowsRead());
+                ingest(job);
+                if (!importJdbcRepository.startVerification(importId, workerId, leaseMs)) {
+                    throw new LeaseLostException(importId);
+                }
+                job = importRepository.findById(importId).orElseThrow();
+            }
+            verify(job);
+            if (!importJdbcRepository.complete(importId, workerId)) {
+                throw new LeaseLostException(importId);
+            }
+            deleteFeed(job.getStorageKey());
+            job = importRepository.findById(importId).orElseThrow();
+            log.info("Import {} completed in {} ms: {} rows read, {} upserted, {} rejected; {} verified, {} rejected",
+                    importId, (System.nanoTime() - started) / 1_000_000, job.getRowsRead(), job.getRowsUpserted(),
+                    job.getRowsRejected(), job.getVerifiedCount(), job.getRejectedCount());
+        } catch (LeaseLostException e) {
+            log.warn("Lost the lease on import {}; another worker has taken it over", importId);
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            if (stopping) {
+                log.info("Import {} interrupted by shutdown; it resumes from its last checkpoint", importId);
+                return;
+            }
+            Throwable cause = e instanceof ExecutionException && e.getCause() != null ? e.getCause() : e;
+            log.error("Import {} failed: {}", importId, cause.getMessage(), cause);
+            String message = cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+            importJdbcRepository.fail(importId, workerId, message.length() > 500 ? message.substring(0, 500) : message);
+        }
+    }
+
+    private void ingest(BusinessImport job) throws IOException, InterruptedException, ExecutionException {
+        long checkpoint = job.getRowsRead();
+        try (InputStream content = feedStorage.open(job.getStorageKey());
+             FeedReader reader = FeedReader.open(job.getFormat(), content, objectMapper)) {
+            List<FeedRow> chunk = readChunk(reader, checkpoint);
+            CompletableFuture<List<ImportRowValidator.Result>> validating = validate(chunk);
+            while (!chunk.isEmpty()) {
+                List<ImportRowValidator.Result> validated = validating.get();
+                long lastRow = chunk.get(chunk.size() - 1).rowNumber();
+                // the next chunk is parsed here and validated while this one is written
+                chunk = readChunk(reader, checkpoint);
+                validating = validate(chunk);
+                write(job, validated, lastRow);
+                if (stopping) {
+                    throw new InterruptedException("Shutting down");
+                }
+            }
+        }
+    }
+
+    private List<FeedRow> readChunk(FeedReader reader, long skipThrough) throws IOException {
+        List<FeedRow> chunk = new ArrayList<>(chunkSize);
+        FeedRow row;
+        while (chunk.size() < chunkSize && (row = reader.next()) != null) {
+            if (row.rowNumber() > skipThrough) {
+                chunk.add(row);
+            }
+        }
+        return chunk;
+    }
+
+    private CompletableFuture<List<ImportRowValidator.Result>> validate(List<FeedRow> rows) {
+        if (rows.isEmpty()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+        int slices = Math.max(1, Math.min(validationThreads, rows.size() / MIN_SLICE));
+        List<CompletableFuture<List<ImportRowValidator.Result>>> parts = new ArrayList<>(slices);
+        for (int s = 0; s < slices; s++) {
+            List<FeedRow> slice = rows.subList(rows.size() * s / slices, rows.size() * (s + 1) / slices);
+            parts.add(CompletableFuture.supplyAsync(() -> slice.stream()
+                    .map(validator::validate)
+                    .collect(Collectors.toList()), validationPool));
+        }
+        return CompletableFuture.allOf(parts.toArray(new CompletableFuture[0])).thenApply(done -> {
+            List<ImportRowValidator.Result> results = new ArrayList<>(rows.size());
+            parts.forEach(part -> results.addAll(part.join()));
+            return results;
+        });
+    }
+
+    private void write(BusinessImport job, List<ImportRowValidator.Result> validated, long lastRow) {
+        // a business repeated within the chunk is upserted once, with its last row
+        Map<String, ImportedBusiness> accepted = new LinkedHashMap<>();
+        List<ImportError> errors = new ArrayList<>();
+        for (ImportRowValidator.Result result : validated) {
+            if (result.error() != null) {
+                errors.add(ImportError.ingest(result.rowNumber(), result.externalRef(), result.error()));
+            } else {
+                accepted.put(result.externalRef(), result.business());
+            }
+        }
+        int upserted = validated.size() - errors.size();
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<String, Long> ids = importJdbcRepository.upsertBusinesses(job.getId(), job.getSource(), accepted.values());
+            importJdbcRepository.upsertPrimaryAddresses(ids, accepted.values());
+            importJdbcRepository.insertErrors(job.getId(), errors);
+            if (!importJdbcRepository.advanceIngest(job.getId(), workerId, lastRow, upserted, errors.size(), leaseMs)) {
+                throw new LeaseLostException(job.getId());
+            }
+        });
+    }
+
+    private void verify(BusinessImport job) throws InterruptedException {
+        long after = job.getVerifyCheckpoint();
+        while (true) {
+            List<VerificationCandidate> batch = importJdbcRepository.findPendingCandidates(job.getId(), after, verifyBatchSize);
+            if (batch.isEmpty()) {
+                return;
+            }
+            Map<Long, String> rejected = new HashMap<>();
+            List<VerificationCandidate> remaining = batch;
+            for (VerificationRule rule : rules) {
+                if (remaining.isEmpty()) {
+                    break;
+                }
+                Map<Long, String> failed = rule.check(remaining);
+                if (!failed.isEmpty()) {
+                    rejected.putAll(failed);
+                    remaining = remaining.stream()
+                            .filter(candidate -> !failed.containsKey(candidate.id()))
+                            .collect(Collectors.toList());
+                }
+            }
+            List<Long> verified = remaining.stream().map(VerificationCandidate::id).collect(Collectors.toList());
+            List<ImportError> errors = batch.stream()
+                    .filter(candidate -> rejected.containsKey(candidate.id()))
+                    .map(candidate -> ImportError.verify(candidate.id(), candidate.externalRef(), rejected.get(candidate.id())))
+                    .collect(Collectors.toList());
+            long checkpoint = batch.get(batch.size() - 1).id();
+            transactionTemplate.executeWithoutResult(status -> {
+                importJdbcRepository.applyVerification(job.getId(), verified, "VERIFIED");
+                importJdbcRepository.applyVerification(job.getId(), rejected.keySet(), "REJECTED");
+                importJdbcRepository.insertErrors(job.getId(), errors);
+                if (!importJdbcRepository.advanceVerify(job.getId(), workerId, checkpoint, verified.size(),
+                        rejected.size(), leaseMs)) {
+                    throw new LeaseLostException(job.getId());
+                }
+            });
+            after = checkpoint;
+            if (stopping) {
+                throw new InterruptedException("Shutting down");
+            }
+        }
+    }
+
+    private void deleteFeed(String key) {
+        try {
+            feedStorage.delete(key);
+        } catch (IOException e) {
+            log.warn("Could not delete import feed {}: {}", key, e.getMessage());
+        }
+    }
+
+    private static class LeaseLostException extends RuntimeException {
+        LeaseLostException(long importId) {
+            super("Lease lost on import " + importId);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.project.businessservice.service.ingest;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * RFC 4180 CSV with a header row naming the columns
+ *
+ * Quoted fields may contain commas, doubled quotes and line breaks; empty fields read as null.
+ * Column names are matched case-insensitively. A field longer than {@link #MAX_FIELD_LENGTH}
+ * almost always means an unbalanced quote, and fails the feed instead of swallowing the rest.
+ */
+class CsvFeedReader implements FeedReader {
+
+    private static final int MAX_FIELD_LENGTH = 64 * 1024;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final StringBuilder field = new StringBuilder();
+    private final String[] columns;
+    private int position;
+    private int limit;
+    private long rowNumber;
+
+    CsvFeedReader(Reader reader) throws IOException {
+        this.reader = reader;
+        List<String> header = readRecord();
+        if (header == null) {
+            throw new FeedFormatException("The feed is empty");
+        }
+        columns = new String[header.size()];
+        for (int i = 0; i < columns.length; i++) {
+            String name = header.get(i);
+            if (i == 0 && name.startsWith("\uFEFF")) {
+                name = name.substring(1);
+            }
+            columns[i] = name.trim().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    @Override
+    public FeedRow next() throws IOException {
+        while (true) {
+            List<String> values = readRecord();
+            if (values == null) {
+                return null;
+            }
+            rowNumber++;
+            if (values.size() == 1 && values.get(0).isEmpty()) {
+                continue;
+            }
+            if (values.size() != columns.length) {
+                return new FeedRow(rowNumber, Map.of(),
+                        "Expected " + columns.length + " columns but found " + values.size());
+            }
+            Map<String, String> fields = new HashMap<>(columns.length * 2);
+            for (int i = 0; i < columns.length; i++) {
+                String value = values.get(i);
+                fields.put(columns[i], value.isEmpty() ? null : value);
+            }
+            return new FeedRow(rowNumber, fields, null);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private List<String> readRecord() throws IOException {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+        List<String> values = new ArrayList<>();
+        field.setLength(0);
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new FeedFormatException("Unterminated quoted field after row " + rowNumber);
+                }
+                if (c == '"') {
+                    c = read();
+                    if (c != '"') {
+                        quoted = false;
+                        continue;
+                    }
+                }
+                append((char) c);
+            } else if (c == -1 || c == '\n') {
+                values.add(field.toString());
+                return values;
+            } else if (c == ',') {
+                values.add(field.toString());
+                field.setLength(0);
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c != '\r') {
+                append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    private void append(char c) throws FeedFormatException {
+        if (field.length() == MAX_FIELD_LENGTH) {
+            throw new FeedFormatException("Field longer than " + MAX_FIELD_LENGTH + " characters after row " + rowNumber);
+        }
+        field.append(c);
+    }
+
+    private int read() throws IOException {
+        if (position == limit) {
+            limit = reader.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        return buffer[position++];
+    }
+}
@@ -0,0 +1,48 @@
+package com.project.businessservice.service.ingest;
+
+import com.project.businessservice.repository.BusinessImportJdbcRepository;
+import com.project.businessservice.repository.BusinessImportJdbcRepository.VerificationCandidate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * A registration number belongs to one verified business
+ *
+ * Runs last, so the first candidate in the batch to claim a number is certain to be verified
+ * and later ones in the same batch can be rejected against it.
+ */
+@Component
+@Order(30)
+@RequiredArgsConstructor
+public class DuplicateRegistrationRule implements VerificationRule {
+
+    private final BusinessImportJdbcRepository importRepository;
+
+    @Override
+    public Map<Long, String> check(List<VerificationCandidate> candidates) {
+        Map<String, Long> holders = importRepository.findVerifiedRegistrations(candidates.stream()
+                .map(VerificationCandidate::registrationNumber)
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList()));
+        Map<Long, String> rejected = new HashMap<>();
+        for (VerificationCandidate candidate : candidates) {
+            String registration = candidate.registrationNumber();
+            if (registration == null) {
+                continue;
+            }
+            Long holder = holders.putIfAbsent(registration, candidate.id());
+            if (holder != null && holder != candidate.id()) {
+                rejected.put(candidate.id(), "Registration number is already held by business " + holder);
+            }
+        }
+        return rejected;
+    }
+}
@@ -0,0 +1,40 @@
+package com.project.businessservice.service.ingest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.businessservice.entity.BusinessImport;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Pull parser over a feed; holds one record at a time however large the feed is
+ */
+public interface FeedReader extends Closeable {
+
+    /**
+     * The next record, or null at the end of the feed
+     */
+    FeedRow next() throws IOException;
+
+    static FeedReader open(BusinessImport.Format format, InputStream content, ObjectMapper objectMapper)
+            throws IOException {
+        Reader reader = new InputStreamReader(content, StandardCharsets.UTF_8);
+        return switch (format) {
+            case CSV -> new CsvFeedReader(reader);
+            case NDJSON -> new NdjsonFeedReader(reader, objectMapper);
+        };
+    }
+
+    /**
+     * The feed cannot be read past this point; the import fails rather than guess where the next record starts
+     */
+    class FeedFormatException extends IOException {
+        public FeedFormatException(String message) {
+            super(message);
+        }
+    }
+}
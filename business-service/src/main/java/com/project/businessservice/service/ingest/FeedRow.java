@@ -0,0 +1,14 @@
+package com.project.businessservice.service.ingest;
+
+import java.util.Map;
+
+/**
+ * One record of a partner feed by column name; rowNumber counts from 1 and is what the ingest
+ * checkpoint records. error is set when the record could not be parsed.
+ */
+public record FeedRow(long rowNumber, Map<String, String> fields, String error) {
+
+    public String get(String column) {
+        return fields.get(column);
+    }
+}
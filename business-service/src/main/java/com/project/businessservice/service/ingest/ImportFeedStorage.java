@@ -0,0 +1,117 @@
+package com.project.businessservice.service.ingest;
+
+import com.project.common.exception.BusinessException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+
+/**
+ * Uploaded feeds as files under app.imports.root, kept until their import completes so an
+ * interrupted import can re-read them from the start
+ *
+ * The root carries a volume ID, created by the first instance to use it. Instances that share
+ * the root share the ID, so an import recorded with it can be resumed by any of them and by
+ * no one else.
+ */
+@Component
+@Slf4j
+public class ImportFeedStorage {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String VOLUME_ID_FILE = ".volume-id";
+
+    private final Path root;
+    private final Path tmp;
+    private final String volumeId;
+
+    public ImportFeedStorage(@Value("${app.imports.root:data/imports}") String root) throws IOException {
+        this.root = Path.of(root).toAbsolutePath().normalize();
+        this.tmp = this.root.resolve(".tmp");
+        Files.createDirectories(tmp);
+        this.volumeId = readOrCreateVolumeId(this.root.resolve(VOLUME_ID_FILE));
+        log.info("Storing import feeds under {} (volume {})", this.root, volumeId);
+    }
+
+    /**
+     * Identifies the storage the feeds are on; recorded with each import so only instances that can read its feed resume it
+     */
+    public String volumeId() {
+        return volumeId;
+    }
+
+    /**
+     * Copies the stream into a new file and returns its key and size; fails with
+     * IMPORT_TOO_LARGE once more than maxBytes have been read, leaving nothing behind
+     */
+    public StoredFeed store(InputStream content, long maxBytes) throws IOException {
+        String key = UUID.randomUUID().toString();
+        Path temp = tmp.resolve(key);
+        long size = 0;
+        try {
+            try (OutputStream out = Files.newOutputStream(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int read;
+                while ((read = content.read(buffer)) != -1) {
+                    size += read;
+                    if (size > maxBytes) {
+                        throw new BusinessException("IMPORT_TOO_LARGE", "Feeds are limited to " + maxBytes + " bytes");
+                    }
+                    out.write(buffer, 0, read);
+                }
+            }
+            Files.move(temp, resolve(key), StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        return new StoredFeed(key, size);
+    }
+
+    public InputStream open(String key) throws IOException {
+        return Files.newInputStream(resolve(key));
+    }
+
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(resolve(key));
+    }
+
+    // Written in full under .tmp and linked into place, which fails if it exists, so instances
+    // starting together on a shared root agree on one ID and never read a half-written one
+    private String readOrCreateVolumeId(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            String id = UUID.randomUUID().toString();
+            Path temp = tmp.resolve(id);
+            Files.writeString(temp, id, StandardCharsets.UTF_8);
+            try {
+                Files.createLink(file, temp);
+            } catch (FileAlreadyExistsException e) {
+                // another instance got there first
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        }
+        return Files.readString(file, StandardCharsets.UTF_8).trim();
+    }
+
+    private Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root) || path.startsWith(tmp)) {
+            throw new IllegalArgumentException("Invalid feed key: " + key);
+        }
+        return path;
+    }
+
+    public record StoredFeed(String key, long size) {
+    }
+}
@@ -0,0 +1,179 @@
+package com.project.businessservice.service.ingest;
+
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.DateTimeException;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Checks one feed row against the businesses and business_addresses constraints
+ *
+ * Stateless and thread-safe, so chunks are validated in parallel. Everything the database
+ * would refuse is caught here: a row that got through and then failed its insert would
+ * fail the whole chunk.
+ */
+@Component
+public class ImportRowValidator {
+
+    public static final String EXTERNAL_REF = "external_ref";
+    public static final String OWNER_ID = "owner_id";
+    public static final String NAME = "name";
+    public static final String DESCRIPTION = "description";
+    public static final String BUSINESS_TYPE = "business_type";
+    public static final String REGISTRATION_NUMBER = "registration_number";
+    public static final String TAX_ID = "tax_id";
+    public static final String EMAIL = "email";
+    public static final String PHONE = "phone";
+    public static final String WEBSITE = "website";
+    public static final String TIMEZONE = "timezone";
+    public static final String STREET_ADDRESS = "street_address";
+    public static final String CITY = "city";
+    public static final String STATE_PROVINCE = "state_province";
+    public static final String POSTAL_CODE = "postal_code";
+    public static final String COUNTRY = "country";
+    public static final String LATITUDE = "latitude";
+    public static final String LONGITUDE = "longitude";
+
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+    private static final int MAX_MESSAGE_LENGTH = 500;
+    private static final int COORDINATE_SCALE = 8;
+
+    public Result validate(FeedRow row) {
+        if (row.error() != null) {
+            return Result.rejected(row.rowNumber(), null, row.error());
+        }
+        List<String> errors = new ArrayList<>();
+        String externalRef = text(row, EXTERNAL_REF, 100, true, errors);
+        Long ownerId = ownerId(row, errors);
+        String name = text(row, NAME, 255, true, errors);
+        String description = text(row, DESCRIPTION, 10_000, false, errors);
+        String businessType = text(row, BUSINESS_TYPE, 100, true, errors);
+        String registrationNumber = text(row, REGISTRATION_NUMBER, 100, false, errors);
+        String taxId = text(row, TAX_ID, 100, false, errors);
+        String email = text(row, EMAIL, 255, true, errors);
+        if (email != null && !EMAIL_PATTERN.matcher(email).matches()) {
+            errors.add("email is not a valid address");
+        }
+        String phone = text(row, PHONE, 20, false, errors);
+        String website = text(row, WEBSITE, 255, false, errors);
+        if (website != null && !website.startsWith("http://") && !website.startsWith("https://")) {
+            errors.add("website must be an http or https URL");
+        }
+        String timezone = timezone(row, errors);
+        ImportedBusiness.Address address = address(row, errors);
+
+        if (!errors.isEmpty()) {
+            String message = String.join("; ", errors);
+            return Result.rejected(row.rowNumber(), externalRef,
+                    message.length() > MAX_MESSAGE_LENGTH ? message.substring(0, MAX_MESSAGE_LENGTH) : message);
+        }
+        return Result.accepted(new ImportedBusiness(row.rowNumber(), externalRef, ownerId, name, description,
+                businessType, registrationNumber, taxId, email, phone, website, timezone, address));
+    }
+
+    private static ImportedBusiness.Address address(FeedRow row, List<String> errors) {
+        String street = text(row, STREET_ADDRESS, 255, false, errors);
+        String city = text(row, CITY, 100, false, errors);
+        String stateProvince = text(row, STATE_PROVINCE, 100, false, errors);
+        String postalCode = text(row, POSTAL_CODE, 20, false, errors);
+        String country = text(row, COUNTRY, 100, false, errors);
+        BigDecimal latitude = coordinate(row, LATITUDE, 90, errors);
+        BigDecimal longitude = coordinate(row, LONGITUDE, 180, errors);
+        if (street == null && city == null && stateProvince == null && postalCode == null && country == null
+                && latitude == null && longitude == null) {
+            return null;
+        }
+        if (street == null || city == null || country == null) {
+            errors.add("street_address, city and country are required when an address is given");
+        }
+        if ((latitude == null) != (longitude == null)) {
+            errors.add("latitude and longitude must be given together");
+        }
+        return new ImportedBusiness.Address(street, city, stateProvince, postalCode, country, latitude, longitude);
+    }
+
+    private static String text(FeedRow row, String column, int maxLength, boolean required, List<String> errors) {
+        String value = row.get(column);
+        if (value != null) {
+            value = value.trim();
+            if (value.isEmpty()) {
+                value = null;
+            }
+        }
+        if (value == null) {
+            if (required) {
+                errors.add(column + " is required");
+            }
+            return null;
+        }
+        if (value.length() > maxLength) {
+            errors.add(column + " is longer than " + maxLength + " characters");
+        }
+        return value;
+    }
+
+    private static Long ownerId(FeedRow row, List<String> errors) {
+        String value = text(row, OWNER_ID, 20, true, errors);
+        if (value == null) {
+            return null;
+        }
+        try {
+            long ownerId = Long.parseLong(value);
+            if (ownerId > 0) {
+                return ownerId;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        errors.add("owner_id must be a positive integer");
+        return null;
+    }
+
+    private static String timezone(FeedRow row, List<String> errors) {
+        String value = text(row, TIMEZONE, 64, false, errors);
+        if (value == null) {
+            return "UTC";
+        }
+        try {
+            return ZoneId.of(value).getId();
+        } catch (DateTimeException e) {
+            errors.add("timezone is not a known time zone");
+            return null;
+        }
+    }
+
+    private static BigDecimal coordinate(FeedRow row, String column, int bound, List<String> errors) {
+        String value = text(row, column, 32, false, errors);
+        if (value == null) {
+            return null;
+        }
+        try {
+            BigDecimal coordinate = new BigDecimal(value);
+            // compared before rescaling, which for an exponent like 1e999999999 would never finish
+            if (coordinate.abs().compareTo(BigDecimal.valueOf(bound)) <= 0) {
+                return coordinate.setScale(COORDINATE_SCALE, RoundingMode.HALF_UP);
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        errors.add(column + " must be a number between -" + bound + " and " + bound);
+        return null;
+    }
+
+    public record Result(long rowNumber, String externalRef, ImportedBusiness business, String error) {
+
+        static Result accepted(ImportedBusiness business) {
+            return new Result(business.rowNumber(), business.externalRef(), business, null);
+        }
+
+        static Result rejected(long rowNumber, String externalRef, String error) {
+            String ref = externalRef != null && externalRef.length() > 100 ? externalRef.substring(0, 100) : externalRef;
+            return new Result(rowNumber, ref, null, error);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.project.businessservice.service.ingest;
+
+import java.math.BigDecimal;
+
+/**
+ * A feed row that passed validation, ready to upsert; address is null when the row has none
+ */
+public record ImportedBusiness(long rowNumber, String externalRef, long ownerId, String name, String description,
+                               String businessType, String registrationNumber, String taxId, String email,
+                               String phone, String website, String timezone, Address address) {
+
+    public record Address(String streetAddress, String city, String stateProvince, String postalCode,
+                          String country, BigDecimal latitude, BigDecimal longitude) {
+    }
+}
@@ -0,0 +1,69 @@
+package com.project.businessservice.service.ingest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * One flat JSON object per line, keyed by the same column names as the CSV feed
+ *
+ * Row numbers are line numbers, so blank lines are skipped but still counted. A line that is
+ * not valid JSON rejects that row only.
+ */
+class NdjsonFeedReader implements FeedReader {
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private long rowNumber;
+
+    NdjsonFeedReader(Reader reader, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(reader, 64 * 1024);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public FeedRow next() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            rowNumber++;
+            if (!line.isBlank()) {
+                return parse(line);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private FeedRow parse(String line) {
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(line);
+        } catch (JsonProcessingException e) {
+            return new FeedRow(rowNumber, Map.of(), "Invalid JSON: " + e.getOriginalMessage());
+        }
+        if (!node.isObject()) {
+            return new FeedRow(rowNumber, Map.of(), "Each line must be a JSON object");
+        }
+        Map<String, String> fields = new HashMap<>(node.size() * 2);
+        for (Iterator<Map.Entry<String, JsonNode>> it = node.fields(); it.hasNext(); ) {
+            Map.Entry<String, JsonNode> entry = it.next();
+            JsonNode value = entry.getValue();
+            if (value.isContainerNode()) {
+                return new FeedRow(rowNumber, Map.of(), "Field " + entry.getKey() + " must be a plain value");
+            }
+            fields.put(entry.getKey(), value.isNull() ? null : value.asText());
+        }
+        return new FeedRow(rowNumber, fields, null);
+    }
+}
@@ -0,0 +1,38 @@
+package com.project.businessservice.service.ingest;
+
+import com.project.businessservice.repository.BusinessImportJdbcRepository;
+import com.project.businessservice.repository.BusinessImportJdbcRepository.VerificationCandidate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * A business must have a primary address; one query per batch
+ */
+@Component
+@Order(20)
+@RequiredArgsConstructor
+public class PrimaryAddressRule implements VerificationRule {
+
+    private final BusinessImportJdbcRepository importRepository;
+
+    @Override
+    public Map<Long, String> check(List<VerificationCandidate> candidates) {
+        Set<Long> located = importRepository.findWithPrimaryAddress(candidates.stream()
+                .map(VerificationCandidate::id)
+                .collect(Collectors.toList()));
+        Map<Long, String> rejected = new HashMap<>();
+        for (VerificationCandidate candidate : candidates) {
+            if (!located.contains(candidate.id())) {
+                rejected.put(candidate.id(), "A primary address is required");
+            }
+        }
+        return rejected;
+    }
+}
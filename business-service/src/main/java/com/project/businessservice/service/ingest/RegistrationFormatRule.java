@@ -0,0 +1,37 @@
+package com.project.businessservice.service.ingest;
+
+import com.project.businessservice.repository.BusinessImportJdbcRepository.VerificationCandidate;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * A business must carry a registration number or tax ID that looks like one
+ */
+@Component
+@Order(10)
+public class RegistrationFormatRule implements VerificationRule {
+
+    private static final Pattern IDENTIFIER = Pattern.compile("^[A-Za-z0-9][A-Za-z0-9 ./-]{3,99}$");
+
+    @Override
+    public Map<Long, String> check(List<VerificationCandidate> candidates) {
+        Map<Long, String> rejected = new HashMap<>();
+        for (VerificationCandidate candidate : candidates) {
+            String registration = candidate.registrationNumber();
+            String taxId = candidate.taxId();
+            if (registration == null && taxId == null) {
+                rejected.put(candidate.id(), "A registration number or tax ID is required");
+            } else if (registration != null && !IDENTIFIER.matcher(registration).matches()) {
+                rejected.put(candidate.id(), "Registration number is not well-formed");
+            } else if (taxId != null && !IDENTIFIER.matcher(taxId).matches()) {
+                rejected.put(candidate.id(), "Tax ID is not well-formed");
+            }
+        }
+        return rejected;
+    }
+}
@@ -0,0 +1,20 @@
+package com.project.businessservice.service.ingest;
+
+import com.project.businessservice.repository.BusinessImportJdbcRepository.VerificationCandidate;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One stage of the verification pipeline, run over a batch of imported businesses
+ *
+ * Rules run in @Order; each sees only the candidates every earlier rule passed. A business
+ * no rule rejects is verified.
+ */
+public interface VerificationRule {
+
+    /**
+     * Rejection reasons by business ID for the candidates that fail this rule
+     */
+    Map<Long, String> check(List<VerificationCandidate> candidates);
+}
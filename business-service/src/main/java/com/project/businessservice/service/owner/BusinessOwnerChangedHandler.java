@@ -0,0 +1,57 @@
+package com.project.businessservice.service.owner;
+
+import com.project.businessservice.repository.OwnerSummaryJdbcRepository;
+import com.project.common.event.BusinessOwnerChangedEvent;
+import com.project.common.outbox.EventHandler;
+import com.project.common.outbox.OutboxEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Applies owner changes published by user-service to owner_summaries
+ *
+ * owner.summary.lag records how long after the change committed in user-service it was
+ * applied here, including relay polling and redelivery after failures.
+ */
+@Component
+@Slf4j
+public class BusinessOwnerChangedHandler implements EventHandler<BusinessOwnerChangedEvent> {
+
+    private final OwnerSummaryJdbcRepository summaryRepository;
+    private final Timer lag;
+
+    public BusinessOwnerChangedHandler(OwnerSummaryJdbcRepository summaryRepository, MeterRegistry meterRegistry) {
+        this.summaryRepository = summaryRepository;
+        this.lag = Timer.builder("owner.summary.lag")
+                .description("Time from an owner change in user-service to its summary being applied here")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String eventType() {
+        return BusinessOwnerChangedEvent.TYPE;
+    }
+
+    @Override
+    public Class<BusinessOwnerChangedEvent> payloadType() {
+        return BusinessOwnerChangedEvent.class;
+    }
+
+    @Override
+    public void handle(BusinessOwnerChangedEvent payload, OutboxEvent event) {
+        if (summaryRepository.upsertAll(List.of(payload)) == 0) {
+            log.debug("Owner {} summary version {} is not newer than the stored one, skipped",
+                    payload.ownerId(), payload.version());
+        }
+        if (event.occurredAt() != null) {
+            lag.record(Duration.between(event.occurredAt(), Instant.now()));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.project.businessservice.service.owner;
+
+import com.project.businessservice.dto.OwnedBusinessDto;
+import com.project.businessservice.dto.OwnerDashboardDto;
+import com.project.businessservice.dto.OwnerSummaryDto;
+import com.project.businessservice.repository.BusinessRepository;
+import com.project.businessservice.repository.OwnerSummaryJdbcRepository;
+import com.project.businessservice.service.CurrentUserService;
+import com.project.businessservice.util.JwtUtil;
+import com.project.common.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Owner dashboards from owner_summaries and businesses, without calling user-service
+ */
+@Service
+@RequiredArgsConstructor
+public class OwnerDashboardService {
+
+    private final OwnerSummaryJdbcRepository summaryRepository;
+    private final BusinessRepository businessRepository;
+    private final CurrentUserService currentUserService;
+
+    @Transactional(readOnly = true)
+    public OwnerDashboardDto getMyDashboard() {
+        return getDashboard(currentUserService.getCurrentUserId());
+    }
+
+    /**
+     * IDs of the caller's businesses, for services that scope data to the businesses a user owns
+     */
+    @Transactional(readOnly = true)
+    public List<Long> getMyBusinessIds() {
+        return businessRepository.findIdsByOwnerId(currentUserService.getCurrentUserId());
+    }
+
+    /**
+     * Owners may only see their own dashboard; admins may see any
+     */
+    @Transactional(readOnly = true)
+    public OwnerDashboardDto getOwnerDashboard(Long ownerId) {
+        if (!JwtUtil.isAdmin() && !ownerId.equals(currentUserService.getCurrentUserId())) {
+            throw new BusinessException("ACCESS_DENIED", "You can only view your own dashboard");
+        }
+        return getDashboard(ownerId);
+    }
+
+    private OwnerDashboardDto getDashboard(Long ownerId) {
+        OwnerSummaryDto owner = summaryRepository.findByOwnerId(ownerId)
+                .orElseThrow(() -> new BusinessException("OWNER_NOT_FOUND", "Business owner not found"));
+        List<OwnedBusinessDto> businesses = businessRepository.findByOwnerIdOrderByIdAsc(ownerId).stream()
+                .map(business -> new OwnedBusinessDto(business.getId(), business.getName(), business.getBusinessType(),
+                        business.getStatus(), business.getVerificationStatus()))
+                .collect(Collectors.toList());
+        return OwnerDashboardDto.builder()
+                .owner(owner)
+                .businesses(businesses)
+                .build();
+    }
+}
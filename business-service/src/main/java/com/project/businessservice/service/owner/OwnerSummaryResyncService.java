@@ -0,0 +1,92 @@
+package com.project.businessservice.service.owner;
+
+import com.project.businessservice.client.UserServiceClient;
+import com.project.businessservice.repository.OwnerSummaryJdbcRepository;
+import com.project.common.event.BusinessOwnerChangedEvent;
+import com.project.common.outbox.OutboxProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reloads owner_summaries page by page from user-service
+ *
+ * Seeds the table on first start and repairs anything the change feed lost, such as events
+ * purged from user-service's outbox while this service was down. Pages are applied through
+ * the same version guard as events, so a resync racing live changes cannot roll them back.
+ * Owners removed from user-service are not deleted here; user-service only deactivates them.
+ */
+@Service
+@Slf4j
+public class OwnerSummaryResyncService {
+
+    private final UserServiceClient userServiceClient;
+    private final OwnerSummaryJdbcRepository summaryRepository;
+    private final OutboxProperties outboxProperties;
+    private final int pageSize;
+    private final AtomicBoolean running = new AtomicBoolean();
+    // Epoch seconds of the last completed resync, exported as owner.summary.resync.last
+    private final AtomicLong lastCompleted = new AtomicLong();
+
+    public OwnerSummaryResyncService(UserServiceClient userServiceClient,
+                                     OwnerSummaryJdbcRepository summaryRepository,
+                                     OutboxProperties outboxProperties,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${app.owners.resync-page-size:1000}") int pageSize) {
+        this.userServiceClient = userServiceClient;
+        this.summaryRepository = summaryRepository;
+        this.outboxProperties = outboxProperties;
+        this.pageSize = pageSize;
+        meterRegistry.gauge("owner.summary.resync.last", lastCompleted);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedAtStartup() {
+        if (summaryRepository.isEmpty()) {
+            resync();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.owners.resync-interval-ms:3600000}",
+            initialDelayString = "${app.owners.resync-interval-ms:3600000}")
+    public void scheduledResync() {
+        resync();
+    }
+
+    public void resync() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long started = System.nanoTime();
+            long afterId = 0;
+            int read = 0;
+            int applied = 0;
+            List<BusinessOwnerChangedEvent> page;
+            do {
+                page = userServiceClient.getOwnerSummaries(outboxProperties.getToken(), afterId, pageSize);
+                if (page == null || page.isEmpty()) {
+                    break;
+                }
+                applied += summaryRepository.upsertAll(page);
+                read += page.size();
+                afterId = page.get(page.size() - 1).ownerId();
+            } while (page.size() >= pageSize);
+            lastCompleted.set(System.currentTimeMillis() / 1000);
+            log.info("Owner summaries resynced: {} read, {} updated in {} ms", read, applied,
+                    (System.nanoTime() - started) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.error("Owner summary resync failed: {}", e.getMessage(), e);
+        } finally {
+            running.set(false);
+        }
+    }
+}
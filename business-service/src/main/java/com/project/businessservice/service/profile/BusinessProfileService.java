@@ -0,0 +1,187 @@
+package com.project.businessservice.service.profile;
+
+import com.project.businessservice.dto.BusinessAddressDto;
+import com.project.businessservice.dto.BusinessHoursDto;
+import com.project.businessservice.dto.BusinessImageDto;
+import com.project.businessservice.dto.BusinessProfileDto;
+import com.project.businessservice.dto.BusinessSocialMediaDto;
+import com.project.businessservice.dto.DayHoursDto;
+import com.project.businessservice.entity.Business;
+import com.project.businessservice.event.BusinessChangedEvent;
+import com.project.businessservice.event.CatalogUpdatedEvent;
+import com.project.businessservice.repository.BusinessRepository;
+import com.project.businessservice.repository.BusinessSocialMediaRepository;
+import com.project.businessservice.service.BusinessAddressService;
+import com.project.businessservice.service.BusinessHoursService;
+import com.project.businessservice.service.catalog.CatalogSnapshot;
+import com.project.businessservice.service.catalog.CatalogSnapshotStore;
+import com.project.businessservice.service.image.BusinessImageService;
+import com.project.common.exception.BusinessException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * The business page in one response: the business with its addresses, hours, services,
+ * images and social media links
+ *
+ * Each child table is read by its own task on a virtual thread, so every read gets its own
+ * pooled connection and a cold profile takes as long as the slowest read rather than the sum.
+ * Services come from {@link CatalogSnapshotStore} and usually need no query at all. The reads
+ * are not one snapshot; a change committing between them is picked up by the invalidation it
+ * publishes. Assembled profiles are cached until a {@link BusinessChangedEvent} or catalog
+ * update for the business arrives, and for app.profile.cache-ttl-ms at most. Cached profiles
+ * are shared between requests and must not be modified.
+ */
+@Service
+@Slf4j
+public class BusinessProfileService {
+
+    private final BusinessRepository businessRepository;
+    private final BusinessAddressService addressService;
+    private final BusinessHoursService hoursService;
+    private final CatalogSnapshotStore catalogStore;
+    private final BusinessImageService imageService;
+    private final BusinessSocialMediaRepository socialMediaRepository;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ProfileCache cache;
+    private final long fetchTimeoutMs;
+
+    public BusinessProfileService(BusinessRepository businessRepository,
+                                  BusinessAddressService addressService,
+                                  BusinessHoursService hoursService,
+                                  CatalogSnapshotStore catalogStore,
+                                  BusinessImageService imageService,
+                                  BusinessSocialMediaRepository socialMediaRepository,
+                                  @Value("${app.profile.cache-ttl-ms:60000}") long cacheTtlMs,
+                                  @Value("${app.profile.cache-max-entries:10000}") int cacheMaxEntries,
+                                  @Value("${app.profile.fetch-timeout-ms:2000}") long fetchTimeoutMs) {
+        this.businessRepository = businessRepository;
+        this.addressService = addressService;
+        this.hoursService = hoursService;
+        this.catalogStore = catalogStore;
+        this.imageService = imageService;
+        this.socialMediaRepository = socialMediaRepository;
+        this.cache = new ProfileCache(cacheTtlMs, cacheMaxEntries);
+        this.fetchTimeoutMs = fetchTimeoutMs;
+    }
+
+    public BusinessProfileDto getProfile(Long businessId) {
+        BusinessProfileDto profile = cache.get(businessId);
+        if (profile != null) {
+            return profile;
+        }
+        long stamp = cache.stamp();
+        profile = load(businessId);
+        cache.put(businessId, profile, stamp);
+        return profile;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBusinessChanged(BusinessChangedEvent event) {
+        cache.invalidate(event.businessId());
+    }
+
+    // also covers service changes made through other instances, which reach the store by polling
+    @EventListener
+    public void onCatalogUpdated(CatalogUpdatedEvent event) {
+        if (event.isFullLoad()) {
+            cache.clear();
+        } else {
+            cache.invalidate(event.businessId());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private BusinessProfileDto load(Long businessId) {
+        long started = System.nanoTime();
+        CompletableFuture<Optional<Business>> business = fetch(() -> businessRepository.findById(businessId));
+        CompletableFuture<List<BusinessAddressDto>> addresses = fetch(() -> addressService.listAddresses(businessId));
+        CompletableFuture<List<DayHoursDto>> days = fetch(() -> hoursService.listDays(businessId));
+        CompletableFuture<CatalogSnapshot> catalog = fetch(() -> catalogStore.get(businessId));
+        CompletableFuture<List<BusinessImageDto>> images = fetch(() -> imageService.listImages(businessId));
+        CompletableFuture<List<BusinessSocialMediaDto>> socialMedia = fetch(() -> listSocialMedia(businessId));
+        CompletableFuture<Void> all = CompletableFuture.allOf(business, addresses, days, catalog, images, socialMedia);
+
+        try {
+            all.get(fetchTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            // a missing business fails the catalog read as well; report that rather than whichever failed first
+            if (!business.isCompletedExceptionally() && business.join().isEmpty()) {
+                throw notFound();
+            }
+            if (e.getCause() instanceof BusinessException businessException) {
+                throw businessException;
+            }
+            log.error("Loading profile of business {} failed: {}", businessId, e.getCause().getMessage(), e.getCause());
+            throw unavailable();
+        } catch (TimeoutException e) {
+            List.of(business, addresses, days, catalog, images, socialMedia).forEach(future -> future.cancel(true));
+            log.warn("Loading profile of business {} timed out after {} ms", businessId, fetchTimeoutMs);
+            throw unavailable();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw unavailable();
+        }
+
+        Business found = business.join().orElseThrow(BusinessProfileService::notFound);
+        CatalogSnapshot services = catalog.join();
+        BusinessProfileDto profile = BusinessProfileDto.builder()
+                .id(found.getId())
+                .ownerId(found.getOwnerId())
+                .name(found.getName())
+                .description(found.getDescription())
+                .businessType(found.getBusinessType())
+                .email(found.getEmail())
+                .phone(found.getPhone())
+                .website(found.getWebsite())
+                .status(found.getStatus())
+                .verificationStatus(found.getVerificationStatus())
+                .addresses(addresses.join())
+                .hours(new BusinessHoursDto(found.getId(), found.getTimezone(), days.join()))
+                .catalogVersion(services.version())
+                .services(services.services())
+                .images(images.join())
+                .socialMedia(socialMedia.join())
+                .build();
+        log.debug("Profile of business {} loaded in {} ms", businessId, (System.nanoTime() - started) / 1_000_000);
+        return profile;
+    }
+
+    private <T> CompletableFuture<T> fetch(Supplier<T> read) {
+        return CompletableFuture.supplyAsync(read, executor);
+    }
+
+    private List<BusinessSocialMediaDto> listSocialMedia(Long businessId) {
+        return socialMediaRepository.findByBusinessIdOrderByPlatformAsc(businessId).stream()
+                .map(link -> new BusinessSocialMediaDto(link.getId(), link.getPlatform(), link.getProfileUrl(),
+                        link.getFollowerCount(), link.getVerified()))
+                .collect(Collectors.toList());
+    }
+
+    private static BusinessException notFound() {
+        return new BusinessException("BUSINESS_NOT_FOUND", "Business not found");
+    }
+
+    private static BusinessException unavailable() {
+        return new BusinessException("PROFILE_UNAVAILABLE", "The business profile could not be loaded, try again shortly");
+    }
+}
@@ -0,0 +1,75 @@
+package com.project.businessservice.service.profile;
+
+import com.project.businessservice.dto.BusinessProfileDto;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Assembled profiles by business ID, dropped on change and after a TTL
+ *
+ * Invalidations are counted so a profile that was being loaded while one happened is not
+ * stored: the caller takes a {@link #stamp} before loading and hands it back to {@link #put}.
+ * The TTL only bounds how long changes made through other instances take to show.
+ */
+class ProfileCache {
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final long ttlNanos;
+    private final int maxEntries;
+
+    ProfileCache(long ttlMillis, int maxEntries) {
+        this.ttlNanos = ttlMillis * 1_000_000;
+        this.maxEntries = maxEntries;
+    }
+
+    BusinessProfileDto get(long businessId) {
+        Entry entry = entries.get(businessId);
+        if (entry == null) {
+            return null;
+        }
+        if (System.nanoTime() - entry.expiresAt() > 0) {
+            entries.remove(businessId, entry);
+            return null;
+        }
+        return entry.profile();
+    }
+
+    long stamp() {
+        return invalidations.get();
+    }
+
+    void put(long businessId, BusinessProfileDto profile, long stamp) {
+        if (maxEntries <= 0 || invalidations.get() != stamp) {
+            return;
+        }
+        if (entries.size() >= maxEntries) {
+            long now = System.nanoTime();
+            entries.values().removeIf(entry -> now - entry.expiresAt() > 0);
+            if (entries.size() >= maxEntries) {
+                return;
+            }
+        }
+        Entry entry = new Entry(profile, System.nanoTime() + ttlNanos);
+        entries.put(businessId, entry);
+        // an invalidation that slipped in between the check and the put
+        if (invalidations.get() != stamp) {
+            entries.remove(businessId, entry);
+        }
+    }
+
+    void invalidate(long businessId) {
+        invalidations.incrementAndGet();
+        entries.remove(businessId);
+    }
+
+    void clear() {
+        invalidations.incrementAndGet();
+        entries.clear();
+    }
+
+    private record Entry(BusinessProfileDto profile, long expiresAt) {
+    }
+}
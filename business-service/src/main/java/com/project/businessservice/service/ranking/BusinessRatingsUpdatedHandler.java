@@ -0,0 +1,49 @@
+package com.project.businessservice.service.ranking;
+
+import com.project.common.event.BusinessRatingsUpdatedEvent;
+import com.project.common.outbox.EventHandler;
+import com.project.common.outbox.OutboxEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies business ratings aggregated by booking-service in one JDBC batch
+ *
+ * Updates are guarded by rating_version, so a batch delivered late never overwrites a newer
+ * rating. Ratings reach {@link RankingService} on its next rebuild.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BusinessRatingsUpdatedHandler implements EventHandler<BusinessRatingsUpdatedEvent> {
+
+    private static final String UPDATE_SQL =
+            "UPDATE businesses SET rating = ?, total_reviews = ?, rating_version = ? " +
+            "WHERE id = ? AND rating_version < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public String eventType() {
+        return BusinessRatingsUpdatedEvent.TYPE;
+    }
+
+    @Override
+    public Class<BusinessRatingsUpdatedEvent> payloadType() {
+        return BusinessRatingsUpdatedEvent.class;
+    }
+
+    @Override
+    public void handle(BusinessRatingsUpdatedEvent payload, OutboxEvent event) {
+        jdbcTemplate.batchUpdate(UPDATE_SQL, payload.ratings(), payload.ratings().size(), (ps, rating) -> {
+            ps.setBigDecimal(1, rating.rating());
+            ps.setInt(2, rating.totalReviews());
+            ps.setLong(3, rating.version());
+            ps.setLong(4, rating.businessId());
+            ps.setLong(5, rating.version());
+        });
+        log.info("Applied rating updates for {} businesses", payload.ratings().size());
+    }
+}
@@ -0,0 +1,299 @@
+package com.project.businessservice.service.ranking;
+
+import com.project.businessservice.service.geo.GeoIndex;
+import com.project.businessservice.util.BoundedTopK;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongPredicate;
+import java.util.regex.Pattern;
+
+/**
+ * Read-only snapshot of the ranking signals of every active business
+ *
+ * Businesses are numbered densely as docs in the order they were added. Words of names and descriptions map
+ * to sorted doc postings; every other signal is one slot per doc in a parallel primitive
+ * array. Ranking a query is one pass over the docs that keeps the best k in a
+ * {@link BoundedTopK}, so nothing is sorted or boxed. Snapshots are built off to the side
+ * and replaced whole.
+ */
+public final class RankingIndex {
+
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final float NAME_HIT = 1.0f;
+    private static final float DESCRIPTION_HIT = 0.4f;
+    private static final double MAX_RATING = 5.0;
+
+    /**
+     * Signal weights of one query type; a score is their weighted sum, each signal in 0..1
+     */
+    public record Weights(double text, double distance, double openNow, double verified, double rating) {
+    }
+
+    /**
+     * terms empty for no text match; typeId -1 for any type. A located query only ranks
+     * businesses with a primary location within radiusKm.
+     */
+    public record Query(List<String> terms, boolean located, double latitude, double longitude, double radiusKm,
+                        int typeId) {
+    }
+
+    private final long[] ids;
+    // NaN when the business has no located primary address
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final int[] types;
+    private final boolean[] verified;
+    private final float[] ratings;
+    private final int[] reviewCounts;
+    // rating pulled toward the prior by how few reviews back it, scaled to 0..1
+    private final float[] ratingScores;
+    private final Map<String, int[]> namePostings;
+    private final Map<String, int[]> descriptionPostings;
+    private final Map<String, Integer> typeIds;
+
+    private RankingIndex(Builder builder) {
+        int n = builder.size;
+        this.ids = Arrays.copyOf(builder.ids, n);
+        this.latitudes = Arrays.copyOf(builder.latitudes, n);
+        this.longitudes = Arrays.copyOf(builder.longitudes, n);
+        this.types = Arrays.copyOf(builder.types, n);
+        this.verified = Arrays.copyOf(builder.verified, n);
+        this.ratings = Arrays.copyOf(builder.ratings, n);
+        this.reviewCounts = Arrays.copyOf(builder.reviewCounts, n);
+        this.ratingScores = Arrays.copyOf(builder.ratingScores, n);
+        this.namePostings = trim(builder.namePostings);
+        this.descriptionPostings = trim(builder.descriptionPostings);
+        this.typeIds = Map.copyOf(builder.typeIds);
+    }
+
+    public static Builder builder(int expectedSize, double priorRating, int confidenceReviews) {
+        return new Builder(expectedSize, priorRating, confidenceReviews);
+    }
+
+    /**
+     * Distinct lower-case words of the text, the form both documents and queries are matched in
+     */
+    public static List<String> terms(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        Set<String> terms = new LinkedHashSet<>();
+        for (String word : WORD_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (word.length() >= 2) {
+                terms.add(word);
+            }
+        }
+        return new ArrayList<>(terms);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * ID for a business type filter, or -1 when no indexed business has that type
+     */
+    public int typeId(String businessType) {
+        return typeIds.getOrDefault(businessType, -1);
+    }
+
+    /**
+     * Fills out with the best (negated score, doc) pairs; openNow may be null when opening
+     * hours are not available, which leaves that signal out
+     */
+    public void rank(Query query, Weights weights, LongPredicate openNow, BoundedTopK out) {
+        int n = ids.length;
+        float[] text = null;
+        double textScale = 0;
+        if (!query.terms().isEmpty()) {
+            text = new float[n];
+            for (String term : query.terms()) {
+                addHits(text, namePostings.get(term), NAME_HIT);
+                addHits(text, descriptionPostings.get(term), DESCRIPTION_HIT);
+            }
+            textScale = weights.text() / (query.terms().size() * (double) (NAME_HIT + DESCRIPTION_HIT));
+        }
+
+        boolean located = query.located();
+        double radius = query.radiusKm();
+        double latRad = Math.toRadians(query.latitude());
+        double cosLat = Math.cos(latRad);
+        double latDelta = radius / (Math.PI * GeoIndex.EARTH_RADIUS_KM / 180.0);
+        int typeId = query.typeId();
+        double distanceWeight = weights.distance();
+        double openWeight = openNow != null ? weights.openNow() : 0;
+        double verifiedWeight = weights.verified();
+        double ratingWeight = weights.rating();
+
+        for (int doc = 0; doc < n; doc++) {
+            if (typeId >= 0 && types[doc] != typeId) {
+                continue;
+            }
+            double score = 0;
+            if (text != null) {
+                if (text[doc] == 0f) {
+                    continue;
+                }
+                score = text[doc] * textScale;
+            }
+            if (located) {
+                double lat = latitudes[doc];
+                // NaN fails this too
+                if (!(Math.abs(lat - query.latitude()) <= latDelta)) {
+                    continue;
+                }
+                double distance = GeoIndex.haversine(latRad, cosLat, query.longitude(), lat, longitudes[doc]);
+                if (distance > radius) {
+                    continue;
+                }
+                score += distanceWeight * (1.0 - distance / radius);
+            }
+            if (verified[doc]) {
+                score += verifiedWeight;
+            }
+            score += ratingWeight * ratingScores[doc];
+            if (openWeight != 0 && openNow.test(ids[doc])) {
+                score += openWeight;
+            }
+            if (-score < out.worstKey()) {
+                out.offer(-score, doc);
+            }
+        }
+    }
+
+    public long id(int doc) {
+        return ids[doc];
+    }
+
+    public boolean isVerified(int doc) {
+        return verified[doc];
+    }
+
+    public float rating(int doc) {
+        return ratings[doc];
+    }
+
+    public int reviewCount(int doc) {
+        return reviewCounts[doc];
+    }
+
+    /**
+     * Kilometres from the given point, or null when the business has no location
+     */
+    public Double distanceKm(int doc, double latitude, double longitude) {
+        if (Double.isNaN(latitudes[doc])) {
+            return null;
+        }
+        double latRad = Math.toRadians(latitude);
+        return GeoIndex.haversine(latRad, Math.cos(latRad), longitude, latitudes[doc], longitudes[doc]);
+    }
+
+    private static void addHits(float[] text, int[] postings, float weight) {
+        if (postings != null) {
+            for (int doc : postings) {
+                text[doc] += weight;
+            }
+        }
+    }
+
+    private static Map<String, int[]> trim(Map<String, Postings> postings) {
+        Map<String, int[]> trimmed = new HashMap<>(postings.size() * 2);
+        postings.forEach((term, docs) -> trimmed.put(term, Arrays.copyOf(docs.docs, docs.size)));
+        return trimmed;
+    }
+
+    /**
+     * Accumulates a snapshot; not thread-safe. Add businesses in ID order so ties rank lowest ID first.
+     */
+    public static final class Builder {
+
+        private final double priorRating;
+        private final int confidenceReviews;
+        private long[] ids;
+        private double[] latitudes;
+        private double[] longitudes;
+        private int[] types;
+        private boolean[] verified;
+        private float[] ratings;
+        private int[] reviewCounts;
+        private float[] ratingScores;
+        private int size;
+        private final Map<String, Postings> namePostings = new HashMap<>();
+        private final Map<String, Postings> descriptionPostings = new HashMap<>();
+        private final Map<String, Integer> typeIds = new HashMap<>();
+
+        private Builder(int expectedSize, double priorRating, int confidenceReviews) {
+            int capacity = Math.max(16, expectedSize);
+            this.priorRating = priorRating;
+            this.confidenceReviews = Math.max(0, confidenceReviews);
+            ids = new long[capacity];
+            latitudes = new double[capacity];
+            longitudes = new double[capacity];
+            types = new int[capacity];
+            verified = new boolean[capacity];
+            ratings = new float[capacity];
+            reviewCounts = new int[capacity];
+            ratingScores = new float[capacity];
+        }
+
+        public void add(long id, String name, String description, String businessType, boolean isVerified,
+                        double rating, int reviews, Double latitude, Double longitude) {
+            if (size == ids.length) {
+                grow();
+            }
+            int doc = size++;
+            ids[doc] = id;
+            boolean located = latitude != null && longitude != null;
+            latitudes[doc] = located ? latitude : Double.NaN;
+            longitudes[doc] = located ? longitude : Double.NaN;
+            types[doc] = typeIds.computeIfAbsent(businessType != null ? businessType : "", t -> typeIds.size());
+            verified[doc] = isVerified;
+            ratings[doc] = (float) rating;
+            reviewCounts[doc] = reviews;
+            double adjusted = reviews + confidenceReviews == 0 ? priorRating
+                    : (rating * reviews + priorRating * confidenceReviews) / (reviews + confidenceReviews);
+            ratingScores[doc] = (float) Math.max(0.0, Math.min(1.0, adjusted / MAX_RATING));
+            for (String term : terms(name)) {
+                namePostings.computeIfAbsent(term, t -> new Postings()).add(doc);
+            }
+            for (String term : terms(description)) {
+                descriptionPostings.computeIfAbsent(term, t -> new Postings()).add(doc);
+            }
+        }
+
+        public RankingIndex build() {
+            return new RankingIndex(this);
+        }
+
+        private void grow() {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            latitudes = Arrays.copyOf(latitudes, capacity);
+            longitudes = Arrays.copyOf(longitudes, capacity);
+            types = Arrays.copyOf(types, capacity);
+            verified = Arrays.copyOf(verified, capacity);
+            ratings = Arrays.copyOf(ratings, capacity);
+            reviewCounts = Arrays.copyOf(reviewCounts, capacity);
+            ratingScores = Arrays.copyOf(ratingScores, capacity);
+        }
+    }
+
+    private static final class Postings {
+        private int[] docs = new int[4];
+        private int size;
+
+        void add(int doc) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+            }
+            docs[size++] = doc;
+        }
+    }
+}
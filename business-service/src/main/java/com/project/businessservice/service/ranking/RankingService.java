@@ -0,0 +1,176 @@
+package com.project.businessservice.service.ranking;
+
+import com.project.businessservice.config.RankingProperties;
+import com.project.businessservice.dto.RankedBusinessDto;
+import com.project.businessservice.event.BusinessChangedEvent;
+import com.project.businessservice.repository.GeoJdbcRepository;
+import com.project.businessservice.repository.RankingJdbcRepository;
+import com.project.businessservice.service.hours.OpenHoursIndex;
+import com.project.businessservice.service.hours.OpenHoursService;
+import com.project.businessservice.util.BoundedTopK;
+import com.project.common.exception.BusinessException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Business search ordered by relevance
+ *
+ * Scores combine text match on name and description, distance from the primary address,
+ * whether the business is open now, verification and review rating, weighted per query
+ * type (app.ranking.query-types). Ranking runs on {@link RankingIndex}, rebuilt at startup,
+ * on a schedule for changes made through other instances and ratings pushed by
+ * booking-service, and shortly after businesses or addresses change on this instance.
+ */
+@Service
+@Slf4j
+public class RankingService {
+
+    private static final String KEYWORD = "keyword";
+    private static final String NEARBY = "nearby";
+    private static final String BROWSE = "browse";
+
+    private final RankingJdbcRepository rankingRepository;
+    private final GeoJdbcRepository geoRepository;
+    private final OpenHoursService openHoursService;
+    private final RankingProperties properties;
+    private final TransactionTemplate readOnlyTransaction;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private volatile RankingIndex index;
+
+    public RankingService(RankingJdbcRepository rankingRepository,
+                          GeoJdbcRepository geoRepository,
+                          OpenHoursService openHoursService,
+                          RankingProperties properties,
+                          TransactionTemplate transactionTemplate) {
+        this.rankingRepository = rankingRepository;
+        this.geoRepository = geoRepository;
+        this.openHoursService = openHoursService;
+        this.properties = properties;
+        this.readOnlyTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public List<RankedBusinessDto> search(String text, Double latitude, Double longitude, Double radiusKm,
+                                          String businessType, String queryType, Integer limit) {
+        RankingIndex snapshot = index;
+        if (!properties.isEnabled() || snapshot == null) {
+            throw new BusinessException("SEARCH_UNAVAILABLE", "Search is still loading, try again shortly");
+        }
+        if ((latitude == null) != (longitude == null)) {
+            throw new BusinessException("INVALID_COORDINATES", "Latitude and longitude must be given together");
+        }
+        boolean located = latitude != null;
+        if (located && (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180)) {
+            throw new BusinessException("INVALID_COORDINATES", "Latitude must be within ±90 and longitude within ±180");
+        }
+        double radius = radiusKm != null ? radiusKm : properties.getMaxRadiusKm();
+        if (located && (radius <= 0 || radius > properties.getMaxRadiusKm())) {
+            throw new BusinessException("INVALID_RADIUS",
+                    "Radius must be between 0 and " + properties.getMaxRadiusKm() + " km");
+        }
+        int k = limit != null ? Math.max(1, Math.min(limit, properties.getMaxLimit())) : properties.getDefaultLimit();
+
+        List<String> terms = RankingIndex.terms(text);
+        String type = queryType != null ? queryType : !terms.isEmpty() ? KEYWORD : located ? NEARBY : BROWSE;
+        RankingProperties.QueryType weights = properties.getQueryTypes().get(type);
+        if (weights == null) {
+            throw new BusinessException("INVALID_QUERY_TYPE", "Unknown query type: " + type);
+        }
+
+        int typeId = businessType != null ? snapshot.typeId(businessType) : -1;
+        if (businessType != null && typeId < 0) {
+            return List.of();
+        }
+        OpenHoursIndex.OpenAt openNow = openHoursService.openAt(Instant.now()).orElse(null);
+        BoundedTopK best = new BoundedTopK(k);
+        snapshot.rank(new RankingIndex.Query(terms, located, located ? latitude : 0, located ? longitude : 0, radius,
+                        typeId),
+                new RankingIndex.Weights(weights.getText(), weights.getDistance(), weights.getOpenNow(),
+                        weights.getVerified(), weights.getRating()),
+                openNow, best);
+        int found = best.drainSorted();
+
+        List<Long> ids = new ArrayList<>(found);
+        for (int i = 0; i < found; i++) {
+            ids.add(snapshot.id((int) best.valueAt(i)));
+        }
+        Map<Long, GeoJdbcRepository.BusinessCard> cards = geoRepository.findCards(ids);
+        List<RankedBusinessDto> result = new ArrayList<>(found);
+        for (int i = 0; i < found; i++) {
+            int doc = (int) best.valueAt(i);
+            GeoJdbcRepository.BusinessCard card = cards.get(ids.get(i));
+            if (card != null) {
+                result.add(new RankedBusinessDto(ids.get(i), card.name(), card.businessType(), card.city(),
+                        located ? snapshot.distanceKm(doc, latitude, longitude) : null,
+                        openNow != null && openNow.test(ids.get(i)),
+                        snapshot.isVerified(doc), snapshot.rating(doc), snapshot.reviewCount(doc),
+                        -best.keyAt(i)));
+            }
+        }
+        return result;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAtStartup() {
+        if (properties.isEnabled()) {
+            rebuild();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.ranking.rebuild-interval-ms:600000}",
+            initialDelayString = "${app.ranking.rebuild-interval-ms:600000}")
+    public void scheduledRebuild() {
+        if (properties.isEnabled()) {
+            rebuild();
+        }
+    }
+
+    // batches changes on this instance into one rebuild per delay
+    @Scheduled(fixedDelayString = "${app.ranking.refresh-delay-ms:5000}")
+    public void rebuildIfChanged() {
+        if (properties.isEnabled() && dirty.compareAndSet(true, false)) {
+            rebuild();
+        }
+    }
+
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            dirty.set(true);
+            return;
+        }
+        try {
+            long started = System.nanoTime();
+            RankingIndex current = index;
+            RankingIndex.Builder builder = RankingIndex.builder(current != null ? current.size() : 1024,
+                    properties.getPriorRating(), properties.getRatingConfidenceReviews());
+            readOnlyTransaction.executeWithoutResult(status -> rankingRepository.streamRankable(builder::add));
+            index = builder.build();
+            log.info("Ranking index rebuilt with {} businesses in {} ms", index.size(),
+                    (System.nanoTime() - started) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.error("Ranking index rebuild failed: {}", e.getMessage(), e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBusinessChanged(BusinessChangedEvent event) {
+        if (event.aspect() == BusinessChangedEvent.Aspect.BUSINESS
+                || event.aspect() == BusinessChangedEvent.Aspect.ADDRESSES) {
+            dirty.set(true);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.project.businessservice.service.social;
+
+import java.util.Optional;
+
+/**
+ * Looks up a social media profile's follower count and verification badge on its platform
+ *
+ * Implementations are called concurrently from the refresh workers and may block; the
+ * refresher applies rate limiting, so they should not add their own. Throw on transient
+ * failures; the profile is retried on the shard's next pass.
+ */
+public interface FollowerCountProvider {
+
+    boolean supports(String platform);
+
+    /**
+     * Empty when the platform does not know the profile; the stored values are then left alone
+     */
+    Optional<FollowerStats> fetch(String platform, String profileUrl);
+
+    record FollowerStats(int followerCount, boolean verified) {
+    }
+}
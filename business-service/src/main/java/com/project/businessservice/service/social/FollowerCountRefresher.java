@@ -0,0 +1,222 @@
+package com.project.businessservice.service.social;
+
+import com.project.businessservice.event.BusinessChangedEvent;
+import com.project.businessservice.repository.SocialMediaRefreshJdbcRepository;
+import com.project.businessservice.repository.SocialMediaRefreshJdbcRepository.FollowerUpdate;
+import com.project.businessservice.repository.SocialMediaRefreshJdbcRepository.SocialProfile;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps business_social_media.follower_count and is_verified current
+ *
+ * Profiles are split into app.social-media.shards shards by business ID. Each tick, up to
+ * app.social-media.workers workers per instance claim due shards under a lease and walk them
+ * by ID a page at a time: the page's lookups run concurrently on virtual threads, capped at
+ * max-concurrency in flight and requests-per-second overall per instance, and the results go
+ * back in a single batched UPDATE before the lease is renewed. A shard whose worker dies is
+ * redone from the start once its lease runs out. Businesses whose counts actually changed get
+ * a SOCIAL_MEDIA {@link BusinessChangedEvent} so cached profiles are dropped.
+ *
+ * Off by default (app.social-media.enabled); turning it on also needs a real provider bean.
+ */
+@Component
+@Slf4j
+public class FollowerCountRefresher {
+
+    private final SocialMediaRefreshJdbcRepository refreshRepository;
+    private final List<FollowerCountProvider> providers;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String workerId = UUID.randomUUID().toString();
+    private final ExecutorService workerPool;
+    private final ExecutorService fetchPool = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore slots;
+    private final Semaphore inFlight;
+    private final RateLimiter rateLimiter;
+    private final boolean enabled;
+    private final int shardCount;
+    private final int batchSize;
+    private final long leaseMs;
+    private final long refreshIntervalMs;
+    private volatile boolean stopping;
+
+    public FollowerCountRefresher(SocialMediaRefreshJdbcRepository refreshRepository,
+                                  List<FollowerCountProvider> providers,
+                                  ApplicationEventPublisher eventPublisher,
+                                  @Value("${app.social-media.enabled:true}") boolean enabled,
+                                  @Value("${app.social-media.shards:16}") int shardCount,
+                                  @Value("${app.social-media.workers:2}") int workers,
+                                  @Value("${app.social-media.max-concurrency:16}") int maxConcurrency,
+                                  @Value("${app.social-media.requests-per-second:50}") double requestsPerSecond,
+                                  @Value("${app.social-media.batch-size:1000}") int batchSize,
+                                  @Value("${app.social-media.lease-ms:300000}") long leaseMs,
+                                  @Value("${app.social-media.refresh-interval-ms:86400000}") long refreshIntervalMs) {
+        this.refreshRepository = refreshRepository;
+        this.providers = providers;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.shardCount = Math.max(1, shardCount);
+        this.workerPool = Executors.newFixedThreadPool(Math.max(1, workers));
+        this.slots = new Semaphore(Math.max(1, workers));
+        this.inFlight = new Semaphore(Math.max(1, maxConcurrency));
+        this.rateLimiter = new RateLimiter(requestsPerSecond);
+        this.batchSize = Math.max(1, Math.min(batchSize, SocialMediaRefreshJdbcRepository.MAX_BATCH));
+        this.leaseMs = leaseMs;
+        this.refreshIntervalMs = refreshIntervalMs;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createShards() {
+        if (enabled && providers.isEmpty()) {
+            log.warn("Follower count refresh is enabled but no FollowerCountProvider is configured; it will not run");
+        } else if (enabled) {
+            refreshRepository.ensureShards(shardCount);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.social-media.tick-interval-ms:60000}",
+            initialDelayString = "${app.social-media.tick-interval-ms:60000}")
+    public void tick() {
+        if (!enabled || stopping || providers.isEmpty()) {
+            return;
+        }
+        while (slots.tryAcquire()) {
+            workerPool.execute(() -> {
+                try {
+                    drain();
+                } finally {
+                    slots.release();
+                }
+            });
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // a shard cut short here keeps its lease until it expires, then any instance redoes it
+        stopping = true;
+        workerPool.shutdownNow();
+        fetchPool.shutdownNow();
+    }
+
+    private void drain() {
+        try {
+            while (!stopping) {
+                Optional<Integer> shard = refreshRepository.claimShard(workerId, shardCount, leaseMs, refreshIntervalMs);
+                if (shard.isEmpty()) {
+                    return;
+                }
+                refreshShard(shard.get());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Follower count refresh stopped: {}", e.getMessage());
+        }
+    }
+
+    private void refreshShard(int shard) {
+        long started = System.nanoTime();
+        long afterId = 0;
+        int read = 0;
+        int written = 0;
+        AtomicInteger failed = new AtomicInteger();
+        try {
+            List<SocialProfile> page;
+            do {
+                page = refreshRepository.findShardPage(shardCount, shard, afterId, batchSize);
+                if (page.isEmpty()) {
+                    break;
+                }
+                List<FollowerUpdate> updates = fetchAll(page, failed);
+                Set<Long> changed = refreshRepository.applyCounts(updates);
+                changed.forEach(businessId -> eventPublisher.publishEvent(
+                        new BusinessChangedEvent(businessId, BusinessChangedEvent.Aspect.SOCIAL_MEDIA)));
+                read += page.size();
+                written += updates.size();
+                afterId = page.get(page.size() - 1).id();
+                if (stopping) {
+                    return;
+                }
+                if (!refreshRepository.renew(shard, workerId, leaseMs)) {
+                    log.warn("Lost the lease on social media shard {}, leaving it to its new holder", shard);
+                    return;
+                }
+            } while (page.size() == batchSize);
+            refreshRepository.complete(shard, workerId);
+            log.info("Social media shard {} refreshed: {} profiles, {} written, {} failed in {} ms", shard, read,
+                    written, failed.get(), (System.nanoTime() - started) / 1_000_000);
+        } catch (RuntimeException e) {
+            refreshRepository.release(shard, workerId);
+            throw e;
+        }
+    }
+
+    private List<FollowerUpdate> fetchAll(List<SocialProfile> page, AtomicInteger failed) {
+        List<CompletableFuture<FollowerUpdate>> lookups = new ArrayList<>(page.size());
+        for (SocialProfile profile : page) {
+            FollowerCountProvider provider = providerFor(profile.platform());
+            if (provider != null) {
+                lookups.add(CompletableFuture.supplyAsync(() -> fetch(provider, profile, failed), fetchPool));
+            }
+        }
+        List<FollowerUpdate> updates = new ArrayList<>(lookups.size());
+        for (CompletableFuture<FollowerUpdate> lookup : lookups) {
+            FollowerUpdate update = lookup.join();
+            if (update != null) {
+                updates.add(update);
+            }
+        }
+        return updates;
+    }
+
+    // null leaves the row as it is until the shard's next pass
+    private FollowerUpdate fetch(FollowerCountProvider provider, SocialProfile profile, AtomicInteger failed) {
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        try {
+            rateLimiter.acquire();
+            // an unknown profile keeps its last known values rather than being zeroed
+            return provider.fetch(profile.platform(), profile.profileUrl())
+                    .map(stats -> new FollowerUpdate(profile.id(), stats.followerCount(), stats.verified()))
+                    .orElse(null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (RuntimeException e) {
+            failed.incrementAndGet();
+            log.debug("Follower count lookup failed for social media profile {}: {}", profile.id(), e.getMessage());
+            return null;
+        } finally {
+            inFlight.release();
+        }
+    }
+
+    private FollowerCountProvider providerFor(String platform) {
+        for (FollowerCountProvider provider : providers) {
+            if (provider.supports(platform)) {
+                return provider;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,29 @@
+package com.project.businessservice.service.social;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spaces permits evenly at a fixed rate with no bursting; callers block until their slot
+ */
+class RateLimiter {
+
+    private final long intervalNanos;
+    private long nextFree = System.nanoTime();
+
+    RateLimiter(double permitsPerSecond) {
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+    }
+
+    void acquire() throws InterruptedException {
+        long wait;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long slot = Math.max(nextFree, now);
+            nextFree = slot + intervalNanos;
+            wait = slot - now;
+        }
+        if (wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.project.businessservice.service.social;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * Local stand-in for every platform: counts derived from the profile URL that drift a little
+ * each day, so refreshes have something to write without calling out
+ *
+ * Writes made-up values over real ones, so it only exists with app.social-media.provider=stub
+ * and is meant for local testing.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.social-media", name = "provider", havingValue = "stub")
+public class StubFollowerCountProvider implements FollowerCountProvider {
+
+    @Override
+    public boolean supports(String platform) {
+        return true;
+    }
+
+    @Override
+    public Optional<FollowerStats> fetch(String platform, String profileUrl) {
+        int seed = (platform + profileUrl).hashCode() & Integer.MAX_VALUE;
+        long day = LocalDate.now().toEpochDay();
+        int followers = seed % 50_000 + (int) ((day * (seed % 7 + 1)) % 1_000);
+        return Optional.of(new FollowerStats(followers, seed % 10 == 0));
+    }
+}
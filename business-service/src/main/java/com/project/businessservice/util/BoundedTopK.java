@@ -0,0 +1,110 @@
+package com.project.businessservice.util;
+
+/**
+ * Keeps the k entries with the smallest keys seen so far in a primitive max-heap
+ *
+ * O(log k) per offer and no allocation after construction, so a scan over a million
+ * candidates never sorts or boxes them. For "highest score first" offer the negated score.
+ */
+public final class BoundedTopK {
+
+    private final double[] keys;
+    private final long[] values;
+    private int size;
+
+    public BoundedTopK(int k) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("k must be positive");
+        }
+        keys = new double[k];
+        values = new long[k];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isFull() {
+        return size == keys.length;
+    }
+
+    /**
+     * Key an offer has to beat: the largest kept key once full, infinity before that
+     */
+    public double worstKey() {
+        return size < keys.length ? Double.POSITIVE_INFINITY : keys[0];
+    }
+
+    public void offer(double key, long value) {
+        if (size < keys.length) {
+            keys[size] = key;
+            values[size] = value;
+            siftUp(size++);
+        } else if (key < keys[0]) {
+            keys[0] = key;
+            values[0] = value;
+            siftDown(0, size);
+        }
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Sorts the kept entries ascending by key in place, empties the heap, and returns how many there were.
+     * Read them with {@link #keyAt} and {@link #valueAt} until the next offer.
+     */
+    public int drainSorted() {
+        int count = size;
+        for (int end = count - 1; end > 0; end--) {
+            swap(0, end);
+            siftDown(0, end);
+        }
+        size = 0;
+        return count;
+    }
+
+    public double keyAt(int index) {
+        return keys[index];
+    }
+
+    public long valueAt(int index) {
+        return values[index];
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (keys[parent] >= keys[index]) {
+                return;
+            }
+            swap(parent, index);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index, int limit) {
+        while (true) {
+            int left = 2 * index + 1;
+            if (left >= limit) {
+                return;
+            }
+            int largest = left + 1 < limit && keys[left + 1] > keys[left] ? left + 1 : left;
+            if (keys[index] >= keys[largest]) {
+                return;
+            }
+            swap(index, largest);
+            index = largest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        double key = keys[a];
+        keys[a] = keys[b];
+        keys[b] = key;
+        long value = values[a];
+        values[a] = values[b];
+        values[b] = value;
+    }
+}
@@ -0,0 +1,127 @@
+package com.project.businessservice.util;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing long to long map without boxing, for ID lookups over millions of rows
+ *
+ * Linear probing with backward-shift deletion, so removals leave no tombstones. Key 0 marks
+ * an empty slot and cannot be stored, which is fine for database IDs. Not thread-safe.
+ */
+public final class LongLongHashMap {
+
+    private long[] keys;
+    private long[] values;
+    private int mask;
+    private int size;
+
+    public LongLongHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(16, expectedSize * 2 - 1)) << 1;
+        keys = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long get(long key, long missing) {
+        int i = slot(key);
+        while (keys[i] != 0) {
+            if (keys[i] == key) {
+                return values[i];
+            }
+            i = (i + 1) & mask;
+        }
+        return missing;
+    }
+
+    public boolean containsKey(long key) {
+        int i = slot(key);
+        while (keys[i] != 0) {
+            if (keys[i] == key) {
+                return true;
+            }
+            i = (i + 1) & mask;
+        }
+        return false;
+    }
+
+    public void put(long key, long value) {
+        if (key == 0) {
+            throw new IllegalArgumentException("Key 0 is reserved");
+        }
+        if ((size + 1) * 2 > keys.length) {
+            resize(keys.length * 2);
+        }
+        int i = slot(key);
+        while (keys[i] != 0) {
+            if (keys[i] == key) {
+                values[i] = value;
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        values[i] = value;
+        size++;
+    }
+
+    public long remove(long key, long missing) {
+        int i = slot(key);
+        while (keys[i] != key) {
+            if (keys[i] == 0) {
+                return missing;
+            }
+            i = (i + 1) & mask;
+        }
+        long removed = values[i];
+
+        // Pull later entries of the probe run back into the gap unless that would move them before their home slot
+        int gap = i;
+        int j = i;
+        while (true) {
+            j = (j + 1) & mask;
+            if (keys[j] == 0) {
+                break;
+            }
+            int home = slot(keys[j]);
+            boolean homeInGapToJ = gap <= j ? (home > gap && home <= j) : (home > gap || home <= j);
+            if (!homeInGapToJ) {
+                keys[gap] = keys[j];
+                values[gap] = values[j];
+                gap = j;
+            }
+        }
+        keys[gap] = 0;
+        values[gap] = 0;
+        size--;
+        return removed;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0);
+        Arrays.fill(values, 0);
+        size = 0;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        keys = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private int slot(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,3 @@
+-- Feed store an import's file was written to; only instances mounting that store can resume it.
+-- NULL for imports created before the column, which any instance may still claim
+ALTER TABLE business_imports ADD COLUMN storage_volume VARCHAR(64);
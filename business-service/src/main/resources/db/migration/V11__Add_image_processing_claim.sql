@@ -0,0 +1,11 @@
+-- An instance claims a pending image before generating its variants, so two sweeps never
+-- process the same image; a claim older than the processing timeout is taken over
+ALTER TABLE business_images DROP CONSTRAINT chk_image_processing_status;
+ALTER TABLE business_images ADD CONSTRAINT chk_image_processing_status
+    CHECK (processing_status IN ('PENDING', 'PROCESSING', 'READY', 'FAILED'));
+
+ALTER TABLE business_images ADD COLUMN processing_claim UUID;
+ALTER TABLE business_images ADD COLUMN processing_claimed_at TIMESTAMP WITH TIME ZONE;
+
+CREATE INDEX idx_business_images_processing ON business_images(processing_claimed_at)
+    WHERE processing_status = 'PROCESSING';
@@ -0,0 +1,15 @@
+-- Geo search: the in-memory grid answers "near me" queries; this earthdistance index serves
+-- them from Postgres while the grid is loading or when it is disabled.
+CREATE EXTENSION IF NOT EXISTS cube;
+CREATE EXTENSION IF NOT EXISTS earthdistance;
+
+-- A business is located by its single primary address
+UPDATE business_addresses a SET is_primary = false
+WHERE a.is_primary
+  AND EXISTS (SELECT 1 FROM business_addresses o WHERE o.business_id = a.business_id AND o.is_primary AND o.id < a.id);
+
+CREATE UNIQUE INDEX uq_business_addresses_primary ON business_addresses(business_id) WHERE is_primary;
+
+CREATE INDEX idx_business_addresses_primary_earth ON business_addresses
+    USING gist (ll_to_earth(latitude::float8, longitude::float8))
+    WHERE is_primary AND latitude IS NOT NULL AND longitude IS NOT NULL;
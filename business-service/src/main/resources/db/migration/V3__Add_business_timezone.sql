@@ -0,0 +1,2 @@
+-- business_hours are wall-clock times; "open now" needs the zone they are in
+ALTER TABLE businesses ADD COLUMN timezone VARCHAR(64) NOT NULL DEFAULT 'UTC';
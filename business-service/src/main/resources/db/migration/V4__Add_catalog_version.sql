@@ -0,0 +1,10 @@
+-- Bumped in the same transaction as any change to a business's services; catalog snapshots
+-- and their ETags are keyed on it, and other instances poll catalog_updated_at to catch up
+ALTER TABLE businesses ADD COLUMN catalog_version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE businesses ADD COLUMN catalog_updated_at TIMESTAMP WITH TIME ZONE;
+
+CREATE INDEX idx_businesses_catalog_updated_at ON businesses(catalog_updated_at)
+    WHERE catalog_updated_at IS NOT NULL;
+
+CREATE INDEX idx_business_services_business_active ON business_services(business_id)
+    WHERE is_active;
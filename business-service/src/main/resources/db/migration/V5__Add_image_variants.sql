@@ -0,0 +1,31 @@
+-- Uploaded images are stored by the service; rows that predate this keep their external image_url
+ALTER TABLE business_images ADD COLUMN storage_key VARCHAR(255);
+ALTER TABLE business_images ADD COLUMN content_type VARCHAR(100);
+ALTER TABLE business_images ADD COLUMN file_size BIGINT;
+ALTER TABLE business_images ADD COLUMN width INTEGER;
+ALTER TABLE business_images ADD COLUMN height INTEGER;
+ALTER TABLE business_images ADD COLUMN content_hash VARCHAR(64);
+ALTER TABLE business_images ADD COLUMN processing_status VARCHAR(20) NOT NULL DEFAULT 'READY';
+
+ALTER TABLE business_images ADD CONSTRAINT chk_image_processing_status
+    CHECK (processing_status IN ('PENDING', 'READY', 'FAILED'));
+
+-- The sweeper looks for uploads whose thumbnails were never generated
+CREATE INDEX idx_business_images_pending ON business_images(uploaded_at)
+    WHERE processing_status = 'PENDING';
+
+CREATE TABLE business_image_variants (
+    id BIGSERIAL PRIMARY KEY,
+    image_id BIGINT NOT NULL,
+    size_name VARCHAR(20) NOT NULL,
+    width INTEGER NOT NULL,
+    height INTEGER NOT NULL,
+    content_type VARCHAR(100) NOT NULL,
+    file_size BIGINT NOT NULL,
+    storage_key VARCHAR(255) NOT NULL,
+    content_hash VARCHAR(64) NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT fk_image_variants_image FOREIGN KEY (image_id) REFERENCES business_images(id) ON DELETE CASCADE,
+    CONSTRAINT uq_image_variants_size UNIQUE (image_id, size_name)
+);
@@ -0,0 +1,62 @@
+-- Partner feeds: businesses are matched on (source, external_ref) so a re-sent feed updates
+-- instead of duplicating, and last_import_id scopes the verification stage to one import
+ALTER TABLE businesses ADD COLUMN source VARCHAR(100);
+ALTER TABLE businesses ADD COLUMN external_ref VARCHAR(100);
+ALTER TABLE businesses ADD COLUMN last_import_id BIGINT;
+
+CREATE UNIQUE INDEX uq_businesses_source_ref ON businesses(source, external_ref)
+    WHERE external_ref IS NOT NULL;
+
+CREATE INDEX idx_businesses_import_pending ON businesses(last_import_id, id)
+    WHERE verification_status = 'PENDING';
+
+CREATE INDEX idx_businesses_registration_number ON businesses(registration_number)
+    WHERE registration_number IS NOT NULL;
+
+-- One row per uploaded feed; the checkpoints commit with the rows they cover, so a feed
+-- picks up after the last committed chunk when an instance dies or the import is resumed
+CREATE TABLE business_imports (
+    id BIGSERIAL PRIMARY KEY,
+    source VARCHAR(100) NOT NULL,
+    format VARCHAR(10) NOT NULL,
+    storage_key VARCHAR(255) NOT NULL,
+    file_size BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'INGESTING',
+    rows_read BIGINT NOT NULL DEFAULT 0,
+    rows_upserted BIGINT NOT NULL DEFAULT 0,
+    rows_rejected BIGINT NOT NULL DEFAULT 0,
+    verify_checkpoint BIGINT NOT NULL DEFAULT 0,
+    verified_count BIGINT NOT NULL DEFAULT 0,
+    rejected_count BIGINT NOT NULL DEFAULT 0,
+    error_message VARCHAR(500),
+    created_by VARCHAR(255),
+    -- Worker holding the import; it renews locked_until with every checkpoint
+    locked_by VARCHAR(64),
+    locked_until TIMESTAMP WITH TIME ZONE,
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    completed_at TIMESTAMP WITH TIME ZONE,
+
+    CONSTRAINT chk_business_import_format CHECK (format IN ('CSV', 'NDJSON')),
+    CONSTRAINT chk_business_import_status CHECK (status IN ('INGESTING', 'VERIFYING', 'COMPLETED', 'FAILED'))
+);
+
+-- Unfinished imports whose lease has run out are picked up by the next instance that looks
+CREATE INDEX idx_business_imports_unfinished ON business_imports(locked_until)
+    WHERE status IN ('INGESTING', 'VERIFYING');
+
+-- Rows the feed could not load and businesses the verification rules rejected
+CREATE TABLE business_import_errors (
+    id BIGSERIAL PRIMARY KEY,
+    import_id BIGINT NOT NULL,
+    stage VARCHAR(10) NOT NULL,
+    row_number BIGINT,
+    business_id BIGINT,
+    external_ref VARCHAR(100),
+    message VARCHAR(500) NOT NULL,
+
+    CONSTRAINT fk_business_import_errors_import FOREIGN KEY (import_id) REFERENCES business_imports(id) ON DELETE CASCADE,
+    CONSTRAINT chk_business_import_error_stage CHECK (stage IN ('INGEST', 'VERIFY'))
+);
+
+CREATE INDEX idx_business_import_errors_import ON business_import_errors(import_id, id);
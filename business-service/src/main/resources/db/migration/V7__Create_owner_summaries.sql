@@ -0,0 +1,24 @@
+-- Events already applied by this service; the primary key makes redeliveries no-ops
+CREATE TABLE processed_events (
+    event_id UUID PRIMARY KEY,
+    event_type VARCHAR(100) NOT NULL,
+    processed_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_processed_events_processed_at ON processed_events(processed_at);
+
+-- Business owners as last published by user-service; written only by the change feed and the resync job
+CREATE TABLE owner_summaries (
+    owner_id BIGINT PRIMARY KEY,
+    keycloak_id VARCHAR(255) NOT NULL,
+    full_name VARCHAR(255),
+    email VARCHAR(255),
+    business_name VARCHAR(255),
+    verified BOOLEAN NOT NULL DEFAULT FALSE,
+    business_status VARCHAR(50),
+    active BOOLEAN NOT NULL DEFAULT TRUE,
+    version BIGINT NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE UNIQUE INDEX idx_owner_summaries_keycloak_id ON owner_summaries(keycloak_id);
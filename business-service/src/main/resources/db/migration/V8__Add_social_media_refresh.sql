@@ -0,0 +1,11 @@
+-- When follower_count and is_verified were last fetched from the platform
+ALTER TABLE business_social_media ADD COLUMN refreshed_at TIMESTAMP WITH TIME ZONE;
+
+-- Refresh work is split by business_id modulo the shard count; an instance holds a shard
+-- under a lease while it refreshes it, and the shard is due again refresh-interval after it completes
+CREATE TABLE social_media_refresh_shards (
+    shard INTEGER PRIMARY KEY,
+    locked_by VARCHAR(64),
+    locked_until TIMESTAMP WITH TIME ZONE,
+    last_completed_at TIMESTAMP WITH TIME ZONE
+);
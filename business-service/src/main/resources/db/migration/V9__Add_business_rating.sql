@@ -0,0 +1,4 @@
+-- Average review rating as last pushed by booking-service; rating_version rejects out-of-order updates
+ALTER TABLE businesses ADD COLUMN rating NUMERIC(3, 2) NOT NULL DEFAULT 0;
+ALTER TABLE businesses ADD COLUMN total_reviews INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE businesses ADD COLUMN rating_version BIGINT NOT NULL DEFAULT 0;
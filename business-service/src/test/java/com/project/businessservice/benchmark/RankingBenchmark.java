@@ -0,0 +1,118 @@
+package com.project.businessservice.benchmark;
+
+import com.project.businessservice.config.RankingProperties;
+import com.project.businessservice.service.hours.OpenHoursIndex;
+import com.project.businessservice.service.ranking.RankingIndex;
+import com.project.businessservice.util.BoundedTopK;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Business ranking latency per query type, offline over the ranking fixture scaled up
+ *
+ * Each benchmark cycles through the fixture queries of its type and ranks them the way
+ * RankingService does: an open-now evaluator per query, the weights from application.yml and
+ * the default limit, without the card lookup. {@link #main} first prints what every fixture
+ * query returns over the unscaled fixture, so weight changes can be judged by their results
+ * as well as their cost.
+ *
+ * Run with:
+ * mvn -pl business-service test-compile exec:java -Dexec.classpathScope=test
+ *     -Dexec.mainClass=com.project.businessservice.benchmark.RankingBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class RankingBenchmark {
+
+    @Param({"100000", "1000000"})
+    public int businesses;
+
+    private RankingProperties properties;
+    private RankingIndex index;
+    private OpenHoursIndex hours;
+    private Map<String, List<RankingFixture.QueryCase>> queriesByType;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        properties = RankingFixture.properties();
+        List<RankingFixture.Business> scaled = RankingFixture.scaled(RankingFixture.businesses(), businesses, 42);
+        index = RankingFixture.index(scaled, properties);
+        hours = RankingFixture.hours(scaled);
+        queriesByType = RankingFixture.queries().stream()
+                .collect(Collectors.groupingBy(RankingFixture.QueryCase::queryType));
+    }
+
+    @Benchmark
+    public BoundedTopK keyword() {
+        return rank("keyword");
+    }
+
+    @Benchmark
+    public BoundedTopK nearby() {
+        return rank("nearby");
+    }
+
+    @Benchmark
+    public BoundedTopK browse() {
+        return rank("browse");
+    }
+
+    private BoundedTopK rank(String queryType) {
+        List<RankingFixture.QueryCase> queries = queriesByType.get(queryType);
+        RankingFixture.QueryCase query = queries.get(cursor++ % queries.size());
+        BoundedTopK best = new BoundedTopK(properties.getDefaultLimit());
+        index.rank(RankingFixture.query(index, query, properties.getMaxRadiusKm()),
+                RankingFixture.weights(properties, queryType), hours.at(Instant.now()), best);
+        best.drainSorted();
+        return best;
+    }
+
+    private static void printFixtureResults() {
+        RankingProperties properties = RankingFixture.properties();
+        List<RankingFixture.Business> fixture = RankingFixture.businesses();
+        RankingIndex index = RankingFixture.index(fixture, properties);
+        OpenHoursIndex.OpenAt openNow = RankingFixture.hours(fixture).at(Instant.now());
+        Map<Long, String> names = fixture.stream()
+                .collect(Collectors.toMap(RankingFixture.Business::id, RankingFixture.Business::name));
+
+        for (RankingFixture.QueryCase query : RankingFixture.queries()) {
+            BoundedTopK best = new BoundedTopK(5);
+            index.rank(RankingFixture.query(index, query, properties.getMaxRadiusKm()),
+                    RankingFixture.weights(properties, query.queryType()), openNow, best);
+            int found = best.drainSorted();
+            System.out.println(query);
+            for (int i = 0; i < found; i++) {
+                System.out.printf("  %.3f  %s%n", -best.keyAt(i), names.get(index.id((int) best.valueAt(i))));
+            }
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        printFixtureResults();
+        new Runner(new OptionsBuilder()
+                .include(RankingBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,144 @@
+package com.project.businessservice.benchmark;
+
+import com.project.businessservice.config.RankingProperties;
+import com.project.businessservice.service.hours.OpenHoursIndex;
+import com.project.businessservice.service.hours.WeeklyHours;
+import com.project.businessservice.service.ranking.RankingIndex;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Businesses and queries for the ranking benchmark, read from src/test/resources/ranking
+ *
+ * The fixture is a few hand-written businesses in three cities; {@link #scaled} repeats them
+ * with jittered locations and ratings to reach benchmark sizes. Weights are bound from the
+ * service's own application.yml, so the harness ranks with what production is configured with.
+ */
+final class RankingFixture {
+
+    record Business(long id, String name, String description, String businessType, boolean verified,
+                    double rating, int reviews, Double latitude, Double longitude, String timezone,
+                    LocalTime opens, LocalTime closes) {
+    }
+
+    record QueryCase(String queryType, String text, Double latitude, Double longitude, Double radiusKm,
+                     String businessType) {
+    }
+
+    private RankingFixture() {
+    }
+
+    static List<Business> businesses() {
+        return read("ranking/businesses.csv", f -> new Business(Long.parseLong(f[0]), f[1], f[2], f[3],
+                Boolean.parseBoolean(f[4]), Double.parseDouble(f[5]), Integer.parseInt(f[6]),
+                number(f[7]), number(f[8]), f[9], LocalTime.parse(f[10]), LocalTime.parse(f[11])));
+    }
+
+    static List<QueryCase> queries() {
+        return read("ranking/queries.csv", f -> new QueryCase(f[0], f[1], number(f[2]), number(f[3]), number(f[4]),
+                f[5].isEmpty() ? null : f[5]));
+    }
+
+    /**
+     * count businesses cycling through the fixture, each copy moved up to about 20 km and its
+     * rating and review count varied; IDs run from 1 so they stay dense for {@link OpenHoursIndex}
+     */
+    static List<Business> scaled(List<Business> fixture, int count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<Business> scaled = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Business b = fixture.get(i % fixture.size());
+            boolean located = b.latitude() != null;
+            double rating = Math.max(1.0, Math.min(5.0, b.rating() + random.nextDouble(-0.3, 0.3)));
+            scaled.add(new Business(i + 1, b.name(), b.description(), b.businessType(), b.verified(), rating,
+                    random.nextInt(b.reviews() * 2 + 1),
+                    located ? b.latitude() + random.nextDouble(-0.18, 0.18) : null,
+                    located ? b.longitude() + random.nextDouble(-0.25, 0.25) : null,
+                    b.timezone(), b.opens(), b.closes()));
+        }
+        return scaled;
+    }
+
+    static RankingIndex index(List<Business> businesses, RankingProperties properties) {
+        RankingIndex.Builder builder = RankingIndex.builder(businesses.size(), properties.getPriorRating(),
+                properties.getRatingConfidenceReviews());
+        for (Business b : businesses) {
+            builder.add(b.id(), b.name(), b.description(), b.businessType(), b.verified(), b.rating(), b.reviews(),
+                    b.latitude(), b.longitude());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Opening hours index with every business open the same hours all week
+     */
+    static OpenHoursIndex hours(List<Business> businesses) {
+        OpenHoursIndex hours = new OpenHoursIndex(businesses.size());
+        for (Business b : businesses) {
+            long[] bits = new long[WeeklyHours.WORDS];
+            for (int day = 0; day < 7; day++) {
+                WeeklyHours.addDay(bits, 0, day, b.opens(), b.closes());
+            }
+            hours.put(b.id(), b.timezone(), bits);
+        }
+        return hours;
+    }
+
+    static RankingProperties properties() {
+        try {
+            return new Binder(ConfigurationPropertySources.from(
+                    new YamlPropertySourceLoader().load("application", new ClassPathResource("application.yml"))))
+                    .bind("app.ranking", RankingProperties.class)
+                    .get();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static RankingIndex.Weights weights(RankingProperties properties, String queryType) {
+        RankingProperties.QueryType weights = properties.getQueryTypes().get(queryType);
+        if (weights == null) {
+            throw new IllegalArgumentException("Unknown query type: " + queryType);
+        }
+        return new RankingIndex.Weights(weights.getText(), weights.getDistance(), weights.getOpenNow(),
+                weights.getVerified(), weights.getRating());
+    }
+
+    static RankingIndex.Query query(RankingIndex index, QueryCase query, double defaultRadiusKm) {
+        boolean located = query.latitude() != null;
+        return new RankingIndex.Query(RankingIndex.terms(query.text()), located,
+                located ? query.latitude() : 0, located ? query.longitude() : 0,
+                query.radiusKm() != null ? query.radiusKm() : defaultRadiusKm,
+                query.businessType() != null ? index.typeId(query.businessType()) : -1);
+    }
+
+    private static Double number(String field) {
+        return field.isEmpty() ? null : Double.valueOf(field);
+    }
+
+    private static <T> List<T> read(String resource, Function<String[], T> row) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new ClassPathResource(resource).getInputStream(), StandardCharsets.UTF_8))) {
+            return reader.lines()
+                    .filter(line -> !line.isBlank() && !line.startsWith("#"))
+                    .map(line -> row.apply(line.split(",", -1)))
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.project.businessservice.benchmark;
+
+import com.project.businessservice.dto.ServiceOfferingDto;
+import com.project.businessservice.service.facet.FacetBands;
+import com.project.businessservice.service.facet.ServiceFacetIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Faceted search latency over a synthetic catalog, 5M services by default
+ *
+ * The catalog is seeded, so every run indexes the same services: ten per business, 40 categories
+ * with skewed sizes, prices up to 600.00 with one in twenty unpriced, and the bands from
+ * application.yml. linearScanBaseline answers categoryAndPriceSortedByPrice by filtering and
+ * sorting the raw services, which is what the index replaces.
+ *
+ * Run with:
+ * mvn -pl business-service test-compile exec:java -Dexec.classpathScope=test
+ *     -Dexec.mainClass=com.project.businessservice.benchmark.ServiceFacetIndexBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+@State(Scope.Benchmark)
+public class ServiceFacetIndexBenchmark {
+
+    private static final int SERVICES_PER_BUSINESS = 10;
+    private static final int CATEGORIES = 40;
+    private static final int PAGE = 20;
+    private static final String[] NAMES = {"Haircut", "Massage", "Manicure", "Consultation", "Personal training",
+            "Facial", "Physiotherapy", "Yoga class", "Tattoo", "Dog grooming"};
+
+    @Param({"5000000"})
+    public int services;
+
+    private ServiceFacetIndex index;
+    private ServiceOfferingDto[] catalog;
+    private String[] categories;
+
+    @Setup
+    public void setUp() {
+        categories = new String[CATEGORIES];
+        for (int c = 0; c < CATEGORIES; c++) {
+            categories[c] = "Category " + c;
+        }
+        BigDecimal[] prices = new BigDecimal[601];
+        for (int p = 0; p < prices.length; p++) {
+            prices[p] = BigDecimal.valueOf(p * 100L, 2);
+        }
+
+        SplittableRandom random = new SplittableRandom(42);
+        catalog = new ServiceOfferingDto[services];
+        for (int i = 0; i < services; i++) {
+            // squaring skews the category sizes, as real catalogs are dominated by a few
+            double u = random.nextDouble();
+            int category = (int) (u * u * CATEGORIES);
+            BigDecimal price = random.nextInt(20) == 0 ? null : prices[5 + random.nextInt(prices.length - 5)];
+            catalog[i] = new ServiceOfferingDto((long) i + 1, (long) i / SERVICES_PER_BUSINESS + 1,
+                    NAMES[random.nextInt(NAMES.length)], null, categories[category], price, "USD",
+                    15 * (1 + random.nextInt(16)), true);
+        }
+
+        index = new ServiceFacetIndex(new FacetBands(new long[]{0, 2_500, 5_000, 10_000, 20_000, 50_000}),
+                new FacetBands(new long[]{0, 30, 60, 90, 120, 180}));
+        long started = System.nanoTime();
+        index.beginRebuild();
+        ServiceFacetIndex.Builder builder = index.builder(services);
+        for (int from = 0; from < services; from += SERVICES_PER_BUSINESS) {
+            int to = Math.min(from + SERVICES_PER_BUSINESS, services);
+            builder.addBusiness(from / SERVICES_PER_BUSINESS + 1, Arrays.asList(catalog).subList(from, to));
+        }
+        index.finishRebuild(builder);
+        System.out.printf("Indexed %,d services in %d ms%n", services, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @Benchmark
+    public ServiceFacetIndex.Result unfiltered() {
+        return index.search(query(null, null, null, null, ServiceFacetIndex.Sort.NONE, 0));
+    }
+
+    @Benchmark
+    public ServiceFacetIndex.Result singleCategory() {
+        return index.search(query(Set.of(randomCategory()), null, null, null, ServiceFacetIndex.Sort.NONE, 0));
+    }
+
+    @Benchmark
+    public ServiceFacetIndex.Result categoryAndPriceSortedByPrice() {
+        return index.search(query(Set.of(randomCategory()), 3_000L, 12_000L, null,
+                ServiceFacetIndex.Sort.PRICE_ASC, 0));
+    }
+
+    @Benchmark
+    public ServiceFacetIndex.Result allFiltersDeepPage() {
+        int first = ThreadLocalRandom.current().nextInt(CATEGORIES);
+        String second = categories[(first + 1 + ThreadLocalRandom.current().nextInt(CATEGORIES - 1)) % CATEGORIES];
+        return index.search(query(Set.of(categories[first], second), 1_000L, 30_000L, 90,
+                ServiceFacetIndex.Sort.PRICE_DESC, 50 * PAGE));
+    }
+
+    @Benchmark
+    public ServiceFacetIndex.Result unfilteredSortedByPrice() {
+        return index.search(query(null, null, null, null, ServiceFacetIndex.Sort.PRICE_ASC, 0));
+    }
+
+    @Benchmark
+    public List<ServiceOfferingDto> linearScanBaseline() {
+        String category = randomCategory();
+        BigDecimal min = BigDecimal.valueOf(3_000, 2);
+        BigDecimal max = BigDecimal.valueOf(12_000, 2);
+        return Arrays.stream(catalog)
+                .filter(service -> category.equals(service.getCategory()))
+                .filter(service -> service.getPrice() != null
+                        && service.getPrice().compareTo(min) >= 0 && service.getPrice().compareTo(max) <= 0)
+                .sorted(Comparator.comparing(ServiceOfferingDto::getPrice))
+                .limit(PAGE)
+                .collect(Collectors.toList());
+    }
+
+    private String randomCategory() {
+        return categories[ThreadLocalRandom.current().nextInt(CATEGORIES)];
+    }
+
+    private static ServiceFacetIndex.Query query(Set<String> categories, Long minPriceCents, Long maxPriceCents,
+                                                 Integer maxDuration, ServiceFacetIndex.Sort sort, int offset) {
+        return new ServiceFacetIndex.Query(categories, minPriceCents, maxPriceCents, null, maxDuration,
+                sort, offset, PAGE);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(ServiceFacetIndexBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,119 @@
+package com.project.businessservice.service.facet;
+
+import com.project.businessservice.dto.ServiceOfferingDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class ServiceFacetIndexTest {
+
+    private final ServiceFacetIndex index = new ServiceFacetIndex(
+            new FacetBands(new long[]{0, 2_000, 5_000}), new FacetBands(new long[]{0, 30, 60}));
+
+    @BeforeEach
+    void load() {
+        index.beginRebuild();
+        ServiceFacetIndex.Builder builder = index.builder(8);
+        builder.addBusiness(1, List.of(
+                service(1, 1, "Cut", "Hair", "25.00", 30),
+                service(2, 1, "Color", "Hair", "80.00", 90)));
+        builder.addBusiness(2, List.of(
+                service(3, 2, "Massage", "Spa", "60.00", 60),
+                service(4, 2, "Facial", "Spa", "40.00", 45),
+                service(5, 2, "Consultation", "Spa", null, 15)));
+        index.finishRebuild(builder);
+    }
+
+    @Test
+    void unfilteredSearchCountsEverything() {
+        ServiceFacetIndex.Result result = index.search(query(null, null, null, ServiceFacetIndex.Sort.NONE, 0, 10));
+
+        assertThat(result.total()).isEqualTo(5);
+        assertThat(names(result)).containsExactly("Cut", "Color", "Massage", "Facial", "Consultation");
+        assertThat(result.categoryCounts()).containsOnly(entry("Hair", 2), entry("Spa", 3));
+        // the unpriced service is in no price band
+        assertThat(result.priceCounts()).containsExactly(0, 2, 2);
+        assertThat(result.durationCounts()).containsExactly(1, 2, 2);
+    }
+
+    @Test
+    void facetCountsIgnoreTheirOwnFilter() {
+        ServiceFacetIndex.Result result = index.search(query(Set.of("Spa"), 3_000L, 7_000L,
+                ServiceFacetIndex.Sort.NONE, 0, 10));
+
+        assertThat(result.total()).isEqualTo(2);
+        assertThat(names(result)).containsExactly("Massage", "Facial");
+        // categories are counted within the price range as if Spa were not selected; no Hair service is in it
+        assertThat(result.categoryCounts()).containsOnly(entry("Spa", 2));
+        // price bands are counted within Spa, as if no range were selected
+        assertThat(result.priceCounts()).containsExactly(0, 1, 1);
+        assertThat(result.durationCounts()).containsExactly(0, 1, 1);
+    }
+
+    @Test
+    void priceSortPutsUnpricedServicesLast() {
+        assertThat(names(index.search(query(null, null, null, ServiceFacetIndex.Sort.PRICE_ASC, 0, 10))))
+                .containsExactly("Cut", "Facial", "Massage", "Color", "Consultation");
+        assertThat(names(index.search(query(null, null, null, ServiceFacetIndex.Sort.PRICE_DESC, 0, 10))))
+                .containsExactly("Color", "Massage", "Facial", "Cut", "Consultation");
+    }
+
+    @Test
+    void priceSortPagesWithinCategories() {
+        assertThat(names(index.search(query(null, null, null, ServiceFacetIndex.Sort.PRICE_ASC, 1, 2))))
+                .containsExactly("Facial", "Massage");
+        assertThat(names(index.search(query(Set.of("Hair"), null, null, ServiceFacetIndex.Sort.PRICE_DESC, 0, 10))))
+                .containsExactly("Color", "Cut");
+        assertThat(names(index.search(query(Set.of("Spa"), null, null, ServiceFacetIndex.Sort.PRICE_ASC, 2, 10))))
+                .containsExactly("Consultation");
+    }
+
+    @Test
+    void replacingABusinessRetiresItsServices() {
+        index.replaceBusiness(1, List.of(service(6, 1, "Trim", "Hair", "10.00", 15)));
+
+        ServiceFacetIndex.Result result = index.search(query(null, null, null, ServiceFacetIndex.Sort.PRICE_ASC, 0, 10));
+
+        assertThat(result.total()).isEqualTo(4);
+        // the new service sits in the unsorted tail and is still merged into price order
+        assertThat(names(result)).containsExactly("Trim", "Facial", "Massage", "Consultation");
+        assertThat(result.categoryCounts()).containsOnly(entry("Hair", 1), entry("Spa", 3));
+        assertThat(index.needsCompaction()).isTrue();
+    }
+
+    @Test
+    void rebuildReportsBusinessesChangedWhileItLoaded() {
+        index.beginRebuild();
+        ServiceFacetIndex.Builder builder = index.builder(4);
+        builder.addBusiness(2, List.of(service(3, 2, "Massage", "Spa", "60.00", 60)));
+        index.replaceBusiness(1, List.of());
+        Set<Long> changed = index.finishRebuild(builder);
+
+        assertThat(changed).containsExactly(1L);
+        assertThat(index.needsCompaction()).isFalse();
+        assertThat(names(index.search(query(null, null, null, ServiceFacetIndex.Sort.NONE, 0, 10))))
+                .containsExactly("Massage");
+    }
+
+    private static ServiceFacetIndex.Query query(Set<String> categories, Long minPriceCents, Long maxPriceCents,
+                                                 ServiceFacetIndex.Sort sort, int offset, int limit) {
+        return new ServiceFacetIndex.Query(categories, minPriceCents, maxPriceCents, null, null, sort, offset, limit);
+    }
+
+    private static ServiceOfferingDto service(long id, long businessId, String name, String category, String price,
+                                              int duration) {
+        return new ServiceOfferingDto(id, businessId, name, null, category,
+                price != null ? new BigDecimal(price) : null, "USD", duration, true);
+    }
+
+    private static List<String> names(ServiceFacetIndex.Result result) {
+        return result.services().stream().map(ServiceOfferingDto::getName).collect(Collectors.toList());
+    }
+}
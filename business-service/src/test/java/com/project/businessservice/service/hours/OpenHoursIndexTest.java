@@ -0,0 +1,115 @@
+package com.project.businessservice.service.hours;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalTime;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OpenHoursIndexTest {
+
+    // business_hours.day_of_week counts from Sunday
+    private static final int MONDAY = 1;
+    private static final int FRIDAY = 5;
+
+    private final OpenHoursIndex index = new OpenHoursIndex(1_000);
+
+    @Test
+    void openOnlyWithinTheHours() {
+        index.put(1, "UTC", week(MONDAY, "09:00", "17:00"));
+
+        // 2026-03-02 is a Monday
+        assertThat(index.at(Instant.parse("2026-03-02T08:59:00Z")).test(1)).isFalse();
+        assertThat(index.at(Instant.parse("2026-03-02T09:00:00Z")).test(1)).isTrue();
+        assertThat(index.at(Instant.parse("2026-03-02T16:59:00Z")).test(1)).isTrue();
+        assertThat(index.at(Instant.parse("2026-03-02T17:00:00Z")).test(1)).isFalse();
+        assertThat(index.at(Instant.parse("2026-03-03T10:00:00Z")).test(1)).isFalse();
+    }
+
+    @Test
+    void hoursAreReadInTheBusinessTimeZone() {
+        index.put(1, "UTC", week(MONDAY, "09:00", "17:00"));
+        index.put(2, "America/New_York", week(MONDAY, "09:00", "17:00"));
+
+        OpenHoursIndex.OpenAt at = index.at(Instant.parse("2026-03-02T14:30:00Z"));
+
+        assertThat(at.test(1)).isTrue();
+        assertThat(at.test(2)).isTrue();
+        assertThat(index.at(Instant.parse("2026-03-02T13:30:00Z")).test(2)).isFalse();
+        assertThat(index.at(Instant.parse("2026-03-02T21:30:00Z")).test(2)).isTrue();
+    }
+
+    @Test
+    void closingAfterMidnightRunsIntoTheNextDay() {
+        index.put(1, "UTC", week(FRIDAY, "22:00", "02:00"));
+
+        assertThat(index.at(Instant.parse("2026-03-06T23:00:00Z")).test(1)).isTrue();
+        assertThat(index.at(Instant.parse("2026-03-07T01:45:00Z")).test(1)).isTrue();
+        assertThat(index.at(Instant.parse("2026-03-07T02:00:00Z")).test(1)).isFalse();
+    }
+
+    @Test
+    void unknownAndRemovedBusinessesAreClosed() {
+        index.put(1, "UTC", week(MONDAY, "00:00", "00:00"));
+        Instant monday = Instant.parse("2026-03-02T12:00:00Z");
+
+        assertThat(index.at(monday).test(1)).isTrue();
+        assertThat(index.at(monday).test(2)).isFalse();
+        assertThat(index.at(monday).test(5_000)).isFalse();
+
+        index.remove(1);
+        assertThat(index.at(monday).test(1)).isFalse();
+    }
+
+    @Test
+    void idsAboveTheDenseRangeUseTheOverflowMap() {
+        index.put(5_000, "UTC", week(MONDAY, "09:00", "17:00"));
+
+        assertThat(index.at(Instant.parse("2026-03-02T10:00:00Z")).test(5_000)).isTrue();
+        assertThat(index.at(Instant.parse("2026-03-02T18:00:00Z")).test(5_000)).isFalse();
+
+        index.remove(5_000);
+        assertThat(index.at(Instant.parse("2026-03-02T10:00:00Z")).test(5_000)).isFalse();
+    }
+
+    @Test
+    void retainOpenKeepsOrder() {
+        long[] monday = week(MONDAY, "09:00", "17:00");
+        index.put(3, "UTC", monday);
+        index.put(1, "UTC", monday);
+        index.put(5_000, "UTC", monday);
+        long[] ids = {5_000, 2, 3, 4, 1};
+
+        int kept = index.at(Instant.parse("2026-03-02T10:00:00Z")).retainOpen(ids, ids.length);
+
+        assertThat(kept).isEqualTo(3);
+        assertThat(ids).startsWith(5_000, 3, 1);
+    }
+
+    @Test
+    void rebuildReportsChangesMadeWhileItLoaded() {
+        index.put(1, "UTC", week(MONDAY, "09:00", "17:00"));
+
+        index.beginRebuild();
+        OpenHoursIndex.Builder builder = index.builder();
+        builder.put(2, "UTC", week(MONDAY, "09:00", "17:00"));
+        index.put(3, "UTC", week(MONDAY, "09:00", "17:00"));
+        index.remove(1);
+        Set<Long> changed = index.finishRebuild(builder);
+
+        assertThat(index.isLoaded()).isTrue();
+        assertThat(changed).containsExactlyInAnyOrder(1L, 3L);
+        OpenHoursIndex.OpenAt at = index.at(Instant.parse("2026-03-02T10:00:00Z"));
+        assertThat(at.test(2)).isTrue();
+        // the loader re-applies the changed businesses; until then the rebuilt state answers
+        assertThat(at.test(3)).isFalse();
+    }
+
+    private static long[] week(int dayOfWeek, String opening, String closing) {
+        long[] bits = new long[WeeklyHours.WORDS];
+        WeeklyHours.addDay(bits, 0, dayOfWeek, LocalTime.parse(opening), LocalTime.parse(closing));
+        return bits;
+    }
+}
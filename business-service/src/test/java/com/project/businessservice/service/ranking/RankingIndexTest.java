@@ -0,0 +1,136 @@
+package com.project.businessservice.service.ranking;
+
+import com.project.businessservice.util.BoundedTopK;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongPredicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RankingIndexTest {
+
+    private static final RankingIndex.Weights TEXT_ONLY = new RankingIndex.Weights(1, 0, 0, 0, 0);
+    private static final RankingIndex.Weights DISTANCE_ONLY = new RankingIndex.Weights(0, 1, 0, 0, 0);
+    private static final RankingIndex.Weights RATING_ONLY = new RankingIndex.Weights(0, 0, 0, 0, 1);
+    private static final RankingIndex.Weights OPEN_ONLY = new RankingIndex.Weights(0, 0, 1, 0, 0);
+
+    @Test
+    void termsAreDistinctLowerCaseWordsOfTwoOrMoreCharacters() {
+        assertThat(RankingIndex.terms("Hair-Cut & a HAIR colour, 2x")).containsExactly("hair", "cut", "colour", "2x");
+        assertThat(RankingIndex.terms("  ")).isEmpty();
+        assertThat(RankingIndex.terms(null)).isEmpty();
+    }
+
+    @Test
+    void nameHitsOutrankDescriptionHitsAndNonMatchesAreLeftOut() {
+        RankingIndex.Builder builder = RankingIndex.builder(4, 3.5, 10);
+        builder.add(1, "Serenity Spa", "Deep tissue massage", "SPA", false, 0, 0, null, null);
+        builder.add(2, "Massage Studio", "Relaxing treatments", "SPA", false, 0, 0, null, null);
+        builder.add(3, "Sharp Barbers", "Haircut and shave", "BARBER", false, 0, 0, null, null);
+        RankingIndex index = builder.build();
+
+        assertThat(rank(index, textQuery("massage", -1), TEXT_ONLY, null, 10)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void everyQueryTermAddsToTheTextScore() {
+        RankingIndex.Builder builder = RankingIndex.builder(4, 3.5, 10);
+        builder.add(1, "Beard Bar", "Trims", "BARBER", false, 0, 0, null, null);
+        builder.add(2, "Beard Trim Co", "Trims", "BARBER", false, 0, 0, null, null);
+        RankingIndex index = builder.build();
+
+        assertThat(rank(index, textQuery("beard trim", -1), TEXT_ONLY, null, 10)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void typeFilterKeepsOnlyThatType() {
+        RankingIndex.Builder builder = RankingIndex.builder(4, 3.5, 10);
+        builder.add(1, "Cut Spa", "", "SPA", false, 0, 0, null, null);
+        builder.add(2, "Cut Barbers", "", "BARBER", false, 0, 0, null, null);
+        RankingIndex index = builder.build();
+
+        assertThat(index.typeId("NAILS")).isEqualTo(-1);
+        assertThat(rank(index, textQuery("cut", index.typeId("BARBER")), TEXT_ONLY, null, 10)).containsExactly(2L);
+    }
+
+    @Test
+    void locatedQueriesRankByDistanceWithinTheRadius() {
+        RankingIndex.Builder builder = RankingIndex.builder(4, 3.5, 10);
+        builder.add(1, "Far", "", "SPA", false, 0, 0, 40.80, -73.98);
+        builder.add(2, "Near", "", "SPA", false, 0, 0, 40.731, -73.987);
+        builder.add(3, "Unlocated", "", "SPA", false, 0, 0, null, null);
+        builder.add(4, "Outside", "", "SPA", false, 0, 0, 41.50, -73.98);
+        RankingIndex index = builder.build();
+
+        RankingIndex.Query query = new RankingIndex.Query(List.of(), true, 40.7306, -73.9866, 10, -1);
+
+        assertThat(rank(index, query, DISTANCE_ONLY, null, 10)).containsExactly(2L, 1L);
+        assertThat(index.distanceKm(0, 40.7306, -73.9866)).isBetween(7.0, 8.5);
+        assertThat(index.distanceKm(1, 40.7306, -73.9866)).isLessThan(0.1);
+        assertThat(index.distanceKm(2, 40.7306, -73.9866)).isNull();
+    }
+
+    @Test
+    void ratingsBackedByFewReviewsArePulledTowardThePrior() {
+        RankingIndex.Builder builder = RankingIndex.builder(4, 3.5, 10);
+        builder.add(1, "One review", "", "SPA", false, 5.0, 1, null, null);
+        builder.add(2, "Many reviews", "", "SPA", false, 4.6, 200, null, null);
+        builder.add(3, "No reviews", "", "SPA", false, 0, 0, null, null);
+        RankingIndex index = builder.build();
+
+        // (5.0 + 10 * 3.5) / 11 = 3.64 against (4.6 * 200 + 10 * 3.5) / 210 = 4.55; no reviews is the prior
+        assertThat(rank(index, browse(), RATING_ONLY, null, 10)).containsExactly(2L, 1L, 3L);
+        assertThat(index.rating(0)).isEqualTo(5.0f);
+        assertThat(index.reviewCount(0)).isEqualTo(1);
+    }
+
+    @Test
+    void openNowCountsOnlyWhenHoursAreKnownAndTiesKeepTheLowestId() {
+        RankingIndex.Builder builder = RankingIndex.builder(4, 3.5, 10);
+        builder.add(10, "Closed", "", "SPA", false, 0, 0, null, null);
+        builder.add(20, "Open", "", "SPA", false, 0, 0, null, null);
+        builder.add(30, "Also closed", "", "SPA", false, 0, 0, null, null);
+        RankingIndex index = builder.build();
+
+        assertThat(rank(index, browse(), OPEN_ONLY, id -> id == 20, 1)).containsExactly(20L);
+        // without hours every score is equal, and a later doc never displaces an equal one
+        assertThat(rank(index, browse(), OPEN_ONLY, null, 1)).containsExactly(10L);
+    }
+
+    @Test
+    void keepsOnlyTheBestK() {
+        RankingIndex.Builder builder = RankingIndex.builder(4, 3.5, 0);
+        for (int i = 1; i <= 100; i++) {
+            builder.add(i, "Business " + i, "", "SPA", i % 2 == 0, i % 50 / 10.0, 100, null, null);
+        }
+        RankingIndex index = builder.build();
+
+        List<Long> best = rank(index, browse(), new RankingIndex.Weights(0, 0, 0, 1, 1), null, 3);
+
+        // even IDs are verified; 48 and 98 have their best rating of 4.8, then 46 and 96 at 4.6, of which 46 came first
+        assertThat(best.subList(0, 2)).containsExactlyInAnyOrder(48L, 98L);
+        assertThat(best.get(2)).isEqualTo(46L);
+    }
+
+    private static RankingIndex.Query textQuery(String text, int typeId) {
+        return new RankingIndex.Query(RankingIndex.terms(text), false, 0, 0, 0, typeId);
+    }
+
+    private static RankingIndex.Query browse() {
+        return new RankingIndex.Query(List.of(), false, 0, 0, 0, -1);
+    }
+
+    private static List<Long> rank(RankingIndex index, RankingIndex.Query query, RankingIndex.Weights weights,
+                                   LongPredicate openNow, int k) {
+        BoundedTopK best = new BoundedTopK(k);
+        index.rank(query, weights, openNow, best);
+        int found = best.drainSorted();
+        List<Long> ids = new ArrayList<>(found);
+        for (int i = 0; i < found; i++) {
+            ids.add(index.id((int) best.valueAt(i)));
+        }
+        return ids;
+    }
+}
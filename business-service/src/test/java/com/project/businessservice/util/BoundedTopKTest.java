@@ -0,0 +1,98 @@
+package com.project.businessservice.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedTopKTest {
+
+    @Test
+    void keepsTheSmallestKeysInAscendingOrder() {
+        BoundedTopK top = new BoundedTopK(3);
+        double[] keys = {5.0, 1.0, 9.0, 3.0, 7.0, 2.0};
+        for (int i = 0; i < keys.length; i++) {
+            top.offer(keys[i], i);
+        }
+
+        int count = top.drainSorted();
+
+        assertThat(count).isEqualTo(3);
+        assertThat(new double[]{top.keyAt(0), top.keyAt(1), top.keyAt(2)}).containsExactly(1.0, 2.0, 3.0);
+        assertThat(new long[]{top.valueAt(0), top.valueAt(1), top.valueAt(2)}).containsExactly(1L, 5L, 3L);
+        assertThat(top.size()).isZero();
+    }
+
+    @Test
+    void worstKeyIsInfiniteUntilFull() {
+        BoundedTopK top = new BoundedTopK(2);
+        assertThat(top.worstKey()).isEqualTo(Double.POSITIVE_INFINITY);
+
+        top.offer(4.0, 1);
+        assertThat(top.isFull()).isFalse();
+        assertThat(top.worstKey()).isEqualTo(Double.POSITIVE_INFINITY);
+
+        top.offer(2.0, 2);
+        assertThat(top.isFull()).isTrue();
+        assertThat(top.worstKey()).isEqualTo(4.0);
+
+        top.offer(3.0, 3);
+        assertThat(top.worstKey()).isEqualTo(3.0);
+
+        // a key equal to the worst does not displace it
+        top.offer(3.0, 4);
+        top.drainSorted();
+        assertThat(top.valueAt(1)).isEqualTo(3L);
+    }
+
+    @Test
+    void fewerOffersThanKAreAllKept() {
+        BoundedTopK top = new BoundedTopK(10);
+        top.offer(2.0, 20);
+        top.offer(1.0, 10);
+
+        assertThat(top.drainSorted()).isEqualTo(2);
+        assertThat(top.valueAt(0)).isEqualTo(10L);
+        assertThat(top.valueAt(1)).isEqualTo(20L);
+    }
+
+    @Test
+    void matchesAFullSortOnRandomInput() {
+        Random random = new Random(42);
+        double[] keys = new double[10_000];
+        BoundedTopK top = new BoundedTopK(50);
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = random.nextDouble();
+            top.offer(keys[i], i);
+        }
+        double[] sorted = keys.clone();
+        Arrays.sort(sorted);
+
+        assertThat(top.drainSorted()).isEqualTo(50);
+        for (int i = 0; i < 50; i++) {
+            assertThat(top.keyAt(i)).isEqualTo(sorted[i]);
+            assertThat(keys[(int) top.valueAt(i)]).isEqualTo(sorted[i]);
+        }
+    }
+
+    @Test
+    void clearEmptiesTheHeap() {
+        BoundedTopK top = new BoundedTopK(2);
+        top.offer(1.0, 1);
+        top.offer(2.0, 2);
+
+        top.clear();
+        top.offer(5.0, 5);
+
+        assertThat(top.drainSorted()).isEqualTo(1);
+        assertThat(top.valueAt(0)).isEqualTo(5L);
+    }
+
+    @Test
+    void rejectsNonPositiveK() {
+        assertThatThrownBy(() -> new BoundedTopK(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,55 @@
+package com.project.common.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Shared serialization setup for all services
+ *
+ * - Registers the Blackbird module so Jackson uses generated accessors instead of reflection
+ * - Adds a CBOR converter for service-to-service calls, selected only when the client sends
+ *   "Accept: application/cbor"; JSON stays the default for browsers and the gateway
+ */
+@AutoConfiguration
+@ConditionalOnClass(ObjectMapper.class)
+public class ApiSerializationAutoConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.serialization", name = "blackbird-enabled", havingValue = "true", matchIfMissing = true)
+    public BlackbirdModule blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnClass({CBORFactory.class, WebMvcConfigurer.class})
+    @ConditionalOnProperty(prefix = "app.serialization", name = "cbor-enabled", havingValue = "true", matchIfMissing = true)
+    static class CborNegotiationConfiguration implements WebMvcConfigurer {
+
+        private final ObjectMapper cborMapper;
+
+        CborNegotiationConfiguration(Jackson2ObjectMapperBuilder objectMapperBuilder) {
+            // The Boot builder is prototype-scoped and already carries the registered modules and settings
+            this.cborMapper = objectMapperBuilder.factory(new CBORFactory()).build();
+        }
+
+        @Override
+        public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+            // Appended last so "Accept: */*" still resolves to JSON
+            converters.add(new MappingJackson2CborHttpMessageConverter(cborMapper));
+        }
+    }
+}
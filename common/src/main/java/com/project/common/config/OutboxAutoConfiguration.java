@@ -0,0 +1,102 @@
+package com.project.common.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.common.outbox.EventBroker;
+import com.project.common.outbox.EventHandler;
+import com.project.common.outbox.HttpEventBroker;
+import com.project.common.outbox.IdempotentEventConsumer;
+import com.project.common.outbox.InMemoryEventBroker;
+import com.project.common.outbox.OutboxEventEndpoint;
+import com.project.common.outbox.OutboxProperties;
+import com.project.common.outbox.OutboxRelay;
+import com.project.common.outbox.OutboxWriter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.RestClient;
+
+import java.util.List;
+
+/**
+ * Transactional outbox shared by services that publish or consume cross-service events
+ *
+ * Producers write through {@link OutboxWriter}; {@link OutboxRelay} ships committed rows
+ * to the configured {@link EventBroker} and consumers apply them through
+ * {@link IdempotentEventConsumer}. Each service needs the outbox_events and processed_events
+ * tables and @EnableScheduling for the relay to run; consume-only services turn the relay
+ * off with app.outbox.relay-enabled=false and only need processed_events.
+ */
+@AutoConfiguration(after = {JdbcTemplateAutoConfiguration.class, TransactionAutoConfiguration.class})
+@ConditionalOnClass(JdbcTemplate.class)
+@ConditionalOnProperty(prefix = "app.outbox", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(OutboxProperties.class)
+public class OutboxAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public OutboxWriter outboxWriter(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        return new OutboxWriter(jdbcTemplate, objectMapper);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public IdempotentEventConsumer idempotentEventConsumer(List<EventHandler<?>> handlers, JdbcTemplate jdbcTemplate,
+                                                           TransactionTemplate transactionTemplate,
+                                                           ObjectMapper objectMapper, OutboxProperties properties) {
+        return new IdempotentEventConsumer(handlers, jdbcTemplate, transactionTemplate, objectMapper, properties);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(EventBroker.class)
+    @ConditionalOnProperty(prefix = "app.outbox", name = "broker", havingValue = "in-memory", matchIfMissing = true)
+    public InMemoryEventBroker inMemoryEventBroker(IdempotentEventConsumer consumer) {
+        return new InMemoryEventBroker(consumer);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.outbox", name = "relay-enabled", havingValue = "true", matchIfMissing = true)
+    public OutboxRelay outboxRelay(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                   EventBroker eventBroker, OutboxProperties properties) {
+        return new OutboxRelay(jdbcTemplate, transactionTemplate, eventBroker, properties);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(RestClient.class)
+    @ConditionalOnProperty(prefix = "app.outbox", name = "broker", havingValue = "http")
+    static class HttpBrokerConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(EventBroker.class)
+        public HttpEventBroker httpEventBroker(ObjectProvider<RestClient.Builder> restClientBuilder,
+                                               OutboxProperties properties) {
+            requireToken(properties);
+            RestClient.Builder builder = restClientBuilder.getIfAvailable(RestClient::builder);
+            return new HttpEventBroker(builder.build(), properties);
+        }
+
+        @Bean
+        @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+        public OutboxEventEndpoint outboxEventEndpoint(IdempotentEventConsumer consumer, OutboxProperties properties) {
+            requireToken(properties);
+            return new OutboxEventEndpoint(consumer, properties);
+        }
+
+        // /internal/events is reachable without a user token, so HTTP delivery must never run unauthenticated
+        private static void requireToken(OutboxProperties properties) {
+            if (!StringUtils.hasText(properties.getToken())) {
+                throw new IllegalStateException("app.outbox.token (OUTBOX_TOKEN) must be set when app.outbox.broker=http");
+            }
+        }
+    }
+}
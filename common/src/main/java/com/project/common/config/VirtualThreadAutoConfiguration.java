@@ -0,0 +1,51 @@
+package com.project.common.config;
+
+import com.project.common.jdbc.DataSourceAdmissionPostProcessor;
+import com.project.common.monitoring.VirtualThreadPinningMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import java.time.Duration;
+
+/**
+ * Support beans for the virtual-thread execution mode (spring.threads.virtual.enabled=true)
+ *
+ * Spring Boot itself moves Tomcat request handling, @Async and @Scheduled execution onto
+ * virtual threads; this adds pinning detection and keeps the unbounded number of virtual
+ * threads from stampeding the connection pool.
+ */
+@AutoConfiguration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadAutoConfiguration {
+
+    @Bean
+    @ConditionalOnClass(MeterRegistry.class)
+    @ConditionalOnProperty(prefix = "app.virtual-threads.pinning-detection", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(Environment environment,
+                                                                   ObjectProvider<MeterRegistry> meterRegistry) {
+        Duration threshold = environment.getProperty("app.virtual-threads.pinning-detection.threshold",
+                Duration.class, Duration.ofMillis(20));
+        return new VirtualThreadPinningMonitor(threshold, meterRegistry.getIfAvailable());
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass({HikariDataSource.class, DelegatingDataSource.class})
+    @ConditionalOnProperty(prefix = "app.datasource.admission", name = "enabled", havingValue = "true", matchIfMissing = true)
+    static class DataSourceAdmissionConfiguration {
+
+        @Bean
+        static DataSourceAdmissionPostProcessor dataSourceAdmissionPostProcessor(Environment environment) {
+            return new DataSourceAdmissionPostProcessor(environment);
+        }
+    }
+}
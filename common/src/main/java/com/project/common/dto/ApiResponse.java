@@ -1,5 +1,6 @@
 package com.project.common.dto;
 
+import com.project.common.util.TimestampFormatter;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -14,14 +15,14 @@ public class ApiResponse<T> {
     private String timestamp;
 
     public static <T> ApiResponse<T> success(T data) {
-        return new ApiResponse<>(true, "Success", data, java.time.Instant.now().toString());
+        return new ApiResponse<>(true, "Success", data, TimestampFormatter.now());
     }
 
     public static <T> ApiResponse<T> success(String message, T data) {
-        return new ApiResponse<>(true, message, data, java.time.Instant.now().toString());
+        return new ApiResponse<>(true, message, data, TimestampFormatter.now());
     }
 
     public static <T> ApiResponse<T> error(String message) {
-        return new ApiResponse<>(false, message, null, java.time.Instant.now().toString());
+        return new ApiResponse<>(false, message, null, TimestampFormatter.now());
     }
 }
\ No newline at end of file
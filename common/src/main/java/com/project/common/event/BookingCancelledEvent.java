@@ -0,0 +1,16 @@
+package com.project.common.event;
+
+/**
+ * Published by booking-service when a pending or confirmed booking is cancelled; paymentId is
+ * set once a payment has been applied to the booking, which is the only link for a booked hold
+ */
+public record BookingCancelledEvent(
+        Long bookingId,
+        Long paymentId,
+        Long customerId,
+        Long providerId,
+        String reason) {
+
+    public static final String TYPE = "BookingCancelled";
+    public static final String AGGREGATE = "Booking";
+}
@@ -0,0 +1,23 @@
+package com.project.common.event;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Published by booking-service when a booking is created and awaits payment
+ */
+public record BookingCreatedEvent(
+        Long bookingId,
+        Long customerId,
+        Long providerId,
+        Long businessId,
+        LocalDate bookingDate,
+        LocalTime startTime,
+        LocalTime endTime,
+        BigDecimal totalAmount,
+        String currency) {
+
+    public static final String TYPE = "BookingCreated";
+    public static final String AGGREGATE = "Booking";
+}
@@ -0,0 +1,22 @@
+package com.project.common.event;
+
+/**
+ * Published by user-service with the current summary of a business owner whenever the owner changes
+ *
+ * Values are absolute and carry a per-owner version, so applying an older event after a
+ * newer one is a no-op. user-service serves the same payload for full resyncs.
+ */
+public record BusinessOwnerChangedEvent(
+        Long ownerId,
+        String keycloakId,
+        String fullName,
+        String email,
+        String businessName,
+        boolean verified,
+        String businessStatus,
+        boolean active,
+        long version) {
+
+    public static final String TYPE = "BusinessOwnerChanged";
+    public static final String AGGREGATE = "BusinessOwner";
+}
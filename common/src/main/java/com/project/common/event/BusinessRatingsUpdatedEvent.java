@@ -0,0 +1,18 @@
+package com.project.common.event;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Published by booking-service with the latest rating of every business reviewed since the last batch
+ *
+ * Same contract as {@link ProviderRatingsUpdatedEvent}: absolute values with a per-business version.
+ */
+public record BusinessRatingsUpdatedEvent(List<BusinessRating> ratings) {
+
+    public static final String TYPE = "BusinessRatingsUpdated";
+    public static final String AGGREGATE = "BusinessRating";
+
+    public record BusinessRating(Long businessId, BigDecimal rating, int totalReviews, long version) {
+    }
+}
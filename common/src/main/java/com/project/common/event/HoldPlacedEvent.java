@@ -0,0 +1,27 @@
+package com.project.common.event;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * Published by booking-service once a checkout hold is persisted; payment-service opens a
+ * payment for it that must complete before the hold expires
+ */
+public record HoldPlacedEvent(
+        UUID holdId,
+        Long customerId,
+        Long providerId,
+        Long businessId,
+        LocalDate bookingDate,
+        LocalTime startTime,
+        LocalTime endTime,
+        BigDecimal totalAmount,
+        String currency,
+        Instant expiresAt) {
+
+    public static final String TYPE = "HoldPlaced";
+    public static final String AGGREGATE = "Hold";
+}
@@ -0,0 +1,20 @@
+package com.project.common.event;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Published by payment-service when a booking's or a hold's payment has gone through;
+ * exactly one of bookingId and holdId is set
+ */
+public record PaymentCompletedEvent(
+        Long paymentId,
+        Long bookingId,
+        UUID holdId,
+        BigDecimal amount,
+        String currency,
+        String providerTransactionId) {
+
+    public static final String TYPE = "PaymentCompleted";
+    public static final String AGGREGATE = "Payment";
+}
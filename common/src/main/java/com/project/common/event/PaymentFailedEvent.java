@@ -0,0 +1,17 @@
+package com.project.common.event;
+
+import java.util.UUID;
+
+/**
+ * Published by payment-service when a booking's or a hold's payment has failed for good;
+ * exactly one of bookingId and holdId is set
+ */
+public record PaymentFailedEvent(
+        Long paymentId,
+        Long bookingId,
+        UUID holdId,
+        String reason) {
+
+    public static final String TYPE = "PaymentFailed";
+    public static final String AGGREGATE = "Payment";
+}
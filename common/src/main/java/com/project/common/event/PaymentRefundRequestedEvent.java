@@ -0,0 +1,17 @@
+package com.project.common.event;
+
+import java.util.UUID;
+
+/**
+ * Published by booking-service when a completed payment bought nothing: its hold could not be
+ * confirmed, or its booking was no longer pending. Mirrors the payment's bookingId and holdId.
+ */
+public record PaymentRefundRequestedEvent(
+        Long paymentId,
+        Long bookingId,
+        UUID holdId,
+        String reason) {
+
+    public static final String TYPE = "PaymentRefundRequested";
+    public static final String AGGREGATE = "Payment";
+}
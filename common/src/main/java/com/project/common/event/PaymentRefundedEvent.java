@@ -0,0 +1,20 @@
+package com.project.common.event;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Published by payment-service when a completed payment has been refunded;
+ * exactly one of bookingId and holdId is set
+ */
+public record PaymentRefundedEvent(
+        Long paymentId,
+        Long bookingId,
+        UUID holdId,
+        BigDecimal amount,
+        String currency,
+        String reason) {
+
+    public static final String TYPE = "PaymentRefunded";
+    public static final String AGGREGATE = "Payment";
+}
@@ -0,0 +1,19 @@
+package com.project.common.event;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Published by booking-service with the latest rating of every provider reviewed since the last batch
+ *
+ * Values are absolute and carry a per-provider version, so applying an older batch after a
+ * newer one is a no-op.
+ */
+public record ProviderRatingsUpdatedEvent(List<ProviderRating> ratings) {
+
+    public static final String TYPE = "ProviderRatingsUpdated";
+    public static final String AGGREGATE = "ProviderRating";
+
+    public record ProviderRating(Long providerId, BigDecimal rating, int totalReviews, long version) {
+    }
+}
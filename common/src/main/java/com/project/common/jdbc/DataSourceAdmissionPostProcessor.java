@@ -0,0 +1,41 @@
+package com.project.common.jdbc;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+ * Wraps every Hikari pool bean in an {@link AdmissionControlledDataSource}.
+ *
+ * By default the number of permits equals the pool's maximum size and the admission
+ * timeout equals the pool's connection timeout; both can be overridden through
+ * app.datasource.admission.max-concurrent and app.datasource.admission.acquire-timeout.
+ */
+@Slf4j
+public class DataSourceAdmissionPostProcessor implements BeanPostProcessor {
+
+    private final Environment environment;
+
+    public DataSourceAdmissionPostProcessor(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof HikariDataSource hikariDataSource)) {
+            return bean;
+        }
+
+        int maxConcurrent = environment.getProperty("app.datasource.admission.max-concurrent",
+                Integer.class, hikariDataSource.getMaximumPoolSize());
+        Duration acquireTimeout = environment.getProperty("app.datasource.admission.acquire-timeout",
+                Duration.class, Duration.ofMillis(hikariDataSource.getConnectionTimeout()));
+
+        log.info("Limiting DataSource '{}' to {} concurrent connections (admission timeout: {} ms)",
+                beanName, maxConcurrent, acquireTimeout.toMillis());
+        return new AdmissionControlledDataSource(hikariDataSource, maxConcurrent, acquireTimeout.toMillis());
+    }
+}
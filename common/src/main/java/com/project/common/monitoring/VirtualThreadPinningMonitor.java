@@ -0,0 +1,94 @@
+package com.project.common.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Streams JFR "jdk.VirtualThreadPinned" events and reports where virtual threads get pinned
+ * to their carrier (synchronized blocks or native frames around blocking calls).
+ *
+ * Each distinct pinning site is logged once with its stack; every occurrence is counted
+ * in the "jvm.threads.virtual.pinned" metric when Micrometer is available.
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int MAX_REPORTED_SITES = 256;
+    private static final int MAX_LOGGED_FRAMES = 12;
+
+    private final Duration threshold;
+    private final Counter pinnedCounter;
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+
+    private volatile RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(Duration threshold, MeterRegistry meterRegistry) {
+        this.threshold = threshold;
+        this.pinnedCounter = meterRegistry != null
+                ? Counter.builder("jvm.threads.virtual.pinned")
+                    .description("Virtual thread pinning events above the configured threshold")
+                    .register(meterRegistry)
+                : null;
+    }
+
+    @Override
+    public void start() {
+        RecordingStream stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        recordingStream = stream;
+        log.info("Virtual thread pinning detection started (threshold: {} ms)", threshold.toMillis());
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream stream = recordingStream;
+        if (stream != null) {
+            stream.close();
+            recordingStream = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return recordingStream != null;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        if (pinnedCounter != null) {
+            pinnedCounter.increment();
+        }
+
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<RecordedFrame> frames = stackTrace != null ? stackTrace.getFrames() : List.of();
+        String site = frames.isEmpty() ? "unknown" : describe(frames.get(0));
+
+        if (reportedSites.size() < MAX_REPORTED_SITES && reportedSites.add(site)) {
+            StringBuilder stack = new StringBuilder();
+            frames.stream()
+                    .limit(MAX_LOGGED_FRAMES)
+                    .forEach(frame -> stack.append("\n\tat ").append(describe(frame)));
+            log.warn("Virtual thread pinned for {} ms at {}{}", event.getDuration().toMillis(), site, stack);
+        } else {
+            log.debug("Virtual thread pinned for {} ms at {}", event.getDuration().toMillis(), site);
+        }
+    }
+
+    private String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+}
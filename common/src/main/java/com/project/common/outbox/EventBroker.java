@@ -0,0 +1,14 @@
+package com.project.common.outbox;
+
+import java.util.List;
+
+/**
+ * Transport the outbox relay hands committed events to
+ *
+ * Implementations must either deliver the whole batch or throw; the relay then leaves the
+ * batch unpublished and retries it, so delivery is at least once.
+ */
+public interface EventBroker {
+
+    void publish(List<OutboxEvent> events);
+}
@@ -0,0 +1,16 @@
+package com.project.common.outbox;
+
+/**
+ * Consumer-side handler for one event type
+ *
+ * Handlers run inside the transaction that records the event as processed, so their
+ * database writes and the deduplication marker commit or roll back together.
+ */
+public interface EventHandler<T> {
+
+    String eventType();
+
+    Class<T> payloadType();
+
+    void handle(T payload, OutboxEvent event);
+}
@@ -0,0 +1,59 @@
+package com.project.common.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.RestClient;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Posts event batches to the internal event endpoint of each routed service
+ *
+ * Routes come from app.outbox.routes; events without a route are treated as delivered.
+ * The RestClient is expected to be load-balanced so routes can use service names.
+ */
+@Slf4j
+public class HttpEventBroker implements EventBroker {
+
+    public static final String TOKEN_HEADER = "X-Outbox-Token";
+
+    private final RestClient restClient;
+    private final OutboxProperties properties;
+
+    public HttpEventBroker(RestClient restClient, OutboxProperties properties) {
+        this.restClient = restClient;
+        this.properties = properties;
+    }
+
+    @Override
+    public void publish(List<OutboxEvent> events) {
+        Map<String, List<OutboxEvent>> byTarget = new LinkedHashMap<>();
+        for (OutboxEvent event : events) {
+            List<String> targets = properties.getRoutes().get(event.eventType());
+            if (targets == null || targets.isEmpty()) {
+                log.debug("No route for event type {}, dropping event {}", event.eventType(), event.id());
+                continue;
+            }
+            for (String target : targets) {
+                byTarget.computeIfAbsent(target, t -> new ArrayList<>()).add(event);
+            }
+        }
+
+        // A failure on any target fails the batch; targets that already succeeded see a redelivery
+        byTarget.forEach((target, batch) -> restClient.post()
+                .uri(target)
+                .contentType(MediaType.APPLICATION_JSON)
+                .headers(headers -> {
+                    if (StringUtils.hasText(properties.getToken())) {
+                        headers.set(TOKEN_HEADER, properties.getToken());
+                    }
+                })
+                .body(batch)
+                .retrieve()
+                .toBodilessEntity());
+    }
+}
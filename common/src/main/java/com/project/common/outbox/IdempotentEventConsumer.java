@@ -0,0 +1,91 @@
+package com.project.common.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Applies incoming events at most once per event id
+ *
+ * The processed_events insert and the handler share one transaction: a redelivered event
+ * hits the primary key and is skipped, and a handler failure rolls the marker back so the
+ * next delivery tries again.
+ */
+@Slf4j
+public class IdempotentEventConsumer {
+
+    private static final String MARK_SQL =
+            "INSERT INTO processed_events (event_id, event_type, processed_at) VALUES (?, ?, now()) " +
+            "ON CONFLICT (event_id) DO NOTHING";
+
+    private final Map<String, EventHandler<?>> handlers = new HashMap<>();
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final OutboxProperties properties;
+
+    public IdempotentEventConsumer(List<EventHandler<?>> handlers, JdbcTemplate jdbcTemplate,
+                                   TransactionTemplate transactionTemplate, ObjectMapper objectMapper,
+                                   OutboxProperties properties) {
+        for (EventHandler<?> handler : handlers) {
+            if (this.handlers.put(handler.eventType(), handler) != null) {
+                throw new IllegalStateException("More than one handler for event type " + handler.eventType());
+            }
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+    }
+
+    public void consume(List<OutboxEvent> events) {
+        for (OutboxEvent event : events) {
+            consume(event);
+        }
+    }
+
+    public void consume(OutboxEvent event) {
+        EventHandler<?> handler = handlers.get(event.eventType());
+        if (handler == null) {
+            log.debug("No handler for event type {}, ignoring event {}", event.eventType(), event.id());
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            if (jdbcTemplate.update(MARK_SQL, event.id(), event.eventType()) == 0) {
+                log.debug("Event {} already processed", event.id());
+                return;
+            }
+            dispatch(handler, event);
+        });
+    }
+
+    // markers only need to outlive the longest redelivery window
+    @Scheduled(fixedDelayString = "${app.outbox.purge-interval-ms:3600000}")
+    public void purge() {
+        Timestamp cutoff = Timestamp.from(Instant.now().minus(properties.getRetention()));
+        int purged = jdbcTemplate.update("DELETE FROM processed_events WHERE processed_at < ?", cutoff);
+        if (purged > 0) {
+            log.info("Purged {} processed event markers", purged);
+        }
+    }
+
+    private <T> void dispatch(EventHandler<T> handler, OutboxEvent event) {
+        T payload;
+        try {
+            payload = objectMapper.readValue(event.payload(), handler.payloadType());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read " + event.eventType() + " event " + event.id(), e);
+        }
+        handler.handle(payload, event);
+    }
+}
@@ -0,0 +1,22 @@
+package com.project.common.outbox;
+
+import java.util.List;
+
+/**
+ * Delivers events straight to this process's consumer
+ *
+ * Used for tests and single-process setups where producer and consumer share a JVM.
+ */
+public class InMemoryEventBroker implements EventBroker {
+
+    private final IdempotentEventConsumer consumer;
+
+    public InMemoryEventBroker(IdempotentEventConsumer consumer) {
+        this.consumer = consumer;
+    }
+
+    @Override
+    public void publish(List<OutboxEvent> events) {
+        consumer.consume(events);
+    }
+}
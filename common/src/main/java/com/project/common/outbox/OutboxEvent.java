@@ -0,0 +1,19 @@
+package com.project.common.outbox;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A state change recorded in a service's outbox_events table
+ *
+ * The id is assigned when the event is written and travels with every delivery attempt,
+ * which is what lets consumers discard redeliveries.
+ */
+public record OutboxEvent(
+        UUID id,
+        String aggregateType,
+        String aggregateId,
+        String eventType,
+        String payload,
+        Instant occurredAt) {
+}
@@ -0,0 +1,38 @@
+package com.project.common.outbox;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Receiving side of {@link HttpEventBroker}; not routed by the gateway
+ *
+ * Deliveries must carry app.outbox.token. The path is open in each service's security chain, so
+ * this check is the only guard; the auto-configuration refuses to start without a token.
+ */
+@RestController
+public class OutboxEventEndpoint {
+
+    private final IdempotentEventConsumer consumer;
+    private final OutboxProperties properties;
+
+    public OutboxEventEndpoint(IdempotentEventConsumer consumer, OutboxProperties properties) {
+        this.consumer = consumer;
+        this.properties = properties;
+    }
+
+    @PostMapping("/internal/events")
+    public ResponseEntity<Void> receive(@RequestHeader(value = HttpEventBroker.TOKEN_HEADER, required = false) String token,
+                                        @RequestBody List<OutboxEvent> events) {
+        if (!properties.acceptsToken(token)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        consumer.consume(events);
+        return ResponseEntity.noContent().build();
+    }
+}
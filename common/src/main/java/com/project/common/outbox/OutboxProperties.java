@@ -0,0 +1,47 @@
+package com.project.common.outbox;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "app.outbox")
+public class OutboxProperties {
+
+    private boolean enabled;
+
+    /**
+     * in-memory dispatches to this service's own handlers; http posts to the routed services
+     */
+    private String broker = "in-memory";
+
+    private int batchSize = 200;
+
+    private Duration retention = Duration.ofDays(7);
+
+    /**
+     * Shared secret sent with HTTP deliveries and required by the receiving endpoint; must be
+     * set when broker is http
+     */
+    private String token;
+
+    /**
+     * Event type to receiving endpoints, e.g. BookingCreated: [http://payment-service/internal/events]
+     */
+    private Map<String, List<String>> routes = new HashMap<>();
+
+    /**
+     * Whether a presented token matches the configured one; always false while none is configured
+     */
+    public boolean acceptsToken(String presented) {
+        return StringUtils.hasText(token) && presented != null && MessageDigest.isEqual(
+                token.getBytes(StandardCharsets.UTF_8), presented.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,82 @@
+package com.project.common.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Publishes committed outbox rows in batches
+ *
+ * Rows are claimed with FOR UPDATE SKIP LOCKED so several instances can relay the same table
+ * without handing out the same batch twice. The batch is marked published in the same
+ * transaction that claimed it; if the broker throws, the transaction rolls back and the
+ * batch is picked up again on the next run.
+ */
+@Slf4j
+public class OutboxRelay {
+
+    private static final String CLAIM_SQL =
+            "SELECT id, aggregate_type, aggregate_id, event_type, payload::text AS payload, created_at " +
+            "FROM outbox_events WHERE published_at IS NULL ORDER BY created_at LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private static final String MARK_SQL = "UPDATE outbox_events SET published_at = now() WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EventBroker eventBroker;
+    private final OutboxProperties properties;
+
+    public OutboxRelay(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                       EventBroker eventBroker, OutboxProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.eventBroker = eventBroker;
+        this.properties = properties;
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.relay-interval-ms:500}")
+    public void relay() {
+        int published;
+        do {
+            try {
+                published = transactionTemplate.execute(status -> relayBatch());
+            } catch (RuntimeException e) {
+                log.warn("Outbox relay failed, will retry: {}", e.getMessage());
+                return;
+            }
+        } while (published == properties.getBatchSize());
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.purge-interval-ms:3600000}")
+    public void purge() {
+        Timestamp cutoff = Timestamp.from(Instant.now().minus(properties.getRetention()));
+        int purged = jdbcTemplate.update("DELETE FROM outbox_events WHERE published_at < ?", cutoff);
+        if (purged > 0) {
+            log.info("Purged {} published outbox events", purged);
+        }
+    }
+
+    private int relayBatch() {
+        List<OutboxEvent> events = jdbcTemplate.query(CLAIM_SQL, (rs, rowNum) -> new OutboxEvent(
+                rs.getObject("id", UUID.class),
+                rs.getString("aggregate_type"),
+                rs.getString("aggregate_id"),
+                rs.getString("event_type"),
+                rs.getString("payload"),
+                rs.getTimestamp("created_at").toInstant()), properties.getBatchSize());
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        eventBroker.publish(events);
+        jdbcTemplate.batchUpdate(MARK_SQL, events, events.size(), (ps, event) -> ps.setObject(1, event.id()));
+        log.debug("Relayed {} outbox events", events.size());
+        return events.size();
+    }
+}
@@ -0,0 +1,72 @@
+package com.project.common.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Appends events to outbox_events as part of the caller's transaction
+ *
+ * Must be called inside the transaction that makes the state change, so the event exists
+ * exactly when the change does.
+ */
+public class OutboxWriter {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO outbox_events (id, aggregate_type, aggregate_id, event_type, payload, created_at) " +
+            "VALUES (?, ?, ?, ?, ?::jsonb, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public OutboxWriter(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    public UUID append(String aggregateType, Object aggregateId, String eventType, Object payload) {
+        requireTransaction();
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update(INSERT_SQL, id, aggregateType, String.valueOf(aggregateId), eventType,
+                serialize(eventType, payload), Timestamp.from(Instant.now()));
+        return id;
+    }
+
+    /**
+     * Appends one event per aggregate in a single JDBC batch.
+     */
+    public void appendAll(String aggregateType, String eventType, Map<?, ?> payloadsByAggregateId) {
+        requireTransaction();
+        if (payloadsByAggregateId.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> rows = new ArrayList<>(payloadsByAggregateId.size());
+        payloadsByAggregateId.forEach((aggregateId, payload) -> rows.add(new Object[]{
+                UUID.randomUUID(), aggregateType, String.valueOf(aggregateId), eventType,
+                serialize(eventType, payload), now}));
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+
+    private void requireTransaction() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Outbox events must be written inside the transaction that produces them");
+        }
+    }
+
+    private String serialize(String eventType, Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Could not serialize " + eventType + " payload", e);
+        }
+    }
+}
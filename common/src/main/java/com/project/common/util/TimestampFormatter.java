@@ -0,0 +1,58 @@
+package com.project.common.util;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Cached ISO-8601 UTC timestamp formatter for response envelopes.
+ *
+ * Formatting is done once per second; within the same second only the millisecond
+ * suffix is appended, and repeated calls within the same millisecond reuse the
+ * previously built string.
+ */
+public final class TimestampFormatter {
+
+    private static final DateTimeFormatter SECOND_FORMATTER =
+            DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ss").withZone(ZoneOffset.UTC);
+
+    private static volatile CachedTimestamp cached =
+            new CachedTimestamp(Long.MIN_VALUE, Long.MIN_VALUE, "", "");
+
+    private TimestampFormatter() {
+    }
+
+    public static String now() {
+        return format(System.currentTimeMillis());
+    }
+
+    public static String format(long epochMilli) {
+        CachedTimestamp current = cached;
+        if (current.epochMilli() == epochMilli) {
+            return current.formatted();
+        }
+
+        long epochSecond = Math.floorDiv(epochMilli, 1000L);
+        String secondPrefix = current.epochSecond() == epochSecond
+                ? current.secondPrefix()
+                : SECOND_FORMATTER.format(Instant.ofEpochSecond(epochSecond));
+
+        int millis = (int) Math.floorMod(epochMilli, 1000L);
+        StringBuilder builder = new StringBuilder(secondPrefix.length() + 5)
+                .append(secondPrefix)
+                .append('.');
+        if (millis < 100) {
+            builder.append('0');
+        }
+        if (millis < 10) {
+            builder.append('0');
+        }
+        String formatted = builder.append(millis).append('Z').toString();
+
+        cached = new CachedTimestamp(epochSecond, epochMilli, secondPrefix, formatted);
+        return formatted;
+    }
+
+    private record CachedTimestamp(long epochSecond, long epochMilli, String secondPrefix, String formatted) {
+    }
+}
@@ -0,0 +1,125 @@
+package com.project.common.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.project.common.dto.ApiResponse;
+import com.project.common.dto.PageResponse;
+import com.project.common.util.TimestampFormatter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ns per response for the response envelope paths, from the old PageImpl + Instant.toString()
+ * envelope to the lean page envelope over Blackbird JSON and CBOR
+ *
+ * Bytes per response are deterministic, so {@link #main} prints them once before running JMH.
+ * Run with:
+ * mvn -pl common test-compile exec:java -Dexec.classpathScope=test
+ *     -Dexec.mainClass=com.project.common.benchmark.ApiResponseSerializationBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ApiResponseSerializationBenchmark {
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private ObjectMapper plainJson;
+    private ObjectMapper blackbirdJson;
+    private ObjectMapper blackbirdCbor;
+    private Page<ProviderRow> page;
+
+    @Setup
+    public void setUp() {
+        plainJson = new ObjectMapper();
+        blackbirdJson = new ObjectMapper().registerModule(new BlackbirdModule());
+        blackbirdCbor = new ObjectMapper(new CBORFactory()).registerModule(new BlackbirdModule());
+        page = samplePage(pageSize);
+    }
+
+    @Benchmark
+    public byte[] pageImplJson() throws Exception {
+        return plainJson.writeValueAsBytes(new ApiResponse<>(true, "Success", page, Instant.now().toString()));
+    }
+
+    @Benchmark
+    public byte[] leanPageJson() throws Exception {
+        return plainJson.writeValueAsBytes(ApiResponse.success(PageResponse.from(page)));
+    }
+
+    @Benchmark
+    public byte[] leanPageBlackbirdJson() throws Exception {
+        return blackbirdJson.writeValueAsBytes(ApiResponse.success(PageResponse.from(page)));
+    }
+
+    @Benchmark
+    public byte[] leanPageBlackbirdCbor() throws Exception {
+        return blackbirdCbor.writeValueAsBytes(ApiResponse.success(PageResponse.from(page)));
+    }
+
+    @Benchmark
+    public String instantTimestamp() {
+        return Instant.now().toString();
+    }
+
+    @Benchmark
+    public String cachedTimestamp() {
+        return TimestampFormatter.now();
+    }
+
+    public static void main(String[] args) throws Exception {
+        ApiResponseSerializationBenchmark sizes = new ApiResponseSerializationBenchmark();
+        for (int size : new int[]{20, 100}) {
+            sizes.pageSize = size;
+            sizes.setUp();
+            System.out.printf("page of %d: PageImpl JSON %d B, lean JSON %d B, lean CBOR %d B%n", size,
+                    sizes.pageImplJson().length, sizes.leanPageBlackbirdJson().length,
+                    sizes.leanPageBlackbirdCbor().length);
+        }
+        new Runner(new OptionsBuilder()
+                .include(ApiResponseSerializationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+    private static Page<ProviderRow> samplePage(int size) {
+        List<ProviderRow> rows = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            rows.add(new ProviderRow((long) i, "Provider " + i, "provider" + i + "@example.com",
+                    "Hair and beauty", BigDecimal.valueOf(2500 + i, 2), BigDecimal.valueOf(45, 1), true));
+        }
+        return new PageImpl<>(rows, PageRequest.of(0, size, Sort.by(Sort.Direction.DESC, "rating")), 10_000);
+    }
+
+    /**
+     * Shape of a typical provider listing row
+     */
+    public record ProviderRow(Long id, String name, String email, String specialization, BigDecimal hourlyRate,
+                              BigDecimal rating, boolean verified) {
+    }
+}
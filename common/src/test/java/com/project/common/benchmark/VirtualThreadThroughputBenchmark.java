@@ -0,0 +1,181 @@
+package com.project.common.benchmark;
+
+import com.project.common.jdbc.AdmissionControlledDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Requests per second of a blocking servlet request on Tomcat's platform-thread pool against
+ * one virtual thread per request, as switched by VIRTUAL_THREADS_ENABLED
+ *
+ * A request waits on a remote call (Eureka lookup, Feign) without a connection, then holds a
+ * connection for one query. Both are sleeps, so the runs measure how many requests the
+ * execution model keeps in flight rather than CPU. The pool stands in for user-service's
+ * 10-connection Hikari pool; in virtual mode it sits behind the {@link AdmissionControlledDataSource}
+ * the services wrap it in. Each invocation submits a burst of concurrent requests and waits for all.
+ *
+ * Run with:
+ * mvn -pl common test-compile exec:java -Dexec.classpathScope=test
+ *     -Dexec.mainClass=com.project.common.benchmark.VirtualThreadThroughputBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VirtualThreadThroughputBenchmark {
+
+    private static final int REQUESTS = 2_000;
+    // Tomcat's default server.tomcat.threads.max
+    private static final int TOMCAT_THREADS = 200;
+    private static final int POOL_SIZE = 10;
+    private static final long CONNECTION_TIMEOUT_MILLIS = 30_000;
+    private static final long QUERY_MILLIS = 2;
+
+    @Param({"0", "20", "100"})
+    public long remoteCallMillis;
+
+    private ExecutorService platformThreads;
+    private ExecutorService virtualThreads;
+    private DataSource pool;
+    private DataSource admittedPool;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        platformThreads = Executors.newFixedThreadPool(TOMCAT_THREADS);
+        virtualThreads = Executors.newVirtualThreadPerTaskExecutor();
+        pool = new SimulatedPool(POOL_SIZE, CONNECTION_TIMEOUT_MILLIS);
+        admittedPool = new AdmissionControlledDataSource(pool, POOL_SIZE, CONNECTION_TIMEOUT_MILLIS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        platformThreads.shutdownNow();
+        virtualThreads.shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS)
+    public int platformThreads() throws Exception {
+        return burst(platformThreads, pool);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS)
+    public int virtualThreads() throws Exception {
+        return burst(virtualThreads, admittedPool);
+    }
+
+    private int burst(ExecutorService executor, DataSource dataSource) throws Exception {
+        List<Future<Integer>> requests = new ArrayList<>(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            requests.add(executor.submit(() -> handle(dataSource)));
+        }
+        int served = 0;
+        for (Future<Integer> request : requests) {
+            served += request.get();
+        }
+        return served;
+    }
+
+    private int handle(DataSource dataSource) throws Exception {
+        if (remoteCallMillis > 0) {
+            Thread.sleep(remoteCallMillis);
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            Thread.sleep(QUERY_MILLIS);
+            return connection.isClosed() ? 0 : 1;
+        }
+    }
+
+    /**
+     * Fixed set of connections handed out in FIFO order; closing one returns it to the pool
+     */
+    static class SimulatedPool extends AbstractDataSource {
+
+        private final BlockingQueue<Integer> idle;
+        private final long connectionTimeoutMillis;
+
+        SimulatedPool(int size, long connectionTimeoutMillis) {
+            this.idle = new ArrayBlockingQueue<>(size, true);
+            for (int i = 0; i < size; i++) {
+                idle.add(i);
+            }
+            this.connectionTimeoutMillis = connectionTimeoutMillis;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Integer slot;
+            try {
+                slot = idle.poll(connectionTimeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLTransientConnectionException("Interrupted while waiting for a connection", e);
+            }
+            if (slot == null) {
+                throw new SQLTransientConnectionException("Connection is not available");
+            }
+            return pooled(slot);
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return getConnection();
+        }
+
+        private Connection pooled(Integer slot) {
+            boolean[] closed = {false};
+            return (Connection) Proxy.newProxyInstance(SimulatedPool.class.getClassLoader(),
+                    new Class<?>[]{Connection.class}, (proxy, method, args) -> switch (method.getName()) {
+                        case "close" -> {
+                            if (!closed[0]) {
+                                closed[0] = true;
+                                idle.add(slot);
+                            }
+                            yield null;
+                        }
+                        case "isClosed" -> closed[0];
+                        case "equals" -> proxy == args[0];
+                        case "hashCode" -> System.identityHashCode(proxy);
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    });
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(VirtualThreadThroughputBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
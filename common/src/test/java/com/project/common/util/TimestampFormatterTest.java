@@ -0,0 +1,35 @@
+package com.project.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimestampFormatterTest {
+
+    @Test
+    void alwaysWritesMilliseconds() {
+        assertThat(TimestampFormatter.format(1_772_445_600_123L)).isEqualTo("2026-03-02T10:00:00.123Z");
+        assertThat(TimestampFormatter.format(1_772_445_600_005L)).isEqualTo("2026-03-02T10:00:00.005Z");
+        assertThat(TimestampFormatter.format(1_772_445_601_050L)).isEqualTo("2026-03-02T10:00:01.050Z");
+        assertThat(TimestampFormatter.format(0L)).isEqualTo("1970-01-01T00:00:00.000Z");
+        assertThat(TimestampFormatter.format(-1L)).isEqualTo("1969-12-31T23:59:59.999Z");
+    }
+
+    @Test
+    void cachedPrefixDoesNotLeakAcrossSeconds() {
+        TimestampFormatter.format(1_772_445_600_999L);
+
+        assertThat(TimestampFormatter.format(1_772_445_601_000L)).isEqualTo("2026-03-02T10:00:01.000Z");
+        assertThat(TimestampFormatter.format(1_772_445_601_000L)).isEqualTo("2026-03-02T10:00:01.000Z");
+        assertThat(TimestampFormatter.format(1_772_445_600_999L)).isEqualTo("2026-03-02T10:00:00.999Z");
+    }
+
+    @Test
+    void parsesBackToTheSameInstant() {
+        long now = System.currentTimeMillis();
+
+        assertThat(Instant.parse(TimestampFormatter.format(now)).toEpochMilli()).isEqualTo(now);
+    }
+}
@@ -0,0 +1,63 @@
+package com.project.paymentservice.controller;
+
+import com.project.common.dto.ApiResponse;
+import com.project.paymentservice.dto.CompletePaymentRequest;
+import com.project.paymentservice.dto.FailPaymentRequest;
+import com.project.paymentservice.dto.PaymentDto;
+import com.project.paymentservice.service.PaymentService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/payments")
+@RequiredArgsConstructor
+@Slf4j
+public class PaymentController {
+
+    private final PaymentService paymentService;
+
+    @GetMapping("/booking/{bookingId}")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('SYSTEM')")
+    public ResponseEntity<ApiResponse<List<PaymentDto>>> getPaymentsForBooking(@PathVariable Long bookingId) {
+        log.info("Getting payments for booking: {}", bookingId);
+
+        List<PaymentDto> payments = paymentService.getPaymentsForBooking(bookingId);
+        return ResponseEntity.ok(ApiResponse.success(payments));
+    }
+
+    @GetMapping("/hold/{holdId}")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('SYSTEM')")
+    public ResponseEntity<ApiResponse<PaymentDto>> getPaymentForHold(@PathVariable UUID holdId) {
+        log.info("Getting payment for hold: {}", holdId);
+
+        PaymentDto payment = paymentService.getPaymentForHold(holdId);
+        return ResponseEntity.ok(ApiResponse.success(payment));
+    }
+
+    @PutMapping("/{id}/complete")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('SYSTEM')")
+    public ResponseEntity<ApiResponse<PaymentDto>> completePayment(@PathVariable Long id,
+                                                                   @Valid @RequestBody CompletePaymentRequest request) {
+        log.info("Completing payment: {}", id);
+
+        PaymentDto payment = paymentService.completePayment(id, request);
+        return ResponseEntity.ok(ApiResponse.success("Payment completed successfully", payment));
+    }
+
+    @PutMapping("/{id}/fail")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('SYSTEM')")
+    public ResponseEntity<ApiResponse<PaymentDto>> failPayment(@PathVariable Long id,
+                                                               @RequestBody(required = false) FailPaymentRequest request) {
+        log.info("Failing payment: {}", id);
+
+        PaymentDto payment = paymentService.failPayment(id, request != null ? request.getReason() : null);
+        return ResponseEntity.ok(ApiResponse.success("Payment marked as failed", payment));
+    }
+}
@@ -0,0 +1,16 @@
+package com.project.paymentservice.dto;
+
+import com.project.paymentservice.entity.Payment;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+public class CompletePaymentRequest {
+
+    @NotNull(message = "Payment method is required")
+    private Payment.PaymentMethod paymentMethod;
+
+    private String paymentProvider;
+
+    private String providerTransactionId;
+}
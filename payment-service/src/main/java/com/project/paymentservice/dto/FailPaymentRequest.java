@@ -0,0 +1,9 @@
+package com.project.paymentservice.dto;
+
+import lombok.Data;
+
+@Data
+public class FailPaymentRequest {
+
+    private String reason;
+}
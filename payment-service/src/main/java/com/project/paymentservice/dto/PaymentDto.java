@@ -0,0 +1,33 @@
+package com.project.paymentservice.dto;
+
+import com.project.paymentservice.entity.Payment;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentDto {
+    private Long id;
+    private Long bookingId;
+    private UUID holdId;
+    private Long payerId;
+    private Long payeeId;
+    private BigDecimal amount;
+    private String currency;
+    private Payment.PaymentMethod paymentMethod;
+    private String paymentProvider;
+    private String providerTransactionId;
+    private Payment.PaymentStatus status;
+    private String description;
+    private OffsetDateTime createdAt;
+    private OffsetDateTime updatedAt;
+    private OffsetDateTime processedAt;
+    private OffsetDateTime failedAt;
+    private OffsetDateTime expiresAt;
+}
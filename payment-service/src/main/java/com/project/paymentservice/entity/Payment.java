@@ -0,0 +1,79 @@
+package com.project.paymentservice.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "payments")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Payment {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // set for booking payments; hold payments have holdId instead
+    private Long bookingId;
+
+    private UUID holdId;
+
+    @Column(nullable = false)
+    private Long payerId;
+
+    @Column(nullable = false)
+    private Long payeeId;
+
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal amount;
+
+    @Column(length = 3)
+    @Builder.Default
+    private String currency = "USD";
+
+    @Enumerated(EnumType.STRING)
+    private PaymentMethod paymentMethod;
+
+    private String paymentProvider;
+
+    private String providerTransactionId;
+
+    @Enumerated(EnumType.STRING)
+    @Builder.Default
+    private PaymentStatus status = PaymentStatus.PENDING;
+
+    private String description;
+
+    @CreationTimestamp
+    private OffsetDateTime createdAt;
+
+    @UpdateTimestamp
+    private OffsetDateTime updatedAt;
+
+    private OffsetDateTime processedAt;
+
+    private OffsetDateTime failedAt;
+
+    private OffsetDateTime refundedAt;
+
+    // hold payments only: completing after this would confirm an expired hold
+    private OffsetDateTime expiresAt;
+
+    public enum PaymentStatus {
+        PENDING, PROCESSING, COMPLETED, FAILED, CANCELLED, REFUNDED
+    }
+
+    public enum PaymentMethod {
+        CREDIT_CARD, DEBIT_CARD, PAYPAL, STRIPE, BANK_TRANSFER, CASH
+    }
+}
@@ -0,0 +1,36 @@
+package com.project.paymentservice.repository;
+
+import com.project.paymentservice.entity.Payment;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface PaymentRepository extends JpaRepository<Payment, Long> {
+
+    List<Payment> findByBookingIdOrderByCreatedAtDesc(Long bookingId);
+
+    /**
+     * Locks the row, so a completion cannot interleave with a cancellation or refund of the same payment
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Payment p WHERE p.id = :id")
+    Optional<Payment> findByIdForUpdate(@Param("id") Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Payment p WHERE p.bookingId = :bookingId ORDER BY p.id")
+    List<Payment> findByBookingIdForUpdate(@Param("bookingId") Long bookingId);
+
+    boolean existsByBookingId(Long bookingId);
+
+    Optional<Payment> findByHoldId(UUID holdId);
+
+    boolean existsByHoldId(UUID holdId);
+}
@@ -0,0 +1,225 @@
+package com.project.paymentservice.service;
+
+import com.project.common.event.BookingCancelledEvent;
+import com.project.common.event.BookingCreatedEvent;
+import com.project.common.event.HoldPlacedEvent;
+import com.project.common.event.PaymentCompletedEvent;
+import com.project.common.event.PaymentFailedEvent;
+import com.project.common.event.PaymentRefundedEvent;
+import com.project.common.exception.BusinessException;
+import com.project.common.outbox.OutboxWriter;
+import com.project.paymentservice.dto.CompletePaymentRequest;
+import com.project.paymentservice.dto.PaymentDto;
+import com.project.paymentservice.entity.Payment;
+import com.project.paymentservice.repository.PaymentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Payment lifecycle for bookings
+ *
+ * Payments are opened from BookingCreated and HoldPlaced events and their outcome is reported
+ * back to booking-service through the outbox, written in the same transaction as the status
+ * change. A hold payment expires with its hold, so it can no longer be completed afterwards.
+ * A completed payment booking-service could not apply is refunded when it asks for it, and
+ * cancelling a booking cancels its open payment or refunds its completed one.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PaymentService {
+
+    private static final Set<Payment.PaymentStatus> OPEN =
+            EnumSet.of(Payment.PaymentStatus.PENDING, Payment.PaymentStatus.PROCESSING);
+
+    private final PaymentRepository paymentRepository;
+    private final OutboxWriter outboxWriter;
+
+    @Transactional
+    public void openForBooking(BookingCreatedEvent event) {
+        if (paymentRepository.existsByBookingId(event.bookingId())) {
+            log.debug("Payment for booking {} already exists", event.bookingId());
+            return;
+        }
+        Payment payment = Payment.builder()
+                .bookingId(event.bookingId())
+                .payerId(event.customerId())
+                .payeeId(event.providerId())
+                .amount(event.totalAmount())
+                .currency(event.currency() != null ? event.currency() : "USD")
+                .status(Payment.PaymentStatus.PENDING)
+                .description("Booking " + event.bookingId() + " on " + event.bookingDate())
+                .build();
+        Payment saved = paymentRepository.save(payment);
+        log.info("Opened payment {} for booking {}", saved.getId(), event.bookingId());
+    }
+
+    @Transactional
+    public void openForHold(HoldPlacedEvent event) {
+        if (paymentRepository.existsByHoldId(event.holdId())) {
+            log.debug("Payment for hold {} already exists", event.holdId());
+            return;
+        }
+        Payment payment = Payment.builder()
+                .holdId(event.holdId())
+                .payerId(event.customerId())
+                .payeeId(event.providerId())
+                .amount(event.totalAmount())
+                .currency(event.currency() != null ? event.currency() : "USD")
+                .status(Payment.PaymentStatus.PENDING)
+                .description("Hold " + event.holdId() + " on " + event.bookingDate())
+                .expiresAt(event.expiresAt().atOffset(ZoneOffset.UTC))
+                .build();
+        Payment saved = paymentRepository.save(payment);
+        log.info("Opened payment {} for hold {}", saved.getId(), event.holdId());
+    }
+
+    @Transactional(readOnly = true)
+    public PaymentDto getPaymentForHold(UUID holdId) {
+        return paymentRepository.findByHoldId(holdId)
+                .map(this::convertToDto)
+                .orElseThrow(() -> new BusinessException("PAYMENT_NOT_FOUND", "Payment not found"));
+    }
+
+    @Transactional(readOnly = true)
+    public List<PaymentDto> getPaymentsForBooking(Long bookingId) {
+        return paymentRepository.findByBookingIdOrderByCreatedAtDesc(bookingId).stream()
+                .map(this::convertToDto)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional
+    public PaymentDto completePayment(Long id, CompletePaymentRequest request) {
+        Payment payment = findOpenPayment(id);
+        if (payment.getExpiresAt() != null && !payment.getExpiresAt().isAfter(OffsetDateTime.now())) {
+            throw new BusinessException("PAYMENT_EXPIRED", "The slot hold for this payment has expired");
+        }
+        payment.setStatus(Payment.PaymentStatus.COMPLETED);
+        payment.setPaymentMethod(request.getPaymentMethod());
+        payment.setPaymentProvider(request.getPaymentProvider());
+        payment.setProviderTransactionId(request.getProviderTransactionId());
+        payment.setProcessedAt(OffsetDateTime.now());
+        Payment saved = paymentRepository.save(payment);
+
+        outboxWriter.append(PaymentCompletedEvent.AGGREGATE, saved.getId(), PaymentCompletedEvent.TYPE,
+                new PaymentCompletedEvent(saved.getId(), saved.getBookingId(), saved.getHoldId(), saved.getAmount(),
+                        saved.getCurrency(), saved.getProviderTransactionId()));
+        log.info("Payment {} completed for {}", saved.getId(), subjectOf(saved));
+        return convertToDto(saved);
+    }
+
+    @Transactional
+    public PaymentDto failPayment(Long id, String reason) {
+        Payment payment = findOpenPayment(id);
+        payment.setStatus(Payment.PaymentStatus.FAILED);
+        payment.setFailedAt(OffsetDateTime.now());
+        Payment saved = paymentRepository.save(payment);
+
+        outboxWriter.append(PaymentFailedEvent.AGGREGATE, saved.getId(), PaymentFailedEvent.TYPE,
+                new PaymentFailedEvent(saved.getId(), saved.getBookingId(), saved.getHoldId(), reason));
+        log.info("Payment {} failed for {}", saved.getId(), subjectOf(saved));
+        return convertToDto(saved);
+    }
+
+    /**
+     * Settles the payments of a cancelled booking: open ones can no longer be completed and
+     * completed ones are refunded. A booked hold's payment is found through the booking's paymentId.
+     */
+    @Transactional
+    public void cancelForBooking(BookingCancelledEvent event) {
+        Map<Long, Payment> payments = new LinkedHashMap<>();
+        paymentRepository.findByBookingIdForUpdate(event.bookingId())
+                .forEach(payment -> payments.put(payment.getId(), payment));
+        if (event.paymentId() != null && !payments.containsKey(event.paymentId())) {
+            paymentRepository.findByIdForUpdate(event.paymentId())
+                    .ifPresent(payment -> payments.put(payment.getId(), payment));
+        }
+        String reason = "Booking " + event.bookingId() + " cancelled"
+                + (event.reason() != null ? ": " + event.reason() : "");
+        for (Payment payment : payments.values()) {
+            if (OPEN.contains(payment.getStatus())) {
+                payment.setStatus(Payment.PaymentStatus.CANCELLED);
+                payment.setFailedAt(OffsetDateTime.now());
+                paymentRepository.save(payment);
+                log.info("Payment {} cancelled with booking {}", payment.getId(), event.bookingId());
+            } else {
+                refund(payment, reason);
+            }
+        }
+    }
+
+    /**
+     * Refunds a completed payment; one already refunded is left as it is, so a repeated request is harmless
+     */
+    @Transactional
+    public void refund(Long id, String reason) {
+        Payment payment = paymentRepository.findByIdForUpdate(id).orElse(null);
+        if (payment == null) {
+            log.warn("Refund requested for unknown payment {}", id);
+            return;
+        }
+        refund(payment, reason);
+    }
+
+    private void refund(Payment payment, String reason) {
+        if (payment.getStatus() != Payment.PaymentStatus.COMPLETED) {
+            log.info("Payment {} not refunded, it is {}", payment.getId(), payment.getStatus());
+            return;
+        }
+        payment.setStatus(Payment.PaymentStatus.REFUNDED);
+        payment.setRefundedAt(OffsetDateTime.now());
+        Payment saved = paymentRepository.save(payment);
+
+        outboxWriter.append(PaymentRefundedEvent.AGGREGATE, saved.getId(), PaymentRefundedEvent.TYPE,
+                new PaymentRefundedEvent(saved.getId(), saved.getBookingId(), saved.getHoldId(), saved.getAmount(),
+                        saved.getCurrency(), reason));
+        log.info("Payment {} refunded for {}: {}", saved.getId(), subjectOf(saved), reason);
+    }
+
+    private Payment findOpenPayment(Long id) {
+        Payment payment = paymentRepository.findByIdForUpdate(id)
+                .orElseThrow(() -> new BusinessException("PAYMENT_NOT_FOUND", "Payment not found"));
+        if (!OPEN.contains(payment.getStatus())) {
+            throw new BusinessException("PAYMENT_NOT_OPEN", "Payment is already " + payment.getStatus());
+        }
+        return payment;
+    }
+
+    private static String subjectOf(Payment payment) {
+        return payment.getHoldId() != null ? "hold " + payment.getHoldId() : "booking " + payment.getBookingId();
+    }
+
+    private PaymentDto convertToDto(Payment payment) {
+        PaymentDto dto = new PaymentDto();
+        dto.setId(payment.getId());
+        dto.setBookingId(payment.getBookingId());
+        dto.setHoldId(payment.getHoldId());
+        dto.setPayerId(payment.getPayerId());
+        dto.setPayeeId(payment.getPayeeId());
+        dto.setAmount(payment.getAmount());
+        dto.setCurrency(payment.getCurrency());
+        dto.setPaymentMethod(payment.getPaymentMethod());
+        dto.setPaymentProvider(payment.getPaymentProvider());
+        dto.setProviderTransactionId(payment.getProviderTransactionId());
+        dto.setStatus(payment.getStatus());
+        dto.setDescription(payment.getDescription());
+        dto.setCreatedAt(payment.getCreatedAt());
+        dto.setUpdatedAt(payment.getUpdatedAt());
+        dto.setProcessedAt(payment.getProcessedAt());
+        dto.setFailedAt(payment.getFailedAt());
+        dto.setExpiresAt(payment.getExpiresAt());
+        return dto;
+    }
+}
@@ -0,0 +1,33 @@
+package com.project.paymentservice.service.event;
+
+import com.project.common.event.BookingCancelledEvent;
+import com.project.common.outbox.EventHandler;
+import com.project.common.outbox.OutboxEvent;
+import com.project.paymentservice.service.PaymentService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cancels the open payment of a cancelled booking, or refunds the completed one
+ */
+@Component
+@RequiredArgsConstructor
+public class BookingCancelledHandler implements EventHandler<BookingCancelledEvent> {
+
+    private final PaymentService paymentService;
+
+    @Override
+    public String eventType() {
+        return BookingCancelledEvent.TYPE;
+    }
+
+    @Override
+    public Class<BookingCancelledEvent> payloadType() {
+        return BookingCancelledEvent.class;
+    }
+
+    @Override
+    public void handle(BookingCancelledEvent payload, OutboxEvent event) {
+        paymentService.cancelForBooking(payload);
+    }
+}
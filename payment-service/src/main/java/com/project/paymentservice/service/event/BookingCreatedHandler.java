@@ -0,0 +1,33 @@
+package com.project.paymentservice.service.event;
+
+import com.project.common.event.BookingCreatedEvent;
+import com.project.common.outbox.EventHandler;
+import com.project.common.outbox.OutboxEvent;
+import com.project.paymentservice.service.PaymentService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Opens a pending payment for every booking created in booking-service
+ */
+@Component
+@RequiredArgsConstructor
+public class BookingCreatedHandler implements EventHandler<BookingCreatedEvent> {
+
+    private final PaymentService paymentService;
+
+    @Override
+    public String eventType() {
+        return BookingCreatedEvent.TYPE;
+    }
+
+    @Override
+    public Class<BookingCreatedEvent> payloadType() {
+        return BookingCreatedEvent.class;
+    }
+
+    @Override
+    public void handle(BookingCreatedEvent payload, OutboxEvent event) {
+        paymentService.openForBooking(payload);
+    }
+}
@@ -0,0 +1,33 @@
+package com.project.paymentservice.service.event;
+
+import com.project.common.event.HoldPlacedEvent;
+import com.project.common.outbox.EventHandler;
+import com.project.common.outbox.OutboxEvent;
+import com.project.paymentservice.service.PaymentService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Opens a pending payment for every checkout hold placed in booking-service
+ */
+@Component
+@RequiredArgsConstructor
+public class HoldPlacedHandler implements EventHandler<HoldPlacedEvent> {
+
+    private final PaymentService paymentService;
+
+    @Override
+    public String eventType() {
+        return HoldPlacedEvent.TYPE;
+    }
+
+    @Override
+    public Class<HoldPlacedEvent> payloadType() {
+        return HoldPlacedEvent.class;
+    }
+
+    @Override
+    public void handle(HoldPlacedEvent payload, OutboxEvent event) {
+        paymentService.openForHold(payload);
+    }
+}
@@ -0,0 +1,33 @@
+package com.project.paymentservice.service.event;
+
+import com.project.common.event.PaymentRefundRequestedEvent;
+import com.project.common.outbox.EventHandler;
+import com.project.common.outbox.OutboxEvent;
+import com.project.paymentservice.service.PaymentService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Refunds a completed payment booking-service could not turn into a booking
+ */
+@Component
+@RequiredArgsConstructor
+public class PaymentRefundRequestedHandler implements EventHandler<PaymentRefundRequestedEvent> {
+
+    private final PaymentService paymentService;
+
+    @Override
+    public String eventType() {
+        return PaymentRefundRequestedEvent.TYPE;
+    }
+
+    @Override
+    public Class<PaymentRefundRequestedEvent> payloadType() {
+        return PaymentRefundRequestedEvent.class;
+    }
+
+    @Override
+    public void handle(PaymentRefundRequestedEvent payload, OutboxEvent event) {
+        paymentService.refund(payload.paymentId(), payload.reason());
+    }
+}
@@ -0,0 +1,11 @@
+-- Payments can also be opened for a checkout hold, before any booking exists.
+-- Such a payment carries the hold's expiry and cannot be completed after it.
+ALTER TABLE payments ALTER COLUMN booking_id DROP NOT NULL;
+ALTER TABLE payments ADD COLUMN hold_id UUID;
+ALTER TABLE payments ADD COLUMN expires_at TIMESTAMP WITH TIME ZONE;
+
+ALTER TABLE payments ADD CONSTRAINT chk_payment_subject
+    CHECK ((booking_id IS NULL) <> (hold_id IS NULL));
+
+-- One payment per hold; also what makes redelivered HoldPlaced events no-ops
+CREATE UNIQUE INDEX uq_payments_hold_id ON payments(hold_id) WHERE hold_id IS NOT NULL;
@@ -0,0 +1,105 @@
+package com.project.userservice.config;
+
+import com.project.common.jdbc.DataSourceAdmissionPostProcessor;
+import com.project.userservice.datasource.ReadWriteRoutingDataSource;
+import com.project.userservice.datasource.ReadYourWritesTracker;
+import com.project.userservice.datasource.ReplicaLagMonitor;
+import com.project.userservice.datasource.ReplicaNode;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Primary/replica DataSource wiring for user-service
+ *
+ * The primary pool is still configured through spring.datasource. Replicas get their own
+ * read-only pools and are only used for @Transactional(readOnly = true) work. The replica
+ * pools are not beans, so they are passed through the admission post-processor here to get
+ * the same connection admission control as the primary pool.
+ */
+@Slf4j
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(ReplicaProperties.class)
+@ConditionalOnProperty(prefix = "app.datasource.replicas", name = "enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("user-primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(ReplicaProperties replicaProperties) {
+        return new ReadYourWritesTracker(replicaProperties.getStickiness());
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReadWriteRoutingDataSource readWriteRoutingDataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                                                 ReplicaProperties replicaProperties,
+                                                                 DataSourceProperties dataSourceProperties,
+                                                                 ReadYourWritesTracker readYourWritesTracker,
+                                                                 ObjectProvider<DataSourceAdmissionPostProcessor> admissionPostProcessor) {
+        DataSourceAdmissionPostProcessor admission = admissionPostProcessor.getIfAvailable();
+        List<ReplicaNode> replicas = new ArrayList<>();
+        List<ReplicaProperties.Node> nodes = replicaProperties.getNodes();
+        for (int i = 0; i < nodes.size(); i++) {
+            String name = "user-replica-" + (i + 1);
+            HikariDataSource pool = createReplicaPool(name, nodes.get(i), replicaProperties, dataSourceProperties);
+            DataSource dataSource = admission != null
+                    ? (DataSource) admission.postProcessAfterInitialization(pool, name)
+                    : pool;
+            replicas.add(new ReplicaNode(name, pool, dataSource));
+        }
+        log.info("Routing read-only transactions across {} replica(s)", replicas.size());
+        return new ReadWriteRoutingDataSource(primaryDataSource, replicas, readYourWritesTracker);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readWriteRoutingDataSource);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(ReadWriteRoutingDataSource readWriteRoutingDataSource,
+                                               ReadYourWritesTracker readYourWritesTracker,
+                                               ReplicaProperties replicaProperties) {
+        return new ReplicaLagMonitor(readWriteRoutingDataSource, readYourWritesTracker, replicaProperties.getMaxLag());
+    }
+
+    private HikariDataSource createReplicaPool(String name, ReplicaProperties.Node node,
+                                               ReplicaProperties replicaProperties,
+                                               DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl(node.getUrl());
+        dataSource.setUsername(replicaProperties.getUsername() != null
+                ? replicaProperties.getUsername() : dataSourceProperties.determineUsername());
+        dataSource.setPassword(replicaProperties.getPassword() != null
+                ? replicaProperties.getPassword() : dataSourceProperties.determinePassword());
+        dataSource.setDriverClassName(dataSourceProperties.determineDriverClassName());
+        dataSource.setMaximumPoolSize(replicaProperties.getMaximumPoolSize());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+}
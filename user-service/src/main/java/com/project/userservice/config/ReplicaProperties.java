@@ -0,0 +1,38 @@
+package com.project.userservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replica settings for user-service
+ *
+ * When enabled, @Transactional(readOnly = true) work is routed to the healthy replicas
+ * and everything else goes to the primary configured under spring.datasource.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.datasource.replicas")
+public class ReplicaProperties {
+
+    private boolean enabled = false;
+
+    private List<Node> nodes = new ArrayList<>();
+
+    private String username;
+    private String password;
+    private int maximumPoolSize = 10;
+
+    // Replicas lagging further behind than this are taken out of rotation until they catch up
+    private Duration maxLag = Duration.ofSeconds(2);
+
+    // How long a user's reads stay on the primary after one of their writes commits
+    private Duration stickiness = Duration.ofSeconds(5);
+
+    @Data
+    public static class Node {
+        private String url;
+    }
+}
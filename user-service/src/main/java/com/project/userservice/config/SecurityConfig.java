@@ -41,6 +41,10 @@ public class SecurityConfig {
                 .requestMatchers("/actuator/health", "/actuator/info").permitAll()
                 .requestMatchers("/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").permitAll()
                 
+                // Service-to-service event delivery, checked against app.outbox.token; not routed by the gateway
+                .requestMatchers(HttpMethod.POST, "/internal/events").permitAll()
+                .requestMatchers(HttpMethod.GET, "/internal/business-owners/summaries").permitAll()
+                
                 // Registration endpoints - require authentication but not specific roles
                 .requestMatchers(HttpMethod.POST, "/api/v*/customers/register").authenticated()
                 .requestMatchers(HttpMethod.POST, "/api/v*/providers/register").authenticated()
@@ -1,6 +1,7 @@
 package com.project.userservice.controller;
 
 import com.project.common.dto.ApiResponse;
+import com.project.common.dto.PageResponse;
 import com.project.userservice.dto.BusinessOwnerDto;
 import com.project.userservice.entity.BusinessOwner;
 import com.project.userservice.service.BusinessOwnerService;
@@ -72,7 +73,7 @@ public class BusinessOwnerController {
 
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<ApiResponse<Page<BusinessOwnerDto>>> getAllBusinessOwners(
+    public ResponseEntity<ApiResponse<PageResponse<BusinessOwnerDto>>> getAllBusinessOwners(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
@@ -87,11 +88,11 @@ public class BusinessOwnerController {
                 ? businessOwnerService.getAllVerifiedBusinesses(pageable)
                 : businessOwnerService.getAllActiveBusinessOwners(pageable);
         
-        return ResponseEntity.ok(ApiResponse.success(businessOwners));
+        return ResponseEntity.ok(ApiResponse.success(PageResponse.from(businessOwners)));
     }
 
     @GetMapping("/search")
-    public ResponseEntity<ApiResponse<Page<BusinessOwnerDto>>> searchBusinessOwners(
+    public ResponseEntity<ApiResponse<PageResponse<BusinessOwnerDto>>> searchBusinessOwners(
             @RequestParam String searchTerm,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
@@ -100,11 +101,11 @@ public class BusinessOwnerController {
         Pageable pageable = PageRequest.of(page, size);
         Page<BusinessOwnerDto> businessOwners = businessOwnerService.searchBusinessOwners(searchTerm, pageable);
         
-        return ResponseEntity.ok(ApiResponse.success(businessOwners));
+        return ResponseEntity.ok(ApiResponse.success(PageResponse.from(businessOwners)));
     }
 
     @GetMapping("/by-type/{businessType}")
-    public ResponseEntity<ApiResponse<Page<BusinessOwnerDto>>> getBusinessOwnersByType(
+    public ResponseEntity<ApiResponse<PageResponse<BusinessOwnerDto>>> getBusinessOwnersByType(
             @PathVariable BusinessOwner.BusinessType businessType,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
@@ -113,7 +114,7 @@ public class BusinessOwnerController {
         Pageable pageable = PageRequest.of(page, size, Sort.by("businessName").ascending());
         Page<BusinessOwnerDto> businessOwners = businessOwnerService.getBusinessOwnersByType(businessType, pageable);
         
-        return ResponseEntity.ok(ApiResponse.success(businessOwners));
+        return ResponseEntity.ok(ApiResponse.success(PageResponse.from(businessOwners)));
     }
 
     @GetMapping("/by-status/{status}")
@@ -137,7 +138,7 @@ public class BusinessOwnerController {
     }
 
     @GetMapping("/by-employee-count")
-    public ResponseEntity<ApiResponse<Page<BusinessOwnerDto>>> getBusinessesByEmployeeCount(
+    public ResponseEntity<ApiResponse<PageResponse<BusinessOwnerDto>>> getBusinessesByEmployeeCount(
             @RequestParam Integer minCount,
             @RequestParam Integer maxCount,
             @RequestParam(defaultValue = "0") int page,
@@ -147,7 +148,7 @@ public class BusinessOwnerController {
         Pageable pageable = PageRequest.of(page, size, Sort.by("employeeCount").descending());
         Page<BusinessOwnerDto> businessOwners = businessOwnerService.getBusinessesByEmployeeCount(minCount, maxCount, pageable);
         
-        return ResponseEntity.ok(ApiResponse.success(businessOwners));
+        return ResponseEntity.ok(ApiResponse.success(PageResponse.from(businessOwners)));
     }
 
     @PutMapping("/profile")
@@ -1,6 +1,7 @@
 package com.project.userservice.controller;
 
 import com.project.common.dto.ApiResponse;
+import com.project.common.dto.PageResponse;
 import com.project.userservice.dto.CustomerDto;
 import com.project.userservice.entity.Customer;
 import com.project.userservice.service.CustomerService;
@@ -63,7 +64,7 @@ public class CustomerController {
 
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<ApiResponse<Page<CustomerDto>>> getAllCustomers(
+    public ResponseEntity<ApiResponse<PageResponse<CustomerDto>>> getAllCustomers(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
@@ -74,12 +75,12 @@ public class CustomerController {
         Pageable pageable = PageRequest.of(page, size, sort);
         Page<CustomerDto> customers = customerService.getAllActiveCustomers(pageable);
         
-        return ResponseEntity.ok(ApiResponse.success(customers));
+        return ResponseEntity.ok(ApiResponse.success(PageResponse.from(customers)));
     }
 
     @GetMapping("/search")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<ApiResponse<Page<CustomerDto>>> searchCustomers(
+    public ResponseEntity<ApiResponse<PageResponse<CustomerDto>>> searchCustomers(
             @RequestParam String searchTerm,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
@@ -88,7 +89,7 @@ public class CustomerController {
         Pageable pageable = PageRequest.of(page, size);
         Page<CustomerDto> customers = customerService.searchCustomers(searchTerm, pageable);
         
-        return ResponseEntity.ok(ApiResponse.success(customers));
+        return ResponseEntity.ok(ApiResponse.success(PageResponse.from(customers)));
     }
 
     @GetMapping("/by-gender/{gender}")
@@ -0,0 +1,38 @@
+package com.project.userservice.controller;
+
+import com.project.common.event.BusinessOwnerChangedEvent;
+import com.project.common.outbox.HttpEventBroker;
+import com.project.common.outbox.OutboxProperties;
+import com.project.userservice.service.event.BusinessOwnerChangePublisher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Owner summaries for business-service's full resync; checked against app.outbox.token like
+ * event delivery, and not routed by the gateway
+ */
+@RestController
+@RequestMapping("/internal/business-owners")
+@RequiredArgsConstructor
+public class InternalBusinessOwnerController {
+
+    private static final int MAX_LIMIT = 5000;
+
+    private final BusinessOwnerChangePublisher changePublisher;
+    private final OutboxProperties outboxProperties;
+
+    @GetMapping("/summaries")
+    public ResponseEntity<List<BusinessOwnerChangedEvent>> getSummaries(
+            @RequestHeader(value = HttpEventBroker.TOKEN_HEADER, required = false) String token,
+            @RequestParam(defaultValue = "0") long afterId,
+            @RequestParam(defaultValue = "1000") int limit) {
+        if (!outboxProperties.acceptsToken(token)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok(changePublisher.findSummaries(afterId, Math.max(1, Math.min(limit, MAX_LIMIT))));
+    }
+}
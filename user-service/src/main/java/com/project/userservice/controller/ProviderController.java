@@ -1,7 +1,9 @@
 package com.project.userservice.controller;
 
 import com.project.common.dto.ApiResponse;
+import com.project.common.dto.PageResponse;
 import com.project.userservice.dto.ProviderDto;
+import com.project.userservice.dto.ProviderScheduleDto;
 import com.project.userservice.entity.Provider;
 import com.project.userservice.service.ProviderService;
 import jakarta.validation.Valid;
@@ -52,6 +54,14 @@ public class ProviderController {
         return ResponseEntity.ok(ApiResponse.success(provider));
     }
 
+    @GetMapping("/schedules")
+    public ResponseEntity<ApiResponse<List<ProviderScheduleDto>>> getProviderSchedules(@RequestParam List<Long> ids) {
+        log.debug("Getting schedules for {} providers", ids.size());
+
+        List<ProviderScheduleDto> schedules = providerService.getProviderSchedules(ids);
+        return ResponseEntity.ok(ApiResponse.success(schedules));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<ProviderDto>> getProviderById(@PathVariable Long id) {
         log.info("Getting provider by ID: {}", id);
@@ -61,7 +71,7 @@ public class ProviderController {
     }
 
     @GetMapping
-    public ResponseEntity<ApiResponse<Page<ProviderDto>>> getAllProviders(
+    public ResponseEntity<ApiResponse<PageResponse<ProviderDto>>> getAllProviders(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "rating") String sortBy,
@@ -76,11 +86,11 @@ public class ProviderController {
                 ? providerService.getAllVerifiedProviders(pageable)
                 : providerService.getAllActiveProviders(pageable);
         
-        return ResponseEntity.ok(ApiResponse.success(providers));
+        return ResponseEntity.ok(ApiResponse.success(PageResponse.from(providers)));
     }
 
     @GetMapping("/search")
-    public ResponseEntity<ApiResponse<Page<ProviderDto>>> searchProviders(
+    public ResponseEntity<ApiResponse<PageResponse<ProviderDto>>> searchProviders(
             @RequestParam String searchTerm,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
@@ -89,11 +99,11 @@ public class ProviderController {
         Pageable pageable = PageRequest.of(page, size);
         Page<ProviderDto> providers = providerService.searchProviders(searchTerm, pageable);
         
-        return ResponseEntity.ok(ApiResponse.success(providers));
+        return ResponseEntity.ok(ApiResponse.success(PageResponse.from(providers)));
     }
 
     @GetMapping("/by-specialization")
-    public ResponseEntity<ApiResponse<Page<ProviderDto>>> getProvidersBySpecialization(
+    public ResponseEntity<ApiResponse<PageResponse<ProviderDto>>> getProvidersBySpecialization(
             @RequestParam String specialization,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
@@ -102,11 +112,11 @@ public class ProviderController {
         Pageable pageable = PageRequest.of(page, size, Sort.by("rating").descending());
         Page<ProviderDto> providers = providerService.getProvidersBySpecialization(specialization, pageable);
         
-        return ResponseEntity.ok(ApiResponse.success(providers));
+        return ResponseEntity.ok(ApiResponse.success(PageResponse.from(providers)));
     }
 
     @GetMapping("/by-rating")
-    public ResponseEntity<ApiResponse<Page<ProviderDto>>> getProvidersByRating(
+    public ResponseEntity<ApiResponse<PageResponse<ProviderDto>>> getProvidersByRating(
             @RequestParam BigDecimal minRating,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
@@ -115,11 +125,11 @@ public class ProviderController {
         Pageable pageable = PageRequest.of(page, size, Sort.by("rating").descending());
         Page<ProviderDto> providers = providerService.getProvidersByRating(minRating, pageable);
         
-        return ResponseEntity.ok(ApiResponse.success(providers));
+        return ResponseEntity.ok(ApiResponse.success(PageResponse.from(providers)));
     }
 
     @GetMapping("/by-experience")
-    public ResponseEntity<ApiResponse<Page<ProviderDto>>> getProvidersByExperience(
+    public ResponseEntity<ApiResponse<PageResponse<ProviderDto>>> getProvidersByExperience(
             @RequestParam Integer minExperience,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
@@ -128,11 +138,11 @@ public class ProviderController {
         Pageable pageable = PageRequest.of(page, size, Sort.by("yearsOfExperience").descending());
         Page<ProviderDto> providers = providerService.getProvidersByExperience(minExperience, pageable);
         
-        return ResponseEntity.ok(ApiResponse.success(providers));
+        return ResponseEntity.ok(ApiResponse.success(PageResponse.from(providers)));
     }
 
     @GetMapping("/by-location")
-    public ResponseEntity<ApiResponse<Page<ProviderDto>>> getProvidersByLocation(
+    public ResponseEntity<ApiResponse<PageResponse<ProviderDto>>> getProvidersByLocation(
             @RequestParam String location,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
@@ -141,11 +151,11 @@ public class ProviderController {
         Pageable pageable = PageRequest.of(page, size, Sort.by("rating").descending());
         Page<ProviderDto> providers = providerService.getProvidersByLocation(location, pageable);
         
-        return ResponseEntity.ok(ApiResponse.success(providers));
+        return ResponseEntity.ok(ApiResponse.success(PageResponse.from(providers)));
     }
 
     @GetMapping("/by-price-range")
-    public ResponseEntity<ApiResponse<Page<ProviderDto>>> getProvidersByPriceRange(
+    public ResponseEntity<ApiResponse<PageResponse<ProviderDto>>> getProvidersByPriceRange(
             @RequestParam BigDecimal minRate,
             @RequestParam BigDecimal maxRate,
             @RequestParam(defaultValue = "0") int page,
@@ -155,7 +165,7 @@ public class ProviderController {
         Pageable pageable = PageRequest.of(page, size, Sort.by("hourlyRate").ascending());
         Page<ProviderDto> providers = providerService.getProvidersByPriceRange(minRate, maxRate, pageable);
         
-        return ResponseEntity.ok(ApiResponse.success(providers));
+        return ResponseEntity.ok(ApiResponse.success(PageResponse.from(providers)));
     }
 
     @GetMapping("/by-status/{status}")
@@ -219,18 +229,6 @@ public class ProviderController {
         return ResponseEntity.ok(ApiResponse.success("Provider deactivated successfully", null));
     }
 
-    @PutMapping("/{id}/rating")
-    @PreAuthorize("hasRole('ADMIN') or hasRole('SYSTEM')")
-    public ResponseEntity<ApiResponse<Void>> updateProviderRating(
-            @PathVariable Long id,
-            @RequestParam BigDecimal newRating,
-            @RequestParam Integer totalReviews) {
-        log.info("Updating rating for provider ID: {} to {}", id, newRating);
-        
-        providerService.updateProviderRating(id, newRating, totalReviews);
-        return ResponseEntity.ok(ApiResponse.success("Provider rating updated successfully", null));
-    }
-
     @GetMapping("/stats/count-by-status/{status}")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<ApiResponse<Long>> getProviderCountByStatus(
@@ -1,6 +1,7 @@
 package com.project.userservice.controller;
 
 import com.project.common.dto.ApiResponse;
+import com.project.common.dto.PageResponse;
 import com.project.userservice.dto.UserDto;
 import com.project.userservice.entity.User;
 import com.project.userservice.service.UserService;
@@ -54,7 +55,7 @@ public class UserController {
 
     @GetMapping("/by-type/{userType}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<ApiResponse<Page<UserDto>>> getUsersByType(
+    public ResponseEntity<ApiResponse<PageResponse<UserDto>>> getUsersByType(
             @PathVariable User.UserType userType,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
@@ -66,12 +67,12 @@ public class UserController {
         Pageable pageable = PageRequest.of(page, size, sort);
         Page<UserDto> users = userService.getUsersByType(userType, pageable);
         
-        return ResponseEntity.ok(ApiResponse.success(users));
+        return ResponseEntity.ok(ApiResponse.success(PageResponse.from(users)));
     }
 
     @GetMapping("/search")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<ApiResponse<Page<UserDto>>> searchUsers(
+    public ResponseEntity<ApiResponse<PageResponse<UserDto>>> searchUsers(
             @RequestParam String searchTerm,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
@@ -80,7 +81,7 @@ public class UserController {
         Pageable pageable = PageRequest.of(page, size);
         Page<UserDto> users = userService.searchUsers(searchTerm, pageable);
         
-        return ResponseEntity.ok(ApiResponse.success(users));
+        return ResponseEntity.ok(ApiResponse.success(PageResponse.from(users)));
     }
 
     @GetMapping("/created-between")
@@ -0,0 +1,125 @@
+package com.project.userservice.datasource;
+
+import com.project.userservice.util.JwtUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Routes read-only transactions to the replicas and everything else to the primary.
+ *
+ * Must sit behind a LazyConnectionDataSourceProxy so the connection is fetched after the
+ * transaction's read-only flag has been bound. Reads fall back to the primary when the
+ * current user wrote recently, when no replica is healthy, or when a replica refuses
+ * the connection.
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractDataSource {
+
+    private static final Object WRITE_TRACKED = new Object();
+
+    private final DataSource primary;
+    private final List<ReplicaNode> replicas;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReadWriteRoutingDataSource(DataSource primary, List<ReplicaNode> replicas,
+                                      ReadYourWritesTracker readYourWritesTracker) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(DataSource::getConnection);
+    }
+
+    /**
+     * Same routing as {@link #getConnection()}, with the credentials passed to whichever target is chosen
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(target -> target.getConnection(username, password));
+    }
+
+    public List<ReplicaNode> getReplicas() {
+        return replicas;
+    }
+
+    public void close() {
+        replicas.forEach(ReplicaNode::close);
+    }
+
+    private Connection route(ConnectionOpener opener) throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            trackWrite();
+            return opener.open(primary);
+        }
+
+        if (readYourWritesTracker.isSticky(JwtUtil.getCurrentKeycloakId())) {
+            return opener.open(primary);
+        }
+
+        ReplicaNode replica = selectReplica();
+        if (replica == null) {
+            return opener.open(primary);
+        }
+
+        try {
+            return opener.open(replica.getDataSource());
+        } catch (SQLException e) {
+            replica.markDown(e);
+            return opener.open(primary);
+        }
+    }
+
+    private ReplicaNode selectReplica() {
+        int size = replicas.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            ReplicaNode candidate = replicas.get((start + i) % size);
+            if (candidate.isHealthy()) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private void trackWrite() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(WRITE_TRACKED)) {
+            return;
+        }
+
+        String subject = JwtUtil.getCurrentKeycloakId();
+        if (subject == null) {
+            return;
+        }
+
+        TransactionSynchronizationManager.bindResource(WRITE_TRACKED, subject);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWritesTracker.recordWrite(subject);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(WRITE_TRACKED);
+            }
+        });
+    }
+
+    @FunctionalInterface
+    private interface ConnectionOpener {
+        Connection open(DataSource target) throws SQLException;
+    }
+}
@@ -0,0 +1,45 @@
+package com.project.userservice.datasource;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers which users committed a write recently so their reads stay on the primary
+ * until the replicas have had time to catch up.
+ */
+public class ReadYourWritesTracker {
+
+    private final Map<String, Long> stickyUntil = new ConcurrentHashMap<>();
+    private final long stickinessNanos;
+
+    public ReadYourWritesTracker(Duration stickiness) {
+        this.stickinessNanos = stickiness.toNanos();
+    }
+
+    public void recordWrite(String subject) {
+        if (subject != null) {
+            stickyUntil.put(subject, System.nanoTime() + stickinessNanos);
+        }
+    }
+
+    public boolean isSticky(String subject) {
+        if (subject == null) {
+            return false;
+        }
+        Long until = stickyUntil.get(subject);
+        if (until == null) {
+            return false;
+        }
+        if (until - System.nanoTime() > 0) {
+            return true;
+        }
+        stickyUntil.remove(subject, until);
+        return false;
+    }
+
+    public void purgeExpired() {
+        long now = System.nanoTime();
+        stickyUntil.values().removeIf(until -> until - now <= 0);
+    }
+}
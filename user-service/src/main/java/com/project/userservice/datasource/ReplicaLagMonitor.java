@@ -0,0 +1,61 @@
+package com.project.userservice.datasource;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Periodically measures replication lag on every replica and takes lagging or
+ * unreachable replicas out of rotation.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ReplicaLagMonitor {
+
+    // Zero when the replica has replayed everything it received, otherwise time since the last replayed commit
+    private static final String LAG_QUERY =
+            "SELECT CASE " +
+            "WHEN NOT pg_is_in_recovery() THEN 0 " +
+            "WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0) END";
+
+    private static final int QUERY_TIMEOUT_SECONDS = 2;
+
+    private final ReadWriteRoutingDataSource routingDataSource;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final Duration maxLag;
+
+    @Scheduled(fixedDelayString = "${app.datasource.replicas.lag-check-interval-ms:5000}")
+    public void checkReplicas() {
+        for (ReplicaNode replica : routingDataSource.getReplicas()) {
+            try {
+                long lagMillis = measureLag(replica);
+                if (lagMillis <= maxLag.toMillis()) {
+                    replica.markHealthy(lagMillis);
+                } else {
+                    replica.markLagging(lagMillis);
+                }
+            } catch (SQLException e) {
+                replica.markDown(e);
+            }
+        }
+        readYourWritesTracker.purgeExpired();
+    }
+
+    private long measureLag(ReplicaNode replica) throws SQLException {
+        try (Connection connection = replica.getDataSource().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(QUERY_TIMEOUT_SECONDS);
+            try (ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+                resultSet.next();
+                return (long) resultSet.getDouble(1);
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.project.userservice.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+
+/**
+ * A single read replica with its own pool and the health state maintained by {@link ReplicaLagMonitor}.
+ *
+ * Connections are taken from {@code dataSource}, which is the pool itself or the pool behind
+ * connection admission control; {@code pool} is kept only so it can be closed.
+ */
+@Slf4j
+@Getter
+public class ReplicaNode {
+
+    private final String name;
+    private final HikariDataSource pool;
+    private final DataSource dataSource;
+
+    private volatile boolean healthy = true;
+    private volatile long lagMillis;
+
+    public ReplicaNode(String name, HikariDataSource pool, DataSource dataSource) {
+        this.name = name;
+        this.pool = pool;
+        this.dataSource = dataSource;
+    }
+
+    public void markHealthy(long lagMillis) {
+        this.lagMillis = lagMillis;
+        if (!healthy) {
+            log.info("Replica {} is back in rotation (lag: {} ms)", name, lagMillis);
+        }
+        healthy = true;
+    }
+
+    public void markLagging(long lagMillis) {
+        this.lagMillis = lagMillis;
+        if (healthy) {
+            log.warn("Replica {} taken out of rotation, lag {} ms", name, lagMillis);
+        }
+        healthy = false;
+    }
+
+    public void markDown(Exception cause) {
+        if (healthy) {
+            log.warn("Replica {} taken out of rotation: {}", name, cause.getMessage());
+        }
+        healthy = false;
+    }
+
+    public void close() {
+        pool.close();
+    }
+}
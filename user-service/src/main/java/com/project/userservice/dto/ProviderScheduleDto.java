@@ -0,0 +1,19 @@
+package com.project.userservice.dto;
+
+import com.project.userservice.entity.Provider;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * A provider's weekly working hours, as fetched in batches by booking-service
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProviderScheduleDto {
+    private Long id;
+    private List<Provider.WorkingHours> workingHours;
+}
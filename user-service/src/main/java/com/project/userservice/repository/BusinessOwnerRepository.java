@@ -1,16 +1,21 @@
 package com.project.userservice.repository;
 
 import com.project.userservice.entity.BusinessOwner;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface BusinessOwnerRepository extends JpaRepository<BusinessOwner, Long> {
@@ -64,4 +69,12 @@ public interface BusinessOwnerRepository extends JpaRepository<BusinessOwner, Lo
     
     @Query("SELECT SUM(bo.employeeCount) FROM BusinessOwner bo WHERE bo.active = true AND bo.businessVerified = true")
     Long getTotalEmployeeCountForVerifiedBusinesses();
-}
\ No newline at end of file
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT bo.businessName FROM BusinessOwner bo WHERE bo.businessName IS NOT NULL")
+    Stream<String> streamAllBusinessNames();
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT bo.taxId FROM BusinessOwner bo WHERE bo.taxId IS NOT NULL")
+    Stream<String> streamAllTaxIds();
+}
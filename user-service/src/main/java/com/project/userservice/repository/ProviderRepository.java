@@ -9,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +20,9 @@ public interface ProviderRepository extends JpaRepository<Provider, Long> {
     Optional<Provider> findByEmail(String email);
     
     List<Provider> findByActiveTrue();
+
+    @Query("SELECT DISTINCT p FROM Provider p LEFT JOIN FETCH p.workingHours WHERE p.id IN :ids")
+    List<Provider> findWithWorkingHoursByIdIn(@Param("ids") Collection<Long> ids);
     Page<Provider> findByActiveTrue(Pageable pageable);
     
     List<Provider> findByVerifiedTrueAndActiveTrue();
@@ -0,0 +1,15 @@
+package com.project.userservice.repository;
+
+/**
+ * Result of the single-round-trip uniqueness probe run before a registration
+ */
+public interface RegistrationConflictView {
+
+    boolean getEmailTaken();
+
+    boolean getKeycloakIdTaken();
+
+    boolean getBusinessNameTaken();
+
+    boolean getTaxIdTaken();
+}
@@ -1,16 +1,21 @@
 package com.project.userservice.repository;
 
 import com.project.userservice.entity.User;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -36,4 +41,21 @@ public interface UserRepository extends JpaRepository<User, Long> {
     long countByUserTypeAndActiveTrue(@Param("userType") User.UserType userType);
     
     List<User> findByCreatedAtBetween(LocalDateTime startDate, LocalDateTime endDate);
-}
\ No newline at end of file
+
+    // One round trip for every registration uniqueness rule; null keys never match
+    @Query(value = "SELECT " +
+           "EXISTS (SELECT 1 FROM users WHERE email = CAST(:email AS VARCHAR)) AS \"emailTaken\", " +
+           "EXISTS (SELECT 1 FROM users WHERE keycloak_id = CAST(:keycloakId AS VARCHAR)) AS \"keycloakIdTaken\", " +
+           "EXISTS (SELECT 1 FROM users WHERE user_type = 'BUSINESS_OWNER' " +
+           "AND business_name = CAST(:businessName AS VARCHAR)) AS \"businessNameTaken\", " +
+           "EXISTS (SELECT 1 FROM users WHERE tax_id = CAST(:taxId AS VARCHAR)) AS \"taxIdTaken\"",
+           nativeQuery = true)
+    RegistrationConflictView findRegistrationConflicts(@Param("email") String email,
+                                                       @Param("keycloakId") String keycloakId,
+                                                       @Param("businessName") String businessName,
+                                                       @Param("taxId") String taxId);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT u.email FROM User u")
+    Stream<String> streamAllEmails();
+}
@@ -5,8 +5,10 @@ import com.project.userservice.dto.BusinessOwnerDto;
 import com.project.userservice.entity.BusinessOwner;
 import com.project.userservice.entity.User;
 import com.project.userservice.repository.BusinessOwnerRepository;
+import com.project.userservice.service.event.BusinessOwnerChangePublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -22,24 +24,18 @@ import java.util.stream.Collectors;
 public class BusinessOwnerService {
     
     private final BusinessOwnerRepository businessOwnerRepository;
+    private final RegistrationUniquenessService registrationUniquenessService;
+    private final BusinessOwnerChangePublisher changePublisher;
 
     @Transactional
     public BusinessOwnerDto createBusinessOwner(BusinessOwnerDto businessOwnerDto, String keycloakId) {
         log.info("Creating business owner for keycloak ID: {}", keycloakId);
         
-        if (businessOwnerRepository.findByEmail(businessOwnerDto.getEmail()).isPresent()) {
-            throw new BusinessException("BUSINESS_OWNER_EXISTS", "Business owner with this email already exists");
-        }
-
-        if (businessOwnerDto.getBusinessName() != null && 
-            businessOwnerRepository.existsByBusinessName(businessOwnerDto.getBusinessName())) {
-            throw new BusinessException("BUSINESS_NAME_EXISTS", "Business with this name already exists");
-        }
-
-        if (businessOwnerDto.getTaxId() != null && 
-            businessOwnerRepository.existsByTaxId(businessOwnerDto.getTaxId())) {
-            throw new BusinessException("TAX_ID_EXISTS", "Business with this tax ID already exists");
-        }
+        registrationUniquenessService.findConflict(businessOwnerDto.getEmail(), keycloakId,
+                        businessOwnerDto.getBusinessName(), businessOwnerDto.getTaxId())
+                .ifPresent(conflict -> {
+                    throw registrationConflict(conflict);
+                });
 
         BusinessOwner businessOwner = BusinessOwner.builder()
                 .keycloakId(keycloakId)
@@ -61,49 +57,64 @@ public class BusinessOwnerService {
                 .active(true)
                 .build();
 
-        businessOwner = businessOwnerRepository.save(businessOwner);
+        try {
+            businessOwner = businessOwnerRepository.saveAndFlush(businessOwner);
+        } catch (DataIntegrityViolationException e) {
+            throw registrationUniquenessService.translate(e).map(this::registrationConflict).orElseThrow(() -> e);
+        }
+        registrationUniquenessService.recordRegistration(businessOwner.getEmail(),
+                businessOwner.getBusinessName(), businessOwner.getTaxId());
+        changePublisher.publish(businessOwner);
         log.info("Business owner created successfully with ID: {}", businessOwner.getId());
         return convertToDto(businessOwner);
     }
 
+    @Transactional(readOnly = true)
     public BusinessOwnerDto getBusinessOwnerByKeycloakId(String keycloakId) {
         BusinessOwner businessOwner = businessOwnerRepository.findByKeycloakId(keycloakId)
                 .orElseThrow(() -> new BusinessException("BUSINESS_OWNER_NOT_FOUND", "Business owner not found"));
         return convertToDto(businessOwner);
     }
 
+    @Transactional(readOnly = true)
     public BusinessOwnerDto getBusinessOwnerById(Long id) {
         BusinessOwner businessOwner = businessOwnerRepository.findById(id)
                 .orElseThrow(() -> new BusinessException("BUSINESS_OWNER_NOT_FOUND", "Business owner not found"));
         return convertToDto(businessOwner);
     }
 
+    @Transactional(readOnly = true)
     public BusinessOwnerDto getBusinessOwnerByBusinessName(String businessName) {
         BusinessOwner businessOwner = businessOwnerRepository.findByBusinessName(businessName)
                 .orElseThrow(() -> new BusinessException("BUSINESS_NOT_FOUND", "Business not found"));
         return convertToDto(businessOwner);
     }
 
+    @Transactional(readOnly = true)
     public Page<BusinessOwnerDto> getAllActiveBusinessOwners(Pageable pageable) {
         return businessOwnerRepository.findByActiveTrue(pageable)
                 .map(this::convertToDto);
     }
 
+    @Transactional(readOnly = true)
     public Page<BusinessOwnerDto> getAllVerifiedBusinesses(Pageable pageable) {
         return businessOwnerRepository.findByBusinessVerifiedTrueAndActiveTrue(pageable)
                 .map(this::convertToDto);
     }
 
+    @Transactional(readOnly = true)
     public Page<BusinessOwnerDto> searchBusinessOwners(String searchTerm, Pageable pageable) {
         return businessOwnerRepository.searchBusinessOwners(searchTerm, pageable)
                 .map(this::convertToDto);
     }
 
+    @Transactional(readOnly = true)
     public Page<BusinessOwnerDto> getBusinessOwnersByType(BusinessOwner.BusinessType businessType, Pageable pageable) {
         return businessOwnerRepository.findByBusinessTypeAndActiveTrue(businessType, pageable)
                 .map(this::convertToDto);
     }
 
+    @Transactional(readOnly = true)
     public List<BusinessOwnerDto> getBusinessOwnersByStatus(BusinessOwner.BusinessStatus status) {
         return businessOwnerRepository.findByBusinessStatusAndActiveTrue(status)
                 .stream()
@@ -111,6 +122,7 @@ public class BusinessOwnerService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<BusinessOwnerDto> getBusinessesByEstablishedDateRange(LocalDate startDate, LocalDate endDate) {
         return businessOwnerRepository.findByBusinessEstablishedDateBetweenAndActiveTrue(startDate, endDate)
                 .stream()
@@ -118,6 +130,7 @@ public class BusinessOwnerService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public Page<BusinessOwnerDto> getBusinessesByEmployeeCount(Integer minCount, Integer maxCount, Pageable pageable) {
         return businessOwnerRepository.findByEmployeeCountBetweenAndActiveTrue(minCount, maxCount, pageable)
                 .map(this::convertToDto);
@@ -145,7 +158,13 @@ public class BusinessOwnerService {
         businessOwner.setWebsite(businessOwnerDto.getWebsite());
         businessOwner.setEmployeeCount(businessOwnerDto.getEmployeeCount());
 
-        businessOwner = businessOwnerRepository.save(businessOwner);
+        try {
+            businessOwner = businessOwnerRepository.saveAndFlush(businessOwner);
+        } catch (DataIntegrityViolationException e) {
+            throw registrationUniquenessService.translate(e).map(this::registrationConflict).orElseThrow(() -> e);
+        }
+        registrationUniquenessService.recordRegistration(null, businessOwner.getBusinessName(), null);
+        changePublisher.publish(businessOwner);
         log.info("Business owner updated successfully with ID: {}", businessOwner.getId());
         return convertToDto(businessOwner);
     }
@@ -160,6 +179,7 @@ public class BusinessOwnerService {
         businessOwner.setBusinessVerified(true);
         businessOwner.setBusinessStatus(BusinessOwner.BusinessStatus.VERIFIED);
         businessOwnerRepository.save(businessOwner);
+        changePublisher.publish(businessOwner);
         log.info("Business verified successfully with ID: {}", id);
     }
 
@@ -172,6 +192,7 @@ public class BusinessOwnerService {
         
         businessOwner.setBusinessStatus(BusinessOwner.BusinessStatus.SUSPENDED);
         businessOwnerRepository.save(businessOwner);
+        changePublisher.publish(businessOwner);
         log.info("Business suspended successfully with ID: {}", id);
     }
 
@@ -185,17 +206,21 @@ public class BusinessOwnerService {
         businessOwner.setActive(false);
         businessOwner.setBusinessStatus(BusinessOwner.BusinessStatus.INACTIVE);
         businessOwnerRepository.save(businessOwner);
+        changePublisher.publish(businessOwner);
         log.info("Business owner deactivated successfully with ID: {}", id);
     }
 
+    @Transactional(readOnly = true)
     public long getBusinessCountByStatus(BusinessOwner.BusinessStatus status) {
         return businessOwnerRepository.countByBusinessStatusAndActiveTrue(status);
     }
 
+    @Transactional(readOnly = true)
     public long getVerifiedBusinessCount() {
         return businessOwnerRepository.countVerifiedBusinesses();
     }
 
+    @Transactional(readOnly = true)
     public Long getTotalEmployeeCount() {
         return businessOwnerRepository.getTotalEmployeeCountForVerifiedBusinesses();
     }
@@ -226,4 +251,14 @@ public class BusinessOwnerService {
         dto.setUpdatedAt(businessOwner.getUpdatedAt());
         return dto;
     }
-}
\ No newline at end of file
+
+    private BusinessException registrationConflict(RegistrationUniquenessService.Conflict conflict) {
+        return switch (conflict) {
+            case EMAIL -> new BusinessException("BUSINESS_OWNER_EXISTS", "Business owner with this email already exists");
+            case KEYCLOAK_ID -> new BusinessException("BUSINESS_OWNER_EXISTS", "Business owner is already registered for this account");
+            case BUSINESS_NAME -> new BusinessException("BUSINESS_NAME_EXISTS", "Business with this name already exists");
+            case TAX_ID -> new BusinessException("TAX_ID_EXISTS", "Business with this tax ID already exists");
+            case REGISTRATION_NUMBER -> new BusinessException("REGISTRATION_NUMBER_EXISTS", "Business with this registration number already exists");
+        };
+    }
+}
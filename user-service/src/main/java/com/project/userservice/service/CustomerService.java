@@ -7,6 +7,7 @@ import com.project.userservice.entity.User;
 import com.project.userservice.repository.CustomerRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -22,14 +23,16 @@ import java.util.stream.Collectors;
 public class CustomerService {
     
     private final CustomerRepository customerRepository;
+    private final RegistrationUniquenessService registrationUniquenessService;
 
     @Transactional
     public CustomerDto createCustomer(CustomerDto customerDto, String keycloakId) {
         log.info("Creating customer for keycloak ID: {}", keycloakId);
         
-        if (customerRepository.findByEmail(customerDto.getEmail()).isPresent()) {
-            throw new BusinessException("CUSTOMER_EXISTS", "Customer with this email already exists");
-        }
+        registrationUniquenessService.findConflict(customerDto.getEmail(), keycloakId, null, null)
+                .ifPresent(conflict -> {
+                    throw registrationConflict(conflict);
+                });
 
         Customer customer = Customer.builder()
                 .keycloakId(keycloakId)
@@ -46,33 +49,43 @@ public class CustomerService {
                 .active(true)
                 .build();
 
-        customer = customerRepository.save(customer);
+        try {
+            customer = customerRepository.saveAndFlush(customer);
+        } catch (DataIntegrityViolationException e) {
+            throw registrationUniquenessService.translate(e).map(this::registrationConflict).orElseThrow(() -> e);
+        }
+        registrationUniquenessService.recordRegistration(customer.getEmail(), null, null);
         log.info("Customer created successfully with ID: {}", customer.getId());
         return convertToDto(customer);
     }
 
+    @Transactional(readOnly = true)
     public CustomerDto getCustomerByKeycloakId(String keycloakId) {
         Customer customer = customerRepository.findByKeycloakId(keycloakId)
                 .orElseThrow(() -> new BusinessException("CUSTOMER_NOT_FOUND", "Customer not found"));
         return convertToDto(customer);
     }
 
+    @Transactional(readOnly = true)
     public CustomerDto getCustomerById(Long id) {
         Customer customer = customerRepository.findById(id)
                 .orElseThrow(() -> new BusinessException("CUSTOMER_NOT_FOUND", "Customer not found"));
         return convertToDto(customer);
     }
 
+    @Transactional(readOnly = true)
     public Page<CustomerDto> getAllActiveCustomers(Pageable pageable) {
         return customerRepository.findByActiveTrue(pageable)
                 .map(this::convertToDto);
     }
 
+    @Transactional(readOnly = true)
     public Page<CustomerDto> searchCustomers(String searchTerm, Pageable pageable) {
         return customerRepository.searchCustomers(searchTerm, pageable)
                 .map(this::convertToDto);
     }
 
+    @Transactional(readOnly = true)
     public List<CustomerDto> getCustomersByGender(Customer.Gender gender) {
         return customerRepository.findByGenderAndActiveTrue(gender)
                 .stream()
@@ -80,6 +93,7 @@ public class CustomerService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<CustomerDto> getCustomersByAgeRange(LocalDate startDate, LocalDate endDate) {
         return customerRepository.findByDateOfBirthBetweenAndActiveTrue(startDate, endDate)
                 .stream()
@@ -130,6 +144,7 @@ public class CustomerService {
         customerRepository.save(customer);
     }
 
+    @Transactional(readOnly = true)
     public long getActiveCustomerCount() {
         return customerRepository.countActiveCustomers();
     }
@@ -152,4 +167,11 @@ public class CustomerService {
         dto.setUpdatedAt(customer.getUpdatedAt());
         return dto;
     }
-}
\ No newline at end of file
+
+    private BusinessException registrationConflict(RegistrationUniquenessService.Conflict conflict) {
+        if (conflict == RegistrationUniquenessService.Conflict.KEYCLOAK_ID) {
+            return new BusinessException("CUSTOMER_EXISTS", "Customer is already registered for this account");
+        }
+        return new BusinessException("CUSTOMER_EXISTS", "Customer with this email already exists");
+    }
+}
@@ -2,17 +2,20 @@ package com.project.userservice.service;
 
 import com.project.common.exception.BusinessException;
 import com.project.userservice.dto.ProviderDto;
+import com.project.userservice.dto.ProviderScheduleDto;
 import com.project.userservice.entity.Provider;
 import com.project.userservice.entity.User;
 import com.project.userservice.repository.ProviderRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -20,16 +23,20 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 @Slf4j
 public class ProviderService {
+
+    private static final int MAX_SCHEDULE_BATCH = 200;
     
     private final ProviderRepository providerRepository;
+    private final RegistrationUniquenessService registrationUniquenessService;
 
     @Transactional
     public ProviderDto createProvider(ProviderDto providerDto, String keycloakId) {
         log.info("Creating provider for keycloak ID: {}", keycloakId);
         
-        if (providerRepository.findByEmail(providerDto.getEmail()).isPresent()) {
-            throw new BusinessException("PROVIDER_EXISTS", "Provider with this email already exists");
-        }
+        registrationUniquenessService.findConflict(providerDto.getEmail(), keycloakId, null, null)
+                .ifPresent(conflict -> {
+                    throw registrationConflict(conflict);
+                });
 
         Provider provider = Provider.builder()
                 .keycloakId(keycloakId)
@@ -44,68 +51,101 @@ public class ProviderService {
                 .specializations(providerDto.getSpecializations())
                 .location(providerDto.getLocation())
                 .hourlyRate(providerDto.getHourlyRate())
+                .workingHours(providerDto.getWorkingHours() != null
+                        ? new ArrayList<>(providerDto.getWorkingHours()) : new ArrayList<>())
                 .status(Provider.ProviderStatus.PENDING_VERIFICATION)
                 .verified(false)
                 .active(true)
                 .build();
 
-        provider = providerRepository.save(provider);
+        try {
+            provider = providerRepository.saveAndFlush(provider);
+        } catch (DataIntegrityViolationException e) {
+            throw registrationUniquenessService.translate(e).map(this::registrationConflict).orElseThrow(() -> e);
+        }
+        registrationUniquenessService.recordRegistration(provider.getEmail(), null, null);
         log.info("Provider created successfully with ID: {}", provider.getId());
         return convertToDto(provider);
     }
 
+    @Transactional(readOnly = true)
     public ProviderDto getProviderByKeycloakId(String keycloakId) {
         Provider provider = providerRepository.findByKeycloakId(keycloakId)
                 .orElseThrow(() -> new BusinessException("PROVIDER_NOT_FOUND", "Provider not found"));
         return convertToDto(provider);
     }
 
+    @Transactional(readOnly = true)
     public ProviderDto getProviderById(Long id) {
         Provider provider = providerRepository.findById(id)
                 .orElseThrow(() -> new BusinessException("PROVIDER_NOT_FOUND", "Provider not found"));
         return convertToDto(provider);
     }
 
+    /**
+     * Working hours for a batch of providers in one query; unknown IDs are left out.
+     */
+    @Transactional(readOnly = true)
+    public List<ProviderScheduleDto> getProviderSchedules(List<Long> ids) {
+        if (ids.size() > MAX_SCHEDULE_BATCH) {
+            throw new BusinessException("TOO_MANY_PROVIDERS",
+                    "At most " + MAX_SCHEDULE_BATCH + " provider schedules can be fetched at once");
+        }
+        return providerRepository.findWithWorkingHoursByIdIn(ids)
+                .stream()
+                .map(provider -> new ProviderScheduleDto(provider.getId(), new ArrayList<>(provider.getWorkingHours())))
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
     public Page<ProviderDto> getAllActiveProviders(Pageable pageable) {
         return providerRepository.findByActiveTrue(pageable)
                 .map(this::convertToDto);
     }
 
+    @Transactional(readOnly = true)
     public Page<ProviderDto> getAllVerifiedProviders(Pageable pageable) {
         return providerRepository.findByVerifiedTrueAndActiveTrue(pageable)
                 .map(this::convertToDto);
     }
 
+    @Transactional(readOnly = true)
     public Page<ProviderDto> searchProviders(String searchTerm, Pageable pageable) {
         return providerRepository.searchProviders(searchTerm, pageable)
                 .map(this::convertToDto);
     }
 
+    @Transactional(readOnly = true)
     public Page<ProviderDto> getProvidersBySpecialization(String specialization, Pageable pageable) {
         return providerRepository.findBySpecializationContainingAndActiveTrue(specialization, pageable)
                 .map(this::convertToDto);
     }
 
+    @Transactional(readOnly = true)
     public Page<ProviderDto> getProvidersByRating(BigDecimal minRating, Pageable pageable) {
         return providerRepository.findByRatingGreaterThanEqualAndActiveTrue(minRating, pageable)
                 .map(this::convertToDto);
     }
 
+    @Transactional(readOnly = true)
     public Page<ProviderDto> getProvidersByExperience(Integer minExperience, Pageable pageable) {
         return providerRepository.findByYearsOfExperienceGreaterThanEqualAndActiveTrue(minExperience, pageable)
                 .map(this::convertToDto);
     }
 
+    @Transactional(readOnly = true)
     public Page<ProviderDto> getProvidersByLocation(String location, Pageable pageable) {
         return providerRepository.findByLocationContainingAndActiveTrue(location, pageable)
                 .map(this::convertToDto);
     }
 
+    @Transactional(readOnly = true)
     public Page<ProviderDto> getProvidersByPriceRange(BigDecimal minRate, BigDecimal maxRate, Pageable pageable) {
         return providerRepository.findByHourlyRateBetweenAndActiveTrue(minRate, maxRate, pageable)
                 .map(this::convertToDto);
     }
 
+    @Transactional(readOnly = true)
     public List<ProviderDto> getProvidersByStatus(Provider.ProviderStatus status) {
         return providerRepository.findByStatusAndActiveTrue(status)
                 .stream()
@@ -129,6 +169,9 @@ public class ProviderService {
         provider.setSpecializations(providerDto.getSpecializations());
         provider.setLocation(providerDto.getLocation());
         provider.setHourlyRate(providerDto.getHourlyRate());
+        if (providerDto.getWorkingHours() != null) {
+            provider.setWorkingHours(new ArrayList<>(providerDto.getWorkingHours()));
+        }
 
         provider = providerRepository.save(provider);
         log.info("Provider updated successfully with ID: {}", provider.getId());
@@ -173,20 +216,12 @@ public class ProviderService {
         log.info("Provider deactivated successfully with ID: {}", id);
     }
 
-    @Transactional
-    public void updateProviderRating(Long id, BigDecimal newRating, Integer totalReviews) {
-        Provider provider = providerRepository.findById(id)
-                .orElseThrow(() -> new BusinessException("PROVIDER_NOT_FOUND", "Provider not found"));
-        
-        provider.setRating(newRating);
-        provider.setTotalReviews(totalReviews);
-        providerRepository.save(provider);
-    }
-
+    @Transactional(readOnly = true)
     public long getProviderCountByStatus(Provider.ProviderStatus status) {
         return providerRepository.countByStatusAndActiveTrue(status);
     }
 
+    @Transactional(readOnly = true)
     public BigDecimal getAverageRating() {
         return providerRepository.getAverageRatingForVerifiedProviders();
     }
@@ -216,4 +251,11 @@ public class ProviderService {
         dto.setUpdatedAt(provider.getUpdatedAt());
         return dto;
     }
-}
\ No newline at end of file
+
+    private BusinessException registrationConflict(RegistrationUniquenessService.Conflict conflict) {
+        if (conflict == RegistrationUniquenessService.Conflict.KEYCLOAK_ID) {
+            return new BusinessException("PROVIDER_EXISTS", "Provider is already registered for this account");
+        }
+        return new BusinessException("PROVIDER_EXISTS", "Provider with this email already exists");
+    }
+}
@@ -0,0 +1,145 @@
+package com.project.userservice.service;
+
+import com.project.userservice.repository.BusinessOwnerRepository;
+import com.project.userservice.repository.RegistrationConflictView;
+import com.project.userservice.repository.UserRepository;
+import com.project.userservice.util.BloomFilter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Registration uniqueness checks
+ *
+ * The unique constraints on users are the source of truth and violations are translated back
+ * into a {@link Conflict}. Before inserting, a Bloom filter over existing emails, business
+ * names and tax IDs lets brand-new values skip the lookup entirely; anything the filter
+ * might have seen is confirmed with a single set-based existence query. The filters are
+ * per instance, so registrations made elsewhere are only caught by the constraints.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RegistrationUniquenessService {
+
+    public enum Conflict {
+        EMAIL, KEYCLOAK_ID, BUSINESS_NAME, TAX_ID, REGISTRATION_NUMBER
+    }
+
+    private static final Map<String, Conflict> CONSTRAINT_CONFLICTS = Map.of(
+            "users_email_key", Conflict.EMAIL,
+            "users_keycloak_id_key", Conflict.KEYCLOAK_ID,
+            "uk_users_owner_business_name", Conflict.BUSINESS_NAME,
+            "uk_users_tax_id", Conflict.TAX_ID,
+            "uk_users_business_registration_number", Conflict.REGISTRATION_NUMBER
+    );
+
+    private final UserRepository userRepository;
+    private final BusinessOwnerRepository businessOwnerRepository;
+
+    @Value("${app.registration.bloom-filter.enabled:true}")
+    private boolean bloomFilterEnabled;
+
+    @Value("${app.registration.bloom-filter.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    // Filters are sized for twice the current row count, never below this
+    @Value("${app.registration.bloom-filter.min-capacity:100000}")
+    private long minCapacity;
+
+    // Null until loaded; every check goes to the database until then
+    private volatile Filters filters;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadFilters() {
+        if (!bloomFilterEnabled) {
+            return;
+        }
+
+        long capacity = Math.max(minCapacity, userRepository.count() * 2);
+        Filters loaded = new Filters(
+                new BloomFilter(capacity, falsePositiveRate),
+                new BloomFilter(capacity, falsePositiveRate),
+                new BloomFilter(capacity, falsePositiveRate));
+
+        try (Stream<String> emails = userRepository.streamAllEmails()) {
+            emails.forEach(loaded.emails()::put);
+        }
+        try (Stream<String> businessNames = businessOwnerRepository.streamAllBusinessNames()) {
+            businessNames.forEach(loaded.businessNames()::put);
+        }
+        try (Stream<String> taxIds = businessOwnerRepository.streamAllTaxIds()) {
+            taxIds.forEach(loaded.taxIds()::put);
+        }
+
+        filters = loaded;
+        log.info("Registration Bloom filters loaded with capacity {}", capacity);
+    }
+
+    /**
+     * Returns the first conflict found for the given registration keys. Null keys are ignored.
+     */
+    public Optional<Conflict> findConflict(String email, String keycloakId, String businessName, String taxId) {
+        Filters current = filters;
+        if (current != null
+                && !current.emails().mightContain(email)
+                && !current.businessNames().mightContain(businessName)
+                && !current.taxIds().mightContain(taxId)) {
+            return Optional.empty();
+        }
+
+        RegistrationConflictView view = userRepository.findRegistrationConflicts(email, keycloakId, businessName, taxId);
+        if (view.getEmailTaken()) {
+            return Optional.of(Conflict.EMAIL);
+        }
+        if (view.getKeycloakIdTaken()) {
+            return Optional.of(Conflict.KEYCLOAK_ID);
+        }
+        if (view.getBusinessNameTaken()) {
+            return Optional.of(Conflict.BUSINESS_NAME);
+        }
+        if (view.getTaxIdTaken()) {
+            return Optional.of(Conflict.TAX_ID);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Maps a unique constraint violation raised on insert or update to the conflicting key.
+     */
+    public Optional<Conflict> translate(DataIntegrityViolationException e) {
+        Throwable cause = e;
+        while (cause != null && !(cause instanceof ConstraintViolationException)) {
+            cause = cause.getCause();
+        }
+        if (cause == null || ((ConstraintViolationException) cause).getConstraintName() == null) {
+            return Optional.empty();
+        }
+        String constraintName = ((ConstraintViolationException) cause).getConstraintName().toLowerCase(Locale.ROOT);
+        return Optional.ofNullable(CONSTRAINT_CONFLICTS.get(constraintName));
+    }
+
+    public void recordRegistration(String email, String businessName, String taxId) {
+        Filters current = filters;
+        if (current != null) {
+            current.emails().put(email);
+            current.businessNames().put(businessName);
+            current.taxIds().put(taxId);
+        }
+    }
+
+    private record Filters(BloomFilter emails, BloomFilter businessNames, BloomFilter taxIds) {
+    }
+}
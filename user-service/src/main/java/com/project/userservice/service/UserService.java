@@ -2,8 +2,10 @@ package com.project.userservice.service;
 
 import com.project.common.exception.BusinessException;
 import com.project.userservice.dto.UserDto;
+import com.project.userservice.entity.BusinessOwner;
 import com.project.userservice.entity.User;
 import com.project.userservice.repository.UserRepository;
+import com.project.userservice.service.event.BusinessOwnerChangePublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -21,35 +23,42 @@ import java.util.stream.Collectors;
 public class UserService {
     
     private final UserRepository userRepository;
+    private final BusinessOwnerChangePublisher businessOwnerChangePublisher;
 
+    @Transactional(readOnly = true)
     public UserDto getUserByKeycloakId(String keycloakId) {
         User user = userRepository.findByKeycloakId(keycloakId)
                 .orElseThrow(() -> new BusinessException("USER_NOT_FOUND", "User not found"));
         return convertToDto(user);
     }
 
+    @Transactional(readOnly = true)
     public UserDto getUserById(Long id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new BusinessException("USER_NOT_FOUND", "User not found"));
         return convertToDto(user);
     }
 
+    @Transactional(readOnly = true)
     public List<UserDto> getAllActiveUsers() {
         return userRepository.findByActiveTrue().stream()
                 .map(this::convertToDto)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public Page<UserDto> getUsersByType(User.UserType userType, Pageable pageable) {
         return userRepository.findByUserTypeAndActiveTrue(userType, pageable)
                 .map(this::convertToDto);
     }
 
+    @Transactional(readOnly = true)
     public Page<UserDto> searchUsers(String searchTerm, Pageable pageable) {
         return userRepository.searchActiveUsers(searchTerm, pageable)
                 .map(this::convertToDto);
     }
 
+    @Transactional(readOnly = true)
     public List<UserDto> getUsersCreatedBetween(LocalDateTime startDate, LocalDateTime endDate) {
         return userRepository.findByCreatedAtBetween(startDate, endDate)
                 .stream()
@@ -66,17 +75,23 @@ public class UserService {
         
         user.setActive(false);
         userRepository.save(user);
+        if (user instanceof BusinessOwner businessOwner) {
+            businessOwnerChangePublisher.publish(businessOwner);
+        }
         log.info("User deactivated successfully with ID: {}", id);
     }
 
+    @Transactional(readOnly = true)
     public boolean existsByEmail(String email) {
         return userRepository.existsByEmail(email);
     }
 
+    @Transactional(readOnly = true)
     public boolean existsByKeycloakId(String keycloakId) {
         return userRepository.existsByKeycloakId(keycloakId);
     }
 
+    @Transactional(readOnly = true)
     public long getUserCountByType(User.UserType userType) {
         return userRepository.countByUserTypeAndActiveTrue(userType);
     }
@@ -0,0 +1,67 @@
+package com.project.userservice.service.event;
+
+import com.project.common.event.BusinessOwnerChangedEvent;
+import com.project.common.outbox.OutboxWriter;
+import com.project.userservice.entity.BusinessOwner;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Feeds business-service's owner_summaries read model
+ *
+ * Every change to an owner appends the owner's full summary to the outbox in the same
+ * transaction, under a freshly bumped summary_version; the version bump also locks the row,
+ * so concurrent changes publish in commit order. {@link #findSummaries} serves the same
+ * payload to full resyncs.
+ */
+@Component
+@RequiredArgsConstructor
+public class BusinessOwnerChangePublisher {
+
+    private static final String BUMP_VERSION_SQL =
+            "UPDATE users SET summary_version = summary_version + 1 WHERE id = ? RETURNING summary_version";
+
+    private static final String SUMMARIES_SQL =
+            "SELECT id, keycloak_id, first_name, last_name, email, business_name, business_verified, business_status, " +
+            "active, summary_version FROM users WHERE user_type = 'BUSINESS_OWNER' AND id > ? ORDER BY id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OutboxWriter outboxWriter;
+
+    /**
+     * Call inside the transaction that changed the owner, after the change is saved
+     */
+    public void publish(BusinessOwner owner) {
+        Long version = jdbcTemplate.queryForObject(BUMP_VERSION_SQL, Long.class, owner.getId());
+        outboxWriter.append(BusinessOwnerChangedEvent.AGGREGATE, owner.getId(), BusinessOwnerChangedEvent.TYPE,
+                new BusinessOwnerChangedEvent(
+                        owner.getId(),
+                        owner.getKeycloakId(),
+                        owner.getFullName(),
+                        owner.getEmail(),
+                        owner.getBusinessName(),
+                        Boolean.TRUE.equals(owner.getBusinessVerified()),
+                        owner.getBusinessStatus() != null ? owner.getBusinessStatus().name() : null,
+                        Boolean.TRUE.equals(owner.getActive()),
+                        version));
+    }
+
+    /**
+     * Current summaries of business owners after afterId, by ascending ID
+     */
+    public List<BusinessOwnerChangedEvent> findSummaries(long afterId, int limit) {
+        return jdbcTemplate.query(SUMMARIES_SQL, (rs, rowNum) -> new BusinessOwnerChangedEvent(
+                rs.getLong("id"),
+                rs.getString("keycloak_id"),
+                rs.getString("first_name") + " " + rs.getString("last_name"),
+                rs.getString("email"),
+                rs.getString("business_name"),
+                rs.getBoolean("business_verified"),
+                rs.getString("business_status"),
+                rs.getBoolean("active"),
+                rs.getLong("summary_version")), afterId, limit);
+    }
+}
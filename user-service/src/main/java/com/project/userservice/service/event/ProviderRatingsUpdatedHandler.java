@@ -0,0 +1,48 @@
+package com.project.userservice.service.event;
+
+import com.project.common.event.ProviderRatingsUpdatedEvent;
+import com.project.common.outbox.EventHandler;
+import com.project.common.outbox.OutboxEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies provider ratings aggregated by booking-service in one JDBC batch
+ *
+ * Updates are guarded by rating_version, so a batch delivered late never overwrites a newer rating.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProviderRatingsUpdatedHandler implements EventHandler<ProviderRatingsUpdatedEvent> {
+
+    private static final String UPDATE_SQL =
+            "UPDATE users SET rating = ?, total_reviews = ?, rating_version = ? " +
+            "WHERE id = ? AND user_type = 'PROVIDER' AND rating_version < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public String eventType() {
+        return ProviderRatingsUpdatedEvent.TYPE;
+    }
+
+    @Override
+    public Class<ProviderRatingsUpdatedEvent> payloadType() {
+        return ProviderRatingsUpdatedEvent.class;
+    }
+
+    @Override
+    public void handle(ProviderRatingsUpdatedEvent payload, OutboxEvent event) {
+        jdbcTemplate.batchUpdate(UPDATE_SQL, payload.ratings(), payload.ratings().size(), (ps, rating) -> {
+            ps.setBigDecimal(1, rating.rating());
+            ps.setInt(2, rating.totalReviews());
+            ps.setLong(3, rating.version());
+            ps.setLong(4, rating.providerId());
+            ps.setLong(5, rating.version());
+        });
+        log.info("Applied rating updates for {} providers", payload.ratings().size());
+    }
+}
@@ -0,0 +1,127 @@
+-- Align users and its collection tables with the JPA model.
+-- V1 used CamelCase discriminator values and several column names that differ from the entity mapping,
+-- so repository queries (and the indexes built for them in V3) could never match.
+
+-- Discriminator values follow @DiscriminatorValue
+ALTER TABLE users DROP CONSTRAINT chk_user_type;
+
+UPDATE users SET user_type = CASE user_type
+    WHEN 'Customer' THEN 'CUSTOMER'
+    WHEN 'Provider' THEN 'PROVIDER'
+    WHEN 'BusinessOwner' THEN 'BUSINESS_OWNER'
+    ELSE user_type
+END;
+
+ALTER TABLE users ADD CONSTRAINT chk_user_type CHECK (user_type IN ('CUSTOMER', 'PROVIDER', 'BUSINESS_OWNER'));
+
+-- Renamed columns
+ALTER TABLE users RENAME COLUMN is_active TO active;
+ALTER TABLE users RENAME COLUMN experience_years TO years_of_experience;
+ALTER TABLE users RENAME COLUMN website_url TO website;
+
+UPDATE users SET active = true WHERE active IS NULL;
+ALTER TABLE users ALTER COLUMN active SET NOT NULL;
+ALTER TABLE users ALTER COLUMN gender TYPE VARCHAR(20);
+ALTER TABLE users ALTER COLUMN years_of_experience SET DEFAULT 0;
+ALTER TABLE users ALTER COLUMN rating SET DEFAULT 0;
+
+-- Customer specific fields
+ALTER TABLE users
+    ADD COLUMN preferences VARCHAR(500),
+    ADD COLUMN email_notifications BOOLEAN DEFAULT true,
+    ADD COLUMN sms_notifications BOOLEAN DEFAULT false;
+
+-- Provider specific fields
+ALTER TABLE users
+    ADD COLUMN professional_title VARCHAR(100),
+    ADD COLUMN total_reviews INTEGER DEFAULT 0,
+    ADD COLUMN location VARCHAR(500),
+    ADD COLUMN status VARCHAR(30);
+
+-- BusinessOwner specific fields
+ALTER TABLE users
+    ADD COLUMN business_established_date DATE,
+    ADD COLUMN business_verified BOOLEAN DEFAULT false,
+    ADD COLUMN business_status VARCHAR(30),
+    ADD COLUMN employee_count INTEGER DEFAULT 0;
+
+-- Element collection tables
+CREATE TABLE customer_addresses (
+    customer_id BIGINT NOT NULL,
+    street VARCHAR(255) NOT NULL,
+    city VARCHAR(100) NOT NULL,
+    state VARCHAR(100) NOT NULL,
+    zip_code VARCHAR(20) NOT NULL,
+    country VARCHAR(100) NOT NULL,
+    type VARCHAR(20),
+
+    CONSTRAINT fk_customer_addresses_user FOREIGN KEY (customer_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+CREATE TABLE provider_specializations (
+    provider_id BIGINT NOT NULL,
+    specialization VARCHAR(255),
+
+    CONSTRAINT fk_provider_specializations_user FOREIGN KEY (provider_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+CREATE TABLE provider_certifications (
+    provider_id BIGINT NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    issuing_organization VARCHAR(255) NOT NULL,
+    issue_date DATE,
+    expiry_date DATE,
+    credential_id VARCHAR(255),
+
+    CONSTRAINT fk_provider_certifications_user FOREIGN KEY (provider_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+CREATE TABLE provider_work_hours (
+    provider_id BIGINT NOT NULL,
+    day_of_week VARCHAR(10),
+    start_time VARCHAR(5) NOT NULL,
+    end_time VARCHAR(5) NOT NULL,
+    available BOOLEAN DEFAULT true,
+
+    CONSTRAINT fk_provider_work_hours_user FOREIGN KEY (provider_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+CREATE TABLE business_addresses (
+    business_owner_id BIGINT NOT NULL,
+    street VARCHAR(255) NOT NULL,
+    city VARCHAR(100) NOT NULL,
+    state VARCHAR(100) NOT NULL,
+    zip_code VARCHAR(20) NOT NULL,
+    country VARCHAR(100) NOT NULL,
+    type VARCHAR(20),
+
+    CONSTRAINT fk_business_addresses_user FOREIGN KEY (business_owner_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+CREATE TABLE business_licenses (
+    business_owner_id BIGINT NOT NULL,
+    license_name VARCHAR(255) NOT NULL,
+    license_number VARCHAR(100) NOT NULL,
+    issuing_authority VARCHAR(255) NOT NULL,
+    issue_date DATE,
+    expiry_date DATE,
+    status VARCHAR(20),
+
+    CONSTRAINT fk_business_licenses_user FOREIGN KEY (business_owner_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+CREATE TABLE business_social_media (
+    business_owner_id BIGINT NOT NULL,
+    platform VARCHAR(20),
+    url VARCHAR(500) NOT NULL,
+
+    CONSTRAINT fk_business_social_media_user FOREIGN KEY (business_owner_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_customer_addresses_customer_id ON customer_addresses(customer_id);
+CREATE INDEX idx_provider_specializations_provider_id ON provider_specializations(provider_id);
+CREATE INDEX idx_provider_certifications_provider_id ON provider_certifications(provider_id);
+CREATE INDEX idx_provider_work_hours_provider_id ON provider_work_hours(provider_id);
+CREATE INDEX idx_business_addresses_owner_id ON business_addresses(business_owner_id);
+CREATE INDEX idx_business_licenses_owner_id ON business_licenses(business_owner_id);
+CREATE INDEX idx_business_social_media_owner_id ON business_social_media(business_owner_id);
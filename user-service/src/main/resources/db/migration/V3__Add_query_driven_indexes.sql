@@ -0,0 +1,97 @@
+-- Query-driven index suite for ProviderRepository and BusinessOwnerRepository.
+-- Every index is partial on the discriminator and the active/verified flags the queries filter on,
+-- and leads with the column the controllers sort by, so pages are read in index order.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- V1 indexes that never matched (wrong discriminator literals), duplicate a unique constraint,
+-- or index a low-selectivity boolean on its own
+DROP INDEX IF EXISTS idx_users_provider_rating;
+DROP INDEX IF EXISTS idx_users_provider_verified;
+DROP INDEX IF EXISTS idx_users_provider_hourly_rate;
+DROP INDEX IF EXISTS idx_users_business_name;
+DROP INDEX IF EXISTS idx_users_active;
+DROP INDEX IF EXISTS idx_users_keycloak_id;
+DROP INDEX IF EXISTS idx_users_email;
+
+-- Provider indexes
+
+-- findByActiveTrue (controller default sort: rating DESC)
+CREATE INDEX idx_users_provider_active_rating ON users (rating DESC, id)
+    WHERE user_type = 'PROVIDER' AND active;
+
+-- findByStatusAndActiveTrue, countByStatusAndActiveTrue
+CREATE INDEX idx_users_provider_active_status ON users (status)
+    WHERE user_type = 'PROVIDER' AND active;
+
+-- findByVerifiedTrueAndActiveTrue, findByRatingGreaterThanEqualAndActiveTrue (ORDER BY rating DESC),
+-- getAverageRatingForVerifiedProviders (index-only scan)
+CREATE INDEX idx_users_provider_verified_rating ON users (rating DESC, id)
+    WHERE user_type = 'PROVIDER' AND active AND verified;
+
+-- findByYearsOfExperienceGreaterThanEqualAndActiveTrue (ORDER BY years_of_experience DESC)
+CREATE INDEX idx_users_provider_verified_experience ON users (years_of_experience DESC, id)
+    WHERE user_type = 'PROVIDER' AND active AND verified;
+
+-- findByHourlyRateBetweenAndActiveTrue (ORDER BY hourly_rate ASC)
+CREATE INDEX idx_users_provider_verified_hourly_rate ON users (hourly_rate, id)
+    WHERE user_type = 'PROVIDER' AND active AND verified;
+
+-- findByLocationContainingAndActiveTrue: LOWER(location) LIKE '%term%'
+CREATE INDEX idx_users_provider_verified_location_trgm ON users USING gin (lower(location) gin_trgm_ops)
+    WHERE user_type = 'PROVIDER' AND active AND verified;
+
+-- searchProviders: OR of LOWER(column) LIKE '%term%', served by a BitmapOr over one multi-column GIN index
+CREATE INDEX idx_users_provider_search_trgm ON users USING gin (
+    lower(first_name) gin_trgm_ops,
+    lower(last_name) gin_trgm_ops,
+    lower(professional_title) gin_trgm_ops,
+    lower(bio) gin_trgm_ops
+) WHERE user_type = 'PROVIDER' AND active;
+
+-- findBySpecializationContainingAndActiveTrue: LOWER(specialization) LIKE '%term%'
+CREATE INDEX idx_provider_specializations_trgm ON provider_specializations USING gin (lower(specialization) gin_trgm_ops);
+
+-- Business owner indexes
+
+-- findByActiveTrue (controller default sort: created_at DESC)
+CREATE INDEX idx_users_owner_active_created_at ON users (created_at DESC, id)
+    WHERE user_type = 'BUSINESS_OWNER' AND active;
+
+-- findByBusinessVerifiedTrueAndActiveTrue, countVerifiedBusinesses,
+-- getTotalEmployeeCountForVerifiedBusinesses (index-only scan through INCLUDE)
+CREATE INDEX idx_users_owner_verified_created_at ON users (created_at DESC, id) INCLUDE (employee_count)
+    WHERE user_type = 'BUSINESS_OWNER' AND active AND business_verified;
+
+-- findByBusinessStatusAndActiveTrue, countByBusinessStatusAndActiveTrue
+CREATE INDEX idx_users_owner_active_status ON users (business_status)
+    WHERE user_type = 'BUSINESS_OWNER' AND active;
+
+-- findByBusinessTypeAndActiveTrue (ORDER BY business_name ASC)
+CREATE INDEX idx_users_owner_active_type_name ON users (business_type, business_name)
+    WHERE user_type = 'BUSINESS_OWNER' AND active;
+
+-- findByBusinessEstablishedDateBetweenAndActiveTrue
+CREATE INDEX idx_users_owner_active_established_date ON users (business_established_date)
+    WHERE user_type = 'BUSINESS_OWNER' AND active;
+
+-- findByEmployeeCountBetweenAndActiveTrue (ORDER BY employee_count DESC)
+CREATE INDEX idx_users_owner_active_employee_count ON users (employee_count DESC, id)
+    WHERE user_type = 'BUSINESS_OWNER' AND active;
+
+-- searchBusinessOwners
+CREATE INDEX idx_users_owner_search_trgm ON users USING gin (
+    lower(business_name) gin_trgm_ops,
+    lower(business_description) gin_trgm_ops,
+    lower(first_name) gin_trgm_ops,
+    lower(last_name) gin_trgm_ops
+) WHERE user_type = 'BUSINESS_OWNER' AND active;
+
+-- findByBusinessName, existsByBusinessName, findByTaxId, existsByTaxId,
+-- findByBusinessRegistrationNumber, existsByBusinessRegistrationNumber
+CREATE INDEX idx_users_owner_business_name ON users (business_name)
+    WHERE user_type = 'BUSINESS_OWNER';
+CREATE INDEX idx_users_owner_tax_id ON users (tax_id)
+    WHERE tax_id IS NOT NULL;
+CREATE INDEX idx_users_owner_registration_number ON users (business_registration_number)
+    WHERE business_registration_number IS NOT NULL;
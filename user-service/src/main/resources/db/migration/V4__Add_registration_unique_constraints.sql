@@ -0,0 +1,17 @@
+-- Registration uniqueness is enforced by the database so concurrent sign-ups cannot both succeed.
+-- The unique indexes replace the plain lookup indexes from V3 and still serve the same queries.
+-- Constraint names are matched in RegistrationUniquenessService when translating violations.
+
+DROP INDEX IF EXISTS idx_users_owner_business_name;
+DROP INDEX IF EXISTS idx_users_owner_tax_id;
+DROP INDEX IF EXISTS idx_users_owner_registration_number;
+
+-- Business names are only unique among business owners
+CREATE UNIQUE INDEX uk_users_owner_business_name ON users (business_name)
+    WHERE user_type = 'BUSINESS_OWNER';
+
+CREATE UNIQUE INDEX uk_users_tax_id ON users (tax_id)
+    WHERE tax_id IS NOT NULL;
+
+CREATE UNIQUE INDEX uk_users_business_registration_number ON users (business_registration_number)
+    WHERE business_registration_number IS NOT NULL;
@@ -0,0 +1,11 @@
+-- Ratings are pushed by booking-service as versioned absolute values; stale batches are ignored
+ALTER TABLE users ADD COLUMN rating_version BIGINT NOT NULL DEFAULT 0;
+
+-- Events already applied by this service; the primary key makes redeliveries no-ops
+CREATE TABLE processed_events (
+    event_id UUID PRIMARY KEY,
+    event_type VARCHAR(100) NOT NULL,
+    processed_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_processed_events_processed_at ON processed_events(processed_at);
@@ -0,0 +1,18 @@
+-- Transactional outbox: owner changes are written in the same transaction as the change
+-- and shipped to business-service by the outbox relay
+CREATE TABLE outbox_events (
+    id UUID PRIMARY KEY,
+    aggregate_type VARCHAR(50) NOT NULL,
+    aggregate_id VARCHAR(64) NOT NULL,
+    event_type VARCHAR(100) NOT NULL,
+    payload JSONB NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    published_at TIMESTAMP WITH TIME ZONE
+);
+
+-- Only unpublished rows are scanned by the relay
+CREATE INDEX idx_outbox_events_unpublished ON outbox_events(created_at) WHERE published_at IS NULL;
+CREATE INDEX idx_outbox_events_published_at ON outbox_events(published_at) WHERE published_at IS NOT NULL;
+
+-- Bumped with every published owner summary; consumers ignore summaries older than what they hold
+ALTER TABLE users ADD COLUMN summary_version BIGINT NOT NULL DEFAULT 0;
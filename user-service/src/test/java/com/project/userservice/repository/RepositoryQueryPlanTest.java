@@ -0,0 +1,302 @@
+package com.project.userservice.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.userservice.entity.BusinessOwner;
+import com.project.userservice.entity.Provider;
+import com.project.userservice.support.QueryCapture;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs every ProviderRepository and BusinessOwnerRepository query against a few hundred thousand
+ * users and fails when its plan sequentially scans a large table
+ *
+ * The SQL Hibernate generates is captured at the JDBC layer with its bound values and replayed
+ * under EXPLAIN, so the plan is the one production gets for the same arguments. Queries that
+ * return a large share of the table by design are listed in {@link #FULL_SCANS_BY_DESIGN}.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(RepositoryQueryPlanTest.CaptureConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class RepositoryQueryPlanTest {
+
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    static {
+        POSTGRES.start();
+    }
+
+    private static final int USERS = 300_000;
+    private static final Set<String> LARGE_TABLES = Set.of("users", "provider_specializations");
+
+    // Unpaged lists over every active (verified) row and the bloom filter warm-up streams
+    private static final Set<String> FULL_SCANS_BY_DESIGN = Set.of(
+            "ProviderRepository.findByActiveTrue()",
+            "ProviderRepository.findByVerifiedTrueAndActiveTrue()",
+            "BusinessOwnerRepository.findByActiveTrue()",
+            "BusinessOwnerRepository.findByBusinessVerifiedTrueAndActiveTrue()",
+            "BusinessOwnerRepository.streamAllBusinessNames()",
+            "BusinessOwnerRepository.streamAllTaxIds()");
+
+    private static final QueryCapture CAPTURE = new QueryCapture();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Autowired
+    private ProviderRepository providerRepository;
+
+    @Autowired
+    private BusinessOwnerRepository businessOwnerRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class CaptureConfiguration {
+
+        @Bean
+        static BeanPostProcessor capturingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? CAPTURE.wrap(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("""
+                INSERT INTO users (user_type, keycloak_id, first_name, last_name, email, active, created_at,
+                                   bio, professional_title, years_of_experience, hourly_rate, rating, verified,
+                                   location, status,
+                                   business_name, business_registration_number, tax_id, business_type,
+                                   business_description, business_established_date, business_verified,
+                                   business_status, employee_count)
+                SELECT kind, 'kc-' || n, initcap(substr(md5('f' || n), 1, 8)), initcap(substr(md5('l' || n), 1, 10)),
+                       'user' || n || '@example.com', n % 20 <> 0, now() - n * interval '1 minute',
+                       CASE WHEN provider THEN 'Experienced in ' || md5('b' || n) END,
+                       CASE WHEN provider THEN 'Specialist ' || substr(md5('t' || n), 1, 6) END,
+                       CASE WHEN provider THEN n / 10 % 41 END,
+                       CASE WHEN provider THEN round((20 + r * 180)::numeric, 2) END,
+                       CASE WHEN provider THEN round((r2 * 5)::numeric, 2) END,
+                       provider AND r3 < 0.5,
+                       CASE WHEN provider THEN 'City ' || substr(md5('c' || n / 10 % 1000), 1, 8) END,
+                       CASE WHEN provider THEN CASE WHEN r3 < 0.03 THEN 'SUSPENDED' WHEN r3 < 0.05 THEN 'INACTIVE'
+                           WHEN r3 < 0.15 THEN 'PENDING_VERIFICATION' ELSE 'VERIFIED' END END,
+                       CASE WHEN owner THEN initcap(substr(md5('n' || n), 1, 12)) || ' Studio' END,
+                       CASE WHEN owner THEN 'REG-' || n END,
+                       CASE WHEN owner THEN 'TAX-' || n END,
+                       CASE WHEN owner THEN (ARRAY['SOLE_PROPRIETORSHIP', 'PARTNERSHIP', 'LLC', 'CORPORATION',
+                           'NON_PROFIT', 'OTHER'])[1 + n / 10 % 6] END,
+                       CASE WHEN owner THEN 'We offer ' || md5('d' || n) END,
+                       CASE WHEN owner THEN DATE '1990-01-01' + n / 10 % 12000 END,
+                       owner AND r < 0.6,
+                       CASE WHEN owner THEN CASE WHEN r2 < 0.03 THEN 'SUSPENDED' WHEN r2 < 0.05 THEN 'CLOSED'
+                           WHEN r2 < 0.15 THEN 'PENDING_VERIFICATION' ELSE 'VERIFIED' END END,
+                       CASE WHEN owner THEN n / 10 % 500 END
+                FROM (SELECT n, kind, kind = 'PROVIDER' AS provider, kind = 'BUSINESS_OWNER' AS owner,
+                             random() AS r, random() AS r2, random() AS r3
+                      FROM (SELECT n, CASE WHEN n % 10 < 7 THEN 'CUSTOMER' WHEN n % 10 < 9 THEN 'PROVIDER'
+                                           ELSE 'BUSINESS_OWNER' END AS kind
+                            FROM generate_series(1, ?) n) numbered) seeded
+                """, USERS);
+        jdbcTemplate.update("""
+                INSERT INTO provider_specializations (provider_id, specialization)
+                SELECT id, 'spec-' || substr(md5('s' || (id * 2 + k) % 2000), 1, 10)
+                FROM users, generate_series(0, 1) k
+                WHERE user_type = 'PROVIDER'
+                """);
+        jdbcTemplate.execute("VACUUM ANALYZE users");
+        jdbcTemplate.execute("VACUUM ANALYZE provider_specializations");
+    }
+
+    @TestFactory
+    Stream<DynamicTest> repositoryQueriesAvoidSequentialScans() {
+        Map<String, Runnable> queries = queries();
+        return queries.entrySet().stream()
+                .filter(query -> !FULL_SCANS_BY_DESIGN.contains(query.getKey()))
+                .map(query -> DynamicTest.dynamicTest(query.getKey(), () -> assertIndexed(query.getKey(), query.getValue())));
+    }
+
+    private Map<String, Runnable> queries() {
+        Long providerId = jdbcTemplate.queryForObject(
+                "SELECT min(id) FROM users WHERE user_type = 'PROVIDER' AND active", Long.class);
+        Long ownerId = jdbcTemplate.queryForObject(
+                "SELECT min(id) FROM users WHERE user_type = 'BUSINESS_OWNER' AND active", Long.class);
+        List<Long> providerIds = jdbcTemplate.queryForList(
+                "SELECT id FROM users WHERE user_type = 'PROVIDER' ORDER BY id LIMIT 100", Long.class);
+        String providerKeycloakId = keycloakIdOf(providerId);
+        String ownerKeycloakId = keycloakIdOf(ownerId);
+        String providerEmail = emailOf(providerId);
+        String ownerEmail = emailOf(ownerId);
+        String lastName = jdbcTemplate.queryForObject("SELECT lower(last_name) FROM users WHERE id = ?", String.class, providerId);
+        String location = jdbcTemplate.queryForObject(
+                "SELECT substr(location, 6, 6) FROM users WHERE id = ?", String.class, providerId);
+        String specialization = jdbcTemplate.queryForObject(
+                "SELECT substr(specialization, 6, 8) FROM provider_specializations WHERE provider_id = ? LIMIT 1",
+                String.class, providerId);
+        String businessName = jdbcTemplate.queryForObject("SELECT business_name FROM users WHERE id = ?", String.class, ownerId);
+        String taxId = "TAX-" + keycloakIdOf(ownerId).substring(3);
+        String registrationNumber = "REG-" + keycloakIdOf(ownerId).substring(3);
+
+        Pageable byRating = PageRequest.of(0, 10, Sort.by("rating").descending());
+        Pageable byCreatedAt = PageRequest.of(0, 10, Sort.by("createdAt").descending());
+
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+        queries.put("ProviderRepository.findByKeycloakId", () -> providerRepository.findByKeycloakId(providerKeycloakId));
+        queries.put("ProviderRepository.findByEmail", () -> providerRepository.findByEmail(providerEmail));
+        queries.put("ProviderRepository.findByActiveTrue()", () -> providerRepository.findByActiveTrue());
+        queries.put("ProviderRepository.findWithWorkingHoursByIdIn",
+                () -> providerRepository.findWithWorkingHoursByIdIn(providerIds));
+        queries.put("ProviderRepository.findByActiveTrue(Pageable)", () -> providerRepository.findByActiveTrue(byRating));
+        queries.put("ProviderRepository.findByVerifiedTrueAndActiveTrue()",
+                () -> providerRepository.findByVerifiedTrueAndActiveTrue());
+        queries.put("ProviderRepository.findByVerifiedTrueAndActiveTrue(Pageable)",
+                () -> providerRepository.findByVerifiedTrueAndActiveTrue(byRating));
+        queries.put("ProviderRepository.findByStatusAndActiveTrue",
+                () -> providerRepository.findByStatusAndActiveTrue(Provider.ProviderStatus.SUSPENDED));
+        queries.put("ProviderRepository.findByRatingGreaterThanEqualAndActiveTrue",
+                () -> providerRepository.findByRatingGreaterThanEqualAndActiveTrue(new BigDecimal("4.50"), byRating));
+        queries.put("ProviderRepository.findByYearsOfExperienceGreaterThanEqualAndActiveTrue",
+                () -> providerRepository.findByYearsOfExperienceGreaterThanEqualAndActiveTrue(10,
+                        PageRequest.of(0, 10, Sort.by("yearsOfExperience").descending())));
+        queries.put("ProviderRepository.findBySpecializationContainingAndActiveTrue",
+                () -> providerRepository.findBySpecializationContainingAndActiveTrue(specialization, byRating));
+        queries.put("ProviderRepository.findByHourlyRateBetweenAndActiveTrue",
+                () -> providerRepository.findByHourlyRateBetweenAndActiveTrue(new BigDecimal("50.00"),
+                        new BigDecimal("55.00"), PageRequest.of(0, 10, Sort.by("hourlyRate").ascending())));
+        queries.put("ProviderRepository.findByLocationContainingAndActiveTrue",
+                () -> providerRepository.findByLocationContainingAndActiveTrue(location, byRating));
+        queries.put("ProviderRepository.searchProviders",
+                () -> providerRepository.searchProviders(lastName, PageRequest.of(0, 10)));
+        queries.put("ProviderRepository.countByStatusAndActiveTrue",
+                () -> providerRepository.countByStatusAndActiveTrue(Provider.ProviderStatus.SUSPENDED));
+        queries.put("ProviderRepository.getAverageRatingForVerifiedProviders",
+                () -> providerRepository.getAverageRatingForVerifiedProviders());
+
+        queries.put("BusinessOwnerRepository.findByKeycloakId",
+                () -> businessOwnerRepository.findByKeycloakId(ownerKeycloakId));
+        queries.put("BusinessOwnerRepository.findByEmail", () -> businessOwnerRepository.findByEmail(ownerEmail));
+        queries.put("BusinessOwnerRepository.findByBusinessName",
+                () -> businessOwnerRepository.findByBusinessName(businessName));
+        queries.put("BusinessOwnerRepository.findByTaxId", () -> businessOwnerRepository.findByTaxId(taxId));
+        queries.put("BusinessOwnerRepository.findByBusinessRegistrationNumber",
+                () -> businessOwnerRepository.findByBusinessRegistrationNumber(registrationNumber));
+        queries.put("BusinessOwnerRepository.existsByBusinessName",
+                () -> businessOwnerRepository.existsByBusinessName(businessName));
+        queries.put("BusinessOwnerRepository.existsByTaxId", () -> businessOwnerRepository.existsByTaxId(taxId));
+        queries.put("BusinessOwnerRepository.existsByBusinessRegistrationNumber",
+                () -> businessOwnerRepository.existsByBusinessRegistrationNumber(registrationNumber));
+        queries.put("BusinessOwnerRepository.findByActiveTrue()", () -> businessOwnerRepository.findByActiveTrue());
+        queries.put("BusinessOwnerRepository.findByActiveTrue(Pageable)",
+                () -> businessOwnerRepository.findByActiveTrue(byCreatedAt));
+        queries.put("BusinessOwnerRepository.findByBusinessVerifiedTrueAndActiveTrue()",
+                () -> businessOwnerRepository.findByBusinessVerifiedTrueAndActiveTrue());
+        queries.put("BusinessOwnerRepository.findByBusinessVerifiedTrueAndActiveTrue(Pageable)",
+                () -> businessOwnerRepository.findByBusinessVerifiedTrueAndActiveTrue(byCreatedAt));
+        queries.put("BusinessOwnerRepository.findByBusinessStatusAndActiveTrue",
+                () -> businessOwnerRepository.findByBusinessStatusAndActiveTrue(BusinessOwner.BusinessStatus.SUSPENDED));
+        queries.put("BusinessOwnerRepository.findByBusinessTypeAndActiveTrue",
+                () -> businessOwnerRepository.findByBusinessTypeAndActiveTrue(BusinessOwner.BusinessType.LLC,
+                        PageRequest.of(0, 10, Sort.by("businessName").ascending())));
+        queries.put("BusinessOwnerRepository.findByBusinessEstablishedDateBetweenAndActiveTrue",
+                () -> businessOwnerRepository.findByBusinessEstablishedDateBetweenAndActiveTrue(
+                        LocalDate.of(2010, 1, 1), LocalDate.of(2010, 1, 31)));
+        queries.put("BusinessOwnerRepository.findByEmployeeCountBetweenAndActiveTrue",
+                () -> businessOwnerRepository.findByEmployeeCountBetweenAndActiveTrue(40, 45,
+                        PageRequest.of(0, 10, Sort.by("employeeCount").descending())));
+        queries.put("BusinessOwnerRepository.searchBusinessOwners",
+                () -> businessOwnerRepository.searchBusinessOwners(businessName.substring(0, 8).toLowerCase(),
+                        PageRequest.of(0, 10)));
+        queries.put("BusinessOwnerRepository.countByBusinessStatusAndActiveTrue",
+                () -> businessOwnerRepository.countByBusinessStatusAndActiveTrue(BusinessOwner.BusinessStatus.SUSPENDED));
+        queries.put("BusinessOwnerRepository.countVerifiedBusinesses",
+                () -> businessOwnerRepository.countVerifiedBusinesses());
+        queries.put("BusinessOwnerRepository.getTotalEmployeeCountForVerifiedBusinesses",
+                () -> businessOwnerRepository.getTotalEmployeeCountForVerifiedBusinesses());
+        return queries;
+    }
+
+    private void assertIndexed(String name, Runnable query) throws Exception {
+        CAPTURE.drain();
+        query.run();
+        List<QueryCapture.Captured> statements = CAPTURE.drain();
+        assertThat(statements).as("%s ran no SQL", name).isNotEmpty();
+
+        for (QueryCapture.Captured statement : statements) {
+            String plan = explain(statement);
+            List<String> scanned = new ArrayList<>();
+            collectSequentialScans(objectMapper.readTree(plan).get(0).get("Plan"), scanned);
+            assertThat(scanned)
+                    .as("%s sequentially scans %s%n%s%n%s", name, scanned, statement.sql(), plan)
+                    .isEmpty();
+        }
+    }
+
+    private String explain(QueryCapture.Captured statement) {
+        return jdbcTemplate.query("EXPLAIN (FORMAT JSON) " + statement.sql(), ps -> {
+            for (Map.Entry<Integer, Object> parameter : statement.parameters().entrySet()) {
+                if (parameter.getValue() instanceof QueryCapture.SqlNull sqlNull) {
+                    ps.setNull(parameter.getKey(), sqlNull.sqlType());
+                } else {
+                    ps.setObject(parameter.getKey(), parameter.getValue());
+                }
+            }
+        }, rs -> rs.next() ? rs.getString(1) : null);
+    }
+
+    private static void collectSequentialScans(JsonNode node, List<String> scanned) {
+        String relation = node.path("Relation Name").asText();
+        if ("Seq Scan".equals(node.path("Node Type").asText()) && LARGE_TABLES.contains(relation)) {
+            scanned.add(relation);
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectSequentialScans(child, scanned);
+        }
+    }
+
+    private String keycloakIdOf(Long id) {
+        return jdbcTemplate.queryForObject("SELECT keycloak_id FROM users WHERE id = ?", String.class, id);
+    }
+
+    private String emailOf(Long id) {
+        return jdbcTemplate.queryForObject("SELECT email FROM users WHERE id = ?", String.class, id);
+    }
+}
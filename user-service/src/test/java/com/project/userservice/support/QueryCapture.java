@@ -0,0 +1,87 @@
+package com.project.userservice.support;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Records every prepared statement run through a wrapped DataSource together with its bound values,
+ * so the exact SQL Hibernate generated can be replayed under EXPLAIN with the same parameters
+ */
+public final class QueryCapture {
+
+    public record Captured(String sql, Map<Integer, Object> parameters) {
+    }
+
+    private final List<Captured> captured = new CopyOnWriteArrayList<>();
+
+    public DataSource wrap(DataSource dataSource) {
+        return proxy(DataSource.class, dataSource, (method, args, result) ->
+                method.getName().equals("getConnection") ? connection((Connection) result) : result);
+    }
+
+    /**
+     * Statements executed since the last call
+     */
+    public List<Captured> drain() {
+        List<Captured> drained = new ArrayList<>(captured);
+        captured.clear();
+        return drained;
+    }
+
+    private Connection connection(Connection connection) {
+        return proxy(Connection.class, connection, (method, args, result) ->
+                method.getName().equals("prepareStatement") ? statement((PreparedStatement) result, (String) args[0])
+                        : result);
+    }
+
+    private PreparedStatement statement(PreparedStatement statement, String sql) {
+        Map<Integer, Object> parameters = new TreeMap<>();
+        return proxy(PreparedStatement.class, statement, (method, args, result) -> {
+            String name = method.getName();
+            if (name.equals("setNull") && args.length >= 2) {
+                parameters.put((Integer) args[0], new SqlNull((Integer) args[1]));
+            } else if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                parameters.put(index, args[1]);
+            } else if (name.equals("clearParameters")) {
+                parameters.clear();
+            } else if (name.startsWith("execute") && (args == null || args.length == 0)) {
+                captured.add(new Captured(sql, new TreeMap<>(parameters)));
+            }
+            return result;
+        });
+    }
+
+    /**
+     * Null bound with its JDBC type, so a replay binds the same typed null
+     */
+    public record SqlNull(int sqlType) {
+    }
+
+    @FunctionalInterface
+    private interface AfterCall {
+        Object apply(Method method, Object[] args, Object result) throws Exception;
+    }
+
+    private static <T> T proxy(Class<T> type, T target, AfterCall after) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            return after.apply(method, args, result);
+        };
+        return type.cast(Proxy.newProxyInstance(QueryCapture.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+}